@@ -0,0 +1,61 @@
+package cyclops.futurestream;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * The same LazyReact map / filter pipeline with and without FastFuture object pooling, across executor sizes.
+ * maxActive is scaled with the thread count so the number of futures in flight grows with the workers releasing them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LazyReactPoolingBenchmark {
+
+    @Param({"1", "4", "16"})
+    int threads;
+
+    @Param({"100000"})
+    int size;
+
+    ExecutorService executor;
+    LazyReact unpooled;
+    LazyReact pooled;
+
+    @Setup
+    public void setup(){
+        executor = Executors.newFixedThreadPool(threads);
+        unpooled = new LazyReact(threads * 64, executor);
+        pooled = new LazyReact(threads * 64, executor).objectPoolingOn();
+    }
+
+    @TearDown
+    public void tearDown(){
+        executor.shutdown();
+    }
+
+    private static long run(LazyReact react, int size){
+        return react.range(0,size)
+                    .map(i->i*2)
+                    .filter(i->i%3!=0)
+                    .map(i->i+1)
+                    .count();
+    }
+
+    @Benchmark
+    public void unpooled(Blackhole bh){
+        bh.consume(run(unpooled,size));
+    }
+
+    @Benchmark
+    public void pooled(Blackhole bh){
+        bh.consume(run(pooled,size));
+    }
+}
@@ -175,10 +175,10 @@ public class FastFuture<T> {
     private FastFuture<T> completeExceptionally(final Throwable t) {
         exception.lazySet(t);
         completedExceptionally = true;
-        handleOnComplete(true);
         if (pipeline != null && pipeline.onFail != null)
             pipeline.onFail.accept(t);
-        done = true;
+        done = true; //before callbacks, so a callback registered concurrently is not missed
+        handleOnComplete(true);
         return this;
     }
 
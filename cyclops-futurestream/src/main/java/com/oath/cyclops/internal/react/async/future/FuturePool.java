@@ -1,39 +1,156 @@
 package com.oath.cyclops.internal.react.async.future;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
-import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
-
-import lombok.AllArgsConstructor;
+import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
 
 /**
- * Active consumer / multiple producer future pool
+ * Striped multiple consumer / multiple producer future pool
+ *
+ * Futures are cached in small per stripe magazines (threads map to a stripe by id), so acquiring and releasing
+ * a future is normally an uncontended operation on the calling thread's stripe. A full magazine overflows
+ * to a bounded global queue as a single unit, where a stripe that has run dry can pick it up whole - so futures
+ * released on worker threads flow back to the thread building the Stream a magazine at a time.
+ * No sizes are computed on the hot path, a busy stripe is simply bypassed (a new future is created, or a released one dropped).
  *
  * @author johnmcclean
  *
  */
-@AllArgsConstructor
 public class FuturePool {
 
-    private final ManyToOneConcurrentArrayQueue<FastFuture> pool;
-    private final int max;
+    public static final int MAGAZINE_SIZE = 32;
 
-    public <T> FastFuture<T> next(final Supplier<FastFuture<T>> factory) {
-        if (pool.size() > 0) {
+    private final Stripe[] stripes;
+    private final int mask;
+    private final ManyToManyConcurrentArrayQueue<FastFuture[]> overflow;
 
-            final FastFuture next = pool.poll();
-            next.clearFast();
-            return next;
-        }
+    private final LongAdder created = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder recycled = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
 
+    /**
+     * @param max Maximum number of futures held in the global overflow, each stripe additionally caches up to {@link #MAGAZINE_SIZE}
+     */
+    public FuturePool(final int max) {
+        this(max, Runtime.getRuntime()
+                         .availableProcessors());
+    }
+
+    public FuturePool(final int max, final int concurrency) {
+        final int size = Integer.highestOneBit(Math.max(1, concurrency * 2) - 1) << 1;
+        this.stripes = new Stripe[Math.max(1, size)];
+        for (int i = 0; i < stripes.length; i++)
+            stripes[i] = new Stripe();
+        this.mask = stripes.length - 1;
+        this.overflow = new ManyToManyConcurrentArrayQueue<>(
+                                                             Math.max(2, max / MAGAZINE_SIZE));
+    }
+
+    private Stripe stripe() {
+        final long id = Thread.currentThread()
+                              .getId();
+        return stripes[(int) (id ^ (id >>> 16)) & mask];
+    }
+
+    public <T> FastFuture<T> next(final Supplier<FastFuture<T>> factory) {
+        final Stripe stripe = stripe();
+        if (stripe.compareAndSet(false, true)) {
+            try {
+                if (stripe.count == 0) {
+                    final FastFuture[] full = overflow.poll();
+                    if (full != null) {
+                        stripe.items = full;
+                        stripe.count = full.length;
+                    }
+                }
+                if (stripe.count > 0) {
+                    final FastFuture next = stripe.items[--stripe.count];
+                    stripe.items[stripe.count] = null;
+                    reused.increment();
+                    next.clearFast();
+                    return next;
+                }
+            } finally {
+                stripe.set(false);
+            }
+        }
+        created.increment();
         return factory.get();
     }
 
     public <T> void done(final FastFuture<T> f) {
-        if (pool.size() < max) {
-
-            pool.offer(f);
+        final Stripe stripe = stripe();
+        if (stripe.compareAndSet(false, true)) {
+            try {
+                if (stripe.count == MAGAZINE_SIZE) {
+                    if (!overflow.offer(stripe.items)) {
+                        dropped.increment();
+                        return;
+                    }
+                    stripe.items = new FastFuture[MAGAZINE_SIZE];
+                    stripe.count = 0;
+                }
+                stripe.items[stripe.count++] = f;
+                recycled.increment();
+                return;
+            } finally {
+                stripe.set(false);
+            }
         }
+        dropped.increment();
+    }
+
+    /**
+     * @return Number of futures created because no pooled future was available
+     */
+    public long created() {
+        return created.sum();
+    }
+
+    /**
+     * @return Number of pooled futures handed out again
+     */
+    public long reused() {
+        return reused.sum();
+    }
+
+    /**
+     * @return Number of completed futures returned to the pool
+     */
+    public long recycled() {
+        return recycled.sum();
+    }
+
+    /**
+     * @return Number of completed futures discarded because the pool was full or the stripe busy
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return Proportion of requested futures served from the pool
+     */
+    public double hitRate() {
+        final long hits = reused();
+        final long total = hits + created();
+        return total == 0 ? 0d : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "FuturePool[created=" + created() + ", reused=" + reused() + ", recycled=" + recycled() + ", dropped="
+                + dropped() + "]";
+    }
 
+    /*
+     * A magazine of pooled futures guarded by a try-lock, only threads mapping to the same stripe ever compete for it
+     */
+    private static final class Stripe extends AtomicBoolean {
+        FastFuture[] items = new FastFuture[MAGAZINE_SIZE];
+        int count;
     }
 }
@@ -8,7 +8,6 @@ import java.util.stream.Stream;
 import com.oath.cyclops.internal.react.async.future.FastFuture;
 import com.oath.cyclops.internal.react.async.future.FuturePool;
 import com.oath.cyclops.internal.react.async.future.PipelineBuilder;
-import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 
 import cyclops.futurestream.LazyReact;
 import cyclops.reactive.ReactiveSeq;
@@ -35,9 +34,6 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
         this.react = react;
         if (react.isPoolingActive())
             pool = new FuturePool(
-                                  new ManyToOneConcurrentArrayQueue<>(
-                                                                      react.getMaxActive()
-                                                                           .getMaxActive()),
                                   react.getMaxActive()
                                        .getMaxActive());
         else
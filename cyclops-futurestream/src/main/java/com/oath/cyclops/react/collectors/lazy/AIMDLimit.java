@@ -0,0 +1,81 @@
+package com.oath.cyclops.react.collectors.lazy;
+
+import java.util.concurrent.TimeUnit;
+
+import lombok.Getter;
+
+/**
+ * Additive increase / multiplicative decrease concurrency limit.
+ *
+ * The limit grows by one for each task that completes within the timeout while the collector is making use of at least
+ * half of the current limit, and is multiplied by the backoff ratio whenever a task fails or exceeds the timeout.
+ *
+ * <pre>
+ * {@code
+ *   new LazyReact().withMaxActive(MaxActive.adaptive(new AIMDLimit(10,1,500,100,TimeUnit.MILLISECONDS)))
+ * }
+ * </pre>
+ *
+ */
+public class AIMDLimit implements ConcurrencyLimit {
+
+    private final int minLimit;
+    @Getter
+    private final int maxLimit;
+    private final long timeoutNanos;
+    private final double backoffRatio;
+    private volatile int limit;
+
+    /**
+     * @param initialLimit Starting limit
+     * @param minLimit Lowest limit backoff can reduce to
+     * @param maxLimit Highest limit additive increase can grow to
+     * @param timeout Tasks taking longer than this are treated as a congestion signal
+     * @param unit Time unit for the timeout
+     */
+    public AIMDLimit(final int initialLimit, final int minLimit, final int maxLimit, final long timeout, final TimeUnit unit) {
+        this(initialLimit, minLimit, maxLimit, timeout, unit, 0.9);
+    }
+
+    /**
+     * @param initialLimit Starting limit
+     * @param minLimit Lowest limit backoff can reduce to
+     * @param maxLimit Highest limit additive increase can grow to
+     * @param timeout Tasks taking longer than this are treated as a congestion signal
+     * @param unit Time unit for the timeout
+     * @param backoffRatio Ratio (between 0 and 1) the limit is multiplied by on congestion
+     */
+    public AIMDLimit(final int initialLimit, final int minLimit, final int maxLimit, final long timeout, final TimeUnit unit,
+            final double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit)
+            throw new IllegalArgumentException(
+                                               "Limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+        if (backoffRatio <= 0 || backoffRatio >= 1)
+            throw new IllegalArgumentException(
+                                               "Backoff ratio must be between 0 and 1");
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.timeoutNanos = unit.toNanos(timeout);
+        this.backoffRatio = backoffRatio;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized void onSample(final long rttNanos, final int inFlight, final boolean failed) {
+        if (failed || rttNanos > timeoutNanos)
+            limit = Math.max(minLimit, (int) (limit * backoffRatio));
+        else if (inFlight * 2 >= limit)
+            limit = Math.min(maxLimit, limit + 1);
+    }
+
+    @Override
+    public String toString() {
+        return "AIMDLimit[limit=" + limit + "]";
+    }
+
+}
@@ -0,0 +1,241 @@
+package com.oath.cyclops.react.collectors.lazy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import com.oath.cyclops.internal.react.async.future.FastFuture;
+import com.oath.cyclops.internal.react.async.future.FastFuture.OnComplete;
+
+/**
+ * Tracks the active FastFutures of a lazy collector.
+ *
+ * Completion is observed via FastFuture completion callbacks rather than by scanning the active futures : completing
+ * threads push finished futures onto a lock free stack, report their latency to the {@link ConcurrencyLimit} and wake a
+ * blocked collector. Active futures are kept in a linked list (in the order they were added) so that completed futures
+ * can be removed in constant time. All methods other than the completion callback must be called from the single thread
+ * driving the collector.
+ *
+ * @param <T> Result type
+ */
+class ActiveFutures<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<ActiveFutures> IN_FLIGHT = AtomicIntegerFieldUpdater.newUpdater(ActiveFutures.class,
+                                                                                                                  "inFlight");
+
+    private final Node<T> head = new Node<>(
+                                            null, this, 0);
+    private final Node<T> tail = new Node<>(
+                                            null, this, 0);
+    private final AtomicReference<Node<T>> completed = new AtomicReference<>();
+    private Node<T> readyHead;
+    private Node<T> readyTail;
+    private volatile int inFlight;
+    private volatile Thread waiting;
+    private int size;
+    private ConcurrencyLimit limit;
+    private boolean sampling;
+
+    ActiveFutures() {
+        head.next = tail;
+        tail.prev = head;
+    }
+
+    /**
+     * Start tracking a future. Once more than the current limit of futures are tracked, completed futures are handed
+     * over and the calling thread blocks until the number in flight falls to the limit's reduceTo level.
+     *
+     * @param t Future to track
+     * @param maxActive Source of the concurrency limit, consulted on first use
+     * @param onCompleted Called (on this thread) with completed futures as they are handed over
+     */
+    void accept(final FastFuture<T> t, final MaxActive maxActive, final Consumer<FastFuture<T>> onCompleted) {
+        add(t, maxActive);
+        if (size > limit.getLimit()) {
+            drain(onCompleted);
+            final int reduceTo = limit.getReduceTo();
+            if (inFlight > reduceTo) {
+                waiting = Thread.currentThread();
+                while (inFlight > reduceTo) {
+                    LockSupport.park(this);
+                }
+                waiting = null;
+                drain(onCompleted);
+            }
+        }
+    }
+
+    /**
+     * Start tracking a future without checking the concurrency limit
+     */
+    void add(final FastFuture<T> t, final MaxActive maxActive) {
+        if (limit == null) {
+            limit = maxActive.newLimit();
+            sampling = maxActive.getLimiter() != null;
+        }
+        final Node<T> node = new Node<>(
+                                        t, this, sampling ? System.nanoTime() : 0);
+        node.prev = tail.prev;
+        node.next = tail;
+        tail.prev.next = node;
+        tail.prev = node;
+        size++;
+        if (t.isDone()) { //nothing to wait for, or to learn from
+            if (readyTail == null)
+                readyHead = node;
+            else
+                readyTail.nextCompleted = node;
+            readyTail = node;
+            return;
+        }
+        IN_FLIGHT.incrementAndGet(this);
+        t.onComplete(node);
+    }
+
+    private void completed(final Node<T> node, final boolean failed) {
+        final int remaining = IN_FLIGHT.decrementAndGet(this);
+        push(node);
+        if (sampling)
+            limit.onSample(System.nanoTime() - node.start, remaining + 1, failed);
+        final Thread w = waiting;
+        if (w != null)
+            LockSupport.unpark(w);
+    }
+
+    private void push(final Node<T> node) {
+        Node<T> top;
+        do {
+            top = completed.get();
+            node.nextCompleted = top;
+        } while (!completed.compareAndSet(top, node));
+    }
+
+    /**
+     * Pass each future that has completed since the last call to the supplied consumer, in completion order
+     */
+    void drain(final Consumer<FastFuture<T>> onCompleted) {
+        Node<T> next = completed.getAndSet(null);
+        Node<T> ordered = null;
+        while (next != null) {
+            final Node<T> rest = next.nextCompleted;
+            next.nextCompleted = ordered;
+            ordered = next;
+            next = rest;
+        }
+        handOver(ordered, onCompleted);
+        final Node<T> ready = readyHead;
+        readyHead = readyTail = null;
+        handOver(ready, onCompleted);
+    }
+
+    /**
+     * Pass every tracked future to the supplied consumer in completion order, blocking until the last has completed
+     */
+    void awaitAll(final Consumer<FastFuture<T>> onCompleted) {
+        drain(onCompleted);
+        while (size > 0) {
+            waiting = Thread.currentThread();
+            while (completed.get() == null) {
+                LockSupport.park(this);
+            }
+            waiting = null;
+            drain(onCompleted);
+        }
+    }
+
+    private void handOver(Node<T> ordered, final Consumer<FastFuture<T>> onCompleted) {
+        while (ordered != null) {
+            final Node<T> rest = ordered.nextCompleted;
+            ordered.nextCompleted = null;
+            if (ordered.prev != null) {
+                unlink(ordered);
+                onCompleted.accept(ordered.future);
+            }
+            ordered = rest;
+        }
+    }
+
+    private void unlink(final Node<T> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+        size--;
+    }
+
+    /**
+     * @return Futures not yet handed over, in the order they were added
+     */
+    List<FastFuture<T>> active() {
+        final List<FastFuture<T>> all = new ArrayList<>(
+                                                        size);
+        for (Node<T> next = head.next; next != tail; next = next.next)
+            all.add(next.future);
+        return all;
+    }
+
+    /**
+     * @return Futures not yet handed over, in the order they were added. Tracking of these futures stops.
+     */
+    List<FastFuture<T>> removeAll() {
+        final List<FastFuture<T>> all = active();
+        for (Node<T> next = head.next; next != tail;) {
+            final Node<T> following = next.next;
+            next.prev = null;
+            next.next = null;
+            next = following;
+        }
+        head.next = tail;
+        tail.prev = head;
+        size = 0;
+        readyHead = readyTail = null;
+        completed.set(null);
+        return all;
+    }
+
+    /**
+     * @return Number of futures in flight
+     */
+    int size() {
+        return inFlight;
+    }
+
+    /**
+     * @return Current concurrency limit
+     */
+    int limit(final MaxActive maxActive) {
+        if (limit == null)
+            return maxActive.newLimit()
+                            .getLimit();
+        return limit.getLimit();
+    }
+
+    private static final class Node<T> implements Consumer<OnComplete> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Node> FIRED = AtomicIntegerFieldUpdater.newUpdater(Node.class, "fired");
+
+        private final FastFuture<T> future;
+        private final ActiveFutures<T> owner;
+        private final long start;
+        private volatile int fired;
+        private Node<T> nextCompleted;
+        private Node<T> prev;
+        private Node<T> next;
+
+        Node(final FastFuture<T> future, final ActiveFutures<T> owner, final long start) {
+            this.future = future;
+            this.owner = owner;
+            this.start = start;
+        }
+
+        @Override
+        public void accept(final OnComplete c) {
+            if (FIRED.compareAndSet(this, 0, 1)) //may be called more than once
+                owner.completed(this, c.exceptionally);
+        }
+    }
+}
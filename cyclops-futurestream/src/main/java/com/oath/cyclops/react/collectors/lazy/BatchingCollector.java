@@ -2,12 +2,8 @@ package com.oath.cyclops.react.collectors.lazy;
 
 import com.oath.cyclops.internal.react.async.future.FastFuture;
 import com.oath.cyclops.types.futurestream.BlockingStream;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -18,6 +14,10 @@ import lombok.experimental.Wither;
  * This class allows a Batch of completable futures to be processed before collecting their results, to increase
  * parallelism.
  *
+ * By default results are returned in the order tasks were submitted. In completion order mode completed futures are
+ * handed over as soon as they finish, and the remaining results are collected in the order they complete, so a single
+ * slow task does not hold back the results of those submitted after it.
+ *
  * @author johnmcclean
  *
  * @param <T> Result type
@@ -28,11 +28,13 @@ import lombok.experimental.Wither;
 public class BatchingCollector<T> implements LazyResultConsumer<T> {
 
   private final Collection<FastFuture<T>> results;
-  private final List<FastFuture<T>> active = new ArrayList<>();
+  private final ActiveFutures<T> active = new ActiveFutures<>();
   @Getter
   private final MaxActive maxActive;
   @Getter
   private final BlockingStream<T> blocking;
+  @Getter
+  private final boolean completionOrder;
 
   /**
    * @param maxActive Controls batch size
@@ -41,6 +43,7 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
     this.maxActive = maxActive;
     this.results = null;
     this.blocking = blocking;
+    this.completionOrder = false;
   }
 
   /* (non-Javadoc)
@@ -48,30 +51,9 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
    */
   @Override
   public void accept(final FastFuture<T> t) {
-
-    active.add(t);
-
-    if (active.size() > maxActive.getMaxActive()) {
-
-      while (active.size() > maxActive.getReduceTo()) {
-
-        final List<FastFuture<T>> toRemove = active.stream()
-          .filter(cf -> cf.isDone())
-          .collect(Collectors.toList());
-        active.removeAll(toRemove);
-        results.addAll(toRemove);
-        if (active.size() > maxActive.getReduceTo()) {
-          final CompletableFuture promise = new CompletableFuture();
-          FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> {
-            promise.complete(true);
-          } , active.toArray(new FastFuture[0]));
-
-          promise.join();
-        }
-
-      }
-    }
-
+    active.accept(t, maxActive, f -> results.add(f));
+    if (completionOrder)
+      active.drain(f -> results.add(f));
   }
 
   /* (non-Javadoc)
@@ -79,12 +61,12 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
    */
   @Override
   public void block(final Function<FastFuture<T>, T> safeJoin) {
-    if (active.size() == 0)
+    if (completionOrder) {
+      active.awaitAll(f -> safeJoin.apply(f));
       return;
-    active.stream()
-      .peek(f -> safeJoin.apply(f))
-      .forEach(a -> {
-      });
+    }
+    active.active()
+      .forEach(f -> safeJoin.apply(f));
 
   }
 
@@ -102,8 +84,10 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
    */
   @Override
   public Collection<FastFuture<T>> getAllResults() {
-    results.addAll(active);
-    active.clear();
+    if (completionOrder)
+      active.awaitAll(f -> results.add(f));
+    else
+      results.addAll(active.removeAll());
     return results;
   }
 
@@ -0,0 +1,43 @@
+package com.oath.cyclops.react.collectors.lazy;
+
+/**
+ * Decides how many tasks a LazyReact / FutureStream collector allows in flight at once.
+ *
+ * Collectors block once more than {@link #getLimit()} tasks are active and resume when the active count has dropped to
+ * {@link #getReduceTo()}. Every completed task is reported back via {@link #onSample(long, int, boolean)}, allowing
+ * adaptive implementations (such as {@link AIMDLimit} or {@link GradientLimit}) to tune the limit to the observed
+ * completion latency. Samples may be reported concurrently from the threads that complete tasks.
+ *
+ * @see MaxActive#adaptive(ConcurrencyLimit)
+ *
+ */
+public interface ConcurrencyLimit {
+
+    /**
+     * @return Maximum number of active tasks before the collector blocks
+     */
+    int getLimit();
+
+    /**
+     * @return Number of active tasks a blocked collector waits for before resuming (defaults to 90% of the current limit)
+     */
+    default int getReduceTo() {
+        final int limit = getLimit();
+        return Math.max(1, limit - Math.max(1, limit / 10));
+    }
+
+    /**
+     * @return Upper bound for {@link #getLimit()}, used to size resources such as future pools
+     */
+    int getMaxLimit();
+
+    /**
+     * Record the completion of a task
+     *
+     * @param rttNanos Time in nanoseconds between the task being handed to the collector and its completion
+     * @param inFlight Number of tasks in flight when the task completed
+     * @param failed true if the task completed exceptionally
+     */
+    void onSample(long rttNanos, int inFlight, boolean failed);
+
+}
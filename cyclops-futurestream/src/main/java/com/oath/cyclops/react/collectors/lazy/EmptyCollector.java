@@ -2,10 +2,7 @@ package com.oath.cyclops.react.collectors.lazy;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import com.oath.cyclops.internal.react.async.future.FastFuture;
 
@@ -24,7 +21,7 @@ import lombok.experimental.Wither;
 @AllArgsConstructor
 public class EmptyCollector<T> implements LazyResultConsumer<T> {
 
-  private final List<FastFuture<T>> active = new ArrayList<>();
+  private final ActiveFutures<T> active = new ActiveFutures<>();
   @Getter
   private final MaxActive maxActive;
   @Getter
@@ -41,33 +38,11 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
    */
   @Override
   public void accept(final FastFuture<T> t) {
-
-    active.add(t);
-
-    if (active.size() > maxActive.getMaxActive()) {
-
-      while (active.size() > maxActive.getReduceTo()) {
-
-        final List<FastFuture> toRemove = active.stream()
-          .filter(cf -> cf.isDone())
-          .peek(this::handleExceptions)
-          .collect(Collectors.toList());
-
-        active.removeAll(toRemove);
-        if (active.size() > maxActive.getReduceTo()) {
-          final CompletableFuture promise = new CompletableFuture();
-          FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> promise.complete(true), active.toArray(new FastFuture[0]));
-
-          promise.join();
-        }
-
-      }
-    }
-
+    active.accept(t, maxActive, this::handleExceptions);
   }
 
   public void add(final FastFuture<T> t) {
-    active.add(t);
+    active.add(t, maxActive);
   }
 
   private void handleExceptions(final FastFuture cf) {
@@ -87,12 +62,8 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
   @Override
   public void block(final Function<FastFuture<T>, T> safeJoin) {
 
-    if (active.size() == 0)
-      return;
-    active.stream()
-      .peek(cf -> safeJoin.apply(cf))
-      .forEach(a -> {
-      });
+    active.active()
+      .forEach(cf -> safeJoin.apply(cf));
 
   }
 
@@ -102,9 +73,8 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
    */
   @Override
   public Collection<FastFuture<T>> getResults() {
-    active.stream()
+    active.removeAll()
       .forEach(cf -> safeJoin.apply(cf));
-    active.clear();
     return new ArrayList<>();
   }
 
@@ -118,7 +88,7 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
   }
 
   public boolean hasCapacity(final int i) {
-    return maxActive.getMaxActive() + i > active.size();
+    return active.limit(maxActive) + i > active.size();
   }
 
 }
@@ -0,0 +1,103 @@
+package com.oath.cyclops.react.collectors.lazy;
+
+import lombok.Getter;
+
+/**
+ * Latency gradient (Vegas style) concurrency limit.
+ *
+ * Compares the lowest completion latency observed (an estimate of the latency with no queueing) against a smoothed
+ * recent latency. While the two agree the limit grows by roughly its square root, as latency rises because tasks start
+ * queueing behind a slow downstream the ratio between them (the gradient, clamped to [0.5,1]) shrinks the limit.
+ * The no-load latency is re-estimated periodically so that a permanent shift in downstream latency is eventually
+ * accepted as the new baseline.
+ *
+ * <pre>
+ * {@code
+ *   new LazyReact().withMaxActive(MaxActive.adaptive(new GradientLimit(10,1,500)))
+ * }
+ * </pre>
+ *
+ */
+public class GradientLimit implements ConcurrencyLimit {
+
+    private static final double RECENT_WEIGHT = 0.1;
+
+    private final int minLimit;
+    @Getter
+    private final int maxLimit;
+    private final double smoothing;
+    private final int probeInterval;
+
+    private double estimate;
+    private volatile int limit;
+    private long noLoadRtt = Long.MAX_VALUE;
+    private double recentRtt;
+    private long samples;
+
+    /**
+     * @param initialLimit Starting limit
+     * @param minLimit Lowest limit
+     * @param maxLimit Highest limit
+     */
+    public GradientLimit(final int initialLimit, final int minLimit, final int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, 0.2, 1000);
+    }
+
+    /**
+     * @param initialLimit Starting limit
+     * @param minLimit Lowest limit
+     * @param maxLimit Highest limit
+     * @param smoothing Weight (between 0 and 1) given to each newly calculated limit
+     * @param probeInterval Number of samples after which the no-load latency is re-estimated
+     */
+    public GradientLimit(final int initialLimit, final int minLimit, final int maxLimit, final double smoothing,
+            final int probeInterval) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit)
+            throw new IllegalArgumentException(
+                                               "Limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+        if (smoothing <= 0 || smoothing > 1)
+            throw new IllegalArgumentException(
+                                               "Smoothing must be greater than 0 and at most 1");
+        if (probeInterval < 1)
+            throw new IllegalArgumentException(
+                                               "Probe interval must be positive");
+        this.estimate = initialLimit;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.probeInterval = probeInterval;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized void onSample(final long rttNanos, final int inFlight, final boolean failed) {
+        final long rtt = Math.max(1, rttNanos);
+        recentRtt = recentRtt == 0 ? rtt : recentRtt * (1 - RECENT_WEIGHT) + rtt * RECENT_WEIGHT;
+        if (++samples % probeInterval == 0)
+            noLoadRtt = (long) recentRtt;
+        noLoadRtt = Math.min(noLoadRtt, rtt);
+
+        if (failed) {
+            estimate = estimate / 2;
+        } else {
+            final double gradient = Math.max(0.5, Math.min(1.0, noLoadRtt / recentRtt));
+            if (gradient == 1.0 && inFlight * 2 < estimate)
+                return; //not using the current limit, no evidence it should grow
+            final double next = estimate * gradient + Math.sqrt(estimate);
+            estimate = estimate * (1 - smoothing) + next * smoothing;
+        }
+        estimate = Math.max(minLimit, Math.min(maxLimit, estimate));
+        limit = (int) estimate;
+    }
+
+    @Override
+    public String toString() {
+        return "GradientLimit[limit=" + limit + "]";
+    }
+
+}
@@ -34,4 +34,11 @@ public interface LazyResultConsumer<T> extends Consumer<FastFuture<T>> {
 
     public void block(Function<FastFuture<T>, T> safeJoin);
 
+    /**
+     * @return true if results are collected in the order they complete, rather than the order they were submitted
+     */
+    default boolean isCompletionOrder() {
+        return false;
+    }
+
 }
@@ -1,5 +1,7 @@
 package com.oath.cyclops.react.collectors.lazy;
 
+import java.util.function.Supplier;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Builder;
@@ -13,6 +15,10 @@ public class MaxActive {
 
     private final int maxActive;
     private final int reduceTo;
+    /**
+     * Creates the ConcurrencyLimit used by each collector, when null a fixed limit of maxActive / reduceTo is used
+     */
+    private final Supplier<? extends ConcurrencyLimit> limiter;
 
     public static final MaxActive IO = new MaxActive(
                                                      100, 90);
@@ -24,4 +30,67 @@ public class MaxActive {
     public static final MaxActive SEQUENTIAL = new MaxActive(
                                                              10, 1);
 
+    public MaxActive(final int maxActive, final int reduceTo) {
+        this(maxActive, reduceTo, null);
+    }
+
+    /**
+     * Adaptively limit the number of active tasks, all Streams sharing this MaxActive tune the same limit
+     *
+     * <pre>
+     * {@code
+     *   new LazyReact().withMaxActive(MaxActive.adaptive(new AIMDLimit(10,1,500,100,TimeUnit.MILLISECONDS)))
+     *                  .fromIterable(urls)
+     *                  .map(this::load)
+     * }
+     * </pre>
+     *
+     * @param limit Shared concurrency limit
+     * @return MaxActive that delegates to the supplied limit
+     */
+    public static MaxActive adaptive(final ConcurrencyLimit limit) {
+        return adaptive(limit.getMaxLimit(), () -> limit);
+    }
+
+    /**
+     * Adaptively limit the number of active tasks, each Stream tunes its own limit
+     *
+     * @param maxLimit Upper bound of the limits created
+     * @param limiter Creates a new ConcurrencyLimit for each Stream
+     * @return MaxActive that delegates to the created limits
+     */
+    public static MaxActive adaptive(final int maxLimit, final Supplier<? extends ConcurrencyLimit> limiter) {
+        return new MaxActive(
+                             maxLimit, maxLimit, limiter);
+    }
+
+    /**
+     * @return Concurrency limit for a new collector
+     */
+    public ConcurrencyLimit newLimit() {
+        if (limiter != null)
+            return limiter.get();
+        return new ConcurrencyLimit() {
+
+            @Override
+            public int getLimit() {
+                return maxActive;
+            }
+
+            @Override
+            public int getReduceTo() {
+                return reduceTo;
+            }
+
+            @Override
+            public int getMaxLimit() {
+                return maxActive;
+            }
+
+            @Override
+            public void onSample(final long rttNanos, final int inFlight, final boolean failed) {
+            }
+        };
+    }
+
 }
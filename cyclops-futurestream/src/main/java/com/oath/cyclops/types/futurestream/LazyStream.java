@@ -37,6 +37,15 @@ public interface LazyStream<U> extends BlockingStream<U> {
 
     public Iterator<U> iterator();
 
+    /**
+     * @return true if results can be taken from each Future in turn, on the calling thread and in the order they were
+     *         submitted (single threaded pipelines that have not requested completion order)
+     */
+    default boolean isSequentialCollection() {
+        return getLastActive().isSequential() && !getLazyCollector().get()
+                                                                    .isCompletionOrder();
+    }
+
     /**
      * Trigger a lazy stream as a task on the provided Executor
      *
@@ -92,7 +101,7 @@ public interface LazyStream<U> extends BlockingStream<U> {
      * @return Collection of results
      */
     default <A, R> R run(final Collector<U, A, R> collector) {
-        if (getLastActive().isSequential()) {
+        if (isSequentialCollection()) {
             //if single threaded we can simply push from each Future into the toX to be returned
             if (collector.supplier()
                          .get() == null) {
@@ -146,7 +155,7 @@ public interface LazyStream<U> extends BlockingStream<U> {
     default void forEach(final Consumer<? super U> c) {
         final Function<FastFuture<U>, U> safeJoin = (final FastFuture<U> cf) -> (U) BlockingStreamHelper.getSafe(cf, getErrorHandler());
 
-        if (getLastActive().isSequential()) {
+        if (isSequentialCollection()) {
             //if single threaded we can simply push from each Future into the toX to be returned
             try {
                 this.getLastActive()
@@ -189,7 +198,7 @@ public interface LazyStream<U> extends BlockingStream<U> {
     }
 
     default Optional<U> reduce(final BinaryOperator<U> accumulator) {
-        if (getLastActive().isSequential()) {
+        if (isSequentialCollection()) {
             final Object[] result = { null };
             forEach(r -> {
                 if (result[0] == null)
@@ -236,7 +245,7 @@ public interface LazyStream<U> extends BlockingStream<U> {
     }
 
     default U reduce(final U identity, final BinaryOperator<U> accumulator) {
-        if (getLastActive().isSequential()) {
+        if (isSequentialCollection()) {
             final Object[] result = { identity };
             forEach(r -> {
                 if (result[0] == null)
@@ -275,7 +284,7 @@ public interface LazyStream<U> extends BlockingStream<U> {
 
     default <T> T reduce(final T identity, final BiFunction<T, ? super U, T> accumulator, final BinaryOperator<T> combiner) {
 
-        if (getLastActive().isSequential()) {
+        if (isSequentialCollection()) {
             final Object[] result = { identity };
             forEach(r -> {
                 if (result[0] == null)
@@ -314,7 +323,7 @@ public interface LazyStream<U> extends BlockingStream<U> {
 
     default <T> T reduce(final T identity, final BiFunction<T, ? super U, T> accumulator) {
 
-        if (getLastActive().isSequential()) {
+        if (isSequentialCollection()) {
             final Object[] result = { identity };
             forEach(r -> {
                 if (result[0] == null)
@@ -9,6 +9,7 @@ import com.oath.cyclops.internal.react.stream.traits.future.operators.Operations
 import com.oath.cyclops.internal.stream.FutureOpterationsImpl;
 import com.oath.cyclops.react.SimpleReactFailedStageException;
 import com.oath.cyclops.react.async.subscription.Continueable;
+import com.oath.cyclops.react.collectors.lazy.BatchingCollector;
 import com.oath.cyclops.react.collectors.lazy.LazyResultConsumer;
 import com.oath.cyclops.types.futurestream.*;
 import com.oath.cyclops.types.persistent.PersistentCollection;
@@ -1062,6 +1063,27 @@ public interface FutureStream<U> extends LazySimpleReactStream<U>,
      */
     public FutureStream<U> maxActive(int concurrentTasks);
 
+    /**
+     * Collect the results of terminal operations (toList, collect, forEach, reduce) in the order tasks complete, rather
+     * than the order they were submitted. Completed results are handed over as soon as they are available, so a single
+     * slow task does not hold back the results behind it.
+     *
+     * <pre>
+     *    {@code
+     *    	List<String> fastestFirst = new LazyReact().react(urlFile)
+     *    												.map(this::callUrl)
+     *    												.completionOrder()
+     *    												.toList();
+     *    }
+     * </pre>
+     *
+     * @return FutureStream that collects results in completion order
+     */
+    default FutureStream<U> completionOrder() {
+        return this.withLazyCollector(() -> new BatchingCollector<U>(
+                                                                     getMaxActive(), this).withCompletionOrder(true));
+    }
+
     /*
      * Equivalent functionally to transform / applyHKT but always applied on the completing thread (from the previous stage)
      *
@@ -30,6 +30,7 @@ import com.oath.cyclops.internal.react.stream.ReactBuilder;
 import com.oath.cyclops.react.ThreadPools;
 import com.oath.cyclops.react.async.subscription.Subscription;
 import com.oath.cyclops.react.collectors.lazy.MaxActive;
+import cyclops.function.BoundedCache;
 import cyclops.function.Cacheable;
 
 
@@ -121,6 +122,25 @@ public class LazyReact implements ReactBuilder {
         return withAutoMemoize(true).withMemoizeCache(memoizeCache);
     }
 
+    /**
+     * Turn automatic caching of values on for the FutureStream to be generated
+     * by this Stream builder, using a size bounded cache (see {@link BoundedCache#tinyLfu(long)})
+     *
+     * <pre>
+     * {@code
+     *  Set<Integer> result = new LazyReact().autoMemoizeOn(10_000)
+     *                                       .of(1,1,1,1)
+     *                                       .map(i->calc(i))
+     *                                       .toSet();
+     * }</pre>
+     *
+     * @param maximumSize Maximum number of cached values
+     * @return LazyReact Stream builder
+     */
+    public LazyReact autoMemoizeOn(final long maximumSize) {
+        return autoMemoizeOn(BoundedCache.tinyLfu(maximumSize));
+    }
+
 
 
     /*
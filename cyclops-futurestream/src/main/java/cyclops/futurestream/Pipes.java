@@ -15,10 +15,12 @@ import cyclops.control.Maybe;
 import cyclops.reactive.ReactiveSeq;
 import cyclops.reactive.Spouts;
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 
+import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -27,6 +29,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Pipes : Stores and manages cyclops2-react Adapters for cross-thread communication
@@ -77,7 +80,53 @@ import java.util.concurrent.Executor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class Pipes<K, V> {
 
-    private final ConcurrentMap<K, Adapter<V>> registered = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, Pipe<V>> registered = new ConcurrentHashMap<>();
+    //cached persistent view of the registered adapters, rebuilt after the next change
+    private volatile ImmutableMap<K, Adapter<V>> view;
+
+    @AllArgsConstructor
+    private static final class Pipe<V> {
+        final Adapter<V> adapter;
+        final LongAdder pushed = new LongAdder();
+    }
+
+    /*
+     * Single pass view of a batch that counts how many values the Adapter read, and whether it read them all
+     */
+    private static final class CountingIterable<V> implements Iterable<V> {
+        private final Iterable<? extends V> values;
+        private long read;
+        private boolean exhausted;
+
+        CountingIterable(final Iterable<? extends V> values) {
+            this.values = values;
+        }
+
+        @Override
+        public Iterator<V> iterator() {
+            final Iterator<? extends V> it = values.iterator();
+            return new Iterator<V>() {
+                @Override
+                public boolean hasNext() {
+                    final boolean hasNext = it.hasNext();
+                    if (!hasNext)
+                        exhausted = true;
+                    return hasNext;
+                }
+
+                @Override
+                public V next() {
+                    final V next = it.next();
+                    read++;
+                    return next;
+                }
+            };
+        }
+
+        boolean allAccepted(final long accepted) {
+            return exhausted && accepted == read;
+        }
+    }
 
     /**
      * @return Numer of registered adapters
@@ -87,10 +136,24 @@ public class Pipes<K, V> {
     }
 
     /**
-     * @return Persistent transform of all registered adapters
+     * @return Persistent transform of all registered adapters (cached until the next registration change)
      */
     public ImmutableMap<K, Adapter<V>> registered() {
-        return HashMap.fromMap(registered);
+        final ImmutableMap<K, Adapter<V>> current = view;
+        if (current != null)
+            return current;
+        return buildView();
+    }
+
+    private synchronized ImmutableMap<K, Adapter<V>> buildView() {
+        if (view == null) {
+            HashMap<K, Adapter<V>> next = HashMap.empty();
+            for (final Map.Entry<K, Pipe<V>> e : registered.entrySet()) {
+                next = next.put(e.getKey(), e.getValue().adapter);
+            }
+            view = next;
+        }
+        return view;
     }
 
     /**
@@ -109,7 +172,7 @@ public class Pipes<K, V> {
     public static <K, V> Pipes<K, V> of(final Map<K, Adapter<V>> registered) {
         Objects.requireNonNull(registered);
         final Pipes<K, V> pipes = new Pipes<>();
-        pipes.registered.putAll(registered);
+        registered.forEach(pipes::register);
         return pipes;
     }
 
@@ -137,8 +200,82 @@ public class Pipes<K, V> {
      * @param value Value to push to Adapter
      */
     public void push(final K key, final V value) {
-        Optional.ofNullable(registered.get(key))
-                .ifPresent(a -> a.offer(value));
+        final Pipe<V> pipe = registered.get(key);
+        if (pipe != null && pipe.adapter.offer(value))
+            pipe.pushed.increment();
+    }
+
+    /**
+     * Push a batch of values synchronously into the Adapter identified by the supplied Key,
+     * if it exists. The Adapter is looked up (and checked open) once for the whole batch.
+     *
+     * <pre>
+     * {@code
+     *
+     *     Pipes<String,String> pipes = Pipes.of();
+     *     pipes.register("hello", new Queue<String>());
+
+           pipes.pushAll("hello", Arrays.asList("world","world2"));
+     *
+     * }
+     * </pre>
+     *
+     * @param key Adapter key
+     * @param values Values to push to Adapter
+     * @return true if the Adapter exists and accepted all values
+     */
+    public boolean pushAll(final K key, final Iterable<? extends V> values) {
+        final Pipe<V> pipe = registered.get(key);
+        if (pipe == null)
+            return false;
+        final CountingIterable<V> batch = new CountingIterable<>(
+                                                                 values);
+        final long accepted = pipe.adapter.offerAll(batch);
+        pipe.pushed.add(accepted);
+        return batch.allAccepted(accepted);
+    }
+
+    /**
+     * Push batches of values synchronously into the Adapters identified by each Key, skipping
+     * Keys with no registered Adapter
+     *
+     * <pre>
+     * {@code
+     *   Map<String,List<String>> batches = new HashMap<>();
+     *   batches.put("hello", Arrays.asList("world","world2"));
+     *   batches.put("bye", Arrays.asList("world3"));
+     *
+     *   pipes.pushAll(batches);
+     * }
+     * </pre>
+     *
+     * @param batches Values to push keyed by Adapter key
+     * @return true if every Key has an Adapter that accepted all of its values
+     */
+    public boolean pushAll(final Map<K, ? extends Iterable<? extends V>> batches) {
+        boolean result = true;
+        for (final Map.Entry<K, ? extends Iterable<? extends V>> next : batches.entrySet()) {
+            result = pushAll(next.getKey(), next.getValue()) && result;
+        }
+        return result;
+    }
+
+    /**
+     * @param key Adapter key
+     * @return Total number of values accepted by the Adapter identified by the provided Key via push / pushAll
+     *          (a push that fails with an Exception is not counted), 0 if no Adapter is registered
+     */
+    public long pushed(final K key) {
+        final Pipe<V> pipe = registered.get(key);
+        return pipe == null ? 0L : pipe.pushed.sum();
+    }
+
+    /**
+     * @param key Adapter key
+     * @return Number of values waiting to be consumed, if the Adapter identified by the provided Key is a Queue
+     */
+    public Option<Integer> backlog(final K key) {
+        return get(key).flatMap(a -> a.visit(q -> Option.some(q.size()), t -> Option.none()));
     }
 
     /**
@@ -160,7 +297,8 @@ public class Pipes<K, V> {
      */
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public Option<Adapter<V>> get(final K key) {
-        return Option.ofNullable((Adapter) registered.get(key));
+        final Pipe<V> pipe = registered.get(key);
+        return pipe == null ? Option.none() : Option.some(pipe.adapter);
     }
 
 
@@ -522,16 +660,18 @@ public class Pipes<K, V> {
      * @param adapter
      *
      */
-    public void register(final K key, final Adapter<V> adapter) {
-        registered.put(key, adapter);
+    public synchronized void register(final K key, final Adapter<V> adapter) {
+        registered.put(key, new Pipe<>(adapter));
+        view = null;
 
     }
 
     /**
      * Clear all managed Adapters (without closing them or performing any other operation on them)
      */
-    public void clear() {
+    public synchronized void clear() {
         registered.clear();
+        view = null;
 
     }
 
@@ -542,7 +682,7 @@ public class Pipes<K, V> {
      * @param subscriber Reactive Streams reactiveSubscriber for data on this pipe
      */
     public void subscribeTo(final K key, final Subscriber<V> subscriber) {
-        registered.get(key)
+        registered.get(key).adapter
                   .stream()
                   .subscribe(subscriber);
 
@@ -582,7 +722,7 @@ public class Pipes<K, V> {
      * @param publisher Reactive Streams publisher  to push data onto this pipe
      */
     public void publishTo(final K key, final Publisher<V> publisher) {
-        registered.get(key).fromStream(Spouts.from(publisher));
+        registered.get(key).adapter.fromStream(Spouts.from(publisher));
     }
 
 
@@ -622,7 +762,7 @@ public class Pipes<K, V> {
      */
     public void close(final String key) {
         Optional.ofNullable(registered.get(key))
-                .ifPresent(a -> a.close());
+                .ifPresent(p -> p.adapter.close());
 
     }
 
@@ -22,6 +22,7 @@ import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import com.oath.cyclops.react.async.subscription.Subscription;
 import com.oath.cyclops.types.futurestream.BaseSimpleReactStream;
 
 public class TopicTest {
@@ -284,6 +285,130 @@ public class TopicTest {
 
 
 
+	@Test
+	public void broadcastSubscribersGetSameMessages() {
+		Topic<String> topic = Topic.broadcast(16, Topic.SlowConsumerPolicy.BLOCK);
+
+		Stream<String> data1 = topic.stream();
+		Stream<String> data2 = topic.stream();
+		topic.fromStream(Stream.of("hello", "world"));
+
+		assertThat(topic.isBroadcast(), is(true));
+		assertThat(data1.limit(1).findFirst().get(), is("hello"));
+		assertThat(data2.limit(2).reduce("", (acc, next) -> acc + ' ' + next),
+				is(" hello world"));
+	}
+	@Test
+	public void broadcastCloseCompletesStreams() {
+		Topic<Integer> topic = Topic.broadcast(16, Topic.SlowConsumerPolicy.BLOCK);
+		ReactiveSeq<Integer> s1 = topic.stream();
+		ReactiveSeq<Integer> s2 = topic.stream();
+		topic.offer(1);
+		topic.offer(2);
+		topic.close();
+
+		assertThat(s1.toList(), is(Arrays.asList(1, 2)));
+		assertThat(s2.toList(), is(Arrays.asList(1, 2)));
+		assertThat(topic.offer(3), is(false));
+	}
+	@Test
+	public void broadcastDropOldest() {
+		Topic<Integer> topic = Topic.broadcast(4, Topic.SlowConsumerPolicy.DROP_OLDEST);
+		ReactiveSeq<Integer> slow = topic.stream();
+		for (int i = 0; i < 10; i++)
+			topic.offer(i);
+		topic.close();
+
+		assertThat(slow.toList(), is(Arrays.asList(6, 7, 8, 9)));
+	}
+	@Test
+	public void broadcastDisconnectSlowConsumer() {
+		Topic<Integer> topic = Topic.broadcast(4, Topic.SlowConsumerPolicy.DISCONNECT);
+		ReactiveSeq<Integer> slow = topic.stream();
+		for (int i = 0; i < 10; i++)
+			topic.offer(i);
+
+		assertThat(slow.toList(), is(Arrays.asList()));
+		assertThat(topic.stream().limit(0).toList().size(), is(0));
+	}
+	@Test
+	public void broadcastBlocksProducerUntilConsumed() throws InterruptedException {
+		Topic<Integer> topic = Topic.broadcast(8, Topic.SlowConsumerPolicy.BLOCK);
+		ReactiveSeq<Integer> s1 = topic.stream();
+		ReactiveSeq<Integer> s2 = topic.stream();
+		Thread producer = new Thread(() -> {
+			for (int i = 0; i < 10_000; i++)
+				topic.offer(i);
+			topic.close();
+		});
+		producer.start();
+		long[] sum = {0};
+		Thread consumer = new Thread(() -> s2.forEach(i -> sum[0] += i));
+		consumer.start();
+
+		assertThat(s1.map(i -> (long) i).foldLeft(0l, (a, b) -> a + b), is(49995000l));
+		consumer.join();
+		assertThat(sum[0], is(49995000l));
+	}
+	@Test
+	public void broadcastDisconnect() {
+		Topic<Integer> topic = Topic.broadcast(4, Topic.SlowConsumerPolicy.BLOCK);
+		ReactiveSeq<Integer> s1 = topic.stream();
+		ReactiveSeq<Integer> s2 = topic.stream();
+		topic.disconnect(s1);
+		for (int i = 0; i < 4; i++)
+			topic.offer(i);
+		topic.close();
+
+		assertThat(s1.toList().size(), is(0));
+		assertThat(s2.toList().size(), is(4));
+	}
+
+	@Test
+	public void broadcastClosedStreamDisconnects() {
+		Topic<Integer> topic = Topic.broadcast(4, Topic.SlowConsumerPolicy.BLOCK);
+		ReactiveSeq<Integer> s1 = topic.stream();
+		s1.close();
+		for (int i = 0; i < 8; i++)
+			topic.offer(i);
+		topic.close();
+
+		assertThat(s1.toList().size(), is(0));
+	}
+	@Test
+	public void broadcastStreamEndsWhenSubscriptionClosed() {
+		Topic<Integer> topic = Topic.broadcast(4, Topic.SlowConsumerPolicy.BLOCK);
+		Subscription subscription = new Subscription();
+		ReactiveSeq<Integer> stream = topic.stream(subscription);
+		subscription.closeAll();
+
+		assertThat(stream.toList().size(), is(0));
+		assertThat(topic.offer(1), is(true));
+	}
+	@Test
+	public void broadcastAbandonedStreamReleasesProducer() throws InterruptedException {
+		Topic<Integer> topic = Topic.broadcast(4, Topic.SlowConsumerPolicy.BLOCK);
+		topic.stream();
+		Thread producer = new Thread(() -> {
+			for (int i = 0; i < 100; i++)
+				topic.offer(i);
+		});
+		producer.start();
+		for (int i = 0; i < 100 && producer.isAlive(); i++) {
+			System.gc();
+			producer.join(100);
+		}
+
+		assertThat(producer.isAlive(), is(false));
+		topic.close();
+	}
+	@Test(expected = UnsupportedOperationException.class)
+	public void broadcastSizeSignalRejected() {
+		Topic<Integer> topic = Topic.broadcast(4, Topic.SlowConsumerPolicy.BLOCK);
+		topic.stream();
+		topic.getSizeSignal(0);
+	}
+
 	private Collection<String> extract1(List<Collection<String>> result) {
 		for(Collection next : result){
 			if(next instanceof ArrayList)
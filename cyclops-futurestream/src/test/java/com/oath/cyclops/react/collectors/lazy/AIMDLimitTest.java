@@ -0,0 +1,62 @@
+package com.oath.cyclops.react.collectors.lazy;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class AIMDLimitTest {
+
+	AIMDLimit limit;
+	long fast = TimeUnit.MILLISECONDS.toNanos(1);
+	long slow = TimeUnit.MILLISECONDS.toNanos(20);
+	@Before
+	public void setup(){
+		limit = new AIMDLimit(10,2,12,10,TimeUnit.MILLISECONDS);
+	}
+	@Test
+	public void increasesWhenUtilised() {
+		limit.onSample(fast,5,false);
+		assertThat(limit.getLimit(),is(11));
+	}
+	@Test
+	public void unchangedWhenUnderUtilised() {
+		limit.onSample(fast,4,false);
+		assertThat(limit.getLimit(),is(10));
+	}
+	@Test
+	public void boundedByMax() {
+		for(int i=0;i<10;i++)
+			limit.onSample(fast,10,false);
+		assertThat(limit.getLimit(),is(12));
+	}
+	@Test
+	public void backsOffOnTimeout() {
+		limit.onSample(slow,10,false);
+		assertThat(limit.getLimit(),is(9));
+	}
+	@Test
+	public void backsOffOnFailure() {
+		limit.onSample(fast,10,true);
+		assertThat(limit.getLimit(),is(9));
+	}
+	@Test
+	public void boundedByMin() {
+		for(int i=0;i<100;i++)
+			limit.onSample(slow,10,false);
+		assertThat(limit.getLimit(),is(2));
+	}
+	@Test
+	public void reduceTo() {
+		assertThat(limit.getReduceTo(),is(9));
+		assertThat(new AIMDLimit(1,1,1,1,TimeUnit.SECONDS).getReduceTo(),is(1));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void initialAboveMax() {
+		new AIMDLimit(20,2,12,10,TimeUnit.MILLISECONDS);
+	}
+
+}
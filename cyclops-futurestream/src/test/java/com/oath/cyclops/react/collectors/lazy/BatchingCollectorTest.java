@@ -1,10 +1,20 @@
 package com.oath.cyclops.react.collectors.lazy;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import com.oath.cyclops.internal.react.async.future.FastFuture;
 import org.junit.Before;
@@ -44,7 +54,7 @@ public class BatchingCollectorTest {
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		Mockito.verify(cf, Mockito.times(501)).isDone();
+		assertThat(collector.getResults().size(),is(501));
 	}
 	@Test
 	public void testAcceptMock50() {
@@ -54,7 +64,7 @@ public class BatchingCollectorTest {
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		Mockito.verify(cf, Mockito.times(501)).isDone();
+		assertThat(collector.getResults().size(),is(501));
 	}
 
 	@Test
@@ -65,7 +75,7 @@ public class BatchingCollectorTest {
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		Mockito.verify(cf, Mockito.times(999)).isDone();
+		assertThat(collector.getResults().size(),is(999));
 	}
 
 	@Test
@@ -76,19 +86,130 @@ public class BatchingCollectorTest {
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		Mockito.verify(cf, Mockito.times(0)).isDone();
+		assertThat(collector.getResults().size(),is(0));
 	}
 
 	@Test
 	public void testBatchingCollectorMaxActive() {
-		collector = new BatchingCollector(new MaxActive(10,5), LazyReact.sequentialBuilder().of(1)).withResults(new HashSet<>());
+		collector = new BatchingCollector(new MaxActive(10,5), LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList<>());
 		FastFuture cf = Mockito.mock(FastFuture.class);
 		BDDMockito.given(cf.isDone()).willReturn(true);
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		Mockito.verify(cf, Mockito.times(990)).isDone();
+		assertThat(collector.getResults().size(),is(990));
 	}
 
+	@Test
+	public void activeResultsInAcceptOrder() {
+		FastFuture<Integer> slow = new FastFuture<>();
+		collector.accept(slow);
+		collector.accept(FastFuture.completedFuture(2));
+		slow.set(1);
+		List results = new ArrayList();
+		for(Object next : collector.getAllResults())
+			results.add(((FastFuture)next).join());
+		assertThat(results,equalTo(Arrays.asList(1,2)));
+	}
+
+	@Test
+	public void blocksUntilInFlightReduced() throws InterruptedException {
+		collector = new BatchingCollector(new MaxActive(4,2), LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList<>());
+		List<FastFuture<Integer>> futures = new ArrayList<>();
+		for(int i=0;i<5;i++)
+			futures.add(new FastFuture<>());
+		CountDownLatch accepted = new CountDownLatch(1);
+		Thread t = new Thread(()->{
+			futures.forEach(collector::accept);
+			accepted.countDown();
+		});
+		t.start();
+		assertFalse(accepted.await(100, TimeUnit.MILLISECONDS));
+		futures.get(0).set(0);
+		futures.get(1).set(1);
+		assertFalse(accepted.await(100, TimeUnit.MILLISECONDS));
+		futures.get(2).set(2);
+		assertTrue(accepted.await(5, TimeUnit.SECONDS));
+		assertThat(collector.getResults().size(),is(3));
+	}
+
+	@Test
+	public void completionOrderResults() {
+		collector = collector.withCompletionOrder(true);
+		FastFuture<Integer> slow = new FastFuture<>();
+		FastFuture<Integer> fast = new FastFuture<>();
+		collector.accept(slow);
+		collector.accept(fast);
+		fast.set(2);
+		collector.accept(FastFuture.completedFuture(3));
+		assertThat(collector.getResults().size(),is(2));
+		slow.set(1);
+		List results = new ArrayList();
+		for(Object next : collector.getAllResults())
+			results.add(((FastFuture)next).join());
+		assertThat(results,equalTo(Arrays.asList(2,3,1)));
+	}
+
+	@Test
+	public void completionOrderBlockJoinsAsCompleted() throws InterruptedException {
+		collector = collector.withCompletionOrder(true);
+		FastFuture<Integer> slow = new FastFuture<>();
+		FastFuture<Integer> fast = new FastFuture<>();
+		collector.accept(slow);
+		collector.accept(fast);
+		List<Object> joined = new java.util.concurrent.CopyOnWriteArrayList<>();
+		CountDownLatch blocked = new CountDownLatch(1);
+		Thread t = new Thread(()->{
+			collector.block(f->joined.add(((FastFuture)f).join()));
+			blocked.countDown();
+		});
+		t.start();
+		fast.set(2);
+		assertFalse(blocked.await(100, TimeUnit.MILLISECONDS));
+		assertThat(joined,equalTo(Arrays.asList(2)));
+		slow.set(1);
+		assertTrue(blocked.await(5, TimeUnit.SECONDS));
+		assertThat(joined,equalTo(Arrays.asList(2,1)));
+	}
+
+	private int sleep(int millis){
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return millis;
+	}
+	@Test
+	public void completionOrderStream() {
+		ExecutorService exec = Executors.newFixedThreadPool(3);
+		try {
+			List<Integer> result = new LazyReact(exec).ofAsync(()->sleep(400),()->sleep(200),()->sleep(10))
+													  .completionOrder()
+													  .toList();
+			assertThat(result,equalTo(Arrays.asList(10,200,400)));
+		} finally {
+			exec.shutdown();
+		}
+	}
+
+	private int slow(int i){
+		try {
+			Thread.sleep(1);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return i*2;
+	}
+	@Test
+	public void adaptiveLimit() {
+		AIMDLimit limit = new AIMDLimit(2,1,50,1,TimeUnit.MINUTES);
+		List<Integer> result = new LazyReact().withMaxActive(MaxActive.adaptive(limit))
+											  .range(0,200)
+											  .map(this::slow)
+											  .toList();
+		assertThat(result.size(),is(200));
+		assertTrue(limit.getLimit()>2);
+	}
 
 }
@@ -46,7 +46,7 @@ public class EmptyCollectorTest {
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		Mockito.verify(cf, Mockito.times(501)).isDone();
+		Mockito.verify(cf, Mockito.times(501)).isCompletedExceptionally();
 	}
 	@Test
 	public void testAcceptMock50() {
@@ -56,7 +56,7 @@ public class EmptyCollectorTest {
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		Mockito.verify(cf, Mockito.times(501)).isDone();
+		Mockito.verify(cf, Mockito.times(501)).isCompletedExceptionally();
 	}
 
 	@Test
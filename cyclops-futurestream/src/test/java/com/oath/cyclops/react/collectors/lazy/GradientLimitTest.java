@@ -0,0 +1,57 @@
+package com.oath.cyclops.react.collectors.lazy;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class GradientLimitTest {
+
+	GradientLimit limit;
+	@Before
+	public void setup(){
+		limit = new GradientLimit(20,1,100);
+	}
+	@Test
+	public void growsWhileLatencyStable() {
+		for(int i=0;i<100;i++)
+			limit.onSample(1000,limit.getLimit(),false);
+		assertThat(limit.getLimit(),greaterThan(20));
+	}
+	@Test
+	public void unchangedWhenUnderUtilised() {
+		for(int i=0;i<100;i++)
+			limit.onSample(1000,1,false);
+		assertThat(limit.getLimit(),is(20));
+	}
+	@Test
+	public void shrinksAsLatencyRises() {
+		limit.onSample(1000,20,false);
+		for(int i=0;i<100;i++)
+			limit.onSample(10_000,20,false);
+		assertThat(limit.getLimit(),lessThan(20));
+	}
+	@Test
+	public void halvesOnFailure() {
+		limit.onSample(1000,20,true);
+		assertThat(limit.getLimit(),is(10));
+	}
+	@Test
+	public void boundedByMax() {
+		for(int i=0;i<1000;i++)
+			limit.onSample(1000,100,false);
+		assertThat(limit.getLimit(),is(100));
+	}
+	@Test
+	public void acceptsNewBaselineAfterProbe() {
+		limit = new GradientLimit(20,1,100,0.2,50);
+		limit.onSample(1000,20,false);
+		for(int i=0;i<500;i++)
+			limit.onSample(10_000,limit.getLimit(),false);
+		assertThat(limit.getLimit(),greaterThan(20));
+	}
+
+}
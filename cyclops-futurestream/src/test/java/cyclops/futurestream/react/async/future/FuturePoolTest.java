@@ -0,0 +1,66 @@
+package cyclops.futurestream.react.async.future;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.oath.cyclops.internal.react.async.future.FastFuture;
+import com.oath.cyclops.internal.react.async.future.FuturePool;
+import cyclops.futurestream.LazyReact;
+import org.junit.Test;
+
+public class FuturePoolTest {
+
+	@Test
+	public void reusesReleasedFuture(){
+		FuturePool pool = new FuturePool(100);
+		FastFuture<Integer> f = pool.next(FastFuture::new);
+		pool.done(f);
+		FastFuture<Integer> reused = pool.next(FastFuture::new);
+		assertThat(reused,sameInstance(f));
+		assertThat(pool.created(),equalTo(1L));
+		assertThat(pool.reused(),equalTo(1L));
+		assertThat(pool.recycled(),equalTo(1L));
+		assertThat(pool.hitRate(),equalTo(0.5d));
+	}
+
+	@Test
+	public void overflowIsBounded(){
+		FuturePool pool = new FuturePool(FuturePool.MAGAZINE_SIZE*2,1);
+		for(int i=0;i<FuturePool.MAGAZINE_SIZE*4;i++)
+			pool.done(new FastFuture<>());
+		assertThat(pool.recycled(),equalTo((long)FuturePool.MAGAZINE_SIZE*3));
+		assertThat(pool.dropped(),equalTo((long)FuturePool.MAGAZINE_SIZE));
+	}
+
+	@Test
+	public void releasedOnOtherThreadsAreReused() throws InterruptedException {
+		FuturePool pool = new FuturePool(1000,4);
+		List<Thread> workers = new ArrayList<>();
+		for(int t=0;t<4;t++){
+			Thread worker = new Thread(()->{
+				for(int i=0;i<FuturePool.MAGAZINE_SIZE*4;i++)
+					pool.done(new FastFuture<>());
+			});
+			workers.add(worker);
+			worker.start();
+		}
+		for(Thread worker : workers)
+			worker.join();
+		for(int i=0;i<FuturePool.MAGAZINE_SIZE*8;i++)
+			pool.next(FastFuture::new);
+		assertThat(pool.reused(),greaterThan(0L));
+	}
+
+	@Test
+	public void pooledPipeline(){
+		assertThat(new LazyReact(4,4).objectPoolingOn()
+									 .range(0,10_000)
+									 .map(i->i*2)
+									 .count(),equalTo(10_000L));
+	}
+}
@@ -9,11 +9,14 @@ import static org.junit.Assert.assertTrue;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import com.oath.cyclops.types.reactive.QueueBasedSubscriber;
 import cyclops.control.*;
@@ -21,6 +24,7 @@ import cyclops.futurestream.LazyReact;
 import cyclops.futurestream.Pipes;
 import com.oath.cyclops.async.QueueFactories;
 import com.oath.cyclops.async.adapters.Queue;
+import com.oath.cyclops.async.adapters.Topic;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -370,5 +374,85 @@ public class PipesTest {
         queue.close();
         assertThat(queue.stream().toList(),equalTo(Arrays.asList(1,2,3,4)));
     }
+
+    @Test
+    public void pushAll(){
+        Pipes<String,Integer> pipes = Pipes.of();
+        Queue<Integer> queue = new Queue<>();
+        pipes.register("hello", queue);
+        assertTrue(pipes.pushAll("hello",Arrays.asList(1,2,3)));
+        assertFalse(pipes.pushAll("missing",Arrays.asList(4)));
+        assertThat(pipes.pushed("hello"),equalTo(3l));
+        assertThat(pipes.backlog("hello"),equalTo(Option.some(3)));
+        queue.close();
+        assertThat(queue.stream().toList(),equalTo(Arrays.asList(1,2,3)));
+    }
+
+    @Test
+    public void pushAllOneShotIterable(){
+        Pipes<String,Integer> pipes = Pipes.of();
+        Queue<Integer> queue = new Queue<>();
+        pipes.register("hello", queue);
+        Iterator<Integer> it = Arrays.asList(1,2,3).iterator();
+        assertTrue(pipes.pushAll("hello",()->it));
+        assertThat(pipes.pushed("hello"),equalTo(3l));
+        queue.close();
+        assertThat(queue.stream().toList(),equalTo(Arrays.asList(1,2,3)));
+    }
+
+    @Test
+    public void pushedCountsAcceptedValues(){
+        Pipes<String,Integer> pipes = Pipes.of();
+        Queue<Integer> queue = new Queue<Integer>(new LinkedBlockingQueue<>(2)).withOfferTimeout(1)
+                                                                            .withOfferTimeUnit(TimeUnit.MILLISECONDS);
+        pipes.register("hello", queue);
+        assertFalse(pipes.pushAll("hello",Arrays.asList(1,2,3,4)));
+        assertThat(pipes.pushed("hello"),equalTo(2l));
+        pipes.push("hello",5);
+        assertThat(pipes.pushed("hello"),equalTo(2l));
+    }
+
+    @Test
+    public void pushedCountsValuesAcceptedByEveryTopicSubscriber(){
+        Pipes<String,Integer> pipes = Pipes.of();
+        Topic<Integer> topic = new Topic<>(new Queue<>(),()->new Queue<Integer>(new LinkedBlockingQueue<>(2)).withOfferTimeout(1)
+                                                                                                          .withOfferTimeUnit(TimeUnit.MILLISECONDS));
+        topic.stream();
+        topic.stream();
+        pipes.register("hello", topic);
+        assertFalse(pipes.pushAll("hello",Arrays.asList(1,2,3,4)));
+        assertThat(pipes.pushed("hello"),equalTo(2l));
+    }
+
+    @Test
+    public void pushAllKeyed(){
+        Pipes<String,Integer> pipes = Pipes.of();
+        Queue<Integer> q1 = new Queue<>();
+        Queue<Integer> q2 = new Queue<>();
+        pipes.register("one", q1);
+        pipes.register("two", q2);
+        HashMap<String,List<Integer>> batches = new HashMap<>();
+        batches.put("one",Arrays.asList(1,2));
+        batches.put("two",Arrays.asList(3));
+        assertTrue(pipes.pushAll(batches));
+        pipes.push("two",4);
+        assertThat(pipes.pushed("two"),equalTo(2l));
+        q1.close();
+        q2.close();
+        assertThat(q1.stream().toList(),equalTo(Arrays.asList(1,2)));
+        assertThat(q2.stream().toList(),equalTo(Arrays.asList(3,4)));
+    }
+
+    @Test
+    public void registeredViewIsCached(){
+        Pipes<String,Integer> pipes = Pipes.of();
+        pipes.register("one", new Queue<>());
+        assertTrue(pipes.registered()==pipes.registered());
+        assertThat(pipes.registered().size(),equalTo(1));
+        pipes.register("two", new Queue<>());
+        assertThat(pipes.registered().size(),equalTo(2));
+        pipes.clear();
+        assertThat(pipes.registered().size(),equalTo(0));
+    }
 }
 
@@ -0,0 +1,129 @@
+package cyclops.data;
+
+import cyclops.reactive.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * javaslang 2.0.2 has no multiset, so Bag is compared against a java.util.HashMap of value counts. Every value
+ * occurs twice.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BagBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    List<Integer> values;
+    List<Integer> other;
+    Bag<Integer> bag;
+    Bag<Integer> bagCopy;
+    Bag<Integer> otherBag;
+    java.util.HashMap<Integer,Integer> counts;
+    java.util.HashMap<Integer,Integer> countsCopy;
+
+    @Setup
+    public void setup(){
+        values = ReactiveSeq.range(0,size).map(i->i/2).toList();
+        other = ReactiveSeq.range(size,size*2).map(i->i/2).toList();
+        bag = Bag.fromIterable(values);
+        bagCopy = Bag.fromIterable(values);
+        otherBag = Bag.fromIterable(other);
+        counts = count(values);
+        countsCopy = count(values);
+    }
+
+    private static java.util.HashMap<Integer,Integer> count(Iterable<Integer> values){
+        java.util.HashMap<Integer,Integer> res = new java.util.HashMap<>();
+        for(Integer next : values)
+            res.merge(next,1,Integer::sum);
+        return res;
+    }
+
+    @Benchmark
+    public void cyclopsGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(bag.instances((i*31)%(size/2)));
+    }
+    @Benchmark
+    public void javaUtilGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(counts.getOrDefault((i*31)%(size/2),0));
+    }
+
+    @Benchmark
+    public Bag<Integer> cyclopsPut(){
+        return bag.plus(size/4);
+    }
+    @Benchmark
+    public java.util.HashMap<Integer,Integer> javaUtilPut(){
+        counts.merge(size/4,1,Integer::sum);
+        counts.computeIfPresent(size/4,(k,n)->n==1 ? null : n-1);
+        return counts;
+    }
+
+    @Benchmark
+    public Bag<Integer> cyclopsRemove(){
+        return bag.removeValue(size/4);
+    }
+    @Benchmark
+    public java.util.HashMap<Integer,Integer> javaUtilRemove(){
+        counts.computeIfPresent(size/4,(k,n)->n==1 ? null : n-1);
+        counts.merge(size/4,1,Integer::sum);
+        return counts;
+    }
+
+    @Benchmark
+    public void cyclopsIterate(Blackhole bh){
+        for(Integer next : bag)
+            bh.consume(next);
+    }
+    @Benchmark
+    public void javaUtilIterate(Blackhole bh){
+        for(Map.Entry<Integer,Integer> next : counts.entrySet()) {
+            for(int i=0;i<next.getValue();i++)
+                bh.consume(next.getKey());
+        }
+    }
+
+    @Benchmark
+    public Bag<Integer> cyclopsBuild(){
+        return Bag.fromIterable(values);
+    }
+    @Benchmark
+    public java.util.HashMap<Integer,Integer> javaUtilBuild(){
+        return count(values);
+    }
+
+    @Benchmark
+    public void cyclopsEqualsHashCode(Blackhole bh){
+        bh.consume(bag.equals(bagCopy));
+        bh.consume(bag.hashCode());
+    }
+    @Benchmark
+    public void javaUtilEqualsHashCode(Blackhole bh){
+        bh.consume(counts.equals(countsCopy));
+        bh.consume(counts.hashCode());
+    }
+
+    @Benchmark
+    public Bag<Integer> cyclopsConcat(){
+        return bag.plusAll(otherBag);
+    }
+    @Benchmark
+    public java.util.HashMap<Integer,Integer> javaUtilConcat(){
+        java.util.HashMap<Integer,Integer> copy = new java.util.HashMap<>(counts);
+        for(Integer next : other)
+            copy.merge(next,1,Integer::sum);
+        return copy;
+    }
+}
@@ -0,0 +1,135 @@
+package cyclops.data;
+
+import cyclops.reactive.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * ArrayDeque has no positional access or value based equality, so it only takes part in the put, remove, iterate,
+ * build and concat benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BankersQueueBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    List<Integer> values;
+    BankersQueue<Integer> queue;
+    BankersQueue<Integer> queueCopy;
+    ArrayDeque<Integer> deque;
+    javaslang.collection.Queue<Integer> slang;
+    javaslang.collection.Queue<Integer> slangCopy;
+
+    @Setup
+    public void setup(){
+        values = ReactiveSeq.range(0,size).toList();
+        queue = BankersQueue.fromIterable(values);
+        queueCopy = BankersQueue.fromIterable(values);
+        deque = new ArrayDeque<>(values);
+        slang = javaslang.collection.Queue.ofAll(values);
+        slangCopy = javaslang.collection.Queue.ofAll(values);
+    }
+
+    @Benchmark
+    public Object cyclopsGet(){
+        return queue.get(size/2);
+    }
+    @Benchmark
+    public Integer javaslangGet(){
+        return slang.get(size/2);
+    }
+
+    @Benchmark
+    public BankersQueue<Integer> cyclopsPut(){
+        return queue.enqueue(-1);
+    }
+    @Benchmark
+    public ArrayDeque<Integer> javaUtilPut(){
+        deque.offer(-1);
+        deque.pollLast();
+        return deque;
+    }
+    @Benchmark
+    public javaslang.collection.Queue<Integer> javaslangPut(){
+        return slang.enqueue(-1);
+    }
+
+    @Benchmark
+    public Object cyclopsRemove(){
+        return queue.dequeue(-1);
+    }
+    @Benchmark
+    public ArrayDeque<Integer> javaUtilRemove(){
+        deque.offerFirst(deque.poll());
+        return deque;
+    }
+    @Benchmark
+    public Object javaslangRemove(){
+        return slang.dequeue();
+    }
+
+    @Benchmark
+    public void cyclopsIterate(Blackhole bh){
+        for(Integer next : queue)
+            bh.consume(next);
+    }
+    @Benchmark
+    public void javaUtilIterate(Blackhole bh){
+        for(Integer next : deque)
+            bh.consume(next);
+    }
+    @Benchmark
+    public void javaslangIterate(Blackhole bh){
+        for(Integer next : slang)
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public BankersQueue<Integer> cyclopsBuild(){
+        return BankersQueue.fromIterable(values);
+    }
+    @Benchmark
+    public ArrayDeque<Integer> javaUtilBuild(){
+        return new ArrayDeque<>(values);
+    }
+    @Benchmark
+    public javaslang.collection.Queue<Integer> javaslangBuild(){
+        return javaslang.collection.Queue.ofAll(values);
+    }
+
+    @Benchmark
+    public void cyclopsEqualsHashCode(Blackhole bh){
+        bh.consume(queue.equals(queueCopy));
+        bh.consume(queue.hashCode());
+    }
+    @Benchmark
+    public void javaslangEqualsHashCode(Blackhole bh){
+        bh.consume(slang.equals(slangCopy));
+        bh.consume(slang.hashCode());
+    }
+
+    @Benchmark
+    public BankersQueue<Integer> cyclopsConcat(){
+        return queue.appendAll(queueCopy);
+    }
+    @Benchmark
+    public ArrayDeque<Integer> javaUtilConcat(){
+        ArrayDeque<Integer> copy = new ArrayDeque<>(deque);
+        copy.addAll(values);
+        return copy;
+    }
+    @Benchmark
+    public javaslang.collection.Queue<Integer> javaslangConcat(){
+        return slang.appendAll(slangCopy);
+    }
+}
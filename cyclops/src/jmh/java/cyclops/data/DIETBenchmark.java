@@ -0,0 +1,124 @@
+package cyclops.data;
+
+import cyclops.reactive.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Values form runs of ten consecutive ints separated by a gap, so the DIET holds size/10 intervals. There is no
+ * javaslang equivalent, so DIET is compared against a java.util.TreeSet of the same values. DIET does not define
+ * value equality, so only hashing / equality of the TreeSet is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DIETBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    final Enumeration<Integer> enm = Enumeration.ints();
+    final Comparator<Integer> comp = Comparator.naturalOrder();
+
+    List<Integer> values;
+    List<Integer> other;
+    DIET<Integer> diet;
+    java.util.TreeSet<Integer> treeSet;
+    java.util.TreeSet<Integer> treeSetCopy;
+
+    @Setup
+    public void setup(){
+        values = ReactiveSeq.range(0,size).map(i->i+i/10).toList();
+        other = ReactiveSeq.range(size,size*2).map(i->i+i/10).toList();
+        diet = build(values);
+        treeSet = new java.util.TreeSet<>(values);
+        treeSetCopy = new java.util.TreeSet<>(values);
+    }
+
+    private DIET<Integer> build(Iterable<Integer> values){
+        DIET<Integer> res = DIET.empty();
+        for(Integer next : values)
+            res = res.add(next,enm,comp);
+        return res;
+    }
+
+    @Benchmark
+    public void cyclopsGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(diet.contains((i*31)%size));
+    }
+    @Benchmark
+    public void javaUtilGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(treeSet.contains((i*31)%size));
+    }
+
+    @Benchmark
+    public DIET<Integer> cyclopsPut(){
+        return diet.add(-1,enm,comp);
+    }
+    @Benchmark
+    public java.util.TreeSet<Integer> javaUtilPut(){
+        treeSet.add(-1);
+        treeSet.remove(-1);
+        return treeSet;
+    }
+
+    @Benchmark
+    public DIET<Integer> cyclopsRemove(){
+        return diet.remove(values.get(size/2));
+    }
+    @Benchmark
+    public java.util.TreeSet<Integer> javaUtilRemove(){
+        treeSet.remove(values.get(size/2));
+        treeSet.add(values.get(size/2));
+        return treeSet;
+    }
+
+    @Benchmark
+    public void cyclopsIterate(Blackhole bh){
+        for(Integer next : diet)
+            bh.consume(next);
+    }
+    @Benchmark
+    public void javaUtilIterate(Blackhole bh){
+        for(Integer next : treeSet)
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public DIET<Integer> cyclopsBuild(){
+        return build(values);
+    }
+    @Benchmark
+    public java.util.TreeSet<Integer> javaUtilBuild(){
+        return new java.util.TreeSet<>(values);
+    }
+
+    @Benchmark
+    public void javaUtilEqualsHashCode(Blackhole bh){
+        bh.consume(treeSet.equals(treeSetCopy));
+        bh.consume(treeSet.hashCode());
+    }
+
+    @Benchmark
+    public DIET<Integer> cyclopsConcat(){
+        DIET<Integer> res = diet;
+        for(Integer next : other)
+            res = res.add(next,enm,comp);
+        return res;
+    }
+    @Benchmark
+    public java.util.TreeSet<Integer> javaUtilConcat(){
+        java.util.TreeSet<Integer> copy = new java.util.TreeSet<>(treeSet);
+        copy.addAll(other);
+        return copy;
+    }
+}
@@ -0,0 +1,164 @@
+package cyclops.data;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HashMapBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    java.util.HashMap<Integer,Integer> values;
+    java.util.HashMap<Integer,Integer> valuesCopy;
+    java.util.HashMap<Integer,Integer> other;
+    HashMap<Integer,Integer> map;
+    HashMap<Integer,Integer> mapCopy;
+    HashMap<Integer,Integer> otherMap;
+    javaslang.collection.HashMap<Integer,Integer> slang;
+    javaslang.collection.HashMap<Integer,Integer> slangCopy;
+    javaslang.collection.HashMap<Integer,Integer> slangOther;
+
+    @Setup
+    public void setup(){
+        values = new java.util.HashMap<>();
+        other = new java.util.HashMap<>();
+        for(int i=0;i<size;i++) {
+            values.put(i, i);
+            other.put(i+size, i);
+        }
+        valuesCopy = new java.util.HashMap<>(values);
+        map = build(values);
+        mapCopy = build(values);
+        otherMap = build(other);
+        slang = buildJavaslang(values);
+        slangCopy = buildJavaslang(values);
+        slangOther = buildJavaslang(other);
+    }
+
+    private static HashMap<Integer,Integer> build(Map<Integer,Integer> values){
+        return HashMap.fromMap(values);
+    }
+    private static javaslang.collection.HashMap<Integer,Integer> buildJavaslang(Map<Integer,Integer> values){
+        javaslang.collection.HashMap<Integer,Integer> res = javaslang.collection.HashMap.empty();
+        for(Map.Entry<Integer,Integer> next : values.entrySet())
+            res = res.put(next.getKey(),next.getValue());
+        return res;
+    }
+
+    @Benchmark
+    public void cyclopsGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(map.getOrElse((i*31)%size,-1));
+    }
+    @Benchmark
+    public void javaUtilGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(values.get((i*31)%size));
+    }
+    @Benchmark
+    public void javaslangGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(slang.get((i*31)%size));
+    }
+
+    @Benchmark
+    public HashMap<Integer,Integer> cyclopsPut(){
+        return map.put(-1,-1);
+    }
+    @Benchmark
+    public java.util.HashMap<Integer,Integer> javaUtilPut(){
+        values.put(-1,-1);
+        values.remove(-1);
+        return values;
+    }
+    @Benchmark
+    public javaslang.collection.HashMap<Integer,Integer> javaslangPut(){
+        return slang.put(-1,-1);
+    }
+
+    @Benchmark
+    public HashMap<Integer,Integer> cyclopsRemove(){
+        return map.remove(size/2);
+    }
+    @Benchmark
+    public java.util.HashMap<Integer,Integer> javaUtilRemove(){
+        values.put(size/2,values.remove(size/2));
+        return values;
+    }
+    @Benchmark
+    public javaslang.collection.HashMap<Integer,Integer> javaslangRemove(){
+        return slang.remove(size/2);
+    }
+
+    @Benchmark
+    public void cyclopsIterate(Blackhole bh){
+        for(cyclops.data.tuple.Tuple2<Integer,Integer> next : map)
+            bh.consume(next);
+    }
+    @Benchmark
+    public void javaUtilIterate(Blackhole bh){
+        for(Map.Entry<Integer,Integer> next : values.entrySet())
+            bh.consume(next);
+    }
+    @Benchmark
+    public void javaslangIterate(Blackhole bh){
+        for(javaslang.Tuple2<Integer,Integer> next : slang)
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public HashMap<Integer,Integer> cyclopsBuild(){
+        return build(values);
+    }
+    @Benchmark
+    public java.util.HashMap<Integer,Integer> javaUtilBuild(){
+        return new java.util.HashMap<>(values);
+    }
+    @Benchmark
+    public javaslang.collection.HashMap<Integer,Integer> javaslangBuild(){
+        return buildJavaslang(values);
+    }
+
+    @Benchmark
+    public void cyclopsEqualsHashCode(Blackhole bh){
+        bh.consume(map.equals(mapCopy));
+        bh.consume(map.hashCode());
+    }
+    @Benchmark
+    public void javaUtilEqualsHashCode(Blackhole bh){
+        bh.consume(values.equals(valuesCopy));
+        bh.consume(values.hashCode());
+    }
+    @Benchmark
+    public void javaslangEqualsHashCode(Blackhole bh){
+        bh.consume(slang.equals(slangCopy));
+        bh.consume(slang.hashCode());
+    }
+
+    @Benchmark
+    public HashMap<Integer,Integer> cyclopsConcat(){
+        return map.putAll(otherMap);
+    }
+    @Benchmark
+    public java.util.HashMap<Integer,Integer> javaUtilConcat(){
+        java.util.HashMap<Integer,Integer> copy = new java.util.HashMap<>(values);
+        copy.putAll(other);
+        return copy;
+    }
+    @Benchmark
+    public javaslang.collection.HashMap<Integer,Integer> javaslangConcat(){
+        javaslang.collection.HashMap<Integer,Integer> res = slang;
+        for(javaslang.Tuple2<Integer,Integer> next : slangOther)
+            res = res.put(next._1,next._2);
+        return res;
+    }
+}
@@ -0,0 +1,151 @@
+package cyclops.data;
+
+import cyclops.reactive.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HashSetBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    List<Integer> values;
+    List<Integer> other;
+    HashSet<Integer> set;
+    HashSet<Integer> setCopy;
+    HashSet<Integer> otherSet;
+    java.util.HashSet<Integer> javaSet;
+    java.util.HashSet<Integer> javaSetCopy;
+    javaslang.collection.HashSet<Integer> slang;
+    javaslang.collection.HashSet<Integer> slangCopy;
+    javaslang.collection.HashSet<Integer> slangOther;
+
+    @Setup
+    public void setup(){
+        values = ReactiveSeq.range(0,size).toList();
+        other = ReactiveSeq.range(size,size*2).toList();
+        set = HashSet.fromIterable(values);
+        setCopy = HashSet.fromIterable(values);
+        otherSet = HashSet.fromIterable(other);
+        javaSet = new java.util.HashSet<>(values);
+        javaSetCopy = new java.util.HashSet<>(values);
+        slang = javaslang.collection.HashSet.ofAll(values);
+        slangCopy = javaslang.collection.HashSet.ofAll(values);
+        slangOther = javaslang.collection.HashSet.ofAll(other);
+    }
+
+    @Benchmark
+    public void cyclopsGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(set.containsValue((i*31)%size));
+    }
+    @Benchmark
+    public void javaUtilGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(javaSet.contains((i*31)%size));
+    }
+    @Benchmark
+    public void javaslangGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(slang.contains((i*31)%size));
+    }
+
+    @Benchmark
+    public HashSet<Integer> cyclopsPut(){
+        return set.add(-1);
+    }
+    @Benchmark
+    public java.util.HashSet<Integer> javaUtilPut(){
+        javaSet.add(-1);
+        javaSet.remove(-1);
+        return javaSet;
+    }
+    @Benchmark
+    public javaslang.collection.HashSet<Integer> javaslangPut(){
+        return slang.add(-1);
+    }
+
+    @Benchmark
+    public HashSet<Integer> cyclopsRemove(){
+        return set.removeValue(size/2);
+    }
+    @Benchmark
+    public java.util.HashSet<Integer> javaUtilRemove(){
+        javaSet.remove(size/2);
+        javaSet.add(size/2);
+        return javaSet;
+    }
+    @Benchmark
+    public javaslang.collection.HashSet<Integer> javaslangRemove(){
+        return slang.remove(size/2);
+    }
+
+    @Benchmark
+    public void cyclopsIterate(Blackhole bh){
+        for(Integer next : set)
+            bh.consume(next);
+    }
+    @Benchmark
+    public void javaUtilIterate(Blackhole bh){
+        for(Integer next : javaSet)
+            bh.consume(next);
+    }
+    @Benchmark
+    public void javaslangIterate(Blackhole bh){
+        for(Integer next : slang)
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public HashSet<Integer> cyclopsBuild(){
+        return HashSet.fromIterable(values);
+    }
+    @Benchmark
+    public java.util.HashSet<Integer> javaUtilBuild(){
+        return new java.util.HashSet<>(values);
+    }
+    @Benchmark
+    public javaslang.collection.HashSet<Integer> javaslangBuild(){
+        return javaslang.collection.HashSet.ofAll(values);
+    }
+
+    @Benchmark
+    public void cyclopsEqualsHashCode(Blackhole bh){
+        bh.consume(set.equals(setCopy));
+        bh.consume(set.hashCode());
+    }
+    @Benchmark
+    public void javaUtilEqualsHashCode(Blackhole bh){
+        bh.consume(javaSet.equals(javaSetCopy));
+        bh.consume(javaSet.hashCode());
+    }
+    @Benchmark
+    public void javaslangEqualsHashCode(Blackhole bh){
+        bh.consume(slang.equals(slangCopy));
+        bh.consume(slang.hashCode());
+    }
+
+    @Benchmark
+    public HashSet<Integer> cyclopsConcat(){
+        return set.plusAll(otherSet);
+    }
+    @Benchmark
+    public java.util.HashSet<Integer> javaUtilConcat(){
+        java.util.HashSet<Integer> copy = new java.util.HashSet<>(javaSet);
+        copy.addAll(other);
+        return copy;
+    }
+    @Benchmark
+    public javaslang.collection.HashSet<Integer> javaslangConcat(){
+        return slang.addAll(slangOther);
+    }
+}
@@ -0,0 +1,148 @@
+package cyclops.data;
+
+import cyclops.reactive.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * IntMap is an indexed list, so it is compared against ArrayList and the javaslang Vector.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IntMapBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    List<Integer> values;
+    IntMap<Integer> intMap;
+    IntMap<Integer> intMapCopy;
+    ArrayList<Integer> arrayList;
+    ArrayList<Integer> arrayListCopy;
+    javaslang.collection.Vector<Integer> slang;
+    javaslang.collection.Vector<Integer> slangCopy;
+
+    @Setup
+    public void setup(){
+        values = ReactiveSeq.range(0,size).toList();
+        intMap = IntMap.fromIterable(values);
+        intMapCopy = IntMap.fromIterable(values);
+        arrayList = new ArrayList<>(values);
+        arrayListCopy = new ArrayList<>(values);
+        slang = javaslang.collection.Vector.ofAll(values);
+        slangCopy = javaslang.collection.Vector.ofAll(values);
+    }
+
+    @Benchmark
+    public void cyclopsGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(intMap.getOrElse((i*31)%size,-1));
+    }
+    @Benchmark
+    public void javaUtilGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(arrayList.get((i*31)%size));
+    }
+    @Benchmark
+    public void javaslangGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(slang.get((i*31)%size));
+    }
+
+    @Benchmark
+    public IntMap<Integer> cyclopsPut(){
+        return intMap.plus(-1);
+    }
+    @Benchmark
+    public ArrayList<Integer> javaUtilPut(){
+        arrayList.add(-1);
+        arrayList.remove(arrayList.size()-1);
+        return arrayList;
+    }
+    @Benchmark
+    public javaslang.collection.Vector<Integer> javaslangPut(){
+        return slang.append(-1);
+    }
+
+    @Benchmark
+    public IntMap<Integer> cyclopsRemove(){
+        return intMap.removeAt(size/2);
+    }
+    @Benchmark
+    public ArrayList<Integer> javaUtilRemove(){
+        arrayList.add(size/2,arrayList.remove(size/2));
+        return arrayList;
+    }
+    @Benchmark
+    public javaslang.collection.Vector<Integer> javaslangRemove(){
+        return slang.removeAt(size/2);
+    }
+
+    @Benchmark
+    public void cyclopsIterate(Blackhole bh){
+        for(Integer next : intMap)
+            bh.consume(next);
+    }
+    @Benchmark
+    public void javaUtilIterate(Blackhole bh){
+        for(Integer next : arrayList)
+            bh.consume(next);
+    }
+    @Benchmark
+    public void javaslangIterate(Blackhole bh){
+        for(Integer next : slang)
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public IntMap<Integer> cyclopsBuild(){
+        return IntMap.fromIterable(values);
+    }
+    @Benchmark
+    public ArrayList<Integer> javaUtilBuild(){
+        return new ArrayList<>(values);
+    }
+    @Benchmark
+    public javaslang.collection.Vector<Integer> javaslangBuild(){
+        return javaslang.collection.Vector.ofAll(values);
+    }
+
+    @Benchmark
+    public void cyclopsEqualsHashCode(Blackhole bh){
+        bh.consume(intMap.equals(intMapCopy));
+        bh.consume(intMap.hashCode());
+    }
+    @Benchmark
+    public void javaUtilEqualsHashCode(Blackhole bh){
+        bh.consume(arrayList.equals(arrayListCopy));
+        bh.consume(arrayList.hashCode());
+    }
+    @Benchmark
+    public void javaslangEqualsHashCode(Blackhole bh){
+        bh.consume(slang.equals(slangCopy));
+        bh.consume(slang.hashCode());
+    }
+
+    @Benchmark
+    public IntMap<Integer> cyclopsConcat(){
+        return intMap.appendAll(intMapCopy);
+    }
+    @Benchmark
+    public ArrayList<Integer> javaUtilConcat(){
+        ArrayList<Integer> copy = new ArrayList<>(arrayList);
+        copy.addAll(values);
+        return copy;
+    }
+    @Benchmark
+    public javaslang.collection.Vector<Integer> javaslangConcat(){
+        return slang.appendAll(slangCopy);
+    }
+}
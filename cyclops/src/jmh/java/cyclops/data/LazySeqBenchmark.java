@@ -0,0 +1,110 @@
+package cyclops.data;
+
+import cyclops.reactive.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * LazySeq and javaslang Stream are both lazy, so build and concat benchmarks force the result by taking its size.
+ * The shared instances are fully evaluated during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LazySeqBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    List<Integer> values;
+    LazySeq<Integer> lazySeq;
+    LazySeq<Integer> lazySeqCopy;
+    javaslang.collection.Stream<Integer> slang;
+    javaslang.collection.Stream<Integer> slangCopy;
+
+    @Setup
+    public void setup(){
+        values = ReactiveSeq.range(0,size).toList();
+        lazySeq = LazySeq.fromIterable(values);
+        lazySeqCopy = LazySeq.fromIterable(values);
+        lazySeq.size();
+        lazySeqCopy.size();
+        slang = javaslang.collection.Stream.ofAll(values);
+        slangCopy = javaslang.collection.Stream.ofAll(values);
+        slang.length();
+        slangCopy.length();
+    }
+
+    @Benchmark
+    public Integer cyclopsGet(){
+        return lazySeq.getOrElse(size/2,-1);
+    }
+    @Benchmark
+    public Integer javaslangGet(){
+        return slang.get(size/2);
+    }
+
+    @Benchmark
+    public LazySeq<Integer> cyclopsPut(){
+        return lazySeq.prepend(-1);
+    }
+    @Benchmark
+    public javaslang.collection.Stream<Integer> javaslangPut(){
+        return slang.prepend(-1);
+    }
+
+    @Benchmark
+    public int cyclopsRemove(){
+        return lazySeq.removeAt(size/2).size();
+    }
+    @Benchmark
+    public int javaslangRemove(){
+        return slang.removeAt(size/2).length();
+    }
+
+    @Benchmark
+    public void cyclopsIterate(Blackhole bh){
+        for(Integer next : lazySeq)
+            bh.consume(next);
+    }
+    @Benchmark
+    public void javaslangIterate(Blackhole bh){
+        for(Integer next : slang)
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public int cyclopsBuild(){
+        return LazySeq.fromIterable(values).size();
+    }
+    @Benchmark
+    public int javaslangBuild(){
+        return javaslang.collection.Stream.ofAll(values).length();
+    }
+
+    @Benchmark
+    public void cyclopsEqualsHashCode(Blackhole bh){
+        bh.consume(lazySeq.equals(lazySeqCopy));
+        bh.consume(lazySeq.hashCode());
+    }
+    @Benchmark
+    public void javaslangEqualsHashCode(Blackhole bh){
+        bh.consume(slang.equals(slangCopy));
+        bh.consume(slang.hashCode());
+    }
+
+    @Benchmark
+    public int cyclopsConcat(){
+        return lazySeq.appendAll(lazySeqCopy).size();
+    }
+    @Benchmark
+    public int javaslangConcat(){
+        return slang.appendAll(slangCopy).length();
+    }
+}
@@ -0,0 +1,142 @@
+package cyclops.data;
+
+import cyclops.reactive.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SeqBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    List<Integer> values;
+    Seq<Integer> seq;
+    Seq<Integer> seqCopy;
+    LinkedList<Integer> linkedList;
+    LinkedList<Integer> linkedListCopy;
+    javaslang.collection.List<Integer> slang;
+    javaslang.collection.List<Integer> slangCopy;
+
+    @Setup
+    public void setup(){
+        values = ReactiveSeq.range(0,size).toList();
+        seq = Seq.fromIterable(values);
+        seqCopy = Seq.fromIterable(values);
+        linkedList = new LinkedList<>(values);
+        linkedListCopy = new LinkedList<>(values);
+        slang = javaslang.collection.List.ofAll(values);
+        slangCopy = javaslang.collection.List.ofAll(values);
+    }
+
+    @Benchmark
+    public Integer cyclopsGet(){
+        return seq.getOrElse(size/2,-1);
+    }
+    @Benchmark
+    public Integer javaUtilGet(){
+        return linkedList.get(size/2);
+    }
+    @Benchmark
+    public Integer javaslangGet(){
+        return slang.get(size/2);
+    }
+
+    @Benchmark
+    public Seq<Integer> cyclopsPut(){
+        return seq.prepend(-1);
+    }
+    @Benchmark
+    public LinkedList<Integer> javaUtilPut(){
+        linkedList.addFirst(-1);
+        linkedList.removeFirst();
+        return linkedList;
+    }
+    @Benchmark
+    public javaslang.collection.List<Integer> javaslangPut(){
+        return slang.prepend(-1);
+    }
+
+    @Benchmark
+    public Seq<Integer> cyclopsRemove(){
+        return seq.removeAt(size/2);
+    }
+    @Benchmark
+    public LinkedList<Integer> javaUtilRemove(){
+        linkedList.add(size/2,linkedList.remove(size/2));
+        return linkedList;
+    }
+    @Benchmark
+    public javaslang.collection.List<Integer> javaslangRemove(){
+        return slang.removeAt(size/2);
+    }
+
+    @Benchmark
+    public void cyclopsIterate(Blackhole bh){
+        for(Integer next : seq)
+            bh.consume(next);
+    }
+    @Benchmark
+    public void javaUtilIterate(Blackhole bh){
+        for(Integer next : linkedList)
+            bh.consume(next);
+    }
+    @Benchmark
+    public void javaslangIterate(Blackhole bh){
+        for(Integer next : slang)
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public Seq<Integer> cyclopsBuild(){
+        return Seq.fromIterable(values);
+    }
+    @Benchmark
+    public LinkedList<Integer> javaUtilBuild(){
+        return new LinkedList<>(values);
+    }
+    @Benchmark
+    public javaslang.collection.List<Integer> javaslangBuild(){
+        return javaslang.collection.List.ofAll(values);
+    }
+
+    @Benchmark
+    public void cyclopsEqualsHashCode(Blackhole bh){
+        bh.consume(seq.equals(seqCopy));
+        bh.consume(seq.hashCode());
+    }
+    @Benchmark
+    public void javaUtilEqualsHashCode(Blackhole bh){
+        bh.consume(linkedList.equals(linkedListCopy));
+        bh.consume(linkedList.hashCode());
+    }
+    @Benchmark
+    public void javaslangEqualsHashCode(Blackhole bh){
+        bh.consume(slang.equals(slangCopy));
+        bh.consume(slang.hashCode());
+    }
+
+    @Benchmark
+    public Seq<Integer> cyclopsConcat(){
+        return seq.appendAll(seqCopy);
+    }
+    @Benchmark
+    public LinkedList<Integer> javaUtilConcat(){
+        LinkedList<Integer> copy = new LinkedList<>(linkedList);
+        copy.addAll(values);
+        return copy;
+    }
+    @Benchmark
+    public javaslang.collection.List<Integer> javaslangConcat(){
+        return slang.appendAll(slangCopy);
+    }
+}
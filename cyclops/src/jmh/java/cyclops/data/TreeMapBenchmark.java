@@ -0,0 +1,165 @@
+package cyclops.data;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TreeMapBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    java.util.TreeMap<Integer,Integer> values;
+    java.util.TreeMap<Integer,Integer> valuesCopy;
+    java.util.TreeMap<Integer,Integer> other;
+    TreeMap<Integer,Integer> map;
+    TreeMap<Integer,Integer> mapCopy;
+    TreeMap<Integer,Integer> otherMap;
+    javaslang.collection.TreeMap<Integer,Integer> slang;
+    javaslang.collection.TreeMap<Integer,Integer> slangCopy;
+    javaslang.collection.TreeMap<Integer,Integer> slangOther;
+
+    @Setup
+    public void setup(){
+        values = new java.util.TreeMap<>();
+        other = new java.util.TreeMap<>();
+        for(int i=0;i<size;i++) {
+            values.put(i, i);
+            other.put(i+size, i);
+        }
+        valuesCopy = new java.util.TreeMap<>(values);
+        map = build(values);
+        mapCopy = build(values);
+        otherMap = build(other);
+        slang = buildJavaslang(values);
+        slangCopy = buildJavaslang(values);
+        slangOther = buildJavaslang(other);
+    }
+
+    private static TreeMap<Integer,Integer> build(Map<Integer,Integer> values){
+        return TreeMap.fromMap(Comparator.naturalOrder(),values);
+    }
+    private static javaslang.collection.TreeMap<Integer,Integer> buildJavaslang(Map<Integer,Integer> values){
+        javaslang.collection.TreeMap<Integer,Integer> res = javaslang.collection.TreeMap.empty();
+        for(Map.Entry<Integer,Integer> next : values.entrySet())
+            res = res.put(next.getKey(),next.getValue());
+        return res;
+    }
+
+    @Benchmark
+    public void cyclopsGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(map.getOrElse((i*31)%size,-1));
+    }
+    @Benchmark
+    public void javaUtilGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(values.get((i*31)%size));
+    }
+    @Benchmark
+    public void javaslangGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(slang.get((i*31)%size));
+    }
+
+    @Benchmark
+    public TreeMap<Integer,Integer> cyclopsPut(){
+        return map.put(-1,-1);
+    }
+    @Benchmark
+    public java.util.TreeMap<Integer,Integer> javaUtilPut(){
+        values.put(-1,-1);
+        values.remove(-1);
+        return values;
+    }
+    @Benchmark
+    public javaslang.collection.TreeMap<Integer,Integer> javaslangPut(){
+        return slang.put(-1,-1);
+    }
+
+    @Benchmark
+    public TreeMap<Integer,Integer> cyclopsRemove(){
+        return map.remove(size/2);
+    }
+    @Benchmark
+    public java.util.TreeMap<Integer,Integer> javaUtilRemove(){
+        values.put(size/2,values.remove(size/2));
+        return values;
+    }
+    @Benchmark
+    public javaslang.collection.TreeMap<Integer,Integer> javaslangRemove(){
+        return slang.remove(size/2);
+    }
+
+    @Benchmark
+    public void cyclopsIterate(Blackhole bh){
+        for(cyclops.data.tuple.Tuple2<Integer,Integer> next : map)
+            bh.consume(next);
+    }
+    @Benchmark
+    public void javaUtilIterate(Blackhole bh){
+        for(Map.Entry<Integer,Integer> next : values.entrySet())
+            bh.consume(next);
+    }
+    @Benchmark
+    public void javaslangIterate(Blackhole bh){
+        for(javaslang.Tuple2<Integer,Integer> next : slang)
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public TreeMap<Integer,Integer> cyclopsBuild(){
+        return build(values);
+    }
+    @Benchmark
+    public java.util.TreeMap<Integer,Integer> javaUtilBuild(){
+        return new java.util.TreeMap<>(values);
+    }
+    @Benchmark
+    public javaslang.collection.TreeMap<Integer,Integer> javaslangBuild(){
+        return buildJavaslang(values);
+    }
+
+    @Benchmark
+    public void cyclopsEqualsHashCode(Blackhole bh){
+        bh.consume(map.equals(mapCopy));
+        bh.consume(map.hashCode());
+    }
+    @Benchmark
+    public void javaUtilEqualsHashCode(Blackhole bh){
+        bh.consume(values.equals(valuesCopy));
+        bh.consume(values.hashCode());
+    }
+    @Benchmark
+    public void javaslangEqualsHashCode(Blackhole bh){
+        bh.consume(slang.equals(slangCopy));
+        bh.consume(slang.hashCode());
+    }
+
+    @Benchmark
+    public TreeMap<Integer,Integer> cyclopsConcat(){
+        return map.putAll(otherMap);
+    }
+    @Benchmark
+    public java.util.TreeMap<Integer,Integer> javaUtilConcat(){
+        java.util.TreeMap<Integer,Integer> copy = new java.util.TreeMap<>(values);
+        copy.putAll(other);
+        return copy;
+    }
+    @Benchmark
+    public javaslang.collection.TreeMap<Integer,Integer> javaslangConcat(){
+        javaslang.collection.TreeMap<Integer,Integer> res = slang;
+        for(javaslang.Tuple2<Integer,Integer> next : slangOther)
+            res = res.put(next._1,next._2);
+        return res;
+    }
+}
@@ -0,0 +1,144 @@
+package cyclops.data;
+
+import cyclops.reactive.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class VectorBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    List<Integer> values;
+    Vector<Integer> vector;
+    Vector<Integer> vectorCopy;
+    ArrayList<Integer> arrayList;
+    ArrayList<Integer> arrayListCopy;
+    javaslang.collection.Vector<Integer> slang;
+    javaslang.collection.Vector<Integer> slangCopy;
+
+    @Setup
+    public void setup(){
+        values = ReactiveSeq.range(0,size).toList();
+        vector = Vector.fromIterable(values);
+        vectorCopy = Vector.fromIterable(values);
+        arrayList = new ArrayList<>(values);
+        arrayListCopy = new ArrayList<>(values);
+        slang = javaslang.collection.Vector.ofAll(values);
+        slangCopy = javaslang.collection.Vector.ofAll(values);
+    }
+
+    @Benchmark
+    public void cyclopsGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(vector.getOrElse((i*31)%size,-1));
+    }
+    @Benchmark
+    public void javaUtilGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(arrayList.get((i*31)%size));
+    }
+    @Benchmark
+    public void javaslangGet(Blackhole bh){
+        for(int i=0;i<1000;i++)
+            bh.consume(slang.get((i*31)%size));
+    }
+
+    @Benchmark
+    public Vector<Integer> cyclopsPut(){
+        return vector.updateAt(size/2,-1);
+    }
+    @Benchmark
+    public ArrayList<Integer> javaUtilPut(){
+        arrayList.set(size/2,arrayList.set(size/2,-1));
+        return arrayList;
+    }
+    @Benchmark
+    public javaslang.collection.Vector<Integer> javaslangPut(){
+        return slang.update(size/2,-1);
+    }
+
+    @Benchmark
+    public Vector<Integer> cyclopsRemove(){
+        return vector.removeAt(size/2);
+    }
+    @Benchmark
+    public ArrayList<Integer> javaUtilRemove(){
+        arrayList.add(size/2,arrayList.remove(size/2));
+        return arrayList;
+    }
+    @Benchmark
+    public javaslang.collection.Vector<Integer> javaslangRemove(){
+        return slang.removeAt(size/2);
+    }
+
+    @Benchmark
+    public void cyclopsIterate(Blackhole bh){
+        for(Integer next : vector)
+            bh.consume(next);
+    }
+    @Benchmark
+    public void javaUtilIterate(Blackhole bh){
+        for(Integer next : arrayList)
+            bh.consume(next);
+    }
+    @Benchmark
+    public void javaslangIterate(Blackhole bh){
+        for(Integer next : slang)
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public Vector<Integer> cyclopsBuild(){
+        return Vector.fromIterable(values);
+    }
+    @Benchmark
+    public ArrayList<Integer> javaUtilBuild(){
+        return new ArrayList<>(values);
+    }
+    @Benchmark
+    public javaslang.collection.Vector<Integer> javaslangBuild(){
+        return javaslang.collection.Vector.ofAll(values);
+    }
+
+    @Benchmark
+    public void cyclopsEqualsHashCode(Blackhole bh){
+        bh.consume(vector.equals(vectorCopy));
+        bh.consume(vector.hashCode());
+    }
+    @Benchmark
+    public void javaUtilEqualsHashCode(Blackhole bh){
+        bh.consume(arrayList.equals(arrayListCopy));
+        bh.consume(arrayList.hashCode());
+    }
+    @Benchmark
+    public void javaslangEqualsHashCode(Blackhole bh){
+        bh.consume(slang.equals(slangCopy));
+        bh.consume(slang.hashCode());
+    }
+
+    @Benchmark
+    public Vector<Integer> cyclopsConcat(){
+        return vector.concat(vectorCopy);
+    }
+    @Benchmark
+    public ArrayList<Integer> javaUtilConcat(){
+        ArrayList<Integer> copy = new ArrayList<>(arrayList);
+        copy.addAll(values);
+        return copy;
+    }
+    @Benchmark
+    public javaslang.collection.Vector<Integer> javaslangConcat(){
+        return slang.appendAll(slangCopy);
+    }
+}
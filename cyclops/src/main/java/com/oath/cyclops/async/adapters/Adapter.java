@@ -43,6 +43,23 @@ public interface Adapter<T> {
      */
     public boolean offer(T data);
 
+    /**
+     * Offer a batch of datapoints to this adapter in iteration order, stopping at the first that is not accepted.
+     * The batch is iterated (at most) once.
+     *
+     * @param data data to add
+     * @return Number of datapoints accepted, i.e. those before the first that was not
+     */
+    default long offerAll(final Iterable<? extends T> data) {
+        long accepted = 0;
+        for (final T next : data) {
+            if (!offer(next))
+                break;
+            accepted++;
+        }
+        return accepted;
+    }
+
     /**
      * @param stream Input data from provided Stream
      */
@@ -0,0 +1,217 @@
+package com.oath.cyclops.async.adapters;
+
+import cyclops.reactive.ReactiveSeq;
+import org.agrona.BitUtil;
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * A single pre-allocated ring buffer shared by every subscriber of a broadcast {@link Topic}.
+ * Each message is written once, subscribers read it via their own sequence cursor. When the producer wraps around
+ * onto a slot a subscriber has not yet read, the configured {@link Topic.SlowConsumerPolicy} decides whether the
+ * producer waits, the subscriber skips ahead, or the subscriber is disconnected.
+ *
+ * Publishing is serialised between producers, reading and disconnecting are lock-free. A subscriber whose Stream is
+ * garbage collected without being closed is disconnected the next time it would hold back the producer, until then
+ * (with {@link Topic.SlowConsumerPolicy#BLOCK}) it holds back the producer once the buffer wraps - close Streams that
+ * are no longer read.
+ *
+ * @param <T> Data type
+ */
+final class BroadcastBuffer<T> {
+
+    private static final Cursor[] NO_CURSORS = new Cursor[0];
+
+    private final Object[] slots;
+    private final int mask;
+    private final Topic.SlowConsumerPolicy policy;
+    private final Object publishLock = new Object();
+    private final AtomicReference<Cursor[]> cursors = new AtomicReference<>(NO_CURSORS);
+    private volatile long published = -1;
+    private volatile boolean closed = false;
+
+    BroadcastBuffer(final int capacity, final Topic.SlowConsumerPolicy policy) {
+        final int size = BitUtil.findNextPositivePowerOfTwo(Math.max(2, capacity));
+        this.slots = new Object[size];
+        this.mask = size - 1;
+        this.policy = policy;
+    }
+
+    static final class Cursor {
+        final AtomicLong sequence;
+        volatile boolean disconnected = false;
+        //the reading Spliterator, held weakly so that an abandoned Stream can not hold back the producer forever
+        volatile WeakReference<Object> reader;
+
+        Cursor(final long start) {
+            this.sequence = new AtomicLong(start);
+        }
+
+        boolean isAbandoned() {
+            final WeakReference<Object> current = reader;
+            return current != null && current.get() == null;
+        }
+    }
+
+    private static IdleStrategy idleStrategy() {
+        return new BackoffIdleStrategy(100, 10, TimeUnit.MICROSECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    int subscriberCount() {
+        return cursors.get().length;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Register a new cursor that will see every message published after this call
+     */
+    Cursor subscribe() {
+        //publishers treat the cursor as caught up until its start position is known
+        final Cursor cursor = new Cursor(Long.MAX_VALUE);
+        for (;;) {
+            final Cursor[] current = cursors.get();
+            final Cursor[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = cursor;
+            if (cursors.compareAndSet(current, next))
+                break;
+        }
+        synchronized (publishLock) {
+            cursor.sequence.set(published + 1);
+        }
+        return cursor;
+    }
+
+    void disconnect(final Cursor cursor) {
+        //fail the compareAndSet of a reader part way through reading a slot the producer may now overwrite
+        cursor.sequence.set(Long.MAX_VALUE);
+        cursor.disconnected = true;
+        for (;;) {
+            final Cursor[] current = cursors.get();
+            int index = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == cursor) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index == -1)
+                return;
+            final Cursor[] next = new Cursor[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            if (cursors.compareAndSet(current, next))
+                return;
+        }
+    }
+
+    /**
+     * @return false if the buffer has been closed
+     */
+    boolean publish(final T value) {
+        synchronized (publishLock) {
+            if (closed)
+                return false;
+            final long next = published + 1;
+            final long wrapPoint = next - slots.length;
+            if (wrapPoint >= 0) {
+                for (final Cursor cursor : cursors.get()) {
+                    awaitCapacity(cursor, wrapPoint);
+                }
+            }
+            slots[(int) next & mask] = value;
+            published = next;
+            return true;
+        }
+    }
+
+    /*
+     * Make sure the cursor has moved past the slot about to be overwritten
+     */
+    private void awaitCapacity(final Cursor cursor, final long wrapPoint) {
+        IdleStrategy idle = null;
+        long seq;
+        while ((seq = cursor.sequence.get()) <= wrapPoint && !cursor.disconnected) {
+            if (cursor.isAbandoned()) {
+                disconnect(cursor);
+                return;
+            }
+            switch (policy) {
+                case DROP_OLDEST:
+                    cursor.sequence.compareAndSet(seq, wrapPoint + 1);
+                    break;
+                case DISCONNECT:
+                    disconnect(cursor);
+                    return;
+                default:
+                    if (closed)
+                        return;
+                    if (idle == null)
+                        idle = idleStrategy();
+                    idle.idle(0);
+            }
+        }
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    /**
+     * Take the next value for this cursor, waiting until one is published
+     *
+     * @param cancelled Checked while waiting, the cursor is disconnected once it reports true
+     * @return false once the buffer is closed and drained, or the cursor is disconnected
+     */
+    boolean next(final Cursor cursor, final BooleanSupplier cancelled, final Consumer<? super T> action) {
+        IdleStrategy idle = null;
+        for (;;) {
+            if (cancelled.getAsBoolean())
+                disconnect(cursor);
+            if (cursor.disconnected)
+                return false;
+            final long seq = cursor.sequence.get();
+            if (seq > published) {
+                if (closed && seq > published)
+                    return false;
+                if (idle == null)
+                    idle = idleStrategy();
+                idle.idle(0);
+                continue;
+            }
+            final T value = (T) slots[(int) seq & mask];
+            if (cursor.sequence.compareAndSet(seq, seq + 1)) {
+                action.accept(value);
+                return true;
+            }
+            //the producer moved this cursor forward (drop oldest), retry from the new position
+        }
+    }
+
+    ReactiveSeq<T> stream(final Cursor cursor, final BooleanSupplier cancelled) {
+        final Spliterator<T> reader = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(final Consumer<? super T> action) {
+                return next(cursor, cancelled, action);
+            }
+        };
+        cursor.reader = new WeakReference<>(reader);
+        return ReactiveSeq.fromSpliterator(reader);
+    }
+}
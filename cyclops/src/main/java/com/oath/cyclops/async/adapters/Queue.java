@@ -569,6 +569,40 @@ public class Queue<T> implements Adapter<T> {
 
     }
 
+    /**
+     * Offer a batch of datapoints to this Queue, checking it is open and signalling the new size once for the whole batch
+     *
+     * If the queue is a bounded queue and is full each offer will block until space comes available or until
+     * offer time out is reached (default is Integer.MAX_VALUE DAYS).
+     *
+     * @param data data to add
+     * @return Number of datapoints accepted, stopping at the first that was not
+     */
+    @Override
+    public long offerAll(final Iterable<? extends T> data) {
+
+        if (!open) {
+            throw new ClosedQueueException();
+        }
+
+        try {
+            long accepted = 0;
+            for (final T next : data) {
+                if (!producerWait.offer(() -> this.queue.offer((T) nullSafe(next), this.offerTimeout, this.offerTimeUnit)))
+                    break;
+                accepted++;
+            }
+            if (sizeSignal != null)
+                this.sizeSignal.set(queue.size());
+            return accepted;
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+
+    }
+
     private boolean timeout(final SimpleTimer timer) {
 
         if (timer.getElapsedNanoseconds() >= offerTimeUnit.toNanos(this.offerTimeout))
@@ -2,7 +2,12 @@ package com.oath.cyclops.async.adapters;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -38,6 +43,28 @@ public class Topic<T> implements Adapter<T> {
     private final Object lock = new Object();
     private volatile int index = 0;
     private final QueueFactory<T> factory;
+    private final BroadcastBuffer<T> broadcast;
+    //weakly keyed, so that abandoned broadcast Streams are not retained
+    private final Map<ReactiveSeq<?>, BroadcastBuffer.Cursor> streamToCursor = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * How a broadcast Topic treats a subscriber that has fallen a full ring buffer behind the producer
+     */
+    public enum SlowConsumerPolicy {
+        /**
+         * The producer waits until the subscriber catches up. Close (or disconnect) Streams that are no longer read, an
+         * abandoned Stream holds back the producer until it is garbage collected.
+         */
+        BLOCK,
+        /**
+         * The subscriber skips ahead, losing the oldest unread messages
+         */
+        DROP_OLDEST,
+        /**
+         * The subscriber is disconnected and its Stream completes
+         */
+        DISCONNECT
+    }
 
     /**
      * Construct a new Topic
@@ -45,6 +72,7 @@ public class Topic<T> implements Adapter<T> {
     public Topic() {
         final Queue<T> q = new Queue<T>();
         factory = QueueFactories.unboundedQueue();
+        broadcast = null;
         distributor.addQueue(q);
     }
 
@@ -54,13 +82,48 @@ public class Topic<T> implements Adapter<T> {
      */
     public Topic(final Queue<T> q) {
         factory = QueueFactories.unboundedQueue();
+        broadcast = null;
         distributor.addQueue(q);
     }
     public Topic(final Queue<T> q,QueueFactory<T> factory) {
         this.factory = factory;
+        broadcast = null;
         distributor.addQueue(q);
     }
 
+    private Topic(final BroadcastBuffer<T> broadcast) {
+        this.factory = null;
+        this.broadcast = broadcast;
+    }
+
+    /**
+     * Create a Topic that broadcasts through a single pre-allocated ring buffer rather than a Queue per subscriber.
+     * Each message is stored once, and every connected Stream reads it via its own sequence cursor.
+     *
+     * <pre>
+     * {@code
+     *   Topic<Integer> topic = Topic.broadcast(1024, SlowConsumerPolicy.DROP_OLDEST);
+     *   ReactiveSeq<Integer> s1 = topic.stream();
+     *   ReactiveSeq<Integer> s2 = topic.stream();
+     *   topic.offer(1);
+     * }
+     * </pre>
+     *
+     * @param capacity Ring buffer size (rounded up to a power of 2)
+     * @param policy What to do when a subscriber falls a full buffer behind
+     * @return broadcast Topic
+     */
+    public static <T> Topic<T> broadcast(final int capacity, final SlowConsumerPolicy policy) {
+        return new Topic<>(new BroadcastBuffer<>(capacity, policy));
+    }
+
+    /**
+     * @return true if this Topic is backed by a shared ring buffer
+     */
+    public boolean isBroadcast() {
+        return broadcast != null;
+    }
+
     /**
      * Topic will maintain a queue for each Subscribing Stream
      * If a Stream is finished with a Topic it is good practice to disconnect from the Topic
@@ -68,8 +131,18 @@ public class Topic<T> implements Adapter<T> {
      *
      * @param stream
      */
-    @Synchronized("lock")
     public void disconnect(final ReactiveSeq<T> stream) {
+        if (broadcast != null) {
+            final BroadcastBuffer.Cursor cursor = streamToCursor.remove(stream);
+            if (cursor != null)
+                broadcast.disconnect(cursor);
+            return;
+        }
+        disconnectQueue(stream);
+    }
+
+    @Synchronized("lock")
+    private void disconnectQueue(final ReactiveSeq<T> stream) {
 
       Option<Queue<T>> o = streamToQueue.get(stream);
 
@@ -78,8 +151,29 @@ public class Topic<T> implements Adapter<T> {
         this.index--;
     }
 
+    private <R> ReactiveSeq<R> connect(final Function<Queue<T>, ReactiveSeq<R>> streamCreator,
+                                       final Function<ReactiveSeq<T>, ReactiveSeq<R>> broadcastCreator) {
+        return connect(streamCreator, broadcastCreator, () -> false);
+    }
+
+    private <R> ReactiveSeq<R> connect(final Function<Queue<T>, ReactiveSeq<R>> streamCreator,
+                                       final Function<ReactiveSeq<T>, ReactiveSeq<R>> broadcastCreator, final BooleanSupplier cancelled) {
+        if (broadcast != null) {
+            final BroadcastBuffer.Cursor cursor = broadcast.subscribe();
+            final ReactiveSeq<R> stream = broadcastCreator.apply(broadcast.stream(cursor, cancelled))
+                                                          .onClose(() -> {
+                                                              broadcast.disconnect(cursor);
+                                                              streamToCursor.values()
+                                                                            .remove(cursor);
+                                                          });
+            streamToCursor.put(stream, cursor);
+            return stream;
+        }
+        return connectQueue(streamCreator);
+    }
+
     @Synchronized("lock")
-    private <R> ReactiveSeq<R> connect(final Function<Queue<T>, ReactiveSeq<R>> streamCreator) {
+    private <R> ReactiveSeq<R> connectQueue(final Function<Queue<T>, ReactiveSeq<R>> streamCreator) {
         final Queue<T> queue = this.getNextQueue();
         final ReactiveSeq<R> stream = streamCreator.apply(queue);
 
@@ -92,6 +186,10 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public boolean fromStream(final Stream<T> stream) {
+        if (broadcast != null) {
+            stream.forEach(broadcast::publish);
+            return true;
+        }
         stream.collect(Collectors.toCollection(() -> distributor));
         return true;
 
@@ -105,7 +203,7 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public ReactiveSeq<CompletableFuture<T>> streamCompletableFutures() {
-        return connect(q -> q.streamCompletableFutures());
+        return connect(q -> q.streamCompletableFutures(), s -> s.map(CompletableFuture::completedFuture));
     }
 
     /**
@@ -116,14 +214,21 @@ public class Topic<T> implements Adapter<T> {
     @Override
     public ReactiveSeq<T> stream() {
 
-        return connect(q -> q.stream());
+        return connect(q -> q.stream(), s -> s);
 
     }
 
+    /**
+     * Generating a stream will register the Stream as a reactiveSubscriber to this topic. A broadcast Topic disconnects
+     * the Stream once the supplied subscription is closed.
+     *
+     * @param s Subscription that controls the Stream
+     * @return Stream of data
+     */
     @Override
     public ReactiveSeq<T> stream(final Continueable s) {
 
-        return connect(q -> q.stream(s));
+        return connect(q -> q.stream(s), b -> b, s::closed);
 
     }
 
@@ -147,6 +252,8 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public boolean close() {
+        if (broadcast != null)
+            broadcast.close();
         this.distributor.getSubscribers()
                         .forEach(it -> it.close());
         return true;
@@ -155,19 +262,31 @@ public class Topic<T> implements Adapter<T> {
 
     /**
      * @return Track changes in size in the Topic's data
+     * @throws UnsupportedOperationException if this is a broadcast Topic, subscribers of which share a single buffer
      */
     public Signal<Integer> getSizeSignal(final int index) {
+        checkNotBroadcast();
         return this.distributor.getSubscribers()
                                .getOrElse(index,null)
                                .getSizeSignal();
     }
 
+    /**
+     * @throws UnsupportedOperationException if this is a broadcast Topic, subscribers of which share a single buffer
+     */
     public void setSizeSignal(final int index, final Signal<Integer> s) {
+        checkNotBroadcast();
         this.distributor.getSubscribers()
                         .getOrElse(index, null)
                         .setSizeSignal(s);
     }
 
+    private void checkNotBroadcast() {
+        if (broadcast != null)
+            throw new UnsupportedOperationException(
+                                                    "Size signals track per subscriber Queues, a broadcast Topic has none");
+    }
+
     /**
      * Add a single datapoint to this Queue
      *
@@ -176,11 +295,38 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public boolean offer(final T data) {
+        if (broadcast != null)
+            return broadcast.publish(data);
         fromStream(Stream.of(data));
         return true;
 
     }
 
+    /**
+     * Add a batch of datapoints to this Topic, the current subscribers are read once for the whole batch
+     * (and the batch is read once for all subscribers)
+     *
+     * @param data data to add
+     * @return Number of datapoints accepted by every subscriber
+     */
+    @Override
+    public long offerAll(final Iterable<? extends T> data) {
+        if (broadcast != null)
+            return Adapter.super.offerAll(data);
+        final Seq<Queue<T>> subscribers = distributor.getSubscribers();
+        if (subscribers.size() == 1)
+            return subscribers.iterator()
+                              .next()
+                              .offerAll(data);
+        final List<T> batch = new ArrayList<>();
+        data.forEach(batch::add);
+        long accepted = batch.size();
+        for (final Queue<T> next : subscribers) {
+            accepted = Math.min(next.offerAll(batch), accepted);
+        }
+        return accepted;
+    }
+
     public void addContinuation(Continuation cont) {
         distributor.subscribers.forEach(q->q.addContinuation(cont));
     }
@@ -21,6 +21,16 @@ public abstract class BaseHotStreamImpl<T> extends IteratorHotStream<T>implement
         this.stream = stream;
     }
 
+    public BaseHotStreamImpl(final Stream<T> stream, final int history) {
+        super(history);
+        this.stream = stream;
+    }
+
+    public BaseHotStreamImpl(final Stream<T> stream, final int history, final long stallNanos) {
+        super(history, stallNanos);
+        this.stream = stream;
+    }
+
     public HotStream<T> paused(final Executor exec) {
         pause();
         return init(exec);
@@ -49,10 +59,25 @@ public abstract class BaseHotStreamImpl<T> extends IteratorHotStream<T>implement
 
     }
 
+    /**
+     * Connect a Stream that reads from the shared buffer. Emission waits for connected Streams to keep up, if a stall timeout
+     * is configured a Stream that does not read for longer than that is disconnected and skips forward (losing data) if it resumes.
+     * Closing the returned Stream disconnects it, an unclosed Stream abandoned part way through holds back emission until
+     * it is garbage collected.
+     *
+     * @return Stream connected to the HotStream emitting data
+     */
+    @Override
+    public ReactiveSeq<T> connect() {
+        final HotStreamBuffer<T>.Cursor cursor = buffer.cursor(open);
+        unpause();
+        return Streams.reactiveSeq(cursor, Optional.empty())
+                      .onClose(cursor);
+    }
+
     @Override
     public ReactiveSeq<T> connect(final Queue<T> queue) {
-        connections.getAndSet(connected, queue);
-        connected++;
+        addConnection(queue);
         unpause();
         return Streams.reactiveSeq(StreamSupport.stream(new ClosingSpliterator(
                                                                                    Long.MAX_VALUE, queue, open),
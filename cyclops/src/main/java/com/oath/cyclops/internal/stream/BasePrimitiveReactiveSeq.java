@@ -0,0 +1,159 @@
+package com.oath.cyclops.internal.stream;
+
+import com.oath.cyclops.internal.stream.spliterators.PrimitiveSink;
+import cyclops.reactive.ReactiveSeq;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Pipeline shared by the unboxed IntReactiveSeq, LongReactiveSeq and DoubleReactiveSeq.
+ *
+ * Each intermediate operator wraps the downstream sink, so that a chain of operators runs as a single fused primitive
+ * consumer path from the source. Terminal operations drive that path from the push source if there is one, otherwise
+ * from a fresh Spliterator, so every Stream can be traversed repeatedly. Operators that only need to count elements
+ * (limit, skip) are implemented here via {@link #gate(Object, Gate)}, the remaining operators are typed to the primitive.
+ *
+ * @param <T> Boxed element type
+ * @param <C> Primitive Consumer type
+ * @param <S> Primitive Spliterator type
+ * @param <K> Primitive sink type
+ * @param <SELF> Type of this Stream
+ */
+public abstract class BasePrimitiveReactiveSeq<T, C, S extends Spliterator.OfPrimitive<T, C, S>, K extends C,
+                                              SELF extends BasePrimitiveReactiveSeq<T, C, S, K, SELF>> {
+
+    private static final Function<?, ?> IDENTITY = s -> s;
+
+    private final Supplier<? extends S> source;
+    private final Consumer<K> push; //optional push source, used in preference to the Spliterator for internal iteration
+    private final Function<K, K> ops;
+    private final boolean shortCircuit;
+
+    protected BasePrimitiveReactiveSeq(final Supplier<? extends S> source, final Consumer<K> push, final Function<K, K> ops,
+                                       final boolean shortCircuit) {
+        this.source = source;
+        this.push = push;
+        this.ops = ops;
+        this.shortCircuit = shortCircuit;
+    }
+
+    protected static <K> Function<K, K> identity() {
+        return (Function<K, K>) IDENTITY;
+    }
+
+    protected abstract SELF create(Supplier<? extends S> source, Consumer<K> push, Function<K, K> ops, boolean shortCircuit);
+
+    /**
+     * @return Sink that passes each value on to the downstream sink only if the gate admits it
+     */
+    protected abstract K gate(K downstream, Gate gate);
+
+    protected abstract S concat(S first, S second);
+
+    /**
+     * Pull based view of the pipeline
+     */
+    public abstract S spliterator();
+
+    protected SELF with(final Function<K, K> op, final boolean shortCircuits) {
+        final Function<K, K> current = ops;
+        return create(source, push, current == IDENTITY ? op : s -> current.apply(op.apply(s)), shortCircuit || shortCircuits);
+    }
+
+    public SELF limit(final long maxSize) {
+        return with(s -> gate(s, new Gate() {
+            long count = 0;
+
+            @Override
+            public boolean admit() {
+                if (count < maxSize) {
+                    count++;
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public boolean isDone() {
+                return count >= maxSize;
+            }
+        }), true);
+    }
+
+    public SELF skip(final long num) {
+        return with(s -> gate(s, new Gate() {
+            long count = 0;
+
+            @Override
+            public boolean admit() {
+                if (count < num) {
+                    count++;
+                    return false;
+                }
+                return true;
+            }
+        }), false);
+    }
+
+    public SELF concat(final SELF other) {
+        final BasePrimitiveReactiveSeq<T, C, S, K, SELF> first = this;
+        return create(() -> concat(first.spliterator(), other.spliterator()), s -> {
+            first.run(s, true);
+            other.run(s, true);
+        }, identity(), false);
+    }
+
+    /**
+     * @return A ReactiveSeq of boxed values, boxing happens here and nowhere earlier in the pipeline
+     */
+    public ReactiveSeq<T> boxed() {
+        return ReactiveSeq.fromSpliterator(spliterator());
+    }
+
+    /**
+     * @return Fresh Spliterator over the source, before any operators are applied
+     */
+    protected S source() {
+        return source.get();
+    }
+
+    protected boolean hasOperators() {
+        return ops != IDENTITY;
+    }
+
+    /**
+     * @return The first sink of the fused pipeline, feeding into the supplied terminal sink
+     */
+    protected K pipeline(final K terminal) {
+        return ops.apply(terminal);
+    }
+
+    /*
+     * Drive the fused pipeline from the push source if there is one, otherwise from a fresh Spliterator
+     */
+    protected void run(final K terminal, final boolean shortCircuitTerminal) {
+        final K sink = ops.apply(terminal);
+        if (push != null) {
+            push.accept(sink);
+            return;
+        }
+        final S spliterator = source.get();
+        if (shortCircuit || shortCircuitTerminal) {
+            final PrimitiveSink done = (PrimitiveSink) sink;
+            while (!done.isDone() && spliterator.tryAdvance(sink));
+        } else {
+            spliterator.forEachRemaining(sink);
+        }
+    }
+
+    /**
+     * Admission control for limit and skip, consulted once per value. isDone reports that no further values will be admitted.
+     */
+    protected interface Gate extends PrimitiveSink {
+
+        boolean admit();
+    }
+}
@@ -0,0 +1,267 @@
+package com.oath.cyclops.internal.stream;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Shared sequenced ring buffer for HotStreams.
+ *
+ * A single producer publishes each value once, connected Streams read batches of values from their own cursor
+ * without any per-connection copy. Once a full buffer ahead of the slowest connected cursor the producer waits
+ * for it to catch up, so by default no connected reader loses data however slow it is. A cursor disconnects once its
+ * Stream has been read to the end or closed, or once an abandoned Stream (e.g. one truncated by limit(n)) has been
+ * garbage collected - until then an abandoned Stream holds back the producer, so close Streams that are not read to the end.
+ * A producer held back by a cursor that makes no progress requests a garbage collection, with increasing intervals.
+ * Optionally a stall timeout disconnects a cursor that holds back the producer without making progress for that long.
+ * Such a cursor skips forward to the oldest value still held if it resumes, losing the values in between.
+ * With no cursors connected the producer runs freely, retaining the most recent history values for late joiners.
+ *
+ * @param <T> Data type of elements in the buffer
+ */
+public class HotStreamBuffer<T> {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+    static final int BATCH_SIZE = 64;
+    static final long DEFAULT_STALL_NANOS = Long.MAX_VALUE;
+    private static final long COLLECT_NANOS = 100_000_000L;
+    private static final long MAX_COLLECT_NANOS = 60_000_000_000L;
+
+    private final AtomicReferenceArray<Object> ring;
+    private final int mask;
+    private final int history;
+    private final long stallNanos;
+
+    //sequence of the latest value being written, always set before the slot is overwritten
+    private final AtomicLong claimed = new AtomicLong(-1);
+    //sequence of the latest value readers may consume
+    private final AtomicLong published = new AtomicLong(-1);
+
+    private final AtomicReference<Position[]> positions = new AtomicReference<>(new Position[0]);
+    //producer only, lowest cursor position seen on the last check
+    private long gate = Long.MAX_VALUE;
+
+    public HotStreamBuffer(final int history) {
+        this(history, DEFAULT_STALL_NANOS);
+    }
+
+    /**
+     * @param history Number of the most recently published values replayed to newly connected cursors
+     * @param stallNanos Time a cursor may hold back the producer without making progress before it is disconnected,
+     *                   Long.MAX_VALUE to never disconnect a stalled cursor
+     */
+    public HotStreamBuffer(final int history, final long stallNanos) {
+        if (history < 0)
+            throw new IllegalArgumentException("history must not be negative but was " + history);
+        if (stallNanos <= 0)
+            throw new IllegalArgumentException("stallNanos must be positive but was " + stallNanos);
+        this.history = history;
+        this.stallNanos = stallNanos;
+        int capacity = Integer.highestOneBit(Math.max(DEFAULT_CAPACITY, history << 1) - 1) << 1;
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Publish the next value, must only be called by one producer at a time
+     */
+    public void publish(final T value) {
+        final long next = claimed.get() + 1;
+        final long wrap = next - capacity();
+        if (wrap >= gate || gate == Long.MAX_VALUE)
+            awaitCursors(wrap);
+        claimed.set(next);
+        ring.lazySet((int) next & mask, value);
+        published.set(next);
+    }
+
+    /*
+     * Wait for the slowest cursor to free the slot about to be overwritten. Abandoned cursors are only released once
+     * collected, so (like direct ByteBuffer allocation) a producer held back without progress requests a garbage
+     * collection now and then, backing off while the cursor holding it back remains reachable
+     */
+    private void awaitCursors(final long wrap) {
+        long nanos = 1L;
+        long lowest = gate = lowestCursor();
+        long since = System.nanoTime();
+        long collected = since;
+        long collectAfter = COLLECT_NANOS;
+        while (gate <= wrap) {
+            LockSupport.parkNanos(nanos);
+            nanos = Math.min(nanos << 1, 1_000_000L);
+            gate = lowestCursor();
+            final long now = System.nanoTime();
+            if (gate != lowest) {
+                lowest = gate;
+                since = collected = now;
+                collectAfter = COLLECT_NANOS;
+            } else if (now - since > stallNanos) {
+                for (final Position next : positions.get()) {
+                    final long sequence = next.sequence;
+                    if (sequence != Long.MIN_VALUE && sequence <= wrap)
+                        disconnect(next);
+                }
+            } else if (now - collected > collectAfter) {
+                System.gc();
+                collected = System.nanoTime();
+                collectAfter = Math.min(collectAfter << 1, MAX_COLLECT_NANOS);
+            }
+        }
+    }
+
+    private long lowestCursor() {
+        long lowest = Long.MAX_VALUE;
+        for (final Position next : positions.get()) {
+            if (next.get() == null)
+                disconnect(next); //abandoned
+            else
+                lowest = Math.min(lowest, next.sequence);
+        }
+        return lowest;
+    }
+
+    private void disconnect(final Position position) {
+        positions.getAndUpdate(current -> {
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == position) {
+                    final Position[] next = Arrays.copyOf(current, current.length - 1);
+                    System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                    return next;
+                }
+            }
+            return current;
+        });
+    }
+
+    /**
+     * @param open Whether the producer is still running
+     * @return Spliterator reading from the current position, preceded by up to history retained values, run to disconnect
+     */
+    Cursor cursor(final AtomicBoolean open) {
+        final Cursor cursor = new Cursor(open);
+        positions.getAndUpdate(current -> {
+            final Position[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = cursor.position;
+            return next;
+        });
+        cursor.position.sequence = Math.max(0, published.get() + 1 - history);
+        return cursor;
+    }
+
+    /*
+     * Read position of a cursor. The producer holds positions strongly but their cursors only weakly, so that a cursor
+     * whose Stream is abandoned part way through can be collected (and then no longer holds back the producer)
+     */
+    static final class Position extends WeakReference<Object> {
+        //next sequence to read, Long.MIN_VALUE holds the producer until the start position is known
+        volatile long sequence = Long.MIN_VALUE;
+
+        Position(final Object cursor) {
+            super(cursor);
+        }
+    }
+
+    final class Cursor implements Spliterator<T>, Runnable {
+        private final AtomicBoolean open;
+        private final Object[] batch = new Object[BATCH_SIZE];
+        private final Position position = new Position(this);
+        private int index;
+        private int size;
+
+        Cursor(final AtomicBoolean open) {
+            this.open = open;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            if (index == size && !fill())
+                return false;
+            final T next = (T) batch[index];
+            batch[index++] = null;
+            action.accept(next);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super T> action) {
+            for (;;) {
+                if (index == size && !fill())
+                    return;
+                while (index < size) {
+                    final T next = (T) batch[index];
+                    batch[index++] = null;
+                    action.accept(next);
+                }
+            }
+        }
+
+        private boolean fill() {
+            long nanos = 1L;
+            for (;;) {
+                final boolean running = open.get();
+                final long available = published.get() - position.sequence + 1;
+                if (available > 0) {
+                    if (read((int) Math.min(available, BATCH_SIZE)))
+                        return true;
+                    continue;
+                }
+                if (!running) {
+                    run();
+                    return false;
+                }
+                LockSupport.parkNanos(nanos);
+                nanos = Math.min(nanos << 1, 1_000_000L);
+            }
+        }
+
+        private boolean read(final int count) {
+            final long start = position.sequence;
+            for (int i = 0; i < count; i++) {
+                batch[i] = ring.get((int) (start + i) & mask);
+            }
+            final long latest = claimed.get();
+            if (latest - start >= capacity()) {
+                //overtaken after stalling or while connecting, skip to the oldest value still held
+                position.sequence = latest - capacity() + 1;
+                return false;
+            }
+            index = 0;
+            size = count;
+            position.sequence = start + count;
+            return true;
+        }
+
+        /**
+         * Disconnect this cursor so it no longer holds back the producer
+         */
+        @Override
+        public void run() {
+            disconnect(position);
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.oath.cyclops.internal.stream;
 
-import java.util.Date;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
@@ -8,23 +9,33 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import com.oath.cyclops.util.ExceptionSoftener;
 import cyclops.companion.Eithers;
 import cyclops.function.FluentFunctions;
-import com.oath.cyclops.util.stream.scheduling.cron.CronExpression;
+import com.oath.cyclops.util.stream.scheduling.cron.CronSchedule;
 
 public class IteratorHotStream<T> {
 
-    protected final AtomicReferenceArray<Queue<T>> connections = new AtomicReferenceArray<>(
-                                                                                            10);
+    protected final HotStreamBuffer<T> buffer;
+    protected final AtomicReference<Queue<T>[]> connections = new AtomicReference<>(new Queue[0]);
     protected final AtomicBoolean open = new AtomicBoolean(
                                                            true);
-    protected volatile int connected = 0;
     protected final AtomicReference<CompletableFuture<Void>> pause = new AtomicReference<>(
                                                                                            CompletableFuture.<Void> completedFuture(null));
 
+    public IteratorHotStream() {
+        this(0);
+    }
+
+    public IteratorHotStream(final int history) {
+        this.buffer = new HotStreamBuffer<>(history);
+    }
+
+    public IteratorHotStream(final int history, final long stallNanos) {
+        this.buffer = new HotStreamBuffer<>(history, stallNanos);
+    }
+
     public boolean isPaused() {
         return pause.get()
                     .isDone();
@@ -40,34 +51,59 @@ public class IteratorHotStream<T> {
         pause.set(new CompletableFuture<Void>());
     }
 
+    protected void addConnection(final Queue<T> queue) {
+        connections.getAndUpdate(current -> {
+            final Queue<T>[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = queue;
+            return next;
+        });
+    }
+
+    /**
+     * Publish the next value once into the shared buffer read by connected Streams, and to any Streams connected
+     * via their own transfer Queue
+     */
+    protected void publish(final T next) {
+        buffer.publish(next);
+        for (final Queue<T> queue : connections.get()) {
+            Eithers.blocking(queue)
+                      .visit(FluentFunctions.ofChecked(in -> {
+                in.put(next);
+                return true;
+            }), q -> q.offer(next));
+        }
+    }
+
     protected void scheduleInternal(final Iterator<T> it, final String cron, final ScheduledExecutorService ex) {
-        final Date now = new Date();
-        final Date d = ExceptionSoftener.softenSupplier(() -> new CronExpression(
-                                                                                 cron))
-                                        .get()
-                                        .getNextValidTimeAfter(now);
+        final CronSchedule schedule = ExceptionSoftener.softenSupplier(() -> CronSchedule.compile(cron))
+                                                       .get();
+        scheduleNext(it, schedule, Instant.now(), ex);
+    }
+
+    /*
+     * Schedule the fire following both now and the previous fire time, so a task run slightly early by the executor
+     * (its clock and the wall clock can drift apart) does not fire twice for the same time
+     */
+    private void scheduleNext(final Iterator<T> it, final CronSchedule schedule, final Instant previous, final ScheduledExecutorService ex) {
+        final Instant now = Instant.now();
+        final Instant next = schedule.next(now.isAfter(previous) ? now : previous);
+        if (next == null) {
+            open.set(false);
+            return;
+        }
 
-        final long delay = d.getTime() - now.getTime();
+        final long delay = next.toEpochMilli() - now.toEpochMilli();
 
         ex.schedule(() -> {
             synchronized (it) {
                 if (it.hasNext()) {
                     try {
-                        final T next = it.next();
-                        final int local = connected;
-
-                        for (int i = 0; i < local; i++) {
-
-                            Eithers.blocking(connections.get(i))
-                                      .visit(FluentFunctions.ofChecked(in -> {
-                                in.put(next);
-                                return true;
-                            }), q -> q.offer(next));
-                        }
+                        final T value = it.next();
+                        publish(value);
 
                     } finally {
 
-                        scheduleInternal(it, cron, ex);
+                        scheduleNext(it, schedule, next, ex);
 
                     }
                 } else {
@@ -84,18 +120,7 @@ public class IteratorHotStream<T> {
                 if (it.hasNext()) {
 
                     final T next = it.next();
-
-                    final int local = connected;
-
-                    for (int i = 0; i < local; i++) {
-
-                        Eithers.blocking(connections.get(i))
-                                  .visit(FluentFunctions.ofChecked(in -> {
-                            in.put(next);
-                            return true;
-                        }), q -> q.offer(next));
-
-                    }
+                    publish(next);
 
                 } else {
                     open.set(false);
@@ -112,17 +137,7 @@ public class IteratorHotStream<T> {
                 if (it.hasNext()) {
 
                     final T next = it.next();
-
-                    final int local = connected;
-
-                    for (int i = 0; i < local; i++) {
-
-                        Eithers.blocking(connections.get(i))
-                                  .visit(FluentFunctions.ofChecked(in -> {
-                            in.put(next);
-                            return true;
-                        }), q -> q.offer(next));
-                    }
+                    publish(next);
 
                 } else {
                     open.set(false);
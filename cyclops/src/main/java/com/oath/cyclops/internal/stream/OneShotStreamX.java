@@ -34,6 +34,10 @@ public class OneShotStreamX<T> extends SpliteratorBasedStream<T> {
     public OneShotStreamX(Stream<T> stream, Optional<ReversableSpliterator> rev) {
         super(stream, rev);
     }
+
+    public OneShotStreamX(Spliterator<T> stream, Optional<ReversableSpliterator> rev, Runnable upstream) {
+        super(stream, rev, upstream);
+    }
     @Override
     public ReactiveSeq<T> reverse() {
         if (reversible.isPresent()) {
@@ -172,12 +176,12 @@ public class OneShotStreamX<T> extends SpliteratorBasedStream<T> {
 
     @Override
     <X> ReactiveSeq<X> createSeq(Stream<X> stream, Optional<ReversableSpliterator> reversible) {
-        return new OneShotStreamX<X>(stream,reversible);
+        return new OneShotStreamX<X>(stream.spliterator(),reversible,closeable());
     }
 
     @Override
     <X> ReactiveSeq<X> createSeq(Spliterator<X> stream, Optional<ReversableSpliterator> reversible) {
-        return new OneShotStreamX<X>(stream,reversible);
+        return new OneShotStreamX<X>(stream,reversible,closeable());
     }
 
     Spliterator<T> get() {
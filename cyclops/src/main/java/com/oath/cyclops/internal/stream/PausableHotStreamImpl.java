@@ -5,14 +5,16 @@ import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import com.oath.cyclops.types.stream.PausableHotStream;
-import cyclops.companion.Eithers;
-import cyclops.function.FluentFunctions;
 
 public class PausableHotStreamImpl<T> extends BaseHotStreamImpl<T>implements PausableHotStream<T> {
     public PausableHotStreamImpl(final Stream<T> stream) {
         super(stream);
     }
 
+    public PausableHotStreamImpl(final Stream<T> stream, final int history) {
+        super(stream, history);
+    }
+
     @Override
     public PausableHotStream<T> init(final Executor exec) {
         CompletableFuture.runAsync(() -> {
@@ -20,17 +22,7 @@ public class PausableHotStreamImpl<T> extends BaseHotStreamImpl<T>implements Pau
             stream.forEach(a -> {
                 pause.get()
                      .join();
-                final int local = connected;
-
-                for (int i = 0; i < local; i++) {
-
-                    Eithers.blocking(connections.get(i))
-                              .visit(FluentFunctions.ofChecked(in -> {
-                        in.put(a);
-                        return true;
-                    }), q -> q.offer(a));
-
-                }
+                publish(a);
 
             });
 
@@ -289,6 +289,11 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
         return createSeq(new SlidingOperator<>(source, Function.identity(), windowSize, increment));
     }
 
+    @Override
+    public ReactiveSeq<Seq<T>> slidingByTime(final long time, final long increment, final TimeUnit unit) {
+        return createSeq(new SlidingByTimeOperator<>(source, Function.identity(), time, increment, unit));
+    }
+
     @Override
     public ReactiveSeq<Vector<T>> grouped(final int groupSize) {
         return createSeq(new GroupingOperator<T, Vector<T>, Vector<T>>(source, () -> Vector.empty(), c -> c, groupSize));
@@ -390,7 +395,7 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
     public final <R> ReactiveSeq<R> map(final Function<? super T, ? extends R> fn) {
 
 
-        return createSeq(new MapOperator<T, R>(this.source, fn));
+        return createSeq(OperatorFusion.map(this.source, fn));
     }
 
 
@@ -423,10 +428,18 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
         return createSeq(pub);
     }
 
+    @Override
+    public final <R> ReactiveSeq<R> mergeMap(int maxConcurency, int prefetch, final Function<? super T, ? extends Publisher<? extends R>> fn) {
+        FlatMapPublisher<T, R> pub = new FlatMapPublisher<>(source, fn,
+                maxConcurency, prefetch);
+
+        return createSeq(pub);
+    }
+
 
     @Override
     public final ReactiveSeq<T> filter(final Predicate<? super T> fn) {
-        return createSeq(new FilterOperator<T>(source, fn));
+        return createSeq(OperatorFusion.filter(source, fn));
 
     }
 
@@ -781,6 +794,31 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     }
 
+    @Override
+    public ReactiveSeq<T> onePer(final long time, final TimeUnit t) {
+        return createSeq(PacedOperator.onePer(source, time, t));
+    }
+
+    @Override
+    public ReactiveSeq<T> xPer(final int x, final long time, final TimeUnit t) {
+        return createSeq(PacedOperator.xPer(source, x, time, t));
+    }
+
+    @Override
+    public ReactiveSeq<T> rateLimit(final int permits, final long per, final TimeUnit unit) {
+        return createSeq(PacedOperator.rateLimit(source, permits, per, unit));
+    }
+
+    @Override
+    public ReactiveSeq<T> fixedDelay(final long l, final TimeUnit unit) {
+        return createSeq(PacedOperator.fixedDelay(source, l, unit));
+    }
+
+    @Override
+    public ReactiveSeq<T> jitter(final long maxJitterPeriodInNanos) {
+        return createSeq(PacedOperator.jitter(source, maxJitterPeriodInNanos));
+    }
+
     @Override
     public ReactiveSeq<Vector<T>> groupedWhile(final Predicate<? super T> predicate) {
         return createSeq(new GroupedWhileOperator<>(source, () -> Vector.empty(), Function.identity(), predicate));
@@ -1087,12 +1125,12 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public ReactiveSeq<T> limit(long num) {
-        return createSeq(new LimitOperator<>(source, num));
+        return createSeq(OperatorFusion.limit(source, num));
     }
 
     @Override
     public ReactiveSeq<T> skip(long num) {
-        return createSeq(new SkipOperator<>(source, num));
+        return createSeq(OperatorFusion.skip(source, num));
     }
 
     @Override
@@ -3,6 +3,7 @@ package com.oath.cyclops.internal.stream;
 
 import com.oath.cyclops.internal.stream.spliterators.push.CollectingSinkSpliterator;
 import com.oath.cyclops.internal.stream.spliterators.push.ValueEmittingSpliterator;
+import com.oath.cyclops.util.ExceptionSoftener;
 import com.oath.cyclops.types.futurestream.Continuation;
 import com.oath.cyclops.types.persistent.PersistentCollection;
 import com.oath.cyclops.types.reactive.ValueSubscriber;
@@ -50,20 +51,27 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
 
     final Optional<ReversableSpliterator> reversible;
 
+    //closes the stage this Stream was derived from (and so its close handlers), null for the head of a pipeline
+    final Runnable upstream;
+
     public SpliteratorBasedStream(final Stream<T> stream) {
 
         this.stream = stream.spliterator();
         this.reversible = Optional.empty();
+        this.upstream = null;
 
 
     }
     public SpliteratorBasedStream(final Spliterator<T> stream, final Optional<ReversableSpliterator> rev) {
-        this.stream = stream;
-        this.reversible = rev;
+        this(stream, rev, null);
     }
     public SpliteratorBasedStream(final Stream<T> stream, final Optional<ReversableSpliterator> rev) {
-        this.stream = stream.spliterator();
+        this(stream.spliterator(), rev, null);
+    }
+    public SpliteratorBasedStream(final Spliterator<T> stream, final Optional<ReversableSpliterator> rev, final Runnable upstream) {
+        this.stream = stream;
         this.reversible = rev;
+        this.upstream = upstream;
     }
 
     @Override
@@ -71,6 +79,37 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
         return (SpliteratorBasedStream<T>) this.createSeq(new CompleteSpliterator<>(stream, fn));
     }
 
+    @Override
+    public ReactiveSeq<T> onClose(final Runnable closeHandler) {
+        return createSeq(new CloseSpliterator<>(stream, closeHandler), reversible);
+    }
+
+    /**
+     * Close this Stream and the stages it was derived from, running close handlers in the order they were added
+     */
+    @Override
+    public void close() {
+        try {
+            if (upstream != null)
+                upstream.run();
+        } finally {
+            if (stream instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) stream).close();
+                } catch (final Exception e) {
+                    throw ExceptionSoftener.throwSoftenedException(e);
+                }
+            }
+        }
+    }
+
+    /*
+     * Closes this Stream from the stages derived from it, null if there is nothing to close
+     */
+    Runnable closeable() {
+        return upstream == null && !(stream instanceof AutoCloseable) ? null : this::close;
+    }
+
     @Override
     public Iterator<T> iterator(){
         return Spliterators.iterator(copy());
@@ -129,6 +168,25 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
 
     }
 
+    /*
+     * Spliterator backed Streams hand their Spliterator directly to the fork / join framework, which splits work via
+     * trySplit. No queue or producing thread sits between this Stream and the parallel Stream.
+     */
+    @Override
+    public <R> R foldParallel(Function<? super Stream<T>,? extends R> fn){
+        return fn.apply(StreamSupport.stream(copy(),true));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> parallel(Function<? super Stream<T>,? extends Stream<? extends R>> fn){
+        return createSeq(new ParallelSpliterator<T,R>(copy(),null,fn));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> parallel(ForkJoinPool fj,Function<? super Stream<T>,? extends Stream<? extends R>> fn){
+        return createSeq(new ParallelSpliterator<T,R>(copy(),fj,fn));
+    }
+
 
 
 
@@ -30,6 +30,10 @@ public class StreamX<T> extends SpliteratorBasedStream<T> {
     public StreamX(Stream<T> stream, Optional<ReversableSpliterator> rev) {
         super(stream, rev);
     }
+
+    public StreamX(Spliterator<T> stream, Optional<ReversableSpliterator> rev, Runnable upstream) {
+        super(stream, rev, upstream);
+    }
     @Override
     public ReactiveSeq<T> reverse() {
         if(this.stream instanceof ReversableSpliterator){
@@ -47,12 +51,12 @@ public class StreamX<T> extends SpliteratorBasedStream<T> {
 
     @Override
     <X> ReactiveSeq<X> createSeq(Stream<X> stream, Optional<ReversableSpliterator> reversible) {
-        return new StreamX<X>(stream,reversible);
+        return new StreamX<X>(stream.spliterator(),reversible,closeable());
     }
 
     @Override
     <X> ReactiveSeq<X> createSeq(Spliterator<X> stream, Optional<ReversableSpliterator> reversible) {
-        return new StreamX<X>(stream,reversible);
+        return new StreamX<X>(stream,reversible,closeable());
     }
 
 
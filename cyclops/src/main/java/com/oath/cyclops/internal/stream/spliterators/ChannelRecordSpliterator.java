@@ -0,0 +1,292 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import com.oath.cyclops.util.ExceptionSoftener;
+import cyclops.function.checked.CheckedSupplier;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Splits the bytes of a channel into records without decoding or copying them.
+ *
+ * Records are emitted as read only ByteBuffer slices of a shared window. A FileChannel is memory mapped a window
+ * at a time (a record crossing the end of a window is remapped from its start), any other channel is read into
+ * a fresh heap buffer per window so earlier records remain valid - only the partial record at the end of a window is carried over.
+ * Records are either lines (terminated by \n, with any trailing \r removed) or have a fixed size, in both cases a trailing partial record is emitted as is.
+ * The channel is opened on first use and closed once exhausted, on failure or via {@link #close()}. Channels must be
+ * blocking, a channel that still returns no data is polled with a backoff of up to a millisecond.
+ */
+public class ChannelRecordSpliterator implements CopyableSpliterator<ByteBuffer>, AutoCloseable {
+
+    public static final int LINES = 0;
+    public static final int DEFAULT_READ_WINDOW = 64 * 1024;
+    public static final int DEFAULT_MAPPED_WINDOW = 64 * 1024 * 1024;
+    private static final int MAX_WINDOW = Integer.MAX_VALUE - 8;
+    private static final long MAX_BACKOFF_NANOS = 1_000_000;
+
+    private final CheckedSupplier<? extends ReadableByteChannel> opener;
+    private final boolean repeatable;
+    private final int recordSize;
+    //this Spliterator and its copies, while their channel is open
+    private final Set<ChannelRecordSpliterator> opened;
+
+    private ReadableByteChannel channel;
+    private FileChannel file;
+    private long fileSize;
+    //absolute file offset of window index 0, mapped windows only
+    private long windowStart;
+    private int windowSize;
+    private ByteBuffer window;
+    //window index the search for the next line terminator resumes from
+    private int scanned;
+    private boolean eof;
+    private boolean closed;
+
+    private ChannelRecordSpliterator(final CheckedSupplier<? extends ReadableByteChannel> opener, final boolean repeatable, final int recordSize,
+                                     final Set<ChannelRecordSpliterator> opened) {
+        if (recordSize < 0)
+            throw new IllegalArgumentException("recordSize must not be negative but was " + recordSize);
+        this.opener = opener;
+        this.repeatable = repeatable;
+        this.recordSize = recordSize;
+        this.opened = opened;
+    }
+
+    /**
+     * @param path File to read, opened (and memory mapped) separately by each copy of this Spliterator
+     * @param recordSize Fixed record size in bytes or {@link #LINES}
+     */
+    public static ChannelRecordSpliterator file(final Path path, final int recordSize) {
+        return new ChannelRecordSpliterator(() -> FileChannel.open(path, StandardOpenOption.READ), true, recordSize,
+                                            Collections.newSetFromMap(new ConcurrentHashMap<>()));
+    }
+
+    /**
+     * @param channel Blocking channel to read from its current position, FileChannels are memory mapped
+     * @param recordSize Fixed record size in bytes or {@link #LINES}
+     * @throws IllegalArgumentException if the channel is in non-blocking mode
+     */
+    public static ChannelRecordSpliterator channel(final ReadableByteChannel channel, final int recordSize) {
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking())
+            throw new IllegalArgumentException("Channel must be in blocking mode");
+        return new ChannelRecordSpliterator(() -> channel, false, recordSize,
+                                            Collections.newSetFromMap(new ConcurrentHashMap<>()));
+    }
+
+    @Override
+    public Spliterator<ByteBuffer> copy() {
+        return repeatable ? fresh() : this;
+    }
+
+    private ChannelRecordSpliterator fresh() {
+        return new ChannelRecordSpliterator(opener, true, recordSize, opened);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super ByteBuffer> action) {
+        final ByteBuffer next = next();
+        if (next == null)
+            return false;
+        action.accept(next);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super ByteBuffer> action) {
+        if (repeatable && window == null && !closed) {
+            //bulk traversal of an unstarted file reads a copy, so that it can be repeated
+            try (ChannelRecordSpliterator records = fresh()) {
+                records.drain(action);
+            }
+            return;
+        }
+        drain(action);
+    }
+
+    private void drain(final Consumer<? super ByteBuffer> action) {
+        ByteBuffer next;
+        while ((next = next()) != null) {
+            action.accept(next);
+        }
+    }
+
+    /**
+     * @return The next record or null once the channel is exhausted (or closed)
+     */
+    public ByteBuffer next() {
+        if (closed)
+            return null;
+        try {
+            if (window == null)
+                open();
+            for (;;) {
+                final ByteBuffer next = recordSize == LINES ? nextLine() : nextRecord();
+                if (next != null)
+                    return next;
+                if (eof) {
+                    close();
+                    return null;
+                }
+                load();
+            }
+        } catch (final Throwable t) {
+            close();
+            throw ExceptionSoftener.throwSoftenedException(t);
+        }
+    }
+
+    private ByteBuffer nextRecord() {
+        final int remaining = window.remaining();
+        if (remaining >= recordSize) {
+            final int end = window.position() + recordSize;
+            return slice(end, end);
+        }
+        if (eof && remaining > 0)
+            return slice(window.limit(), window.limit());
+        return null;
+    }
+
+    private ByteBuffer nextLine() {
+        final int limit = window.limit();
+        for (int i = scanned; i < limit; i++) {
+            if (window.get(i) == '\n') {
+                int end = i;
+                if (end > window.position() && window.get(end - 1) == '\r')
+                    end--;
+                return slice(end, i + 1);
+            }
+        }
+        scanned = limit;
+        if (eof && window.hasRemaining())
+            return slice(limit, limit);
+        return null;
+    }
+
+    /*
+     * Emit window[position, end) and continue reading from next
+     */
+    private ByteBuffer slice(final int end, final int next) {
+        final int limit = window.limit();
+        window.limit(end);
+        final ByteBuffer record = window.slice();
+        window.limit(limit);
+        window.position(next);
+        scanned = next;
+        return record;
+    }
+
+    private void open() throws Throwable {
+        channel = opener.get();
+        opened.add(this);
+        if (channel instanceof FileChannel) {
+            file = (FileChannel) channel;
+            fileSize = file.size();
+            windowStart = file.position();
+            windowSize = DEFAULT_MAPPED_WINDOW;
+        } else {
+            windowSize = DEFAULT_READ_WINDOW;
+        }
+        if (recordSize > windowSize)
+            windowSize = recordSize;
+        window = ByteBuffer.allocate(0);
+        load();
+    }
+
+    /*
+     * Replace the window with one starting at the current (partial) record, growing it if that record fills the whole window
+     */
+    private void load() throws IOException {
+        final int carried = window.remaining();
+        final int rescan = scanned - window.position();
+        if (carried >= windowSize)
+            windowSize = (int) Math.min(MAX_WINDOW, (long) windowSize << 1);
+        if (carried >= windowSize)
+            throw new IOException("Record larger than " + MAX_WINDOW + " bytes");
+        if (file != null)
+            map(windowStart + window.position());
+        else
+            read();
+        scanned = rescan;
+    }
+
+    private void map(final long start) throws IOException {
+        final long length = Math.min(windowSize, fileSize - start);
+        window = file.map(FileChannel.MapMode.READ_ONLY, start, length);
+        windowStart = start;
+        eof = start + length >= fileSize;
+    }
+
+    private void read() throws IOException {
+        final ByteBuffer next = ByteBuffer.allocate(windowSize);
+        next.put(window);
+        final int carried = next.position();
+        int idle = 0;
+        while (next.hasRemaining()) {
+            final int read = channel.read(next);
+            if (read < 0) {
+                eof = true;
+                break;
+            }
+            if (read == 0) {
+                if (next.position() > carried)
+                    break;
+                LockSupport.parkNanos(Math.min(MAX_BACKOFF_NANOS, 1_000L << Math.min(idle++, 10)));
+            }
+        }
+        next.flip();
+        window = next.asReadOnlyBuffer();
+    }
+
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        window = null;
+        opened.remove(this);
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (final IOException e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
+    }
+
+    /**
+     * Close this Spliterator and any of its copies that are still open (e.g. after a traversal stopped early)
+     */
+    public void closeAll() {
+        close();
+        for (final ChannelRecordSpliterator next : new ArrayList<>(opened)) {
+            next.close();
+        }
+    }
+
+    @Override
+    public Spliterator<ByteBuffer> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
@@ -0,0 +1,67 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import com.oath.cyclops.util.ExceptionSoftener;
+
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Runs a close handler when the Stream it backs is closed, after closing the source Spliterator (if it is AutoCloseable).
+ * Only the first close has any effect, so closing several stages of a pipeline runs each handler once.
+ */
+public class CloseSpliterator<T> implements CopyableSpliterator<T>, AutoCloseable {
+
+    private final Spliterator<T> source;
+    private final Runnable closeHandler;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    public CloseSpliterator(final Spliterator<T> source, final Runnable closeHandler) {
+        this.source = source;
+        this.closeHandler = closeHandler;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        return source.tryAdvance(action);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        source.forEachRemaining(action);
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        return source.trySplit();
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics();
+    }
+
+    @Override
+    public Spliterator<T> copy() {
+        return new CloseSpliterator<>(CopyableSpliterator.copy(source), closeHandler);
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true))
+            return;
+        try {
+            if (source instanceof AutoCloseable)
+                ((AutoCloseable) source).close();
+        } catch (final Exception e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        } finally {
+            closeHandler.run();
+        }
+    }
+}
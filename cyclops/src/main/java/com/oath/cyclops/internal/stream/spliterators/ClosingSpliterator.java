@@ -74,7 +74,7 @@ public class ClosingSpliterator<IN,T> extends BaseComposableSpliterator<IN,T,Clo
     @Override
     public Spliterator<T> trySplit() {
 
-        return this;
+        return null;
     }
 
     @Override
@@ -39,7 +39,7 @@ public class FillSpliterator<T> implements Spliterator<T> {
     @Override
     public Spliterator<T> trySplit() {
 
-        return this;
+        return null;
     }
 
 
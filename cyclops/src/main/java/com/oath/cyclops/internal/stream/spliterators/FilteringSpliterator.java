@@ -48,6 +48,12 @@ public class FilteringSpliterator<T> extends Spliterators.AbstractSpliterator<T>
         return new FilteringSpliterator<T>(CopyableSpliterator.copy(source),mapper);
     }
 
+    @Override
+    public Spliterator<T> trySplit() {
+        Spliterator<T> split = source.trySplit();
+        return split == null || split == source ? null : new FilteringSpliterator<T>(split,mapper);
+    }
+
     @Override
     public Spliterator<T> compose() {
         if(source instanceof FilteringSpliterator){
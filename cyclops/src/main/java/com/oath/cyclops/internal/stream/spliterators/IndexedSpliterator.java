@@ -0,0 +1,103 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Splittable Spliterator over an indexed persistent collection (e.g. Vector, IntMap).
+ *
+ * An unsplit Spliterator traverses via the collection's own sequential Spliterator, once split each half
+ * traverses its index range via positional lookups, allowing fork / join parallel traversal.
+ */
+public class IndexedSpliterator<T> implements CopyableSpliterator<T> {
+
+    private final IntFunction<? extends T> get;
+    private final Supplier<? extends Spliterator<T>> sequential;
+    private final int size;
+    private int start;
+    private int index;
+    private final int end;
+    private Spliterator<T> active;
+
+    public IndexedSpliterator(int size, IntFunction<? extends T> get, Supplier<? extends Spliterator<T>> sequential) {
+        this(size, get, sequential, 0, size);
+    }
+
+    private IndexedSpliterator(int size, IntFunction<? extends T> get, Supplier<? extends Spliterator<T>> sequential, int start, int end) {
+        this.size = size;
+        this.get = get;
+        this.sequential = sequential;
+        this.start = start;
+        this.index = start;
+        this.end = end;
+    }
+
+    private boolean isWhole() {
+        return active != null || (index == 0 && end == size);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if (isWhole()) {
+            if (active == null)
+                active = sequential.get();
+            if (active.tryAdvance(action)) {
+                index++;
+                return true;
+            }
+            index = end;
+            return false;
+        }
+        if (index < end) {
+            action.accept(get.apply(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if (isWhole()) {
+            Spliterator<T> s = active == null ? sequential.get() : active;
+            index = end;
+            s.forEachRemaining(action);
+            return;
+        }
+        int i = index;
+        index = end;
+        for (; i < end; i++)
+            action.accept(get.apply(i));
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (active != null)
+            return null;
+        int mid = (index + end) >>> 1;
+        if (mid <= index)
+            return null;
+        IndexedSpliterator<T> prefix = new IndexedSpliterator<>(size, get, sequential, index, mid);
+        start = index = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return IMMUTABLE | ORDERED | SIZED | SUBSIZED;
+    }
+
+    @Override
+    public Spliterator<T> copy() {
+        return new IndexedSpliterator<>(size, get, sequential, start, end);
+    }
+}
@@ -16,7 +16,7 @@ public class IteratableSpliterator<T> extends Spliterators.AbstractSpliterator<T
   Iterator<T> active;
 
   public IteratableSpliterator(final Iterable<T> source) {
-    super(-1,Spliterator.ORDERED);
+    super(Long.MAX_VALUE,Spliterator.ORDERED); //unknown size, lets AbstractSpliterator split off batches for parallel traversal
 
     this.source = source;
 
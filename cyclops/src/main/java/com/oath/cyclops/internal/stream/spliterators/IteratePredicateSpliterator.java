@@ -61,7 +61,7 @@ public class IteratePredicateSpliterator<T> implements Spliterator<T>, CopyableS
     @Override
     public Spliterator<T> trySplit() {
 
-        return this;
+        return null;
     }
 
 
@@ -45,7 +45,7 @@ public class LazySingleSpliterator<T, X,R> implements Spliterator<R>, CopyableSp
     @Override
     public Spliterator<R> trySplit() {
 
-        return this;
+        return null;
     }
 
 
@@ -48,6 +48,12 @@ public class MappingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
         return new MappingSpliterator<T, R>(CopyableSpliterator.copy(source),mapper);
     }
 
+    @Override
+    public Spliterator<R> trySplit() {
+        Spliterator<T> split = source.trySplit();
+        return split == null || split == source ? null : new MappingSpliterator<T, R>(split,mapper);
+    }
+
 
     @Override
     public Spliterator<T> source() {
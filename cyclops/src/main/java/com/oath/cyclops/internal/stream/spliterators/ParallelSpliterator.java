@@ -0,0 +1,87 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Emits the result of applying a function to a parallel Stream built over the source Spliterator.
+ *
+ * Nothing is evaluated until the first element is requested. Bulk traversal (forEachRemaining) runs the parallel
+ * Stream to completion, handing results on in encounter order, element at a time traversal pulls lazily from the
+ * parallel Stream's own Spliterator (so short-circuiting operators work against infinite sources). Bulk traversals and
+ * copies split a fresh copy of the source, so they can be repeated.
+ */
+public class ParallelSpliterator<T,R> implements CopyableSpliterator<R> {
+
+    private final Spliterator<T> source;
+    private final ForkJoinPool fj;
+    private final Function<? super Stream<T>, ? extends Stream<? extends R>> fn;
+    private Spliterator<? extends R> active;
+
+    /**
+     * @param source Spliterator to split
+     * @param fj ForkJoinPool to run the parallel Stream on, or null for the common pool
+     * @param fn Function to apply to the parallel Stream
+     */
+    public ParallelSpliterator(final Spliterator<T> source, final ForkJoinPool fj,
+                               final Function<? super Stream<T>, ? extends Stream<? extends R>> fn) {
+        this.source = source;
+        this.fj = fj;
+        this.fn = fn;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super R> action) {
+        if(active!=null){
+            active.forEachRemaining(action);
+            return;
+        }
+        Spliterator<T> split = CopyableSpliterator.copy(source);
+        run(()->fn.apply(StreamSupport.stream(split,true)).forEachOrdered(action));
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        if(active==null){
+            //stateful operations are evaluated in parallel when the first element is requested
+            boolean[] advanced = {false};
+            run(()->{
+                active = fn.apply(StreamSupport.stream(source,true)).spliterator();
+                advanced[0] = active.tryAdvance(action);
+            });
+            return advanced[0];
+        }
+        return active.tryAdvance(action);
+    }
+
+    private void run(Runnable r){
+        if(fj==null)
+            r.run();
+        else
+            fj.submit(r).join();
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & ORDERED;
+    }
+
+    @Override
+    public Spliterator<R> copy() {
+        return new ParallelSpliterator<>(CopyableSpliterator.copy(source),fj,fn);
+    }
+}
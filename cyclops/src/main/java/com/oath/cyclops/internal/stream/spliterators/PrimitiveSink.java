@@ -0,0 +1,12 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+/**
+ * An unboxed stage in a fused primitive pipeline. Sources push values until {@link #isDone()} reports that a
+ * downstream short-circuiting stage (limit, takeWhile, findFirst etc) has seen enough.
+ */
+public interface PrimitiveSink {
+
+    default boolean isDone(){
+        return false;
+    }
+}
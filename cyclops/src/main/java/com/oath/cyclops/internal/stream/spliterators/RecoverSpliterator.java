@@ -48,7 +48,7 @@ public class RecoverSpliterator<T, X extends Throwable> implements CopyableSplit
 
     @Override
     public Spliterator<T> trySplit() {
-        return this;
+        return null;
     }
 
 
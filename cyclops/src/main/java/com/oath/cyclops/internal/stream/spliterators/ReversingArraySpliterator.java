@@ -18,6 +18,7 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
     private boolean reverse;
 
     int index = 0;
+    private boolean split;
 
     public ReversingArraySpliterator(Object[] array,int start,int max,boolean reverse) {
         this.array = array;
@@ -30,12 +31,12 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
 
     @Override
     public long estimateSize() {
-        return max;
+        return reverse ? Math.max(0, index - start + 1) : Math.max(0, max - index);
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED;
     }
 
     @Override
@@ -69,6 +70,8 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
 
             }
         }
+        if (split) //part of a parallel traversal, must not be revisited
+            this.index = index;
 
     }
 
@@ -95,8 +98,24 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
 
     @Override
     public Spliterator<T> trySplit() {
-
-        return this;
+        //split off the first half (in encounter order) of the remaining elements
+        if (!reverse) {
+            int mid = (index + max) >>> 1;
+            if (mid <= index)
+                return null;
+            ReversingArraySpliterator<T> prefix = new ReversingArraySpliterator<T>(array, index, mid, false);
+            this.start = this.index = mid;
+            split = true;
+            return prefix;
+        }
+        int mid = (start + index + 1) >>> 1;
+        if (mid <= start || mid > index)
+            return null;
+        ReversingArraySpliterator<T> prefix = new ReversingArraySpliterator<T>(array, mid, index + 1, true);
+        this.max = mid;
+        this.index = mid - 1;
+        split = true;
+        return prefix;
     }
 
     @Override
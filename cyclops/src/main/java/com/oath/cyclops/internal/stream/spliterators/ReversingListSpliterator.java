@@ -45,12 +45,12 @@ public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSp
 
     @Override
     public long estimateSize() {
-        return list.size();
+        return reverse ? it.nextIndex() : list.size() - it.nextIndex();
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED;
     }
 
     @Override
@@ -76,8 +76,23 @@ public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSp
 
     @Override
     public Spliterator<T> trySplit() {
-
-        return this;
+        //split off the first half (in encounter order) of the remaining elements
+        if (!reverse) {
+            int lo = it.nextIndex();
+            int mid = (lo + list.size()) >>> 1;
+            if (mid <= lo)
+                return null;
+            ReversingListSpliterator<T> prefix = new ReversingListSpliterator<>(list.subList(lo, mid), false);
+            it = list.listIterator(mid);
+            return prefix;
+        }
+        int hi = it.nextIndex();
+        int mid = hi >>> 1;
+        if (mid == 0 || mid >= hi)
+            return null;
+        ReversingListSpliterator<T> prefix = new ReversingListSpliterator<>(list.subList(mid, hi), true);
+        it = list.listIterator(mid);
+        return prefix;
     }
 
 }
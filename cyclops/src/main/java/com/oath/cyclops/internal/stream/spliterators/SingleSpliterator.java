@@ -41,7 +41,7 @@ public class SingleSpliterator<T> implements Spliterator<T>, CopyableSpliterator
     @Override
     public Spliterator<T> trySplit() {
 
-        return this;
+        return null;
     }
 
 
@@ -61,7 +61,7 @@ public class Zipping4Spliterator<T1,T2,T3,T4,R> implements CopyableSpliterator<R
 
     @Override
     public Spliterator<R> trySplit() {
-        return this;
+        return null;
     }
 
 
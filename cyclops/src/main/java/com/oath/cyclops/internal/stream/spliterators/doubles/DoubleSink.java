@@ -0,0 +1,13 @@
+package com.oath.cyclops.internal.stream.spliterators.doubles;
+
+import com.oath.cyclops.internal.stream.spliterators.PrimitiveSink;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * A {@link PrimitiveSink} of unboxed double values
+ */
+@FunctionalInterface
+public interface DoubleSink extends DoubleConsumer, PrimitiveSink {
+
+}
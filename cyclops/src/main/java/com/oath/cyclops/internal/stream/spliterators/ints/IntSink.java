@@ -0,0 +1,13 @@
+package com.oath.cyclops.internal.stream.spliterators.ints;
+
+import com.oath.cyclops.internal.stream.spliterators.PrimitiveSink;
+
+import java.util.function.IntConsumer;
+
+/**
+ * A {@link PrimitiveSink} of unboxed int values
+ */
+@FunctionalInterface
+public interface IntSink extends IntConsumer, PrimitiveSink {
+
+}
@@ -12,11 +12,12 @@ import lombok.Setter;
 
 public class ReversingRangeIntSpliterator implements Spliterator.OfInt, ReversableSpliterator<Integer>, Indexable<Integer> {
 
-    private final int min;
-    private final int max;
+    private int min;
+    private int max;
     private int index;
     private int start;
     private int step;
+    private boolean split;
 
     @Getter
     @Setter
@@ -62,17 +63,39 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
 
     @Override
     public long estimateSize() {
-        return max;
+        return remaining();
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED;
     }
 
     @Override
     public Spliterator.OfInt trySplit() {
-        return this;
+        //split off the first half (in encounter order) of the remaining values
+        long half = remaining() / 2;
+        if (half == 0)
+            return null;
+        if (!reverse) {
+            int mid = (int)(index + half * step);
+            ReversingRangeIntSpliterator prefix = new ReversingRangeIntSpliterator(index, mid, step, false);
+            this.start = this.index = this.min = mid;
+            split = true;
+            return prefix;
+        }
+        int mid = (int)(index - half * step);
+        ReversingRangeIntSpliterator prefix = new ReversingRangeIntSpliterator(mid, index, step, true);
+        this.start = this.index = this.max = mid;
+        split = true;
+        return prefix;
+    }
+
+    private long remaining() {
+        long distance = reverse ? (long) index - min : (long) max - index;
+        if (distance <= 0 || (reverse ? index > max : index < min))
+            return 0;
+        return (distance + step - 1) / step;
     }
 
     @Override
@@ -102,6 +125,8 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
             }
 
         }
+        if (split) //part of a parallel traversal, must not be revisited
+            this.index = index;
     }
 
     /* (non-Javadoc)
@@ -123,6 +148,8 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
             }
 
         }
+        if (split) //part of a parallel traversal, must not be revisited
+            this.index = index;
     }
 
     @Override
@@ -0,0 +1,13 @@
+package com.oath.cyclops.internal.stream.spliterators.longs;
+
+import com.oath.cyclops.internal.stream.spliterators.PrimitiveSink;
+
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link PrimitiveSink} of unboxed long values
+ */
+@FunctionalInterface
+public interface LongSink extends LongConsumer, PrimitiveSink {
+
+}
@@ -33,12 +33,12 @@ public class ReversingLongArraySpliterator<Long> implements Spliterator.OfLong,R
 
     @Override
     public long estimateSize() {
-        return max;
+        return reverse ? Math.max(0, index - start + 1) : Math.max(0, max - index);
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED;
     }
 
     @Override
@@ -99,7 +99,22 @@ public class ReversingLongArraySpliterator<Long> implements Spliterator.OfLong,R
 
     @Override
     public OfLong trySplit() {
-        return this;
+        //split off the first half (in encounter order) of the remaining elements
+        if (!reverse) {
+            int mid = (index + max) >>> 1;
+            if (mid <= index)
+                return null;
+            ReversingLongArraySpliterator<Long> prefix = new ReversingLongArraySpliterator<Long>(array, index, mid, false);
+            this.start = this.index = mid;
+            return prefix;
+        }
+        int mid = (start + index + 1) >>> 1;
+        if (mid <= start || mid > index)
+            return null;
+        ReversingLongArraySpliterator<Long> prefix = new ReversingLongArraySpliterator<Long>(array, mid, index + 1, true);
+        this.max = mid;
+        this.index = mid - 1;
+        return prefix;
     }
 
 
@@ -12,11 +12,12 @@ import java.util.function.LongConsumer;
 
 public class ReversingRangeLongSpliterator implements Spliterator.OfLong, ReversableSpliterator<Long>, Indexable<Long> {
 
-    private final long min;
-    private final long max;
+    private long min;
+    private long max;
     private long index;
     private long start;
     private final long step;
+    private boolean split;
 
     @Getter
     @Setter
@@ -62,17 +63,39 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong, Revers
 
     @Override
     public long estimateSize() {
-        return max;
+        return remaining();
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED;
     }
 
     @Override
     public OfLong trySplit() {
-        return this;
+        //split off the first half (in encounter order) of the remaining values
+        long half = remaining() / 2;
+        if (half == 0)
+            return null;
+        if (!reverse) {
+            long mid = (index + half * step);
+            ReversingRangeLongSpliterator prefix = new ReversingRangeLongSpliterator(index, mid, step, false);
+            this.start = this.index = this.min = mid;
+            split = true;
+            return prefix;
+        }
+        long mid = (index - half * step);
+        ReversingRangeLongSpliterator prefix = new ReversingRangeLongSpliterator(mid, index, step, true);
+        this.start = this.index = this.max = mid;
+        split = true;
+        return prefix;
+    }
+
+    private long remaining() {
+        long distance = reverse ? (long) index - min : (long) max - index;
+        if (distance <= 0 || (reverse ? index > max : index < min))
+            return 0;
+        return (distance + step - 1) / step;
     }
 
     @Override
@@ -102,6 +125,8 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong, Revers
             }
 
         }
+        if (split) //part of a parallel traversal, must not be revisited
+            this.index = index;
     }
 
     /* (non-Javadoc)
@@ -123,6 +148,8 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong, Revers
             }
 
         }
+        if (split) //part of a parallel traversal, must not be revisited
+            this.index = index;
     }
 
     @Override
@@ -1,5 +1,7 @@
 package com.oath.cyclops.internal.stream.spliterators.push;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.LongConsumer;
@@ -7,7 +9,7 @@ import java.util.function.LongConsumer;
 /**
  * Created by johnmcclean on 12/01/2017.
  */
-public class ArrayOfValuesOperator<T> implements Operator<T> {
+public class ArrayOfValuesOperator<T> implements SynchronousSource<T> {
 
 
     final Object[] values;
@@ -17,6 +19,24 @@ public class ArrayOfValuesOperator<T> implements Operator<T> {
         this.values = values;
     }
 
+    @Override
+    public Iterator<T> syncIterator() {
+        return new Iterator<T>() {
+            int index = 0;
+            @Override
+            public boolean hasNext() {
+                return index < values.length;
+            }
+
+            @Override
+            public T next() {
+                if (index >= values.length)
+                    throw new NoSuchElementException();
+                return (T) values[index++];
+            }
+        };
+    }
+
 
     @Override
     public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
@@ -0,0 +1,97 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import com.oath.cyclops.internal.stream.spliterators.ChannelRecordSpliterator;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Source Operator emitting the records of a channel, reading no further ahead than requested.
+ * The channel is closed on completion, on a read failure (reported via onError before completing) or when the subscription is cancelled.
+ */
+public class ChannelSourceOperator implements Operator<ByteBuffer> {
+
+    final Supplier<ChannelRecordSpliterator> records;
+
+    public ChannelSourceOperator(Supplier<ChannelRecordSpliterator> records){
+        this.records = records;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super ByteBuffer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        final ChannelRecordSpliterator source = records.get();
+        boolean completed[] = {false};
+        StreamSubscription sub = new StreamSubscription(){
+            LongConsumer work = n->{
+                long reqs = n;
+                long delivered = 0l;
+                do {
+                    while (delivered < reqs) {
+                        if(!isOpen)
+                            return;
+                        ByteBuffer next;
+                        try {
+                            next = source.next();
+                        }catch(Throwable t){
+                            if(isOpen) {
+                                onError.accept(t);
+                                complete();
+                            }
+                            return;
+                        }
+                        if(next==null){
+                            complete();
+                            return;
+                        }
+                        onNext.accept(next);
+                        if(reqs!=Long.MAX_VALUE)
+                            delivered++;
+                    }
+                    reqs = requested.accumulateAndGet(delivered, (a, b) -> a - b);
+                    if(reqs==0)
+                        return;
+                    delivered=0;
+                }while(true);
+            };
+
+            private void complete(){
+                if(!completed[0]) {
+                    completed[0] = true;
+                    requested.set(0);
+                    onComplete.run();
+                }
+            }
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(isOpen)
+                    singleActiveRequest(n,work);
+            }
+
+            @Override
+            public void cancel() {
+                super.cancel();
+                source.close();
+            }
+        };
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super ByteBuffer> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        final ChannelRecordSpliterator source = records.get();
+        try {
+            source.forEachRemaining(onNext);
+        }catch(Throwable t){
+            onError.accept(t);
+        }finally {
+            source.close();
+        }
+        onCompleteDs.run();
+    }
+}
@@ -1,13 +1,10 @@
 package com.oath.cyclops.internal.stream.spliterators.push;
 
-import cyclops.data.Seq;
-import lombok.AllArgsConstructor;
-import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
-import java.util.Queue;
+import java.util.Arrays;
 import java.util.concurrent.atomic.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -15,9 +12,15 @@ import java.util.function.Function;
 
 public class ConcurrentFlatMapper<T, R> {
 
-    volatile Seq<ActiveSubscriber> activeList = Seq.empty();
-    static final AtomicReferenceFieldUpdater<ConcurrentFlatMapper, Seq> queueUpdater =
-            AtomicReferenceFieldUpdater.newUpdater(ConcurrentFlatMapper.class, Seq.class, "activeList");
+    public static final int DEFAULT_PREFETCH = 128;
+
+    /*
+     * Active inner subscribers, held in an array with O(1) add and (swap) remove.
+     * Only the drain loop removes, adds come from the outer onNext - both under the registry lock.
+     * The array is published before the size so a reader of size always sees a large enough array.
+     */
+    volatile ActiveSubscriber[] subscribers = new ConcurrentFlatMapper.ActiveSubscriber[4];
+    volatile int size;
 
     final Consumer<? super R> onNext;
     final Consumer<? super Throwable> onError;
@@ -28,6 +31,8 @@ public class ConcurrentFlatMapper<T, R> {
 
     final StreamSubscription sub;
     final int maxConcurrency;
+    final int prefetch;
+    final int limit;
     volatile boolean running = true;
 
 
@@ -42,14 +47,22 @@ public class ConcurrentFlatMapper<T, R> {
     public ConcurrentFlatMapper(StreamSubscription s, Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete,
                        Function<? super T, ? extends Publisher<? extends R>> mapper,
                        int maxConcurrency) {
+        this(s,onNext,onError,onComplete,mapper,maxConcurrency,DEFAULT_PREFETCH);
+    }
+
+    public ConcurrentFlatMapper(StreamSubscription s, Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete,
+                                Function<? super T, ? extends Publisher<? extends R>> mapper,
+                                int maxConcurrency, int prefetch) {
+        if (prefetch <= 0)
+            throw new IllegalArgumentException("prefetch must be positive but was " + prefetch);
         this.sub = s;
         this.onNext = onNext;
         this.onError = onError;
         this.onComplete = onComplete;
         this.mapper = mapper;
         this.maxConcurrency = maxConcurrency;
-
-
+        this.prefetch = prefetch;
+        this.limit = Math.max(1, prefetch - (prefetch >> 2));
     }
 
     public void request(long n) {
@@ -73,18 +86,40 @@ public class ConcurrentFlatMapper<T, R> {
 
 
     public void onNext(T t) {
-        if (!running)
+        if (!running || !sub.isOpen)
             return;
 
         Publisher<? extends R> next = mapper.apply(t);
         ActiveSubscriber inner = new ActiveSubscriber();
-        queueUpdater.getAndUpdate(this, q -> q.plus(inner));
+        add(inner);
         next.subscribe(inner);
 
     }
 
-    private boolean remove(ActiveSubscriber toRemove) {
-        queueUpdater.getAndUpdate(this, q -> q.removeValue(toRemove));
+    private synchronized void add(ActiveSubscriber toAdd) {
+        ActiveSubscriber[] array = subscribers;
+        int n = size;
+        if (n == array.length) {
+            array = Arrays.copyOf(array, n << 1);
+            subscribers = array;
+        }
+        array[n] = toAdd;
+        toAdd.index = n;
+        size = n + 1;
+    }
+
+    private synchronized boolean remove(ActiveSubscriber toRemove) {
+        int index = toRemove.index;
+        if (index < 0)
+            return false;
+        ActiveSubscriber[] array = subscribers;
+        int last = size - 1;
+        ActiveSubscriber moved = array[last];
+        array[index] = moved;
+        moved.index = index;
+        array[last] = null;
+        toRemove.index = -1;
+        size = last;
         return true;
     }
 
@@ -112,230 +147,177 @@ public class ConcurrentFlatMapper<T, R> {
         populateFromQueuesAndCleanup();
     }
 
-    int incrementActiveIndex(int index, Seq<ActiveSubscriber> active){
-        return index > active.size() ? 0 : subscriberIndex;
-    }
-
-    @AllArgsConstructor
-    class SubscriberRequests {
-
-        boolean completed;
-        long pendingRequests;
-        long requestedLocal;
-        long missing;
-        boolean rerun;
-        ActiveSubscriber nextActive;
-
-        boolean populateRequestsFromQueue(){
-            while (pendingRequests != requestedLocal) {
-                completed = nextActive.done;
-
-                R raw = nextActive.queue.poll();
-
-                if (complete(false)) {
-                    return false;
-                }
-                if(raw == null) {
-                    if (completed)
-                        removeAndReturn();
-
-                    return true;
-                }
-
-                onNext.accept(com.oath.cyclops.async.adapters.Queue.nillSafe(raw));
-
-                pendingRequests++;
-            }
-            return true;
-        }
-
-        void setNextActive(ActiveSubscriber nextActive){
-            this.nextActive = nextActive;
-            completed = nextActive.done;
-        }
-        void handleComplete(){
-            if (pendingRequests == requestedLocal) {
-                completed = nextActive.done;
-                cleanup();
-            }
-        }
-
-        void cleanup() {
-            if (completed && nextActive.queue.isEmpty()) {
-                removeAndReturn();
-            }
-        }
-
-        private void removeAndReturn() {
-            remove(nextActive);
-            rerun = true;
-            missing++;
-        }
-
-        void processPendingRequests(){
-            if (pendingRequests != 0L) {
-                if (!nextActive.done) {
-                    nextActive.sub.get().request(pendingRequests);
-                }
-                if (requestedLocal != Long.MAX_VALUE) {
-                    requestedLocal =  requested.addAndGet(-pendingRequests);
-                }
-                pendingRequests = 0L;
-            }
-        }
-
-        void sendMissingRequests() {
-
-            if (missing != 0L && running && sub.isOpen) {
-
-                sub.request(missing);
-            }
-        }
-
-
-        int recalcConcurrentRequests(int missed) {
-
-            if(!rerun){
-                return wip.addAndGet(-missed);
-            }
-            return missed;
-        }
-        boolean complete(boolean empty) {
-
-            if (!sub.isOpen)
-                return true;
-
-
-            if(completed && empty) {
-                onComplete.run();
-                return true;
-            }
-
-            return false;
+    private void cancelAll() {
+        ActiveSubscriber[] array = subscribers;
+        int n = Math.min(size, array.length);
+        for (int i = 0; i < n; i++) {
+            ActiveSubscriber next = array[i];
+            if (next != null)
+                next.cancel();
         }
     }
 
+    /*
+     * Emits queued values round robin across the active inner subscribers while there is demand,
+     * replenishing each inner in batches of limit and asking the outer publisher for a new inner
+     * each time one completes. Returns without releasing wip once terminated so no further drain can run.
+     */
     void populateFromQueuesAndCleanup() {
-        int incomingRequests = 1;
-
-        do {
-
-            Seq<ActiveSubscriber> localActiveSubs = activeList;
-            SubscriberRequests state = new SubscriberRequests(!running,0l,requested.get(),0L,false,null);
+        int missed = 1;
 
-            if (state.complete(activeList.isEmpty()))
+        for (;;) {
+            if (!sub.isOpen) {
+                cancelAll();
                 return;
-
-            if (activeRequestsAndSubscriptions(state)) {
-                if (processRequests(localActiveSubs, state))
-                    return;
             }
-
-            if (noActiveRequestsAndSubscriptions(state)) {
-                localActiveSubs = activeList;
-                if (cleanupSubsAndReqs(localActiveSubs, state))
-                    return;
+            boolean outerDone = !running;
+            int n = size;
+            if (outerDone && n == 0) {
+                onComplete.run();
+                return;
             }
-            state.sendMissingRequests();
-            incomingRequests =state.recalcConcurrentRequests(incomingRequests);
-
-        } while (incomingRequests != 0);
-    }
 
-    private boolean noActiveRequestsAndSubscriptions(SubscriberRequests state) {
-        return state.requestedLocal == 0L && !activeList.isEmpty();
-    }
-
-    private boolean activeRequestsAndSubscriptions(SubscriberRequests state) {
-        return state.requestedLocal != 0L && !activeList.isEmpty();
-    }
-
-    private boolean cleanupSubsAndReqs(Seq<ActiveSubscriber> localActiveSubs, SubscriberRequests state) {
-        ActiveSubscriber active =null;
-        for (int i = 0; i < localActiveSubs.size() && (active=localActiveSubs.getOrElse(i,null)).queue.isEmpty() && sub.isOpen; i++) {
-            if (!sub.isOpen) {
-                return true;
+            long requestedLocal = requested.get();
+            boolean unbounded = requestedLocal == Long.MAX_VALUE;
+            long emitted = 0L;
+            long missing = 0L;
+
+            if (n != 0) {
+                ActiveSubscriber[] array = subscribers;
+                int index = subscriberIndex;
+                if (index >= n)
+                    index = 0;
+
+                for (int i = 0; i < n; i++) {
+                    ActiveSubscriber active = array[index];
+                    long consumed = 0L;
+                    while (emitted != requestedLocal) {
+                        if (!sub.isOpen) {
+                            cancelAll();
+                            return;
+                        }
+                        R raw = active.queue.poll();
+                        if (raw == null)
+                            break;
+                        onNext.accept(com.oath.cyclops.async.adapters.Queue.nillSafe(raw));
+                        emitted++;
+                        consumed++;
+                    }
+                    if (consumed != 0L)
+                        active.replenish(consumed);
+
+                    boolean innerDone = active.done;
+                    if (innerDone && active.queue.isEmpty()) {
+                        remove(active);
+                        missing++;
+                        n = size;
+                        array = subscribers;
+                        if (n == 0)
+                            break;
+                        if (index >= n)
+                            index = 0;
+                    } else {
+                        if (emitted == requestedLocal)
+                            break;
+                        index = index + 1 == n ? 0 : index + 1;
+                    }
+                }
+                subscriberIndex = index;
             }
-            state.setNextActive(active);
-            state.cleanup();
-        }
-        return false;
-    }
 
-    private boolean processRequests(Seq<ActiveSubscriber> localActiveSubs, SubscriberRequests state) {
-        int activeIndex = incrementActiveIndex(subscriberIndex,activeList);
+            if (emitted != 0L && !unbounded)
+                requested.addAndGet(-emitted);
 
-        for (int i = 0; i < localActiveSubs.size() && state.requestedLocal !=0L && sub.isOpen; i++) {
-            state.setNextActive( localActiveSubs.getOrElse(activeIndex,null));
-            if(!state.populateRequestsFromQueue())
-                return true;
-            state.handleComplete();
-            state.processPendingRequests();
-            activeIndex = incrementActiveIndex(activeIndex+1,localActiveSubs);
+            if (missing != 0L) {
+                if (running && sub.isOpen)
+                    sub.request(missing);
+                continue;
+            }
 
+            missed = wip.addAndGet(-missed);
+            if (missed == 0)
+                break;
         }
-
-        subscriberIndex = activeIndex;
-        return false;
     }
 
     final class ActiveSubscriber implements Subscriber<R> {
 
 
         final AtomicReference<Subscription> sub = new AtomicReference();
-        final Queue<R> queue = new OneToOneConcurrentArrayQueue<>(1024);
+        final SpscChunkedQueue<R> queue = new SpscChunkedQueue<>(prefetch);
         volatile boolean done;
+        int index = -1;
+        long produced;
 
 
         @Override
         public void onSubscribe(Subscription s) {
             if (this.sub.compareAndSet(null, s)) {
-                s.request(1);
+                if (!ConcurrentFlatMapper.this.sub.isOpen) {
+                    s.cancel();
+                    return;
+                }
+                s.request(prefetch);
+            }
+        }
+
+        void replenish(long n) {
+            long p = produced + n;
+            if (p >= limit) {
+                produced = 0L;
+                if (!done)
+                    sub.get().request(p);
+            } else {
+                produced = p;
             }
         }
 
+        void cancel() {
+            Subscription s = sub.get();
+            if (s != null)
+                s.cancel();
+        }
+
         @Override
         public void onNext(R t) {
 
-            if (wip.compareAndSet(0, 1)) {
+            if (wip.get() == 0 && wip.compareAndSet(0, 1)) {
                 long localRequested = requested.get();
 
-
-                if (localRequested != 0L) {
+                if (localRequested != 0L && queue.isEmpty()) {
 
                     onNext.accept(t);
                     if (localRequested != Long.MAX_VALUE) {
                         requested.decrementAndGet();
                     }
-                    sub.get().request(1);
+                    replenish(1);
                 } else {
-                    queue.offer(com.oath.cyclops.async.adapters.Queue.nullSafe(t)); //queue full! handle somehow
+                    queue.offer(com.oath.cyclops.async.adapters.Queue.nullSafe(t));
                 }
                 if (wip.decrementAndGet() == 0) {
                     return;
                 }
-                populateFromQueuesAndCleanup();
             } else {
-                queue.offer(com.oath.cyclops.async.adapters.Queue.nullSafe(t)); //queue full! handle somehow
-                handleMainPublisher();
+                queue.offer(com.oath.cyclops.async.adapters.Queue.nullSafe(t));
+                if (wip.getAndIncrement() != 0) {
+                    return;
+                }
             }
+            populateFromQueuesAndCleanup();
         }
 
         @Override
         public void onError(Throwable t) {
-            ConcurrentFlatMapper.this.onError(t);
+            done = true;
+            ConcurrentFlatMapper.this.onError.accept(t);
+            handleMainPublisher();
         }
 
         @Override
         public void onComplete() {
             done = true;
-            if (wip.getAndIncrement() != 0) {
-                return;
-            }
-            populateFromQueuesAndCleanup();
+            handleMainPublisher();
 
         }
     }
 }
-
-
@@ -10,14 +10,22 @@ public class FlatMapPublisher<T, R> extends BaseOperator<T, R> {
 
     final Function<? super T, ? extends Publisher<? extends R>> mapper;
     final int maxConcurrency;
+    final int prefetch;
 
 
     public FlatMapPublisher(Operator<? extends T> source,
                             Function<? super T, ? extends Publisher<? extends R>> mapper,
                             int maxConcurrency) {
+        this(source,mapper,maxConcurrency,ConcurrentFlatMapper.DEFAULT_PREFETCH);
+    }
+
+    public FlatMapPublisher(Operator<? extends T> source,
+                            Function<? super T, ? extends Publisher<? extends R>> mapper,
+                            int maxConcurrency, int prefetch) {
         super((Operator<T>) source);
         this.mapper = mapper;
         this.maxConcurrency = maxConcurrency;
+        this.prefetch = prefetch;
 
 
     }
@@ -50,7 +58,7 @@ public class FlatMapPublisher<T, R> extends BaseOperator<T, R> {
                 ref[0].onNext(n), e -> ref[0].onError(e), () -> ref[0].onComplete());
         ref[0] = new ConcurrentFlatMapper<T, R>(sub[0], onNext, onError, onComplete,
                 mapper,
-                maxConcurrency);
+                maxConcurrency, prefetch);
 
 
 
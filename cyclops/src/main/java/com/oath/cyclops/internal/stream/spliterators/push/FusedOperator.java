@@ -0,0 +1,165 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
+
+/**
+ * A run of adjacent map and filter stages collapsed into a single Operator. The fused function returns
+ * {@link #FILTERED} for values removed by one of the filters.
+ *
+ * When the upstream is a {@link SynchronousSource} the fused stage pulls directly from the source iterator,
+ * so a request(n) is satisfied in one loop without a subscription or onNext hop per upstream element.
+ */
+public class FusedOperator<T,R> extends BaseOperator<T,R> {
+
+    static final Object FILTERED = new Object();
+
+    final Function<? super T, ?> fn;
+
+    FusedOperator(Operator<T> source, Function<? super T, ?> fn){
+        super(source);
+        this.fn = fn;
+    }
+
+    <R1> FusedOperator<T,R1> map(Function<? super R, ? extends R1> next){
+        return new FusedOperator<>(source,e->{
+            Object r = fn.apply(e);
+            return r==FILTERED ? FILTERED : next.apply((R)r);
+        });
+    }
+
+    FusedOperator<T,R> filter(Predicate<? super R> predicate){
+        return new FusedOperator<>(source,e->{
+            Object r = fn.apply(e);
+            return r==FILTERED || !predicate.test((R)r) ? FILTERED : r;
+        });
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        if(source instanceof SynchronousSource)
+            return subscribeSync(((SynchronousSource<T>)source).syncIterator(),onNext,onError,onComplete);
+        StreamSubscription[] upstream = {null};
+        upstream[0]= source.subscribe(e-> {
+                    try {
+                        Object r = fn.apply(e);
+                        if(r!=FILTERED)
+                            onNext.accept((R)r);
+                        else
+                            upstream[0].request(1);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return upstream[0];
+    }
+
+    private StreamSubscription subscribeSync(Iterator<T> it, Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete){
+        AtomicBoolean completed = new AtomicBoolean(false);
+        return new StreamSubscription(){
+
+            //returns true if a value was emitted downstream
+            private boolean emitNext(){
+                try {
+                    Object r = fn.apply(it.next());
+                    if(r==FILTERED)
+                        return false;
+                    onNext.accept((R)r);
+                } catch (Throwable t) {
+                    onError.accept(t);
+                }
+                return true;
+            }
+
+            private void complete(){
+                if(!completed.get()) {
+                    completed.set(true);
+                    onComplete.run();
+                }
+            }
+
+            LongConsumer work = n->{
+                if (n == Long.MAX_VALUE) {
+                    pushAll();
+                    return;
+                }
+                long reqs = n;
+                long delivered = 0;
+                do {
+                    while (delivered < reqs) {
+                        if(!isOpen)
+                            return;
+                        if(!it.hasNext()){
+                            complete();
+                            return;
+                        }
+                        if(emitNext())
+                            delivered++;
+                    }
+                    if (!it.hasNext()) {
+                        complete();
+                        return;
+                    }
+                    reqs = requested.get();
+                    if(reqs==delivered) {
+                        reqs = requested.accumulateAndGet(delivered, (a, b) -> a - b);
+                        if(reqs==0)
+                            return;
+                        delivered=0;
+                    }
+                }while(true);
+            };
+
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                singleActiveRequest(n,work);
+            }
+
+            private void pushAll() {
+                while(isOpen && it.hasNext()){
+                    emitNext();
+                }
+                requested.set(0);
+                if(isOpen)
+                    complete();
+            }
+        };
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        if(source instanceof SynchronousSource){
+            Iterator<T> it = ((SynchronousSource<T>)source).syncIterator();
+            while(it.hasNext()){
+                try {
+                    Object r = fn.apply(it.next());
+                    if(r!=FILTERED)
+                        onNext.accept((R)r);
+                } catch (Throwable t) {
+                    onError.accept(t);
+                }
+            }
+            onCompleteDs.run();
+            return;
+        }
+        source.subscribeAll(e-> {
+                    try {
+                        Object r = fn.apply(e);
+                        if(r!=FILTERED)
+                            onNext.accept((R)r);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
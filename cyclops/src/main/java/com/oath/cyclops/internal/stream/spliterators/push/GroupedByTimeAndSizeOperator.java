@@ -2,14 +2,21 @@ package com.oath.cyclops.internal.stream.spliterators.push;
 
 import com.oath.cyclops.types.persistent.PersistentCollection;
 
-import java.util.Collection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
- * Created by johnmcclean on 12/01/2017.
+ * Tumbling windows closed once they hold groupSize elements or once time has passed since their first element.
+ *
+ * Elements accumulate in a mutable buffer that is only converted into the target collection when the window closes.
+ * Periods of at least one {@link WheelTimer} tick are flushed by the timer, so a window that goes quiet is still emitted on time.
+ * Shorter periods are below the timer resolution and are instead checked against the clock as each element arrives.
+ * Windows closed by the timer are emitted on the timer thread. Closed windows wait for downstream demand.
  */
 public class GroupedByTimeAndSizeOperator<T,C extends PersistentCollection<? super T>,R> extends BaseOperator<T,R> {
 
@@ -20,30 +27,33 @@ public class GroupedByTimeAndSizeOperator<T,C extends PersistentCollection<? sup
     private final long time;
     private final TimeUnit t;
     private final int groupSize;
+    private final WheelTimer timer;
 
 
     public GroupedByTimeAndSizeOperator(Operator<T> source, Supplier<? extends C> factory,
                                         Function<? super C, ? extends R> finalizer, long time,
                                         TimeUnit t,
                                         int groupSize){
+        this(source,factory,finalizer,time,t,groupSize,WheelTimer.shared());
+
+    }
+    public GroupedByTimeAndSizeOperator(Operator<T> source, Supplier<? extends C> factory,
+                                        Function<? super C, ? extends R> finalizer, long time,
+                                        TimeUnit t,
+                                        int groupSize, WheelTimer timer){
         super(source);
         this.factory = factory;
         this.finalizer = finalizer;
         this.time = time;
         this.t = t;
         this.groupSize = groupSize;
-
-
-
+        this.timer = timer;
     }
 
 
     @Override
     public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
-        long toRun = t.toNanos(time);
-        PersistentCollection[] next = {factory.get()};
-        long[] start ={System.nanoTime()};
-        StreamSubscription[] upstream = {null};
+        Windows windows = new Windows(onNext,onError,onComplete);
         StreamSubscription sub = new StreamSubscription(){
             @Override
             public void request(long n) {
@@ -54,86 +64,192 @@ public class GroupedByTimeAndSizeOperator<T,C extends PersistentCollection<? sup
                 if(!isOpen)
                     return;
                 super.request(n);
-
-                    upstream[0].request(n);
+                windows.signal();
+                windows.upstream.request(n);
 
 
             }
 
             @Override
             public void cancel() {
-                if(upstream[0]!=null)
-                     upstream[0].cancel();
+                windows.cancel();
+                if(windows.upstream!=null)
+                     windows.upstream.cancel();
                 super.cancel();
             }
         };
-        upstream[0] = source.subscribe(e-> {
-                    try {
-
-                        next[0] = next[0].plus(e);
-                        if(next[0].size()==groupSize || System.nanoTime()-start[0] > toRun){
-                            onNext.accept(finalizer.apply((C)next[0]));
-                            next[0] = factory.get();
-                            start[0] = System.nanoTime();
-                            sub.requested.decrementAndGet();
-                        }else{
-                            upstream[0].request(1l);
-                        }
-
-                    } catch (Throwable t) {
-
-                        onError.accept(t);
-                    }
-                }
-                ,t->{onError.accept(t);
-                    sub.requested.decrementAndGet();
-                    if(sub.isActive())
-                        upstream[0].request(1);
-                },()->{
-                    if(next[0].size()>0) {
-                        try {
-                            onNext.accept(finalizer.apply((C) next[0]));
-                        } catch(Throwable t){
-                            onError.accept(t);
-                        }
-                        sub.requested.decrementAndGet();
-                    }
-                    sub.cancel();
-                    onComplete.run();
-                });
+        windows.downstream = sub;
+        windows.upstream = source.subscribe(windows::next,windows::error,windows::complete);
 
         return sub;
     }
 
     @Override
     public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
-        long toRun = t.toNanos(time);
-        PersistentCollection[] next = {factory.get()};
-        long[] start ={System.nanoTime()};
-        source.subscribeAll(e-> {
-                    try {
-
-                        next[0]=next[0].plus(e);
-                        if(next[0].size()==groupSize || System.nanoTime()-start[0] > toRun){
-                            onNext.accept(finalizer.apply((C)next[0]));
-                            next[0] = factory.get();
-                            start[0] = System.nanoTime();
-                        }
-
-                    } catch (Throwable t) {
-
-                        onError.accept(t);
-                    }
+        Windows windows = new Windows(onNext,onError,onCompleteDs);
+        source.subscribeAll(windows::next,windows::error,windows::complete);
+    }
+
+    /*
+     * State of one Subscription. Buffer, ready windows and emission are guarded by lock, the timer thread and
+     * request only try the lock and set missed when it is held, the holder checks missed again after unlocking.
+     */
+    private final class Windows {
+        final Consumer<? super R> onNext;
+        final Consumer<? super Throwable> onError;
+        final Runnable onComplete;
+        //null when pushing all values without backpressure
+        StreamSubscription downstream;
+        StreamSubscription upstream;
+
+        final long nanos = t.toNanos(time);
+        final boolean clocked = nanos < timer.tickNanos();
+        final ReentrantLock lock = new ReentrantLock();
+        final ArrayDeque<R> ready = new ArrayDeque<>();
+        ArrayList<T> buffer = new ArrayList<>();
+        long opened = System.nanoTime();
+        long generation;
+        //upstream credit not replenished by elements because windows closed by the timer already used their downstream demand
+        long skip;
+        WheelTimer.Timeout timeout;
+        boolean done;
+        boolean completed;
+        volatile long expired = -1;
+        volatile boolean missed;
+
+        Windows(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            this.onNext = onNext;
+            this.onError = onError;
+            this.onComplete = onComplete;
+        }
+
+        void next(T e){
+            lock.lock();
+            try {
+                if(completed)
+                    return;
+                buffer.add(e);
+                boolean closed = false;
+                if(buffer.size()>=groupSize || (clocked && System.nanoTime()-opened > nanos)){
+                    close();
+                    closed = true;
+                }else if(!clocked && buffer.size()==1){
+                    long current = generation;
+                    timeout = timer.schedule(()->expire(current),nanos,TimeUnit.NANOSECONDS);
+                }
+                emit();
+                if(!closed && downstream!=null){
+                    if(skip>0)
+                        skip--;
+                    else
+                        upstream.request(1l);
+                }
+            } finally {
+                lock.unlock();
+            }
+            drainMissed();
+        }
+
+        void error(Throwable t){
+            lock.lock();
+            try {
+                onError.accept(t);
+                if(downstream!=null) {
+                    downstream.requested.decrementAndGet();
+                    if (downstream.isActive())
+                        upstream.request(1);
                 }
-                ,onError,()->{
-                    if(next[0].size()>0) {
-                        try {
-                            onNext.accept(finalizer.apply((C) next[0]));
-                        } catch(Throwable t){
-                            onError.accept(t);
-                        }
+            } finally {
+                lock.unlock();
+            }
+            drainMissed();
+        }
+
+        void complete(){
+            lock.lock();
+            try {
+                done = true;
+                if(!buffer.isEmpty())
+                    close();
+                emit();
+            } finally {
+                lock.unlock();
+            }
+            drainMissed();
+        }
+
+        void cancel(){
+            lock.lock();
+            try {
+                completed = true;
+                cancelTimeout();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void expire(long current){
+            expired = current;
+            signal();
+        }
+
+        void signal(){
+            missed = true;
+            drainMissed();
+        }
+
+        private void drainMissed(){
+            while(missed && lock.tryLock()){
+                try {
+                    missed = false;
+                    if(expired==generation && !buffer.isEmpty()) {
+                        close();
+                        if(downstream!=null)
+                            skip++;
                     }
-                    onCompleteDs.run();
-                });
+                    emit();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        private void close(){
+            try {
+                ready.add(finalizer.apply((C) factory.get().plusAll((Iterable) buffer)));
+            } catch(Throwable t){
+                onError.accept(t);
+            }
+            buffer = new ArrayList<>();
+            generation++;
+            opened = System.nanoTime();
+            cancelTimeout();
+        }
+
+        private void cancelTimeout(){
+            if(timeout!=null) {
+                timeout.cancel();
+                timeout = null;
+            }
+        }
+
+        private void emit(){
+            while(!completed && !ready.isEmpty() && (downstream==null || downstream.requested.get()>0)){
+                R next = ready.poll();
+                if(downstream!=null)
+                    downstream.requested.decrementAndGet();
+                try {
+                    onNext.accept(next);
+                } catch(Throwable t){
+                    onError.accept(t);
+                }
+            }
+            if(done && !completed && ready.isEmpty()){
+                completed = true;
+                if(downstream!=null)
+                    downstream.cancel();
+                onComplete.run();
+            }
+        }
     }
 }
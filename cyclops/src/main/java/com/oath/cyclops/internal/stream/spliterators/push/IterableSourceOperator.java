@@ -8,7 +8,7 @@ import java.util.function.LongConsumer;
 /**
  * Created by johnmcclean on 12/01/2017.
  */
-public class IterableSourceOperator<T> implements Operator<T> {
+public class IterableSourceOperator<T> implements SynchronousSource<T> {
 
 
     final Iterable<T> values;
@@ -18,6 +18,11 @@ public class IterableSourceOperator<T> implements Operator<T> {
         this.values = values;
     }
 
+    @Override
+    public Iterator<T> syncIterator() {
+        return values.iterator();
+    }
+
 
     @Override
     public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
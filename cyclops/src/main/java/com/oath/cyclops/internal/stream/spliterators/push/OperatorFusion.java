@@ -0,0 +1,95 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Assembly time fusion for push based Streams. Adjacent stateless stages collapse into a single
+ * {@link FusedOperator}, limit / skip on bounded synchronous sources re-bound the source itself and adjacent
+ * limits or skips merge into one stage.
+ */
+public class OperatorFusion {
+
+    public static <T,R> Operator<R> map(Operator<T> source, Function<? super T, ? extends R> fn){
+        if(source instanceof FusedOperator)
+            return ((FusedOperator<?,T>)source).map(fn);
+        if(source instanceof MapOperator){
+            MapOperator<Object,T> op = (MapOperator<Object,T>)source;
+            return new FusedOperator<Object,R>(op.source,op.mapper.andThen(fn));
+        }
+        if(source instanceof FilterOperator){
+            FilterOperator<T> op = (FilterOperator<T>)source;
+            return new FusedOperator<T,T>(op.source,e->op.predicate.test(e) ? e : FusedOperator.FILTERED).map(fn);
+        }
+        if(source instanceof SynchronousSource)
+            return new FusedOperator<T,R>(source,fn);
+        return new MapOperator<T,R>(source,fn);
+    }
+
+    public static <T> Operator<T> filter(Operator<T> source, Predicate<? super T> predicate){
+        if(source instanceof FusedOperator)
+            return ((FusedOperator<?,T>)source).filter(predicate);
+        if(source instanceof MapOperator){
+            MapOperator<Object,T> op = (MapOperator<Object,T>)source;
+            return new FusedOperator<Object,T>(op.source,op.mapper).filter(predicate);
+        }
+        if(source instanceof FilterOperator){
+            FilterOperator<T> op = (FilterOperator<T>)source;
+            Predicate<? super T> first = op.predicate;
+            return new FilterOperator<T>(op.source,e->first.test(e) && predicate.test(e));
+        }
+        if(source instanceof SynchronousSource)
+            return new FusedOperator<T,T>(source,e->predicate.test(e) ? e : FusedOperator.FILTERED);
+        return new FilterOperator<T>(source,predicate);
+    }
+
+    public static <T> Operator<T> limit(Operator<T> source, long num){
+        if(num<0)
+            return new LimitOperator<>(source,num);
+        if(source instanceof LimitOperator){
+            LimitOperator<T,?> op = (LimitOperator<T,?>)source;
+            return new LimitOperator<>(op.source,Math.min(op.limit,num));
+        }
+        if(source instanceof RangeIntOperator){
+            RangeIntOperator op = (RangeIntOperator)source;
+            return (Operator<T>)new RangeIntOperator(op.start,(int)Math.max(op.start,Math.min(op.end,op.start+num)));
+        }
+        if(source instanceof RangeLongOperator){
+            RangeLongOperator op = (RangeLongOperator)source;
+            long end = op.start+num<op.start ? op.end : Math.min(op.end,op.start+num);
+            return (Operator<T>)new RangeLongOperator(op.start,Math.max(op.start,end));
+        }
+        if(source instanceof ArrayOfValuesOperator){
+            Object[] values = ((ArrayOfValuesOperator<T>)source).values;
+            if(num>=values.length)
+                return source;
+            return new ArrayOfValuesOperator<T>((T[])Arrays.copyOf(values,(int)num));
+        }
+        return new LimitOperator<>(source,num);
+    }
+
+    public static <T> Operator<T> skip(Operator<T> source, long num){
+        if(num<=0)
+            return num==0 ? source : new SkipOperator<>(source,num);
+        if(source instanceof SkipOperator){
+            SkipOperator<T,?> op = (SkipOperator<T,?>)source;
+            long total = op.skip+num;
+            return new SkipOperator<>(op.source,total<0 ? Long.MAX_VALUE : total);
+        }
+        if(source instanceof RangeIntOperator){
+            RangeIntOperator op = (RangeIntOperator)source;
+            return (Operator<T>)new RangeIntOperator((int)Math.min(op.end,op.start+num),op.end);
+        }
+        if(source instanceof RangeLongOperator){
+            RangeLongOperator op = (RangeLongOperator)source;
+            long start = op.start+num<op.start ? op.end : Math.min(op.end,op.start+num);
+            return (Operator<T>)new RangeLongOperator(start,op.end);
+        }
+        if(source instanceof ArrayOfValuesOperator){
+            Object[] values = ((ArrayOfValuesOperator<T>)source).values;
+            return new ArrayOfValuesOperator<T>((T[])Arrays.copyOfRange(values,(int)Math.min(values.length,num),values.length));
+        }
+        return new SkipOperator<>(source,num);
+    }
+}
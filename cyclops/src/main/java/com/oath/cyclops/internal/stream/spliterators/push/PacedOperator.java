@@ -0,0 +1,324 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Delays elements to a schedule without blocking the emitting thread (onePer, xPer, rateLimit, fixedDelay and jitter).
+ *
+ * Each subscription gets its own schedule, a function from the nanoTime an element became ready (arrived or reached the head of
+ * the queue) to the nanoTime it is due. Elements due within one {@link WheelTimer} tick are emitted straight away, later ones
+ * are emitted by the timer (on the timer thread). Schedules are tracked against the due times they hand out rather than the
+ * actual emission times, so emitting slightly early below the timer resolution does not change the overall rate.
+ * With backpressure a single element is requested from upstream at a time, only while downstream demand remains.
+ */
+public class PacedOperator<T> extends BaseOperator<T,T> {
+
+    private final Supplier<? extends LongUnaryOperator> schedule;
+    private final WheelTimer timer;
+
+    public PacedOperator(Operator<T> source, Supplier<? extends LongUnaryOperator> schedule){
+        this(source,schedule,WheelTimer.shared());
+    }
+
+    public PacedOperator(Operator<T> source, Supplier<? extends LongUnaryOperator> schedule, WheelTimer timer){
+        super(source);
+        this.schedule = schedule;
+        this.timer = timer;
+    }
+
+    /**
+     * Emit at most one element per period
+     */
+    public static <T> PacedOperator<T> onePer(Operator<T> source, long time, TimeUnit t){
+        final long period = t.toNanos(time);
+        return new PacedOperator<>(source,()->{
+            long[] last = {0};
+            boolean[] started = {false};
+            return ready->{
+                long due = started[0] ? Math.max(ready,last[0]+period) : ready;
+                started[0] = true;
+                last[0] = due;
+                return due;
+            };
+        });
+    }
+
+    /**
+     * Emit at most x elements per fixed window of time, the next window starts once x elements have been emitted and the current one has passed
+     */
+    public static <T> PacedOperator<T> xPer(Operator<T> source, int x, long time, TimeUnit t){
+        if(x<=0)
+            throw new IllegalArgumentException("x must be positive but was " + x);
+        final long period = t.toNanos(time);
+        return new PacedOperator<>(source,()->{
+            long[] start = {0};
+            int[] count = {0};
+            return ready->{
+                if(count[0]==0 || ready-start[0] >= period){
+                    start[0] = ready;
+                    count[0] = 1;
+                    return ready;
+                }
+                if(count[0]<x){
+                    count[0]++;
+                    return Math.max(ready,start[0]);
+                }
+                start[0] += period;
+                count[0] = 1;
+                return start[0];
+            };
+        });
+    }
+
+    /**
+     * Token bucket holding up to permits tokens, refilled at a steady rate of permits per period (implemented as a
+     * generic cell rate algorithm : only the theoretical arrival time of the next token is tracked)
+     */
+    public static <T> PacedOperator<T> rateLimit(Operator<T> source, int permits, long per, TimeUnit t){
+        if(permits<=0 || per<=0)
+            throw new IllegalArgumentException("permits and per must be positive but were " + permits + " and " + per);
+        final long interval = Math.max(1,t.toNanos(per)/permits);
+        final long burst = interval * (permits-1);
+        return new PacedOperator<>(source,()->{
+            long[] tat = {0};
+            boolean[] started = {false};
+            return ready->{
+                long due = started[0] ? Math.max(ready,tat[0]-burst) : ready;
+                tat[0] = (started[0] ? Math.max(tat[0],due) : due) + interval;
+                started[0] = true;
+                return due;
+            };
+        });
+    }
+
+    /**
+     * Emit each element a fixed delay after it is ready and at least delay after the previous element
+     */
+    public static <T> PacedOperator<T> fixedDelay(Operator<T> source, long l, TimeUnit unit){
+        final long delay = unit.toNanos(l);
+        return delayed(source,()->delay);
+    }
+
+    /**
+     * Emit each element after a random delay of up to maxJitterPeriodInNanos
+     */
+    public static <T> PacedOperator<T> jitter(Operator<T> source, long maxJitterPeriodInNanos){
+        return delayed(source,()->(long)(maxJitterPeriodInNanos * ThreadLocalRandom.current().nextDouble()));
+    }
+
+    private static <T> PacedOperator<T> delayed(Operator<T> source, LongSupplier delay){
+        return new PacedOperator<>(source,()->{
+            long[] last = {0};
+            boolean[] started = {false};
+            return ready->{
+                long due = (started[0] ? Math.max(ready,last[0]) : ready) + Math.max(0,delay.getAsLong());
+                started[0] = true;
+                last[0] = due;
+                return due;
+            };
+        });
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        Pace pace = new Pace(onNext,onError,onComplete);
+        StreamSubscription sub = new StreamSubscription(){
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(!isOpen)
+                    return;
+                super.request(n);
+                pace.signal();
+            }
+
+            @Override
+            public void cancel() {
+                pace.cancel();
+                if(pace.upstream!=null)
+                    pace.upstream.cancel();
+                super.cancel();
+            }
+        };
+        pace.downstream = sub;
+        pace.upstream = source.subscribe(pace::next,pace::error,pace::complete);
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        Pace pace = new Pace(onNext,onError,onCompleteDs);
+        source.subscribeAll(pace::next,pace::error,pace::complete);
+    }
+
+    /*
+     * State of one Subscription, guarded by lock with the same try-lock / missed hand off as GroupedByTimeAndSizeOperator.
+     * Elements pushed synchronously while draining (from upstream.request) are only queued, the drain loop picks them up.
+     */
+    private final class Pace {
+        final Consumer<? super T> onNext;
+        final Consumer<? super Throwable> onError;
+        final Runnable onComplete;
+        //null when pushing all values without backpressure
+        StreamSubscription downstream;
+        StreamSubscription upstream;
+
+        final LongUnaryOperator dueTime = schedule.get();
+        final ReentrantLock lock = new ReentrantLock();
+        //elements pushed without backpressure queue up here, with backpressure it holds at most one
+        final ArrayDeque<T> queue = new ArrayDeque<>();
+        //nanoTime the head of the queue is due, valid while scheduled
+        long due;
+        boolean scheduled;
+        //an element has been requested from upstream but not yet received
+        boolean inFlight;
+        boolean draining;
+        WheelTimer.Timeout timeout;
+        boolean done;
+        boolean completed;
+        volatile boolean missed;
+
+        Pace(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            this.onNext = onNext;
+            this.onError = onError;
+            this.onComplete = onComplete;
+        }
+
+        void next(T e){
+            lock.lock();
+            try {
+                if(completed)
+                    return;
+                queue.add(e);
+                inFlight = false;
+                if(!draining)
+                    drain();
+            } finally {
+                lock.unlock();
+            }
+            drainMissed();
+        }
+
+        void error(Throwable t){
+            lock.lock();
+            try {
+                onError.accept(t);
+                if(downstream!=null) {
+                    downstream.requested.decrementAndGet();
+                    inFlight = false;
+                }
+                if(!draining)
+                    drain();
+            } finally {
+                lock.unlock();
+            }
+            drainMissed();
+        }
+
+        void complete(){
+            lock.lock();
+            try {
+                done = true;
+                inFlight = false;
+                if(!draining)
+                    drain();
+            } finally {
+                lock.unlock();
+            }
+            drainMissed();
+        }
+
+        void cancel(){
+            lock.lock();
+            try {
+                completed = true;
+                queue.clear();
+                if(timeout!=null) {
+                    timeout.cancel();
+                    timeout = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void signal(){
+            missed = true;
+            drainMissed();
+        }
+
+        private void drainMissed(){
+            while(missed && lock.tryLock()){
+                try {
+                    missed = false;
+                    if(!draining)
+                        drain();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        private void drain(){
+            draining = true;
+            try {
+                for(;;) {
+                    if(completed)
+                        return;
+                    if(queue.isEmpty()) {
+                        if(done) {
+                            completed = true;
+                            if(downstream!=null)
+                                downstream.cancel();
+                            onComplete.run();
+                            return;
+                        }
+                        if(downstream==null || inFlight || downstream.requested.get()<=0)
+                            return;
+                        inFlight = true;
+                        upstream.request(1l);
+                        continue;
+                    }
+                    long now = System.nanoTime();
+                    if(!scheduled) {
+                        due = dueTime.applyAsLong(now);
+                        scheduled = true;
+                    }
+                    if(downstream!=null && downstream.requested.get()<=0)
+                        return;
+                    if(timeout!=null) {
+                        if(!timeout.isExpired())
+                            return;
+                        timeout = null;
+                    }
+                    long wait = due-now;
+                    if(wait >= timer.tickNanos()) {
+                        timeout = timer.schedule(this::signal,wait,TimeUnit.NANOSECONDS);
+                        return;
+                    }
+                    T next = queue.poll();
+                    scheduled = false;
+                    if(downstream!=null)
+                        downstream.requested.decrementAndGet();
+                    try {
+                        onNext.accept(next);
+                    } catch(Throwable t){
+                        onError.accept(t);
+                    }
+                }
+            } finally {
+                draining = false;
+            }
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.oath.cyclops.internal.stream.spliterators.push;
 
 
+import com.oath.cyclops.internal.stream.spliterators.ints.IntSink;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.LongConsumer;
@@ -8,7 +12,7 @@ import java.util.function.LongConsumer;
 /**
  * Created by johnmcclean on 12/01/2017.
  */
-public class RangeIntOperator implements Operator<Integer> {
+public class RangeIntOperator implements SynchronousSource<Integer> {
 
 
     final int start;
@@ -20,6 +24,24 @@ public class RangeIntOperator implements Operator<Integer> {
 
     }
 
+    @Override
+    public Iterator<Integer> syncIterator() {
+        return new Iterator<Integer>() {
+            int index = start;
+            @Override
+            public boolean hasNext() {
+                return index < end;
+            }
+
+            @Override
+            public Integer next() {
+                if (index >= end)
+                    throw new NoSuchElementException();
+                return index++;
+            }
+        };
+    }
+
 
     @Override
     public StreamSubscription subscribe(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
@@ -118,4 +140,13 @@ public class RangeIntOperator implements Operator<Integer> {
 
         onCompleteDs.run();
     }
+
+    /**
+     * Push the range directly into an unboxed sink, stopping early once the sink is done
+     */
+    public void subscribeAll(IntSink sink) {
+        for (int i = start; i < end && !sink.isDone(); i++) {
+            sink.accept(i);
+        }
+    }
 }
@@ -1,6 +1,10 @@
 package com.oath.cyclops.internal.stream.spliterators.push;
 
 
+import com.oath.cyclops.internal.stream.spliterators.longs.LongSink;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.LongConsumer;
@@ -8,7 +12,7 @@ import java.util.function.LongConsumer;
 /**
  * Created by johnmcclean on 12/01/2017.
  */
-public class RangeLongOperator implements Operator<Long> {
+public class RangeLongOperator implements SynchronousSource<Long> {
 
 
     final long start;
@@ -20,6 +24,24 @@ public class RangeLongOperator implements Operator<Long> {
 
     }
 
+    @Override
+    public Iterator<Long> syncIterator() {
+        return new Iterator<Long>() {
+            long index = start;
+            @Override
+            public boolean hasNext() {
+                return index < end;
+            }
+
+            @Override
+            public Long next() {
+                if (index >= end)
+                    throw new NoSuchElementException();
+                return index++;
+            }
+        };
+    }
+
 
     @Override
     public StreamSubscription subscribe(Consumer<? super Long> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
@@ -123,4 +145,13 @@ public class RangeLongOperator implements Operator<Long> {
         }
         onCompleteDs.run();
     }
+
+    /**
+     * Push the range directly into an unboxed sink, stopping early once the sink is done
+     */
+    public void subscribeAll(LongSink sink) {
+        for (long i = start; i < end && !sink.isDone(); i++) {
+            sink.accept(i);
+        }
+    }
 }
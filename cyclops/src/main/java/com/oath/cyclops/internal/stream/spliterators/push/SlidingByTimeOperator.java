@@ -0,0 +1,259 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import cyclops.data.Seq;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Sliding time windows : every increment the elements that arrived within the last time period are emitted, provided
+ * the window has changed since it was last emitted.
+ *
+ * Emission is driven by the {@link WheelTimer} (on the timer thread) while the window holds elements, increments below
+ * the timer resolution are rounded up to a single tick. A final window is emitted on completion if it holds elements not yet emitted.
+ * Windows wait for downstream demand.
+ */
+public class SlidingByTimeOperator<T,R> extends BaseOperator<T,R> {
+
+    private final Function<? super Seq<T>, ? extends R> finalizer;
+    private final long time;
+    private final long increment;
+    private final TimeUnit t;
+    private final WheelTimer timer;
+
+    public SlidingByTimeOperator(Operator<T> source, Function<? super Seq<T>, ? extends R> finalizer,
+                                 long time, long increment, TimeUnit t){
+        this(source,finalizer,time,increment,t,WheelTimer.shared());
+    }
+
+    public SlidingByTimeOperator(Operator<T> source, Function<? super Seq<T>, ? extends R> finalizer,
+                                 long time, long increment, TimeUnit t, WheelTimer timer){
+        super(source);
+        if(time<=0 || increment<=0)
+            throw new IllegalArgumentException("time and increment must be positive but were " + time + " and " + increment);
+        this.finalizer = finalizer;
+        this.time = time;
+        this.increment = increment;
+        this.t = t;
+        this.timer = timer;
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        Windows windows = new Windows(onNext,onError,onComplete);
+        StreamSubscription sub = new StreamSubscription(){
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(!isOpen)
+                    return;
+                super.request(n);
+                windows.signal();
+                windows.upstream.request(n);
+            }
+
+            @Override
+            public void cancel() {
+                windows.cancel();
+                if(windows.upstream!=null)
+                    windows.upstream.cancel();
+                super.cancel();
+            }
+        };
+        windows.downstream = sub;
+        windows.upstream = source.subscribe(windows::next,windows::error,windows::complete);
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        Windows windows = new Windows(onNext,onError,onCompleteDs);
+        source.subscribeAll(windows::next,windows::error,windows::complete);
+    }
+
+    private static final class Entry<T> {
+        final T value;
+        final long at;
+
+        Entry(T value, long at) {
+            this.value = value;
+            this.at = at;
+        }
+    }
+
+    /*
+     * State of one Subscription, guarded by lock with the same try-lock / missed hand off as GroupedByTimeAndSizeOperator
+     */
+    private final class Windows {
+        final Consumer<? super R> onNext;
+        final Consumer<? super Throwable> onError;
+        final Runnable onComplete;
+        //null when pushing all values without backpressure
+        StreamSubscription downstream;
+        StreamSubscription upstream;
+
+        final long nanos = t.toNanos(time);
+        final long period = Math.max(t.toNanos(increment), timer.tickNanos());
+        final ReentrantLock lock = new ReentrantLock();
+        final ArrayDeque<Entry<T>> entries = new ArrayDeque<>();
+        final ArrayDeque<R> ready = new ArrayDeque<>();
+        //the window has changed since it was last emitted
+        boolean changed;
+        WheelTimer.Timeout timeout;
+        boolean done;
+        boolean completed;
+        volatile boolean due;
+        volatile boolean missed;
+
+        Windows(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            this.onNext = onNext;
+            this.onError = onError;
+            this.onComplete = onComplete;
+        }
+
+        void next(T e){
+            lock.lock();
+            try {
+                if(completed)
+                    return;
+                entries.add(new Entry<>(e,System.nanoTime()));
+                changed = true;
+                if(timeout==null)
+                    schedule();
+                if(downstream!=null)
+                    upstream.request(1l);
+            } finally {
+                lock.unlock();
+            }
+            drainMissed();
+        }
+
+        void error(Throwable t){
+            lock.lock();
+            try {
+                onError.accept(t);
+                if(downstream!=null) {
+                    downstream.requested.decrementAndGet();
+                    if (downstream.isActive())
+                        upstream.request(1);
+                }
+            } finally {
+                lock.unlock();
+            }
+            drainMissed();
+        }
+
+        void complete(){
+            lock.lock();
+            try {
+                done = true;
+                cancelTimeout();
+                evict(System.nanoTime());
+                if(changed && !entries.isEmpty())
+                    close();
+                emit();
+            } finally {
+                lock.unlock();
+            }
+            drainMissed();
+        }
+
+        void cancel(){
+            lock.lock();
+            try {
+                completed = true;
+                cancelTimeout();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void schedule(){
+            timeout = timer.schedule(this::expire,period,TimeUnit.NANOSECONDS);
+        }
+
+        private void expire(){
+            due = true;
+            signal();
+        }
+
+        void signal(){
+            missed = true;
+            drainMissed();
+        }
+
+        private void drainMissed(){
+            while(missed && lock.tryLock()){
+                try {
+                    missed = false;
+                    if(due && !done && !completed) {
+                        due = false;
+                        evict(System.nanoTime());
+                        if(changed && !entries.isEmpty())
+                            close();
+                        timeout = null;
+                        if(!entries.isEmpty())
+                            schedule();
+                    }
+                    emit();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        private void evict(long now){
+            while(!entries.isEmpty() && now-entries.peekFirst().at > nanos){
+                entries.pollFirst();
+                changed = true;
+            }
+        }
+
+        private void close(){
+            Seq<T> window = Seq.empty();
+            Iterator<Entry<T>> it = entries.descendingIterator();
+            while(it.hasNext())
+                window = window.prepend(it.next().value);
+            changed = false;
+            try {
+                ready.add(finalizer.apply(window));
+            } catch(Throwable t){
+                onError.accept(t);
+            }
+        }
+
+        private void cancelTimeout(){
+            if(timeout!=null) {
+                timeout.cancel();
+                timeout = null;
+            }
+        }
+
+        private void emit(){
+            while(!completed && !ready.isEmpty() && (downstream==null || downstream.requested.get()>0)){
+                R next = ready.poll();
+                if(downstream!=null)
+                    downstream.requested.decrementAndGet();
+                try {
+                    onNext.accept(next);
+                } catch(Throwable t){
+                    onError.accept(t);
+                }
+            }
+            if(done && !completed && ready.isEmpty()){
+                completed = true;
+                if(downstream!=null)
+                    downstream.cancel();
+                onComplete.run();
+            }
+        }
+    }
+}
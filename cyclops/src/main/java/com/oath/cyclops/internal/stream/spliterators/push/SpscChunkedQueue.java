@@ -0,0 +1,73 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Unbounded single-producer / single-consumer queue made of linked fixed size chunks.
+ *
+ * The producer appends to the tail chunk and links a fresh chunk when it fills, so an offer never fails
+ * and no value is ever dropped. The consumer follows the links as it drains, leaving spent chunks for the GC.
+ * Values must not be null.
+ */
+final class SpscChunkedQueue<E> {
+
+    private final int chunkSize;
+
+    private Chunk producerChunk;
+    private int producerIndex;
+
+    private Chunk consumerChunk;
+    private int consumerIndex;
+
+    SpscChunkedQueue(int chunkSize) {
+        this.chunkSize = Math.max(2, chunkSize);
+        this.producerChunk = new Chunk(this.chunkSize);
+        this.consumerChunk = producerChunk;
+    }
+
+    void offer(E value) {
+        if (producerIndex == chunkSize) {
+            Chunk next = new Chunk(chunkSize);
+            next.values.lazySet(0, value);
+            producerChunk.next = next;
+            producerChunk = next;
+            producerIndex = 1;
+            return;
+        }
+        producerChunk.values.lazySet(producerIndex++, value);
+    }
+
+    E poll() {
+        if (!advance())
+            return null;
+        Object value = consumerChunk.values.get(consumerIndex);
+        if (value == null)
+            return null;
+        consumerChunk.values.lazySet(consumerIndex++, null);
+        return (E) value;
+    }
+
+    boolean isEmpty() {
+        return !advance() || consumerChunk.values.get(consumerIndex) == null;
+    }
+
+    private boolean advance() {
+        if (consumerIndex == chunkSize) {
+            Chunk next = consumerChunk.next;
+            if (next == null)
+                return false;
+            consumerChunk = next;
+            consumerIndex = 0;
+        }
+        return true;
+    }
+
+    private static final class Chunk {
+        final AtomicReferenceArray<Object> values;
+        volatile Chunk next;
+
+        Chunk(int size) {
+            this.values = new AtomicReferenceArray<>(size);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.Iterator;
+
+/**
+ * A source Operator whose values are all available synchronously. Fused downstream stages can pull from it
+ * directly, rather than subscribing and exchanging request / onNext signals for every element.
+ */
+public interface SynchronousSource<T> extends Operator<T> {
+
+    Iterator<T> syncIterator();
+}
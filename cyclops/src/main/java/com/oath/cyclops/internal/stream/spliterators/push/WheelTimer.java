@@ -0,0 +1,195 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed wheel timer shared by time driven push Operators.
+ *
+ * A single daemon thread advances a wheel of buckets once per tick and runs the tasks that expire in the current bucket,
+ * so scheduling and cancelling are O(1) and many short lived timeouts cost no more than a queue offer each. Deadlines are
+ * rounded up to the next tick. Tasks run on the timer thread, so a long running task delays every later timeout.
+ * The thread parks indefinitely while no timeouts are pending.
+ */
+public final class WheelTimer {
+
+    public static final long DEFAULT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static final WheelTimer SHARED = new WheelTimer(DEFAULT_TICK_NANOS, DEFAULT_WHEEL_SIZE);
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startNanos = System.nanoTime();
+    private final ConcurrentLinkedQueue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger(0);
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private volatile Thread worker;
+    private volatile boolean idle;
+    //timer thread only
+    private long tick;
+
+    public WheelTimer(final long tickNanos, final int wheelSize) {
+        if (tickNanos <= 0)
+            throw new IllegalArgumentException("tickNanos must be positive but was " + tickNanos);
+        this.tickNanos = tickNanos;
+        final int size = Integer.highestOneBit(Math.max(2, wheelSize) - 1) << 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++)
+            wheel[i] = new Bucket();
+        this.mask = size - 1;
+    }
+
+    public static WheelTimer shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return Timer resolution, periods shorter than a tick can not be measured by this timer
+     */
+    public long tickNanos() {
+        return tickNanos;
+    }
+
+    public Timeout schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        final Timeout timeout = new Timeout(task, System.nanoTime() - startNanos + Math.max(0, unit.toNanos(delay)));
+        pending.incrementAndGet();
+        scheduled.offer(timeout);
+        if (started.compareAndSet(false, true)) {
+            final Thread thread = new Thread(this::run, "cyclops-wheel-timer");
+            thread.setDaemon(true);
+            worker = thread;
+            thread.start();
+        } else if (idle) {
+            LockSupport.unpark(worker);
+        }
+        return timeout;
+    }
+
+    private void run() {
+        for (;;) {
+            if (pending.get() == 0) {
+                idle = true;
+                if (pending.get() == 0)
+                    LockSupport.park(this);
+                idle = false;
+                //nothing is scheduled in the wheel, so skip the idle ticks
+                tick = Math.max(tick, (System.nanoTime() - startNanos) / tickNanos);
+            }
+            final long deadline = tickNanos * (tick + 1);
+            long sleep;
+            while ((sleep = deadline - (System.nanoTime() - startNanos)) > 0)
+                LockSupport.parkNanos(this, sleep);
+            transfer();
+            wheel[(int) tick & mask].expire();
+            tick++;
+        }
+    }
+
+    private void transfer() {
+        Timeout next;
+        while ((next = scheduled.poll()) != null) {
+            if (next.state.get() == Timeout.CANCELLED)
+                continue;
+            final long expiry = next.deadline / tickNanos;
+            next.rounds = (expiry - tick) / wheel.length;
+            wheel[(int) Math.max(expiry, tick) & mask].add(next);
+        }
+    }
+
+    public final class Timeout {
+        static final int WAITING = 0;
+        static final int CANCELLED = 1;
+        static final int EXPIRED = 2;
+
+        private final Runnable task;
+        //nanos since the timer started
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private long rounds;
+        private Timeout next;
+        private Timeout prev;
+
+        private Timeout(final Runnable task, final long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return true if the task was prevented from running
+         */
+        public boolean cancel() {
+            if (state.compareAndSet(WAITING, CANCELLED)) {
+                pending.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        private void expire() {
+            if (state.compareAndSet(WAITING, EXPIRED)) {
+                pending.decrementAndGet();
+                try {
+                    task.run();
+                } catch (final Throwable t) {
+                    //a failing task must not stop the timer thread
+                }
+            }
+        }
+    }
+
+    /*
+     * Doubly linked list of timeouts, only ever accessed by the timer thread
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(final Timeout timeout) {
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null)
+                head = timeout;
+            else
+                tail.next = timeout;
+            tail = timeout;
+        }
+
+        void expire() {
+            Timeout next = head;
+            while (next != null) {
+                final Timeout following = next.next;
+                if (next.state.get() == Timeout.CANCELLED) {
+                    remove(next);
+                } else if (next.rounds <= 0) {
+                    remove(next);
+                    next.expire();
+                } else {
+                    next.rounds--;
+                }
+                next = following;
+            }
+        }
+
+        private void remove(final Timeout timeout) {
+            if (timeout.prev == null)
+                head = timeout.next;
+            else
+                timeout.prev.next = timeout.next;
+            if (timeout.next == null)
+                tail = timeout.prev;
+            else
+                timeout.next.prev = timeout.prev;
+            timeout.next = null;
+            timeout.prev = null;
+        }
+    }
+}
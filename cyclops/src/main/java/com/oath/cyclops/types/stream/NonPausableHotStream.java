@@ -5,8 +5,6 @@ import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import com.oath.cyclops.internal.stream.BaseHotStreamImpl;
-import cyclops.companion.Eithers;
-import cyclops.function.FluentFunctions;
 
 /**
  * A HotStream (Stream already emitting data) that can not be paused
@@ -20,6 +18,24 @@ public class NonPausableHotStream<T> extends BaseHotStreamImpl<T> {
         super(stream);
     }
 
+    /**
+     * @param stream Stream to emit from
+     * @param history Number of the most recently emitted elements replayed to each newly connected Stream
+     */
+    public NonPausableHotStream(final Stream<T> stream, final int history) {
+        super(stream, history);
+    }
+
+    /**
+     * @param stream Stream to emit from
+     * @param history Number of the most recently emitted elements replayed to each newly connected Stream
+     * @param stallNanos Time a connected Stream may hold back emission without reading before it is disconnected,
+     *                   Long.MAX_VALUE to never disconnect a stalled Stream
+     */
+    public NonPausableHotStream(final Stream<T> stream, final int history, final long stallNanos) {
+        super(stream, history, stallNanos);
+    }
+
     /* (non-Javadoc)
      * @see com.oath.cyclops.internal.stream.BaseHotStreamImpl#init(java.util.concurrent.Executor)
      */
@@ -29,17 +45,7 @@ public class NonPausableHotStream<T> extends BaseHotStreamImpl<T> {
             pause.get()
                  .join();
             stream.forEach(a -> {
-
-                final int local = connected;
-
-                for (int i = 0; i < local; i++) {
-
-                    Eithers.blocking(connections.get(i))
-                              .visit(FluentFunctions.ofChecked(in -> {
-                        in.put(a);
-                        return true;
-                    }), q -> q.offer(a));
-                }
+                publish(a);
 
             });
 
@@ -0,0 +1,406 @@
+package com.oath.cyclops.util.stream.scheduling.cron;
+
+import java.text.ParseException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.BitSet;
+import java.util.Locale;
+
+/**
+ * A cron expression compiled once into bit masks, next fire times are computed with java.time arithmetic.
+ *
+ * Accepts the same syntax as {@link CronExpression} : seconds, minutes, hours, day-of-month, month, day-of-week and an
+ * optional year, with '*', '?', ranges (including overflowing ranges such as 22-2), lists, increments, month and day names,
+ * 'L', 'W' and 'LW' in the day-of-month field and 'L' and '#' in the day-of-week field (1 = SUN to 7 = SAT). As with
+ * CronExpression one of day-of-month and day-of-week must be '?'.
+ *
+ * Instances are immutable and may be shared between threads. Finding the next fire time skips whole years, months, days,
+ * hours and minutes that can not match, so it takes a handful of steps for typical expressions.
+ */
+public final class CronSchedule {
+
+    private static final int SECOND = 0;
+    private static final int MINUTE = 1;
+    private static final int HOUR = 2;
+    private static final int DAY_OF_MONTH = 3;
+    private static final int MONTH = 4;
+    private static final int DAY_OF_WEEK = 5;
+    private static final int YEAR = 6;
+
+    private static final int[] MIN = { 0, 0, 0, 1, 1, 1, 1970 };
+    private static final int[] MAX = { 59, 59, 23, 31, 12, 7, 2199 };
+    private static final String[] MONTHS = { "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC" };
+    private static final String[] DAYS = { "SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT" };
+
+    private final String expression;
+    private final ZoneId zone;
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long daysOfMonth;
+    private final long months;
+    private final long daysOfWeek;
+    //null when every year matches
+    private final BitSet years;
+    //day-of-month is '?', days are matched by day-of-week instead
+    private final boolean byDayOfWeek;
+    private final boolean lastDayOfMonth;
+    private final int lastDayOffset;
+    private final boolean nearestWeekday;
+    private final boolean lastDayOfWeek;
+    private final int nthDayOfWeek;
+
+    private CronSchedule(final String expression, final ZoneId zone, final Field[] fields) {
+        this.expression = expression;
+        this.zone = zone;
+        this.seconds = fields[SECOND].mask();
+        this.minutes = fields[MINUTE].mask();
+        this.hours = fields[HOUR].mask();
+        this.daysOfMonth = fields[DAY_OF_MONTH].mask();
+        this.months = fields[MONTH].mask();
+        this.daysOfWeek = fields[DAY_OF_WEEK].mask();
+        this.years = fields[YEAR] == null ? null : fields[YEAR].values;
+        this.byDayOfWeek = fields[DAY_OF_MONTH].noSpec;
+        this.lastDayOfMonth = fields[DAY_OF_MONTH].last;
+        this.lastDayOffset = fields[DAY_OF_MONTH].offset;
+        this.nearestWeekday = fields[DAY_OF_MONTH].weekday;
+        this.lastDayOfWeek = fields[DAY_OF_WEEK].last;
+        this.nthDayOfWeek = fields[DAY_OF_WEEK].nth;
+    }
+
+    /**
+     * @param expression Cron expression resolved against the system default time zone
+     * @return Compiled schedule
+     * @throws ParseException if the expression is not valid
+     */
+    public static CronSchedule compile(final String expression) throws ParseException {
+        return compile(expression, ZoneId.systemDefault());
+    }
+
+    /**
+     * @param expression Cron expression
+     * @param zone Time zone the expression is resolved against
+     * @return Compiled schedule
+     * @throws ParseException if the expression is not valid
+     */
+    public static CronSchedule compile(final String expression, final ZoneId zone) throws ParseException {
+        if (expression == null)
+            throw new IllegalArgumentException("cronExpression cannot be null");
+        final String[] tokens = expression.trim()
+                                          .toUpperCase(Locale.US)
+                                          .split("\\s+");
+        if (tokens.length < 6 || tokens.length > 7)
+            throw new ParseException("Expected 6 or 7 fields but found " + tokens.length + " in '" + expression + "'", 0);
+        final Field[] fields = new Field[7];
+        for (int type = SECOND; type < tokens.length; type++)
+            fields[type] = parseField(tokens[type], type);
+        if (fields[DAY_OF_MONTH].noSpec == fields[DAY_OF_WEEK].noSpec)
+            throw new ParseException("Support for specifying both a day-of-week AND a day-of-month parameter is not implemented.", 0);
+        return new CronSchedule(expression, zone, fields);
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * @param after Instant to search from (exclusive)
+     * @return Next fire time strictly after the given Instant, or null if the schedule never fires again
+     */
+    public Instant next(final Instant after) {
+        final ZonedDateTime next = next(after.atZone(zone));
+        return next == null ? null : next.toInstant();
+    }
+
+    /**
+     * @param after Time to search from (exclusive)
+     * @return Next fire time strictly after the given time (in this schedule's zone), or null if the schedule never fires again
+     */
+    public ZonedDateTime next(final ZonedDateTime after) {
+        final ZonedDateTime from = after.withZoneSameInstant(zone);
+        final int maxYear = from.getYear() + 100;
+        LocalDateTime t = from.toLocalDateTime()
+                              .withNano(0)
+                              .plusSeconds(1);
+        for (;;) {
+            final int year = t.getYear();
+            if (year > maxYear)
+                return null;
+            if (years != null && !years.get(year)) {
+                final int next = years.nextSetBit(year);
+                if (next < 0 || next > maxYear)
+                    return null;
+                t = LocalDateTime.of(next, 1, 1, 0, 0);
+                continue;
+            }
+            final int month = t.getMonthValue();
+            if (!isSet(months, month)) {
+                final int next = nextSet(months, month);
+                t = next < 0 ? LocalDateTime.of(year + 1, 1, 1, 0, 0) : LocalDateTime.of(year, next, 1, 0, 0);
+                continue;
+            }
+            final LocalDate date = t.toLocalDate();
+            if (!matchesDay(date)) {
+                t = nextCandidateDay(date).atStartOfDay();
+                continue;
+            }
+            final int hour = t.getHour();
+            if (!isSet(hours, hour)) {
+                final int next = nextSet(hours, hour);
+                t = next < 0 ? date.plusDays(1)
+                                   .atStartOfDay()
+                        : date.atTime(next, 0);
+                continue;
+            }
+            final int minute = t.getMinute();
+            if (!isSet(minutes, minute)) {
+                final int next = nextSet(minutes, minute);
+                t = next < 0 ? date.atTime(hour, 0)
+                                   .plusHours(1)
+                        : date.atTime(hour, next);
+                continue;
+            }
+            final int second = t.getSecond();
+            if (!isSet(seconds, second)) {
+                final int next = nextSet(seconds, second);
+                t = next < 0 ? date.atTime(hour, minute)
+                                   .plusMinutes(1)
+                        : date.atTime(hour, minute, next);
+                continue;
+            }
+            //local times inside a daylight saving gap are shifted forward, in an overlap the earlier offset is used
+            final ZonedDateTime fire = ZonedDateTime.ofLocal(t, zone, null);
+            if (fire.isAfter(from))
+                return fire;
+            t = t.plusSeconds(1);
+        }
+    }
+
+    private boolean matchesDay(final LocalDate date) {
+        final int day = date.getDayOfMonth();
+        if (byDayOfWeek) {
+            final int dayOfWeek = dayOfWeek(date);
+            if (!isSet(daysOfWeek, dayOfWeek))
+                return false;
+            if (lastDayOfWeek)
+                return day + 7 > date.lengthOfMonth();
+            if (nthDayOfWeek > 0)
+                return (day - 1) / 7 + 1 == nthDayOfWeek;
+            return true;
+        }
+        if (lastDayOfMonth) {
+            final int target = date.lengthOfMonth() - lastDayOffset;
+            if (target < 1)
+                return false;
+            return day == (nearestWeekday ? nearestWeekday(date, target) : target);
+        }
+        if (nearestWeekday) {
+            final int target = Long.numberOfTrailingZeros(daysOfMonth);
+            return target <= date.lengthOfMonth() && day == nearestWeekday(date, target);
+        }
+        return isSet(daysOfMonth, day);
+    }
+
+    /*
+     * First day after date that may match, plain day-of-month lists jump straight to the next listed day
+     */
+    private LocalDate nextCandidateDay(final LocalDate date) {
+        if (!byDayOfWeek && !lastDayOfMonth && !nearestWeekday) {
+            final int next = nextSet(daysOfMonth, date.getDayOfMonth() + 1);
+            if (next < 0 || next > date.lengthOfMonth())
+                return date.withDayOfMonth(1)
+                           .plusMonths(1);
+            return date.withDayOfMonth(next);
+        }
+        return date.plusDays(1);
+    }
+
+    private static int nearestWeekday(final LocalDate date, final int target) {
+        final DayOfWeek dayOfWeek = date.withDayOfMonth(target)
+                                        .getDayOfWeek();
+        if (dayOfWeek == DayOfWeek.SATURDAY)
+            return target == 1 ? 3 : target - 1;
+        if (dayOfWeek == DayOfWeek.SUNDAY)
+            return target == date.lengthOfMonth() ? target - 2 : target + 1;
+        return target;
+    }
+
+    //1 = SUN to 7 = SAT
+    private static int dayOfWeek(final LocalDate date) {
+        return date.getDayOfWeek()
+                   .getValue() % 7 + 1;
+    }
+
+    private static boolean isSet(final long mask, final int value) {
+        return (mask & (1L << value)) != 0;
+    }
+
+    /*
+     * Lowest value in mask that is at least from, or -1
+     */
+    private static int nextSet(final long mask, final int from) {
+        if (from > 63)
+            return -1;
+        final long remaining = mask & (-1L << from);
+        return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    private static Field parseField(final String token, final int type) throws ParseException {
+        final Field field = new Field();
+        if (token.equals("?")) {
+            if (type != DAY_OF_MONTH && type != DAY_OF_WEEK)
+                throw new ParseException("'?' can only be specified for Day-of-Month or Day-of-Week.", 0);
+            field.noSpec = true;
+            return field;
+        }
+        final boolean single = token.indexOf(',') < 0;
+        if (type == DAY_OF_MONTH && token.startsWith("L")) {
+            if (!single)
+                throw new ParseException("Support for specifying 'L' and 'LW' with other days of the month is not implemented", 0);
+            field.last = true;
+            String rest = token.substring(1);
+            if (rest.endsWith("W")) {
+                field.weekday = true;
+                rest = rest.substring(0, rest.length() - 1);
+            }
+            if (rest.startsWith("-")) {
+                field.offset = number(rest.substring(1), token);
+                if (field.offset > 30)
+                    throw new ParseException("Offset from last day must be <= 30 in '" + token + "'", 0);
+            } else if (!rest.isEmpty()) {
+                throw new ParseException("Illegal characters after 'L' in '" + token + "'", 0);
+            }
+            field.set(1, 31, 1);
+            return field;
+        }
+        if (type == DAY_OF_MONTH && token.endsWith("W")) {
+            if (!single)
+                throw new ParseException("The 'W' option does not make sense with values larger than 31 (max number of days in a month)", 0);
+            final int day = value(token.substring(0, token.length() - 1), type, token);
+            field.weekday = true;
+            field.set(day, day, 1);
+            return field;
+        }
+        if (type == DAY_OF_WEEK && token.indexOf('#') >= 0) {
+            if (!single)
+                throw new ParseException("Support for specifying multiple \"nth\" days is not implemented.", 0);
+            final int hash = token.indexOf('#');
+            final int day = value(token.substring(0, hash), type, token);
+            field.nth = number(token.substring(hash + 1), token);
+            if (field.nth < 1 || field.nth > 5)
+                throw new ParseException("A numeric value between 1 and 5 must follow the '#' option", 0);
+            field.set(day, day, 1);
+            return field;
+        }
+        if (type == DAY_OF_WEEK && token.endsWith("L")) {
+            if (!single)
+                throw new ParseException("Support for specifying 'L' with other days of the week is not implemented", 0);
+            if (token.equals("L")) {
+                field.set(7, 7, 1);
+                return field;
+            }
+            final int day = value(token.substring(0, token.length() - 1), type, token);
+            field.last = true;
+            field.set(day, day, 1);
+            return field;
+        }
+        for (final String element : token.split(",")) {
+            parseElement(field, element, type, token);
+        }
+        return field;
+    }
+
+    private static void parseElement(final Field field, final String element, final int type, final String token) throws ParseException {
+        final int slash = element.indexOf('/');
+        final String range = slash < 0 ? element : element.substring(0, slash);
+        int step = 1;
+        if (slash >= 0) {
+            step = number(element.substring(slash + 1), token);
+            if (step <= 0 || step > MAX[type] - MIN[type] + 1)
+                throw new ParseException("Increment must be between 1 and " + (MAX[type] - MIN[type] + 1) + " in '" + token + "'", 0);
+        }
+        if (range.equals("*") || range.isEmpty()) {
+            if (range.isEmpty() && slash < 0)
+                throw new ParseException("Empty value in '" + token + "'", 0);
+            field.set(MIN[type], MAX[type], step);
+            return;
+        }
+        final int dash = range.indexOf('-');
+        if (dash < 0) {
+            final int start = value(range, type, token);
+            field.set(start, slash < 0 ? start : MAX[type], step);
+            return;
+        }
+        final int start = value(range.substring(0, dash), type, token);
+        final int end = value(range.substring(dash + 1), type, token);
+        if (start <= end) {
+            field.set(start, end, step);
+            return;
+        }
+        //overflowing range, e.g. 22-2 for hours or NOV-FEB for months
+        final int size = MAX[type] - MIN[type] + 1;
+        final int length = end + size - start;
+        for (int i = 0; i <= length; i += step)
+            field.set(MIN[type] + (start - MIN[type] + i) % size);
+    }
+
+    private static int value(final String value, final int type, final String token) throws ParseException {
+        int result = -1;
+        if (type == MONTH)
+            result = name(value, MONTHS);
+        else if (type == DAY_OF_WEEK)
+            result = name(value, DAYS);
+        if (result < 0)
+            result = number(value, token);
+        if (result < MIN[type] || result > MAX[type])
+            throw new ParseException("Value " + value + " out of range " + MIN[type] + "-" + MAX[type] + " in '" + token + "'", 0);
+        return result;
+    }
+
+    private static int name(final String value, final String[] names) {
+        for (int i = 0; i < names.length; i++)
+            if (names[i].equals(value))
+                return i + 1;
+        return -1;
+    }
+
+    private static int number(final String value, final String token) throws ParseException {
+        try {
+            return Integer.parseInt(value);
+        } catch (final NumberFormatException e) {
+            throw new ParseException("Illegal value '" + value + "' in '" + token + "'", 0);
+        }
+    }
+
+    private static final class Field {
+        final BitSet values = new BitSet();
+        boolean noSpec;
+        boolean last;
+        boolean weekday;
+        int offset;
+        int nth;
+
+        void set(final int start, final int end, final int step) {
+            for (int i = start; i <= end; i += step)
+                values.set(i);
+        }
+
+        void set(final int value) {
+            values.set(value);
+        }
+
+        long mask() {
+            final long[] words = values.toLongArray();
+            return words.length == 0 ? 0 : words[0];
+        }
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
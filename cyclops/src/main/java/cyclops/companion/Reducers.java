@@ -42,7 +42,7 @@ public class Reducers {
         return Reducer.fromMonoid(Monoids.<T>treeSetConcat(Comparator.naturalOrder()),a->TreeSet.of(a));
     }
     public static <T> Reducer<HashSet<T>,T> toHashSet() {
-        return Reducer.fromMonoid(Monoids.<T>hashSetConcat(),a->HashSet.of(a));
+        return Reducer.fromMonoid(Monoids.<T>hashSetConcat(),a->HashSet.of(a),HashSet::fromStream);
     }
     public static <T> Reducer<TrieSet<T>,T> toTrieSet() {
         return Reducer.fromMonoid(Monoids.<T>trieSetConcat(),a->TrieSet.of(a));
@@ -106,7 +106,7 @@ public class Reducers {
      * @return Reducer for PSet
      */
     public static <T> Reducer<PersistentSet<T>,T> toPersistentSet() {
-        return Reducer.fromMonoid(Monoids.concatPersistentCollection(HashSet.empty()), a -> HashSet.of(a));
+        return Reducer.fromMonoid(Monoids.concatPersistentCollection(HashSet.empty()), a -> HashSet.of(a), HashSet::fromStream);
     }
     /**
      * <pre>
@@ -159,11 +159,11 @@ public class Reducers {
      * @return Reducer for PersistentMap
      */
     public static <K, V> Reducer<PersistentMap<K, V>,Tuple2<K,V>> toPersistentMap() {
-        return Reducer.of(HashMap.empty(), (final PersistentMap<K, V> a) -> b -> a.putAll(b), (in) -> {
+        return Reducer.fromMonoid(Monoid.of(HashMap.empty(), (final PersistentMap<K, V> a, PersistentMap<K, V> b) -> a.putAll(b)), (in) -> {
             Tuple2<K, V> w = in;
             return HashMap.of((K) w._1(), (V) w._2());
 
-        });
+        }, HashMap::fromStream);
 
     }
 
@@ -2766,6 +2766,49 @@ public class Streams {
                                           stream).paused(exec);
     }
 
+    public final static <T> HotStream<T> hotStream(final Stream<T> stream, final Executor exec, final int history) {
+        return new NonPausableHotStream<>(
+                                          stream, history).init(exec);
+    }
+
+    public final static <T> HotStream<T> primedHotStream(final Stream<T> stream, final Executor exec, final int history) {
+        return new NonPausableHotStream<>(
+                                          stream, history).paused(exec);
+    }
+
+    /**
+     * Create a HotStream that disconnects Streams that hold back emission for longer than the stall timeout without reading.
+     * By default a slow Stream is never disconnected, so every connected Stream receives every value. With a stall timeout
+     * a disconnected Stream that resumes reading skips forward to the oldest value still retained, losing the values in between.
+     *
+     * <pre>
+     * {@code
+     *   HotStream<Trade> trades = Streams.hotStream(tradeStream, exec, 0, 1, TimeUnit.SECONDS);
+     * }
+     * </pre>
+     *
+     * @param stream Stream to emit from
+     * @param exec Executor to emit on
+     * @param history Number of the most recently emitted elements replayed to each newly connected Stream
+     * @param stallTimeout Time a connected Stream may hold back emission without reading before it is disconnected
+     * @param unit Time unit for the stall timeout
+     * @return Connectable HotStream
+     */
+    public final static <T> HotStream<T> hotStream(final Stream<T> stream, final Executor exec, final int history,
+                                                   final long stallTimeout, final TimeUnit unit) {
+        return new NonPausableHotStream<>(
+                                          stream, history, unit.toNanos(stallTimeout)).init(exec);
+    }
+
+    /**
+     * @see #hotStream(Stream, Executor, int, long, TimeUnit)
+     */
+    public final static <T> HotStream<T> primedHotStream(final Stream<T> stream, final Executor exec, final int history,
+                                                         final long stallTimeout, final TimeUnit unit) {
+        return new NonPausableHotStream<>(
+                                          stream, history, unit.toNanos(stallTimeout)).paused(exec);
+    }
+
     public final static <T> PausableHotStream<T> pausableHotStream(final Stream<T> stream, final Executor exec) {
         return new PausableHotStreamImpl<>(
                                            stream).init(exec);
@@ -39,21 +39,24 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
     }
 
     public static <K,V> HashMap<K,V> fromMap(Map<K,V> map){
-        HashMap<K,V> res = empty();
+        HAMT.Transient<K,V> res = HAMT.transientNode(HAMT.empty());
         for(Map.Entry<K,V> next : map.entrySet()){
-            res = res.put(next.getKey(),next.getValue());
+            res.put(next.getKey(),next.getValue());
         }
-        return res;
+        return new HashMap<>(res.freeze());
     }
     public static <K,V> HashMap<K,V> fromMap(PersistentMap<K,V> map){
         if(map instanceof HashMap){
             return (HashMap)map;
         }
-        HashMap<K,V> res = empty();
-        for(Tuple2<K,V> next : map){
-            res = res.put(next._1(),next._2());
+        return fromIterable(map);
+    }
+    public static <K,V> HashMap<K,V> fromIterable(Iterable<Tuple2<K,V>> it){
+        HAMT.Transient<K,V> res = HAMT.transientNode(HAMT.empty());
+        for(Tuple2<K,V> next : it){
+            res.put(next._1(),next._2());
         }
-        return res;
+        return new HashMap<>(res.freeze());
     }
     public static <K,V> HashMap<K,V> of(K k1,V v1,K k2, V v2){
         HashMap<K,V> res = empty();
@@ -61,7 +64,9 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
     }
 
     public static <K,V> HashMap<K,V> fromStream(Stream<Tuple2<K,V>> stream){
-        return ReactiveSeq.fromStream(stream).foldLeft(empty(),(m,t2)->m.put(t2._1(),t2._2()));
+        HAMT.Transient<K,V> res = HAMT.transientNode(HAMT.empty());
+        stream.forEach(t2->res.put(t2._1(),t2._2()));
+        return new HashMap<>(res.freeze());
     }
 
     public int size(){
@@ -154,11 +159,11 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public HashMap<K, V> removeAll(K... keys) {
-        HAMT.Node<K,V> cur = map;
+        HAMT.Transient<K,V> res = HAMT.transientNode(map);
         for(K key : keys){
-            cur = map.minus(0,key.hashCode(),key);
+            res.minus(key);
         }
-        return new HashMap<>(cur);
+        return new HashMap<>(res.freeze());
     }
 
     @Override
@@ -197,22 +202,22 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public HashMap<K, V> putAll(PersistentMap<? extends K, ? extends V> map) {
-        HashMap<K,V> res = this;
+        HAMT.Transient<K,V> res = HAMT.transientNode(this.map);
         for(Tuple2<? extends K, ? extends V> e : map){
-            res = res.put(e._1(),e._2());
+            res.put(e._1(),e._2());
         }
-        return res;
+        return new HashMap<>(res.freeze());
     }
 
 
 
     @Override
     public HashMap<K, V> removeAllKeys(Iterable<? extends K> keys) {
-        HashMap<K,V> res = this;
+        HAMT.Transient<K,V> res = HAMT.transientNode(map);
         for(K e : keys){
-            res = this.remove(e);
+            res.minus(e);
         }
-        return res;
+        return new HashMap<>(res.freeze());
     }
 
     @Override
@@ -52,11 +52,11 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
         return new HashSet<>(tree);
     }
     public static <T> HashSet<T> of(T... values){
-        HAMT.Node<T, T> tree = HAMT.empty();
+        HAMT.Transient<T, T> tree = HAMT.transientNode(HAMT.empty());
         for(T value : values){
-            tree = tree.plus(0,value.hashCode(),value,value);
+            tree.put(value,value);
         }
-        return new HashSet<>(tree);
+        return new HashSet<>(tree.freeze());
     }
     public static <U, T> HashSet<T> unfold(final U seed, final Function<? super U, Option<Tuple2<T, U>>> unfolder) {
         return fromStream(ReactiveSeq.unfold(seed,unfolder));
@@ -99,10 +99,19 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
     }
 
     public static <T> HashSet<T> fromStream(Stream<T> stream){
-        return ReactiveSeq.fromStream(stream).foldLeft(empty(),(m,t2)->m.plus(t2));
+        HAMT.Transient<T, T> tree = HAMT.transientNode(HAMT.empty());
+        stream.forEach(value->tree.put(value,value));
+        return new HashSet<>(tree.freeze());
     }
     public static <T> HashSet<T> fromIterable(Iterable<T> it){
-        return ReactiveSeq.fromIterable(it).foldLeft(empty(),(m, t2)->m.plus(t2));
+        if(it instanceof HashSet){
+            return (HashSet<T>)it;
+        }
+        HAMT.Transient<T, T> tree = HAMT.transientNode(HAMT.empty());
+        for(T value : it){
+            tree.put(value,value);
+        }
+        return new HashSet<>(tree.freeze());
     }
     public static <T> HashSet<T> fromIterator(Iterator<T> it){
       return fromIterable((()->it));
@@ -217,21 +226,21 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
 
       @Override
       public HashSet<T> plusAll(Iterable<? extends T> list) {
-          HashSet<T> res = this;
+          HAMT.Transient<T, T> tree = HAMT.transientNode(map);
           for(T next : list){
-              res = res.plus(next);
+              tree.put(next,next);
           }
-          return res;
+          return new HashSet<>(tree.freeze());
       }
 
 
       @Override
       public HashSet<T> removeAll(Iterable<? extends T> list) {
-          HashSet<T> res = this;
+          HAMT.Transient<T, T> tree = HAMT.transientNode(map);
           for(T next : list){
-              res = res.removeValue(next);
+              tree.minus(next);
           }
-          return res;
+          return new HashSet<>(tree.freeze());
       }
 
       @Override
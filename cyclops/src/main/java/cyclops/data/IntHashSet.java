@@ -0,0 +1,346 @@
+package cyclops.data;
+
+
+import cyclops.reactive.ReactiveSeq;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent hash set of unboxed int values. Values are stored in int[] arrays inside a CHAMP style trie keyed
+ * directly on the 32 bits of each value, so there are no collisions and no per element boxing.
+ *
+ * <pre>
+ * {@code
+ *   IntHashSet set = IntHashSet.of(1,2,3)
+ *                              .plus(4);
+ *   set.containsValue(4); //true
+ * }
+ * </pre>
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IntHashSet implements Iterable<Integer>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final IntHashSet EMPTY = new IntHashSet(Node.EMPTY);
+
+    private final Node root;
+
+    public static IntHashSet empty(){
+        return EMPTY;
+    }
+
+    public static IntHashSet of(int... values){
+        Node root = Node.EMPTY;
+        for(int next : values){
+            root = root.plus(next,0);
+        }
+        return new IntHashSet(root);
+    }
+
+    public static IntHashSet fromStream(IntStream stream){
+        return of(stream.toArray());
+    }
+
+    public static IntHashSet fromIterable(Iterable<Integer> it){
+        if(it instanceof IntHashSet)
+            return (IntHashSet)it;
+        Node root = Node.EMPTY;
+        for(Integer next : it){
+            root = root.plus(next,0);
+        }
+        return new IntHashSet(root);
+    }
+
+    public static IntHashSet range(int start, int end){
+        return fromStream(IntStream.range(start,end));
+    }
+
+    public boolean containsValue(int value){
+        return root.contains(value,0);
+    }
+
+    public int size(){
+        return root.size;
+    }
+
+    public boolean isEmpty(){
+        return root.size==0;
+    }
+
+    public IntHashSet plus(int value){
+        Node res = root.plus(value,0);
+        return res==root ? this : new IntHashSet(res);
+    }
+
+    public IntHashSet plusAll(int... values){
+        Node res = root;
+        for(int next : values){
+            res = res.plus(next,0);
+        }
+        return res==root ? this : new IntHashSet(res);
+    }
+
+    public IntHashSet removeValue(int value){
+        Node res = root.minus(value,0);
+        return res==root ? this : new IntHashSet(res);
+    }
+
+    public IntHashSet removeAll(int... values){
+        Node res = root;
+        for(int next : values){
+            res = res.minus(next,0);
+        }
+        return res==root ? this : new IntHashSet(res);
+    }
+
+    public IntHashSet filter(IntPredicate predicate){
+        return fromStream(intStream().filter(predicate));
+    }
+
+    public IntHashSet map(IntUnaryOperator fn){
+        return fromStream(intStream().map(fn));
+    }
+
+    public int[] toArray(){
+        return intStream().toArray();
+    }
+
+    public IntStream intStream(){
+        return StreamSupport.intStream(Spliterators.spliterator(iterator(),size(),
+                Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL),false);
+    }
+
+    public ReactiveSeq<Integer> stream(){
+        return ReactiveSeq.fromIntStream(intStream());
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator(){
+        return new PrimitiveIterator.OfInt() {
+            final Node[] stack = new Node[Node.MAX_DEPTH];
+            final int[] positions = new int[Node.MAX_DEPTH];
+            int depth = 0;
+            int index = 0;
+            {
+                stack[0]=root;
+            }
+
+            @Override
+            public boolean hasNext() {
+                while(index>=stack[depth].keys.length){
+                    Node top = stack[depth];
+                    if(positions[depth]<top.nodes.length){
+                        stack[depth+1]=top.nodes[positions[depth]++];
+                        positions[++depth]=0;
+                        index=0;
+                    }else if(depth==0){
+                        return false;
+                    }else{
+                        stack[depth--]=null;
+                        index=Integer.MAX_VALUE;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public int nextInt() {
+                if(!hasNext())
+                    throw new NoSuchElementException();
+                return stack[depth].keys[index++];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this==o)
+            return true;
+        if(!(o instanceof IntHashSet))
+            return false;
+        return root.equals(((IntHashSet)o).root);
+    }
+
+    @Override
+    public int hashCode() {
+        return intStream().sum();
+    }
+
+    @Override
+    public String toString() {
+        return stream().join(", ","[","]");
+    }
+
+    /*
+     * Trie nodes are kept canonical (a sub-node always holds at least two values) so equal sets have equal shapes
+     */
+    private static final class Node implements Serializable{
+        private static final long serialVersionUID = 1L;
+        static final int BITS = 5;
+        static final int MASK = (1 << BITS) - 1;
+        static final int MAX_DEPTH = 8;
+        static final Node EMPTY = new Node(0,0,0,new int[0],new Node[0]);
+
+        final int dataMap;
+        final int nodeMap;
+        final int size;
+        final int[] keys;
+        final Node[] nodes;
+
+        Node(int dataMap, int nodeMap, int size, int[] keys, Node[] nodes) {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.size = size;
+            this.keys = keys;
+            this.nodes = nodes;
+        }
+
+        static int bitpos(int key, int shift){
+            return 1 << ((key >>> shift) & MASK);
+        }
+
+        static Node single(int key, int shift){
+            return new Node(bitpos(key,shift),0,1,new int[]{key},EMPTY.nodes);
+        }
+
+        int dataIndex(int bit){
+            return Integer.bitCount(dataMap & (bit - 1));
+        }
+
+        int nodeIndex(int bit){
+            return Integer.bitCount(nodeMap & (bit - 1));
+        }
+
+        boolean contains(int key, int shift){
+            Node node = this;
+            for(;;){
+                int bit = bitpos(key,shift);
+                if((node.dataMap & bit)!=0)
+                    return node.keys[node.dataIndex(bit)]==key;
+                if((node.nodeMap & bit)==0)
+                    return false;
+                node = node.nodes[node.nodeIndex(bit)];
+                shift += BITS;
+            }
+        }
+
+        Node plus(int key, int shift){
+            int bit = bitpos(key,shift);
+            if((dataMap & bit)!=0){
+                int i = dataIndex(bit);
+                int current = keys[i];
+                if(current==key)
+                    return this;
+                Node merged = merge(current,key,shift+BITS);
+                int ni = nodeIndex(bit);
+                return new Node(dataMap ^ bit,nodeMap | bit,size+1,removeKey(keys,i),insertNode(nodes,ni,merged));
+            }
+            if((nodeMap & bit)!=0){
+                int ni = nodeIndex(bit);
+                Node child = nodes[ni];
+                Node updated = child.plus(key,shift+BITS);
+                if(updated==child)
+                    return this;
+                Node[] newNodes = nodes.clone();
+                newNodes[ni]=updated;
+                return new Node(dataMap,nodeMap,size+1,keys,newNodes);
+            }
+            return new Node(dataMap | bit,nodeMap,size+1,insertKey(keys,dataIndex(bit),key),nodes);
+        }
+
+        static Node merge(int key1, int key2, int shift){
+            int mask1 = (key1 >>> shift) & MASK;
+            int mask2 = (key2 >>> shift) & MASK;
+            if(mask1==mask2)
+                return new Node(0,1 << mask1,2,EMPTY.keys,new Node[]{merge(key1,key2,shift+BITS)});
+            int[] keys = mask1<mask2 ? new int[]{key1,key2} : new int[]{key2,key1};
+            return new Node((1 << mask1) | (1 << mask2),0,2,keys,EMPTY.nodes);
+        }
+
+        Node minus(int key, int shift){
+            int bit = bitpos(key,shift);
+            if((dataMap & bit)!=0){
+                int i = dataIndex(bit);
+                if(keys[i]!=key)
+                    return this;
+                if(size==1)
+                    return EMPTY;
+                return new Node(dataMap ^ bit,nodeMap,size-1,removeKey(keys,i),nodes);
+            }
+            if((nodeMap & bit)!=0){
+                int ni = nodeIndex(bit);
+                Node child = nodes[ni];
+                Node updated = child.minus(key,shift+BITS);
+                if(updated==child)
+                    return this;
+                if(updated.size==1){
+                    int remaining = updated.keys[0];
+                    if(dataMap==0 && nodes.length==1)
+                        return single(remaining,shift);
+                    return new Node(dataMap | bit,nodeMap ^ bit,size-1,insertKey(keys,dataIndex(bit),remaining),removeNode(nodes,ni));
+                }
+                Node[] newNodes = nodes.clone();
+                newNodes[ni]=updated;
+                return new Node(dataMap,nodeMap,size-1,keys,newNodes);
+            }
+            return this;
+        }
+
+        static int[] insertKey(int[] keys, int index, int key){
+            int[] res = new int[keys.length+1];
+            System.arraycopy(keys,0,res,0,index);
+            res[index]=key;
+            System.arraycopy(keys,index,res,index+1,keys.length-index);
+            return res;
+        }
+
+        static int[] removeKey(int[] keys, int index){
+            int[] res = new int[keys.length-1];
+            System.arraycopy(keys,0,res,0,index);
+            System.arraycopy(keys,index+1,res,index,keys.length-index-1);
+            return res;
+        }
+
+        static Node[] insertNode(Node[] nodes, int index, Node node){
+            Node[] res = new Node[nodes.length+1];
+            System.arraycopy(nodes,0,res,0,index);
+            res[index]=node;
+            System.arraycopy(nodes,index,res,index+1,nodes.length-index);
+            return res;
+        }
+
+        static Node[] removeNode(Node[] nodes, int index){
+            Node[] res = new Node[nodes.length-1];
+            System.arraycopy(nodes,0,res,0,index);
+            System.arraycopy(nodes,index+1,res,index,nodes.length-index-1);
+            return res;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this==o)
+                return true;
+            if(!(o instanceof Node))
+                return false;
+            Node other = (Node)o;
+            return dataMap==other.dataMap && nodeMap==other.nodeMap && size==other.size
+                    && Arrays.equals(keys,other.keys) && Arrays.equals(nodes,other.nodes);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31*Arrays.hashCode(keys) + Arrays.hashCode(nodes);
+        }
+    }
+}
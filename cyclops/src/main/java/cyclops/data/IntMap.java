@@ -1,6 +1,7 @@
 package cyclops.data;
 
 
+import com.oath.cyclops.internal.stream.spliterators.IndexedSpliterator;
 import com.oath.cyclops.types.persistent.PersistentCollection;
 import com.oath.cyclops.types.persistent.PersistentIndexed;
 import com.oath.cyclops.types.persistent.PersistentList;
@@ -17,7 +18,6 @@ import cyclops.function.Function4;
 import cyclops.function.Monoid;
 import cyclops.reactive.Generator;
 import cyclops.reactive.ReactiveSeq;
-import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
@@ -29,7 +29,9 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.*;
 import java.util.stream.Stream;
 
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
+/*
+ * Element i is stored under key start+i, so elements can be added or removed at either end by moving start
+ */
 public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T> {
 
 
@@ -48,7 +50,17 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
 
     private final IntPatriciaTrie.Node<T> intMap;
     private final int size;
+    private final int start;
     private final Eval<Integer> hash = Eval.later(()->calcHash());
+
+    private IntMap(IntPatriciaTrie.Node<T> intMap, int size) {
+        this(intMap,size,0);
+    }
+    private IntMap(IntPatriciaTrie.Node<T> intMap, int size, int start) {
+        this.intMap = intMap;
+        this.size = size;
+        this.start = start;
+    }
     static <T> IntMap<T> fill(T t, int max){
         return IntMap.fromStream(ReactiveSeq.fill(t).take(max));
     }
@@ -128,7 +140,8 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
         return stream().iterator();
     }
     public IntMap<T> plus(T value){
-        return new IntMap<>(intMap.put(size,size,value),size+1);
+        int key = start+size;
+        return new IntMap<>(intMap.put(key,key,value),size+1,start);
     }
 
     @Override
@@ -143,17 +156,47 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
 
     @Override
     public IntMap<T> drop(long num) {
-        return unitStream(stream().drop(num));
+        return slice((int)Math.max(0,Math.min(num,size)),size);
     }
 
     @Override
     public IntMap<T> take(long num) {
-        return unitStream(stream().take(num));
+        return slice(0,(int)Math.max(0,Math.min(num,size)));
+    }
+
+    /*
+     * Keep the elements in [from,to), removing the minority of keys from the trie or rebuilding from the kept elements
+     * whichever touches fewer keys
+     */
+    private IntMap<T> slice(int from, int to){
+        int kept = to-from;
+        if(kept==size)
+            return this;
+        if(kept<=0)
+            return empty();
+        if(kept < size-kept){
+            IntPatriciaTrie.Node<T> tree = IntPatriciaTrie.empty();
+            for(int i=0;i<kept;i++){
+                tree = tree.put(i,i,getOrElse(from+i,null));
+            }
+            return new IntMap<>(tree,kept,0);
+        }
+        IntPatriciaTrie.Node<T> tree = intMap;
+        for(int i=0;i<from;i++){
+            int key = start+i;
+            tree = tree.minus(key,key);
+        }
+        for(int i=to;i<size;i++){
+            int key = start+i;
+            tree = tree.minus(key,key);
+        }
+        return new IntMap<>(tree,kept,start+from);
     }
 
     @Override
     public IntMap<T> prepend(T value) {
-        return unitStream(stream().prepend(value));
+        int key = start-1;
+        return new IntMap<>(intMap.put(key,key,value),size+1,key);
     }
 
     @Override
@@ -163,7 +206,7 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
 
     @Override
     public IntMap<T> prependAll(Iterable<? extends T> value) {
-        return unitStream(stream().prependAll(value));
+        return insertAt(0,value);
     }
 
 
@@ -175,10 +218,11 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
         int count = size;
         while(it.hasNext()){
             T next = it.next();
-            tree =tree.put(count,count,next);
+            int key = start+count;
+            tree =tree.put(key,key,next);
             count++;
         }
-        return new IntMap<T>(tree,count);
+        return new IntMap<T>(tree,count,start);
     }
 
     @Override
@@ -187,15 +231,24 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
     }
 
     public Option<T> get(int index){
-        return intMap.get(index,index);
+        if(index<0 || index>=size)
+            return Option.none();
+        int key = start+index;
+        return intMap.get(key,key);
     }
     public T getOrElse(int index, T value){
-        return intMap.getOrElse(index,index,value);
+        if(index<0 || index>=size)
+            return value;
+        int key = start+index;
+        return intMap.getOrElse(key,key,value);
     }
 
     @Override
     public T getOrElseGet(int pos, Supplier<? extends T> alt) {
-        return intMap.getOrElseGet(pos,pos,alt);
+        if(pos<0 || pos>=size)
+            return alt.get();
+        int key = start+pos;
+        return intMap.getOrElseGet(key,key,alt);
     }
 
     int calcSize(){
@@ -212,7 +265,12 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
 
 
     public ReactiveSeq<T> stream(){
-        return intMap.stream();
+        return ReactiveSeq.fromSpliterator(spliterator());
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new IndexedSpliterator<>(size,i->getOrElse(i,null),()->Spliterators.spliterator(intMap.iterator(start,size),size,Spliterator.ORDERED));
     }
 
     @Override
@@ -289,7 +347,7 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
 
     @Override
     public IntMap<T> subList(int start, int end) {
-        return (IntMap<T>)ImmutableList.super.subList(start,end);
+        return slice(Math.max(0,Math.min(start,size)),Math.max(0,Math.min(end,size)));
     }
 
     @Override
@@ -524,12 +582,19 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
 
     @Override
     public IntMap<T> takeWhile(Predicate<? super T> p) {
-        return (IntMap<T>) ImmutableList.super.takeWhile(p);
+        return take(prefixLength(p));
     }
 
     @Override
     public IntMap<T> dropWhile(Predicate<? super T> p) {
-        return (IntMap<T>) ImmutableList.super.dropWhile(p);
+        return drop(prefixLength(p));
+    }
+
+    private int prefixLength(Predicate<? super T> p){
+        int i = 0;
+        while(i<size && p.test(getOrElse(i,null)))
+            i++;
+        return i;
     }
 
     @Override
@@ -544,12 +609,12 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
 
     @Override
     public IntMap<T> dropRight(int num) {
-        return (IntMap<T>) ImmutableList.super.dropRight(num);
+        return take(size-Math.max(0,num));
     }
 
     @Override
     public IntMap<T> takeRight(int num) {
-        return (IntMap<T>) ImmutableList.super.takeRight(num);
+        return drop(size-Math.max(0,num));
     }
 
     @Override
@@ -630,7 +695,31 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
 
     @Override
     public IntMap<T> deleteBetween(int start, int end) {
-        return (IntMap<T>) ImmutableList.super.deleteBetween(start,end);
+        int from = Math.max(0,start);
+        int to = Math.min(size,end);
+        int gap = to-from;
+        if(gap<=0)
+            return this;
+        //close the gap by moving whichever side of it holds fewer elements
+        IntPatriciaTrie.Node<T> tree = intMap;
+        if(from<size-to){
+            for(int j=from-1;j>=0;j--){
+                int key = this.start+j+gap;
+                tree = tree.put(key,key,getOrElse(j,null));
+            }
+            for(int key=this.start;key<this.start+gap;key++){
+                tree = tree.minus(key,key);
+            }
+            return new IntMap<>(tree,size-gap,this.start+gap);
+        }
+        for(int j=to;j<size;j++){
+            int key = this.start+j-gap;
+            tree = tree.put(key,key,getOrElse(j,null));
+        }
+        for(int key=this.start+size-gap;key<this.start+size;key++){
+            tree = tree.minus(key,key);
+        }
+        return new IntMap<>(tree,size-gap,this.start);
     }
 
     @Override
@@ -695,36 +784,71 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
     public IntMap<T> removeAt(int i) {
         if(i<0 || i>=size())
             return this;
-        return  new IntMap<>(intMap.minus(i,i),size-1);
+        return deleteBetween(i,i+1);
     }
 
     @Override
     public IntMap<T> removeAt(long pos) {
-        int i = (int)pos;
-        if(i<0 || i>=size())
+        if(pos<0 || pos>=size())
             return this;
-        return  new IntMap<>(intMap.minus(i,i),size-1);
+        return removeAt((int)pos);
+    }
+
+    @Override
+    public IntMap<T> updateAt(int pos, T value) {
+        if(pos<0 || pos>=size)
+            return this;
+        int key = start+pos;
+        return new IntMap<>(intMap.put(key,key,value),size,start);
     }
 
     @Override
     public IntMap<T> insertAt(int pos, T... values) {
-        return (IntMap<T> )ImmutableList.super.insertAt(pos,values);
+        return insertAt(pos,Arrays.asList(values));
     }
 
+    /*
+     * Moves whichever side of pos holds fewer elements to open a gap for the inserted values
+     */
     @Override
     public IntMap<T> insertAt(int pos, Iterable<? extends T> values) {
-        return (IntMap<T> )ImmutableList.super.insertAt(pos,values);
+        List<T> toInsert = new ArrayList<>();
+        for(T next : values)
+            toInsert.add(next);
+        int count = toInsert.size();
+        if(count==0)
+            return this;
+        int i = Math.max(0,Math.min(pos,size));
+        IntPatriciaTrie.Node<T> tree = intMap;
+        int newStart = start;
+        if(i<size/2 || i==0){
+            for(int j=0;j<i;j++){
+                int key = start+j-count;
+                tree = tree.put(key,key,getOrElse(j,null));
+            }
+            newStart = start-count;
+        }else{
+            for(int j=size-1;j>=i;j--){
+                int key = start+j+count;
+                tree = tree.put(key,key,getOrElse(j,null));
+            }
+        }
+        for(int j=0;j<count;j++){
+            int key = newStart+i+j;
+            tree = tree.put(key,key,toInsert.get(j));
+        }
+        return new IntMap<>(tree,size+count,newStart);
     }
 
     @Override
     public IntMap<T> insertAt(int i, T value) {
-        return (IntMap<T> )ImmutableList.super.insertAt(i,value);
+        return insertAt(i,Collections.singletonList(value));
     }
 
     class IntMapSome extends IntMap<T> implements ImmutableList.Some<T>, PersistentList<T> {
 
         public IntMapSome(IntMap<T> vec) {
-            super(vec.intMap, vec.size);
+            super(vec.intMap, vec.size, vec.start);
         }
 
         @Override
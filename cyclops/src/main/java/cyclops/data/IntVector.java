@@ -0,0 +1,313 @@
+package cyclops.data;
+
+
+import cyclops.control.Option;
+import cyclops.reactive.ReactiveSeq;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent vector of unboxed int values. Elements are stored in 32 element int[] leaves of a 32 way trie
+ * (with a tail buffer for appends), so no per element boxing is required.
+ *
+ * <pre>
+ * {@code
+ *   IntVector v = IntVector.of(1,2,3)
+ *                         .plus(4);
+ *   ReactiveSeq<Integer> s = v.stream();
+ * }
+ * </pre>
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IntVector implements Iterable<Integer>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_ROOT = new Object[0];
+    private static final int[] EMPTY_TAIL = new int[0];
+    private static final IntVector EMPTY = new IntVector(EMPTY_ROOT, BITS, EMPTY_TAIL, 0);
+
+    private final Object[] root;
+    private final int shift;
+    private final int[] tail;
+    private final int size;
+
+    public static IntVector empty(){
+        return EMPTY;
+    }
+
+    public static IntVector of(int... values){
+        return fromArray(values,values.length);
+    }
+
+    public static IntVector fromStream(IntStream stream){
+        int[] values = stream.toArray();
+        return fromArray(values,values.length);
+    }
+
+    public static IntVector fromIterable(Iterable<Integer> it){
+        if(it instanceof IntVector)
+            return (IntVector)it;
+        int[] values = new int[WIDTH];
+        int n = 0;
+        for(Integer next : it){
+            if(n==values.length)
+                values = Arrays.copyOf(values,n*2);
+            values[n++]=next;
+        }
+        return fromArray(values,n);
+    }
+
+    public static IntVector range(int start, int end){
+        return fromStream(IntStream.range(start,end));
+    }
+
+    /*
+     * Build the trie bottom up, full leaves become the tree and the remainder (1-32 values) the tail
+     */
+    private static IntVector fromArray(int[] values, int n){
+        if(n==0)
+            return EMPTY;
+        int tailOffset = ((n - 1) >>> BITS) << BITS;
+        int[] tail = Arrays.copyOfRange(values, tailOffset, n);
+        if(tailOffset==0)
+            return new IntVector(EMPTY_ROOT,BITS,tail,n);
+        Object[] nodes = new Object[tailOffset >>> BITS];
+        for(int i=0;i<nodes.length;i++){
+            nodes[i] = Arrays.copyOfRange(values,i << BITS,(i+1) << BITS);
+        }
+        int shift = BITS;
+        while(nodes.length>WIDTH){
+            Object[] parents = new Object[(nodes.length + MASK) >>> BITS];
+            for(int i=0;i<parents.length;i++){
+                parents[i] = Arrays.copyOfRange(nodes,i << BITS,Math.min(nodes.length,(i+1) << BITS));
+            }
+            nodes = parents;
+            shift += BITS;
+        }
+        return new IntVector(nodes,shift,tail,n);
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size==0;
+    }
+
+    private int tailOffset(){
+        return size - tail.length;
+    }
+
+    private int[] leafFor(int index){
+        if(index>=tailOffset())
+            return tail;
+        Object node = root;
+        for(int level = shift; level > 0; level -= BITS){
+            node = ((Object[])node)[(index >>> level) & MASK];
+        }
+        return (int[])node;
+    }
+
+    public Option<Integer> get(int index){
+        if(index<0 || index>=size)
+            return Option.none();
+        return Option.some(leafFor(index)[index & MASK]);
+    }
+
+    public int getOrElse(int index, int alt){
+        if(index<0 || index>=size)
+            return alt;
+        return leafFor(index)[index & MASK];
+    }
+
+    public IntVector plus(int value){
+        if(tail.length<WIDTH){
+            int[] newTail = Arrays.copyOf(tail,tail.length+1);
+            newTail[tail.length]=value;
+            return new IntVector(root,shift,newTail,size+1);
+        }
+        Object[] newRoot;
+        int newShift = shift;
+        if((size >>> BITS) > (1 << shift)){
+            newRoot = new Object[]{root,newPath(shift,tail)};
+            newShift += BITS;
+        }else{
+            newRoot = pushTail(shift,root,tail);
+        }
+        return new IntVector(newRoot,newShift,new int[]{value},size+1);
+    }
+
+    public IntVector append(int value){
+        return plus(value);
+    }
+
+    public IntVector appendAll(int... values){
+        if(values.length==0)
+            return this;
+        if(size==0)
+            return of(values);
+        IntVector res = this;
+        for(int next : values){
+            res = res.plus(next);
+        }
+        return res;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, int[] leaf){
+        int index = ((size - 1) >>> level) & MASK;
+        Object[] res = Arrays.copyOf(parent,index+1);
+        if(level==BITS){
+            res[index]=leaf;
+        }else if(index<parent.length){
+            res[index]=pushTail(level-BITS,(Object[])parent[index],leaf);
+        }else{
+            res[index]=newPath(level-BITS,leaf);
+        }
+        return res;
+    }
+
+    private static Object newPath(int level, int[] leaf){
+        if(level==0)
+            return leaf;
+        return new Object[]{newPath(level-BITS,leaf)};
+    }
+
+    public IntVector updateAt(int index, int value){
+        if(index<0 || index>=size)
+            return this;
+        if(index>=tailOffset()){
+            int[] newTail = tail.clone();
+            newTail[index & MASK]=value;
+            return new IntVector(root,shift,newTail,size);
+        }
+        return new IntVector((Object[])update(shift,root,index,value),shift,tail,size);
+    }
+
+    private static Object update(int level, Object node, int index, int value){
+        if(level==0){
+            int[] leaf = ((int[])node).clone();
+            leaf[index & MASK]=value;
+            return leaf;
+        }
+        Object[] res = ((Object[])node).clone();
+        int pos = (index >>> level) & MASK;
+        res[pos]=update(level-BITS,res[pos],index,value);
+        return res;
+    }
+
+    public IntVector map(IntUnaryOperator fn){
+        return fromStream(intStream().map(fn));
+    }
+
+    public IntVector filter(IntPredicate predicate){
+        return fromStream(intStream().filter(predicate));
+    }
+
+    public int foldLeft(int identity, IntBinaryOperator fn){
+        int res = identity;
+        for(int i=0;i<size;i+=WIDTH){
+            int[] leaf = leafFor(i);
+            for(int next : leaf){
+                res = fn.applyAsInt(res,next);
+            }
+        }
+        return res;
+    }
+
+    public void forEachInt(IntConsumer consumer){
+        for(int i=0;i<size;i+=WIDTH){
+            for(int next : leafFor(i)){
+                consumer.accept(next);
+            }
+        }
+    }
+
+    public int[] toArray(){
+        int[] res = new int[size];
+        for(int i=0;i<size;i+=WIDTH){
+            int[] leaf = leafFor(i);
+            System.arraycopy(leaf,0,res,i,leaf.length);
+        }
+        return res;
+    }
+
+    public IntStream intStream(){
+        return StreamSupport.intStream(Spliterators.spliterator(iterator(),size,
+                Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL),false);
+    }
+
+    public ReactiveSeq<Integer> stream(){
+        return ReactiveSeq.fromIntStream(intStream());
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator(){
+        return new PrimitiveIterator.OfInt() {
+            int index = 0;
+            int[] leaf = EMPTY_TAIL;
+
+            @Override
+            public boolean hasNext() {
+                return index<size;
+            }
+
+            @Override
+            public int nextInt() {
+                if(index>=size)
+                    throw new NoSuchElementException();
+                if((index & MASK)==0)
+                    leaf = leafFor(index);
+                return leaf[index++ & MASK];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this==o)
+            return true;
+        if(!(o instanceof IntVector))
+            return false;
+        IntVector other = (IntVector)o;
+        if(size!=other.size)
+            return false;
+        for(int i=0;i<size;i+=WIDTH){
+            if(!Arrays.equals(leafFor(i),other.leafFor(i)))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for(int i=0;i<size;i+=WIDTH){
+            for(int next : leafFor(i)){
+                hashCode = 31*hashCode + Integer.hashCode(next);
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return stream().join(", ","[","]");
+    }
+}
@@ -20,7 +20,6 @@ import cyclops.data.tuple.Tuple3;
 import cyclops.data.tuple.Tuple4;
 import cyclops.function.Function3;
 import cyclops.function.Function4;
-import cyclops.function.Memoize;
 import cyclops.function.Monoid;
 import cyclops.reactive.Generator;
 import cyclops.reactive.ReactiveSeq;
@@ -295,11 +294,11 @@ public interface LazySeq<T> extends  ImmutableList<T>,
         return fromIterator(it.iterator());
     }
     static <T> LazySeq<T> fromIterator(Iterator<T> it){
-        return it.hasNext() ? cons(it.next(), () -> fromIterator(it)) : empty();
+        return it.hasNext() ? cons(it.next(), () -> Cons.chunk(it)) : empty();
     }
     static <T> LazySeq<T> fromStream(Stream<T> stream){
         Iterator<T> t = stream.iterator();
-        return t.hasNext() ? cons(t.next(),()->fromIterator(t)) : empty();
+        return t.hasNext() ? cons(t.next(),()->Cons.chunk(t)) : empty();
     }
     @SafeVarargs
     static <T> LazySeq<T> of(T... value){
@@ -328,7 +327,7 @@ public interface LazySeq<T> extends  ImmutableList<T>,
         if( n <= 0)
             return LazySeq.Nil.Instance;
         if(n<1000) {
-            return this.visit(cons -> cons(cons.head, ()->cons.take(n - 1)), nil -> nil);
+            return this.visit(cons -> cons(cons.head, ()->cons.tail.get().take(n - 1)), nil -> nil);
         }
         return fromStream(ReactiveSeq.fromIterable(this).take(n));
 
@@ -905,7 +904,7 @@ public interface LazySeq<T> extends  ImmutableList<T>,
         return this;
     }
     default LazySeq<T> prepend(T value){
-    return cons(value,()->this);
+    return Cons.evaluated(value,this);
   }
 
     @Override
@@ -980,8 +979,100 @@ public interface LazySeq<T> extends  ImmutableList<T>,
         public final T head;
         public final Supplier<LazySeq<T>> tail;
 
+        private static final int CHUNK_SIZE = 32;
+
         public static <T> Cons<T> cons(T value, Supplier<LazySeq<T>> tail){
-            return new Cons<>(value,Memoize.memoizeSupplier(tail));
+            return new Cons<>(value,tail instanceof Tail ? tail : new Tail<>(tail));
+        }
+        private static <T> Cons<T> evaluated(T value, LazySeq<T> tail){
+            return new Cons<>(value,new Tail<>(tail));
+        }
+
+        /*
+         * Evaluate up to CHUNK_SIZE values from the Iterator at once, linking the cells of the chunk via
+         * already evaluated tails. Only the last cell of a full chunk defers to the Iterator.
+         */
+        private static <T> LazySeq<T> chunk(Iterator<T> it){
+            Object[] values = new Object[CHUNK_SIZE];
+            int n = 0;
+            while(n<CHUNK_SIZE && it.hasNext())
+                values[n++] = it.next();
+            Supplier<LazySeq<T>> next = n<CHUNK_SIZE ? new Tail<>(empty()) : new Tail<>(()->chunk(it));
+            return link(values,n,next);
+        }
+
+        /*
+         * Apply the mapping function across the run of (up to CHUNK_SIZE) already evaluated cells at the start of this
+         * LazySeq, the remainder is mapped lazily
+         */
+        private static <T,R> LazySeq<R> mapChunk(LazySeq<T> seq, Function<? super T, ? extends R> fn){
+            Object[] values = new Object[CHUNK_SIZE];
+            int n = 0;
+            LazySeq<T> current = seq;
+            Supplier<LazySeq<R>> next = null;
+            while(next==null){
+                if(!(current instanceof Cons)){
+                    next = new Tail<>(current.map(fn));
+                    break;
+                }
+                Cons<T> cell = (Cons<T>)current;
+                values[n++] = fn.apply(cell.head);
+                if(n==CHUNK_SIZE || !isEvaluated(cell.tail))
+                    next = new Tail<>(()->mapChunk(cell.tail.get(),fn));
+                else
+                    current = cell.tail.get();
+            }
+            return link(values,n,next);
+        }
+        private static <T> LazySeq<T> link(Object[] values, int n, Supplier<LazySeq<T>> next){
+            if(n==0)
+                return next.get();
+            Supplier<LazySeq<T>> tail = next;
+            Cons<T> cell = null;
+            for(int i=n-1;i>=0;i--){
+                cell = new Cons<>((T)values[i],tail);
+                tail = new Tail<>(cell);
+            }
+            return cell;
+        }
+        private static boolean isEvaluated(Supplier<?> tail){
+            return tail instanceof Tail && ((Tail<?>)tail).isEvaluated();
+        }
+
+        /*
+         * Memoizing tail Supplier, the Supplier is discarded once the tail has been evaluated
+         */
+        private static final class Tail<T> implements Supplier<LazySeq<T>>, Serializable {
+            private static final long serialVersionUID = 1L;
+            private Supplier<LazySeq<T>> supplier;
+            private volatile LazySeq<T> value;
+
+            Tail(Supplier<LazySeq<T>> supplier) {
+                this.supplier = supplier;
+            }
+            Tail(LazySeq<T> value) {
+                this.value = value;
+            }
+
+            boolean isEvaluated(){
+                return value!=null;
+            }
+
+            @Override
+            public LazySeq<T> get() {
+                LazySeq<T> result = value;
+                if(result==null){
+                    synchronized (this){
+                        result = value;
+                        if(result==null){
+                            result = supplier.get();
+                            value = result;
+                            supplier = null;
+                        }
+                    }
+                }
+                return result;
+            }
         }
 
 
@@ -1012,7 +1103,7 @@ public interface LazySeq<T> extends  ImmutableList<T>,
         }
       @Override
       public <R> LazySeq<R> map(Function<? super T, ? extends R> fn) {
-        return cons(fn.apply(head()),()->tail.get().map(fn));
+        return cons(fn.apply(head()),()->mapChunk(tail.get(),fn));
       }
 
       @Override
@@ -2,11 +2,11 @@ package cyclops.data;
 
 
 import com.oath.cyclops.hkt.Higher;
+import com.oath.cyclops.types.persistent.PersistentIndexed;
 import cyclops.control.Option;
 import com.oath.cyclops.hkt.DataWitness.lazyString;
+import cyclops.data.base.Rope;
 import cyclops.reactive.ReactiveSeq;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import org.reactivestreams.Publisher;
 
 import java.io.Serializable;
@@ -16,28 +16,74 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
-
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
-public final class LazyString implements ImmutableList<Character>,Higher<lazyString,Character>, Serializable {
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable String backed by a Rope of char[] chunks.
+ *
+ * Concatenation, substring, positional access and (positioned) searches are O(log n), and chars can be streamed
+ * without boxing via {@link #chars()}. Laziness is at chunk granularity : chunks created via {@link #lazy(Supplier)},
+ * {@link #fromLazySeq(LazySeq)} or by per-character transformations are only evaluated when their content is needed.
+ */
+public final class LazyString implements ImmutableList<Character>,Higher<lazyString,Character>, CharSequence, Serializable {
     private static final long serialVersionUID = 1L;
-    private final LazySeq<Character> string;
+    private final Rope rope;
+
+    private LazyString(Rope rope){
+        this.rope = rope;
+    }
 
-    private static final LazyString Nil = fromLazySeq(LazySeq.empty());
+    private static final LazyString Nil = new LazyString(Rope.empty());
     public static LazyString fromLazySeq(LazySeq<Character> string){
-        return new LazyString(string);
+        return new LazyString(Rope.lazy(()->rope(string)));
     }
     public static LazyString fromIterable(Iterable<Character> string){
-        return new LazyString(LazySeq.fromIterable(string));
+        if(string instanceof LazyString)
+            return (LazyString)string;
+        return new LazyString(rope(string));
     }
     public static LazyString of(CharSequence seq){
-        return fromLazySeq(LazySeq.fromStream( seq.chars().mapToObj(i -> (char) i)));
+        if(seq instanceof LazyString)
+            return (LazyString)seq;
+        return new LazyString(Rope.of(seq));
+    }
+    public static LazyString of(char... chars){
+        return new LazyString(Rope.of(chars));
+    }
+
+    /**
+     * Create a LazyString whose content is only produced (once) when it is first needed
+     *
+     * <pre>
+     * {@code
+     *  LazyString payload = LazyString.lazy(()->readPayload())
+     *                                 .append("\n");
+     * }
+     * </pre>
+     *
+     * @param supplier Supplier for the content
+     * @return LazyString that will evaluate the supplier on demand
+     */
+    public static LazyString lazy(Supplier<? extends CharSequence> supplier){
+        return new LazyString(Rope.lazy(()->{
+            CharSequence seq = supplier.get();
+            return seq instanceof LazyString ? ((LazyString)seq).rope : Rope.of(seq);
+        }));
+    }
+
+    static Collector<Character, StringBuilder, LazyString> collector() {
+        return Collector.of(StringBuilder::new,(b,c)->b.append(c.charValue()),(a,b)->a.append(b),LazyString::of);
     }
 
-    static Collector<Character, List<Character>, LazyString> collector() {
-        Collector<Character, ?, List<Character>> c  = Collectors.toList();
-        return Collectors.<Character, List<Character>, Iterable<Character>,LazyString>collectingAndThen((Collector)c,LazyString::fromIterable);
+    private static Rope rope(Iterable<? extends Character> chars){
+        if(chars instanceof LazyString)
+            return ((LazyString)chars).rope;
+        StringBuilder b = new StringBuilder();
+        for(Character c : chars)
+            b.append(c.charValue());
+        return Rope.of(b);
     }
 
     @Override
@@ -52,90 +98,163 @@ public final class LazyString implements ImmutableList<Character>,Higher<lazyStr
     }
 
     public LazyString op(Function<? super LazySeq<Character>, ? extends LazySeq<Character>> custom){
-        return fromLazySeq(custom.apply(string));
+        return new LazyString(Rope.lazy(()->rope(custom.apply(lazySeq()))));
     }
 
     public LazyString substring(int start){
         return drop(start);
     }
     public LazyString substring(int start, int end){
-        return drop(start).take(end-start);
+        return slice(start,end);
     }
     public LazyString toUpperCase(){
-        return fromLazySeq(string.map(c->c.toString().toUpperCase().charAt(0)));
+        return new LazyString(rope.map(c->Character.toUpperCase((char)c)));
     }
     public LazyString toLowerCase(){
-        return fromLazySeq(string.map(c->c.toString().toLowerCase().charAt(0)));
+        return new LazyString(rope.map(c->Character.toLowerCase((char)c)));
     }
     public LazySeq<LazyString> words() {
-        return string.split(t -> t.equals(' ')).map(l-> fromLazySeq(l));
+        return split(' ',0);
     }
     public LazySeq<LazyString> lines() {
-        return string.split(t -> t.equals('\n')).map(l-> fromLazySeq(l));
+        return split('\n',0);
+    }
+    private LazySeq<LazyString> split(char separator, int from){
+        int len = length();
+        int start = from;
+        while(start<len && rope.charAt(start)==separator)
+            start++;
+        if(start>=len)
+            return LazySeq.empty();
+        int next = rope.indexOf(separator,start);
+        int end = next<0 ? len : next;
+        return LazySeq.lazy(slice(start,end),()->split(separator,end));
     }
     public LazyString mapChar(Function<Character,Character> fn){
-        return fromLazySeq(string.map(fn));
+        return new LazyString(rope.map(c->fn.apply((char)c)));
     }
     public LazyString flatMapChar(Function<Character,LazyString> fn){
-        return fromLazySeq(string.flatMap(fn.andThen(s->s.string)));
+        return new LazyString(Rope.lazy(()->{
+            Rope result = Rope.empty();
+            PrimitiveIterator.OfInt it = rope.chars();
+            while(it.hasNext())
+                result = Rope.concat(result,fn.apply((char)it.nextInt()).rope);
+            return result;
+        }));
+    }
+
+    /**
+     * @param c char to search for
+     * @return index of the first occurrence of the char, or -1 if not present
+     */
+    public int indexOf(char c){
+        return rope.indexOf(c,0);
+    }
+    public int indexOf(char c, int from){
+        return rope.indexOf(c,from);
+    }
+    /**
+     * @param s CharSequence to search for
+     * @return index of the first occurrence of the CharSequence, or -1 if not present
+     */
+    public int indexOf(CharSequence s){
+        return rope.indexOf(s,0);
+    }
+    public int indexOf(CharSequence s, int from){
+        return rope.indexOf(s,from);
+    }
+    public boolean startsWith(CharSequence s){
+        return rope.regionMatches(0,s);
+    }
+    public boolean endsWith(CharSequence s){
+        return rope.regionMatches(length()-s.length(),s);
     }
 
     @Override
     public LazyString filter(Predicate<? super Character> predicate) {
-        return fromLazySeq(string.filter(predicate));
+        return new LazyString(rope.filter(c->predicate.test((char)c)));
     }
 
     @Override
     public <R> ImmutableList<R> map(Function<? super Character, ? extends R> fn) {
-        return string.map(fn);
+        return lazySeq().map(fn);
     }
 
     @Override
     public <R> ImmutableList<R> flatMap(Function<? super Character, ? extends ImmutableList<? extends R>> fn) {
-        return  string.flatMap(fn);
+        return  lazySeq().flatMap(fn);
     }
 
     @Override
     public <R> ImmutableList<R> concatMap(Function<? super Character, ? extends Iterable<? extends R>> fn) {
-        return  string.concatMap(fn);
+        return  lazySeq().concatMap(fn);
     }
 
     @Override
     public <R> ImmutableList<R> mergeMap(Function<? super Character, ? extends Publisher<? extends R>> fn) {
-      return string.mergeMap(fn);
+      return lazySeq().mergeMap(fn);
     }
 
     @Override
     public <R> ImmutableList<R> mergeMap(int maxConcurecy, Function<? super Character, ? extends Publisher<? extends R>> fn) {
-      return string.mergeMap(maxConcurecy,fn);
+      return lazySeq().mergeMap(maxConcurecy,fn);
     }
 
   @Override
     public <R> R fold(Function<? super Some<Character>, ? extends R> fn1, Function<? super None<Character>, ? extends R> fn2) {
-        return string.fold(fn1,fn2);
+        return lazySeq().fold(fn1,fn2);
+    }
+
+    @Override
+    public LazySeq<Character> lazySeq() {
+        return LazySeq.fromIterator(iterator());
     }
 
     @Override
     public LazyString onEmpty(Character value) {
-        return fromLazySeq(string.onEmpty(value));
+        return op(s->s.onEmpty(value));
     }
 
     @Override
     public LazyString onEmptyGet(Supplier<? extends Character> supplier) {
-        return fromLazySeq(string.onEmptyGet(supplier));
+        return op(s->s.onEmptyGet(supplier));
     }
 
 
     @Override
     public ImmutableList<Character> onEmptySwitch(Supplier<? extends ImmutableList<Character>> supplier) {
-        return string.onEmptySwitch(supplier);
+        return isEmpty() ? supplier.get() : this;
+    }
+
+    @Override
+    public Iterator<Character> iterator() {
+        PrimitiveIterator.OfInt it = rope.chars();
+        return new Iterator<Character>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Character next() {
+                return (char)it.nextInt();
+            }
+        };
     }
 
     public ReactiveSeq<Character> stream(){
-        return string.stream();
+        return ReactiveSeq.fromIterable(this);
+    }
+
+    /**
+     * @return Stream of the chars in this LazyString, chunks are evaluated (and chars read) without boxing
+     */
+    @Override
+    public IntStream chars(){
+        return StreamSupport.intStream(Spliterators.spliteratorUnknownSize(rope.chars(),Spliterator.ORDERED | Spliterator.IMMUTABLE),false);
     }
     public LazyString take(final long n) {
-        return fromLazySeq(string.take(n));
+        return slice(0,n);
 
     }
 
@@ -151,300 +270,336 @@ public final class LazyString implements ImmutableList<Character>,Higher<lazyStr
 
     @Override
     public LazyString replaceFirst(Character currentElement, Character newElement) {
-        return fromLazySeq(string.replaceFirst(currentElement,newElement));
+        return op(s->s.replaceFirst(currentElement,newElement));
     }
 
     @Override
     public LazyString removeFirst(Predicate<? super Character> pred) {
-        return fromLazySeq(string.removeFirst(pred));
+        return op(s->s.removeFirst(pred));
     }
 
     @Override
     public LazyString subList(int start, int end) {
-        return fromLazySeq(string.subList(start,end));
+        return slice(start,end);
     }
 
 
     @Override
     public LazyString filterNot(Predicate<? super Character> predicate) {
-        return fromLazySeq(string.filterNot(predicate));
+        return filter(predicate.negate());
     }
 
     @Override
     public LazyString notNull() {
-        return fromLazySeq(string.notNull());
+        return this;
     }
 
     @Override
     public LazyString peek(Consumer<? super Character> c) {
-        return fromLazySeq(string.peek(c));
+        return op(s->s.peek(c));
     }
 
     @Override
     public LazyString tailOrElse(ImmutableList<Character> tail) {
-        return fromLazySeq(string.tailOrElse(LazySeq.fromIterable(tail)));
+        return isEmpty() ? fromIterable(tail) : drop(1);
     }
 
     @Override
     public LazyString removeStream(Stream<? extends Character> stream) {
-        return fromLazySeq(string.removeStream(stream));
+        return op(s->s.removeStream(stream));
     }
 
     @Override
     public LazyString removeAt(long pos) {
-        return fromLazySeq(string.removeAt(pos));
+        return pos<0 || pos>=length() ? this : deleteBetween((int)pos,(int)pos+1);
     }
 
     @Override
     public LazyString removeAll(Character... values) {
-        return fromLazySeq(string.removeAll(values));
+        return op(s->s.removeAll(values));
     }
 
     @Override
     public LazyString retainAll(Iterable<? extends Character> it) {
-        return fromLazySeq(string.retainAll(it));
+        return op(s->s.retainAll(it));
     }
 
     @Override
     public LazyString retainStream(Stream<? extends Character> stream) {
-        return fromLazySeq(string.retainStream(stream));
+        return op(s->s.retainStream(stream));
     }
 
     @Override
     public LazyString retainAll(Character... values) {
-        return fromLazySeq(string.retainAll(values));
+        return op(s->s.retainAll(values));
     }
 
     @Override
     public LazyString distinct() {
-        return fromLazySeq(string.distinct());
+        return op(s->s.distinct());
     }
 
     @Override
     public LazyString sorted() {
-        return fromLazySeq(string.sorted());
+        return op(s->s.sorted());
     }
 
     @Override
     public LazyString sorted(Comparator<? super Character> c) {
-        return fromLazySeq(string.sorted(c));
+        return op(s->s.sorted(c));
+    }
+
+    private int prefixLength(Predicate<? super Character> p){
+        return rope.prefixLength(c->p.test((char)c));
     }
 
     @Override
     public LazyString takeWhile(Predicate<? super Character> p) {
-        return fromLazySeq(string.takeWhile(p));
+        return take(prefixLength(p));
     }
 
     @Override
     public LazyString dropWhile(Predicate<? super Character> p) {
-        return fromLazySeq(string.dropWhile(p));
+        return drop(prefixLength(p));
     }
 
     @Override
     public LazyString takeUntil(Predicate<? super Character> p) {
-        return fromLazySeq(string.takeUntil(p));
+        return takeWhile(p.negate());
     }
 
     @Override
     public LazyString dropUntil(Predicate<? super Character> p) {
-        return fromLazySeq(string.dropUntil(p));
+        return dropWhile(p.negate());
     }
 
     @Override
     public LazyString dropRight(int num) {
-        return fromLazySeq(string.dropRight(num));
+        return take(length()-(long)num);
     }
 
     @Override
     public LazyString takeRight(int num) {
-        return fromLazySeq(string.takeRight(num));
+        return drop(length()-(long)num);
     }
 
     @Override
     public LazyString skip(long num) {
-        return fromLazySeq(string.skip(num));
+        return drop(num);
     }
 
     @Override
     public LazyString skipWhile(Predicate<? super Character> p) {
-        return fromLazySeq(string.skipWhile(p));
+        return dropWhile(p);
     }
 
     @Override
     public LazyString skipUntil(Predicate<? super Character> p) {
-        return fromLazySeq(string.skipUntil(p));
+        return dropUntil(p);
     }
 
     @Override
     public LazyString limit(long num) {
-        return fromLazySeq(string.limit(num));
+        return take(num);
     }
 
     @Override
     public LazyString limitWhile(Predicate<? super Character> p) {
-        return fromLazySeq(string.limitWhile(p));
+        return takeWhile(p);
     }
 
     @Override
     public LazyString limitUntil(Predicate<? super Character> p) {
-        return fromLazySeq(string.limitUntil(p));
+        return takeUntil(p);
     }
 
     @Override
     public LazyString shuffle() {
-        return fromLazySeq(string.shuffle());
+        return op(s->s.shuffle());
     }
 
     @Override
     public LazyString skipLast(int num) {
-        return fromLazySeq(string.skipLast(num));
+        return dropRight(num);
     }
 
     @Override
     public LazyString limitLast(int num) {
-        return fromLazySeq(string.limitLast(num));
+        return takeRight(num);
     }
 
     @Override
     public LazyString shuffle(Random random) {
-        return fromLazySeq(string.shuffle(random));
+        return op(s->s.shuffle(random));
     }
 
     @Override
     public LazyString slice(long from, long to) {
-        return fromLazySeq(string.slice(from,to));
+        int len = length();
+        int start = (int)Math.max(0,Math.min(from,len));
+        int end = (int)Math.max(start,Math.min(to,len));
+        if(start==0 && end==len)
+            return this;
+        return new LazyString(rope.sub(start,end));
     }
 
     @Override
     public <U extends Comparable<? super U>> LazyString sorted(Function<? super Character, ? extends U> function) {
-        return fromLazySeq(string.sorted(function));
+        return op(s->s.sorted(function));
     }
 
     @Override
     public LazyString prependStream(Stream<? extends Character> stream) {
-        return fromLazySeq(string.prependStream(stream));
+        return op(s->s.prependStream(stream));
     }
 
     @Override
     public LazyString appendAll(Character... values) {
-        return fromLazySeq(string.appendAll(values));
+        return appendAll(Arrays.asList(values));
     }
 
     @Override
     public LazyString prependAll(Character... values) {
-        return fromLazySeq(string.prependAll(values));
+        return prependAll(Arrays.asList(values));
     }
 
     @Override
     public LazyString insertAt(int pos, Character... values) {
-        return fromLazySeq(string.insertAt(pos,values));
+        return insertAt(pos,Arrays.asList(values));
     }
 
     @Override
     public LazyString deleteBetween(int start, int end) {
-        return fromLazySeq(string.deleteBetween(start,end));
+        int len = length();
+        int from = Math.max(0,Math.min(start,len));
+        int to = Math.max(from,Math.min(end,len));
+        if(from==to)
+            return this;
+        return new LazyString(Rope.concat(rope.sub(0,from),rope.sub(to,len)));
     }
 
     @Override
     public LazyString insertStreamAt(int pos, Stream<Character> stream) {
-        return fromLazySeq(string.insertStreamAt(pos,stream));
+        return op(s->s.insertStreamAt(pos,stream));
     }
 
     @Override
     public LazyString recover(Function<? super Throwable, ? extends Character> fn) {
-        return fromLazySeq(string.recover(fn));
+        return op(s->s.recover(fn));
     }
 
     @Override
     public <EX extends Throwable> LazyString recover(Class<EX> exceptionClass, Function<? super EX, ? extends Character> fn) {
-        return fromLazySeq(string.recover(exceptionClass,fn));
+        return op(s->s.recover(exceptionClass,fn));
     }
 
     @Override
     public LazyString plusAll(Iterable<? extends Character> list) {
-        return fromLazySeq(string.plusAll(list));
+        return appendAll(list);
     }
 
     @Override
     public LazyString plus(Character value) {
-        return fromLazySeq(string.plus(value));
+        return append(value);
     }
 
     @Override
     public LazyString removeValue(Character value) {
-        return fromLazySeq(string.removeValue(value));
+        return filter(c->!c.equals(value));
     }
 
     @Override
     public LazyString removeAt(int pos) {
-        return fromLazySeq(string.removeAt(pos));
+        return removeAt((long)pos);
     }
 
     @Override
     public LazyString removeAll(Iterable<? extends Character> value) {
-        return fromLazySeq(string.removeAll(value));
+        return op(s->s.removeAll(value));
     }
 
     @Override
     public LazyString updateAt(int pos, Character value) {
-        return fromLazySeq(string.updateAt(pos,value));
+        if(pos<0 || pos>=length())
+            return this;
+        return new LazyString(Rope.concat(Rope.concat(rope.sub(0,pos),Rope.of(value.charValue())),rope.sub(pos+1,length())));
     }
 
     @Override
     public LazyString insertAt(int pos, Iterable<? extends Character> values) {
-        return fromLazySeq(string.insertAt(pos,values));
+        int len = length();
+        int at = Math.max(0,Math.min(pos,len));
+        return new LazyString(Rope.concat(Rope.concat(rope.sub(0,at),rope(values)),rope.sub(at,len)));
     }
 
     @Override
     public LazyString insertAt(int i, Character value) {
-        return fromLazySeq(string.insertAt(i,value));
+        return insertAt(i,Arrays.asList(value));
     }
 
     public LazyString  drop(final long num) {
-        return fromLazySeq(string.drop(num));
+        return slice(num,Long.MAX_VALUE);
     }
     public LazyString  reverse() {
-        return fromLazySeq(string.reverse());
+        return new LazyString(rope.reverse());
     }
     public Option<Character> get(int pos){
-        return string.get(pos);
+        if(pos<0 || pos>=length())
+            return Option.none();
+        return Option.some(rope.charAt(pos));
     }
 
     @Override
     public Character getOrElse(int pos, Character alt) {
-        return string.getOrElse(pos,alt);
+        if(pos<0 || pos>=length())
+            return alt;
+        return rope.charAt(pos);
     }
 
     @Override
     public Character getOrElseGet(int pos, Supplier<? extends Character> alt) {
-        return string.getOrElseGet(pos,alt);
+        if(pos<0 || pos>=length())
+            return alt.get();
+        return rope.charAt(pos);
+    }
+
+    @Override
+    public char charAt(int index) {
+        return rope.charAt(index);
+    }
+
+    @Override
+    public LazyString subSequence(int start, int end) {
+        if(start<0 || end>length() || start>end)
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length());
+        return slice(start,end);
     }
 
     public LazyString prepend(Character value){
-        return fromLazySeq(string.prepend(value));
+        return new LazyString(Rope.concat(Rope.of(value.charValue()),rope));
     }
 
     @Override
     public LazyString append(Character value) {
-        return fromLazySeq(string.append(value));
+        return new LazyString(Rope.concat(rope,Rope.of(value.charValue())));
     }
 
     @Override
     public LazyString prependAll(Iterable<? extends Character> value) {
-        return fromLazySeq(string.prependAll(value)) ;
+        return new LazyString(Rope.concat(rope(value),rope));
     }
 
 
     @Override
     public LazyString appendAll(Iterable<? extends Character> value) {
-        return fromLazySeq(string.appendAll(value)) ;
+        return new LazyString(Rope.concat(rope,rope(value)));
     }
 
     public LazyString prependAll(LazyString value){
-        return fromLazySeq(string.prependAll(value.string));
+        return new LazyString(Rope.concat(value.rope,rope));
     }
     public LazyString append(String s){
-        return fromLazySeq(string.appendAll(LazySeq.fromStream( s.chars().mapToObj(i -> (char) i))));
+        return new LazyString(Rope.concat(rope,Rope.of(s)));
     }
     public int size(){
         return length();
@@ -452,14 +607,45 @@ public final class LazyString implements ImmutableList<Character>,Higher<lazyStr
 
     @Override
     public boolean isEmpty() {
-        return false;
+        return rope.isEmpty();
     }
 
     public int length(){
-        return string.size();
+        return rope.length();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(o==this)
+            return true;
+        if(o instanceof LazyString){
+            LazyString s = (LazyString)o;
+            if(length()!=s.length())
+                return false;
+            PrimitiveIterator.OfInt a = rope.chars();
+            PrimitiveIterator.OfInt b = s.rope.chars();
+            while(a.hasNext()){
+                if(a.nextInt()!=b.nextInt())
+                    return false;
+            }
+            return true;
+        }
+        if(!(o instanceof PersistentIndexed))
+            return false;
+        return equalToDirectAccess((Iterable<Character>)o);
     }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        PrimitiveIterator.OfInt it = rope.chars();
+        while(it.hasNext())
+            hashCode = 31*hashCode + it.nextInt();
+        return hashCode;
+    }
+
     public String toString(){
-        return string.stream().join("");
+        return new String(rope.toCharArray());
     }
 
 }
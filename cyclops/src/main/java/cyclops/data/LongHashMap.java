@@ -0,0 +1,449 @@
+package cyclops.data;
+
+
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent hash map with unboxed long keys. Keys are stored in long[] arrays inside a CHAMP style trie keyed
+ * directly on the 64 bits of each key, so there are no collisions and no boxed Long per entry.
+ *
+ * <pre>
+ * {@code
+ *   LongHashMap<String> map = LongHashMap.<String>empty()
+ *                                        .put(10l,"hello");
+ *   map.getOrElse(10l,"world"); //hello
+ * }
+ * </pre>
+ *
+ * @param <V> Value type
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LongHashMap<V> implements Iterable<Tuple2<Long,V>>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final LongHashMap EMPTY = new LongHashMap(Node.EMPTY);
+
+    private final Node<V> root;
+
+    public static <V> LongHashMap<V> empty(){
+        return EMPTY;
+    }
+
+    public static <V> LongHashMap<V> of(long key, V value){
+        return LongHashMap.<V>empty().put(key,value);
+    }
+
+    public static <V> LongHashMap<V> of(long key1, V value1, long key2, V value2){
+        return LongHashMap.<V>empty().put(key1,value1)
+                                     .put(key2,value2);
+    }
+
+    public static <V> LongHashMap<V> fromMap(Map<Long,? extends V> map){
+        Node<V> root = Node.EMPTY;
+        for(Map.Entry<Long,? extends V> next : map.entrySet()){
+            root = root.plus(next.getKey(),next.getValue(),0);
+        }
+        return new LongHashMap<>(root);
+    }
+
+    public static <V> LongHashMap<V> fromIterable(Iterable<? extends Tuple2<Long,? extends V>> it){
+        if(it instanceof LongHashMap)
+            return (LongHashMap<V>)it;
+        Node<V> root = Node.EMPTY;
+        for(Tuple2<Long,? extends V> next : it){
+            root = root.plus(next._1(),next._2(),0);
+        }
+        return new LongHashMap<>(root);
+    }
+
+    public int size(){
+        return root.size;
+    }
+
+    public boolean isEmpty(){
+        return root.size==0;
+    }
+
+    public boolean containsKey(long key){
+        return root.find(key)!=null;
+    }
+
+    public Option<V> get(long key){
+        Node<V> node = root.find(key);
+        return node==null ? Option.none() : Option.some(node.valueFor(key));
+    }
+
+    public V getOrElse(long key, V alt){
+        Node<V> node = root.find(key);
+        return node==null ? alt : node.valueFor(key);
+    }
+
+    public V getOrElseGet(long key, Supplier<? extends V> alt){
+        Node<V> node = root.find(key);
+        return node==null ? alt.get() : node.valueFor(key);
+    }
+
+    public LongHashMap<V> put(long key, V value){
+        Node<V> res = root.plus(key,value,0);
+        return res==root ? this : new LongHashMap<>(res);
+    }
+
+    public LongHashMap<V> remove(long key){
+        Node<V> res = root.minus(key,0);
+        return res==root ? this : new LongHashMap<>(res);
+    }
+
+    public LongHashMap<V> removeAll(long... keys){
+        Node<V> res = root;
+        for(long next : keys){
+            res = res.minus(next,0);
+        }
+        return res==root ? this : new LongHashMap<>(res);
+    }
+
+    public <R> LongHashMap<R> mapValues(Function<? super V, ? extends R> fn){
+        return new LongHashMap<>(root.mapValues(fn));
+    }
+
+    public LongStream keys(){
+        long[] keys = new long[size()];
+        int i = 0;
+        for(Iterator<Node<V>> it = new NodeIterator<>(root); it.hasNext();){
+            Node<V> next = it.next();
+            System.arraycopy(next.keys,0,keys,i,next.keys.length);
+            i+=next.keys.length;
+        }
+        return LongStream.of(keys);
+    }
+
+    public ReactiveSeq<V> values(){
+        return stream().map(Tuple2::_2);
+    }
+
+    public ReactiveSeq<Tuple2<Long,V>> stream(){
+        return ReactiveSeq.fromSpliterator(Spliterators.spliterator(iterator(),size(),
+                Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL));
+    }
+
+    @Override
+    public Iterator<Tuple2<Long, V>> iterator() {
+        return new Iterator<Tuple2<Long, V>>() {
+            final NodeIterator<V> nodes = new NodeIterator<>(root);
+            Node<V> current;
+            int index;
+
+            @Override
+            public boolean hasNext() {
+                while(current==null || index>=current.keys.length){
+                    if(!nodes.hasNext())
+                        return false;
+                    current = nodes.next();
+                    index = 0;
+                }
+                return true;
+            }
+
+            @Override
+            public Tuple2<Long, V> next() {
+                if(!hasNext())
+                    throw new NoSuchElementException();
+                Tuple2<Long,V> res = Tuple.tuple(current.keys[index],(V)current.values[index]);
+                index++;
+                return res;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this==o)
+            return true;
+        if(!(o instanceof LongHashMap))
+            return false;
+        return root.equals(((LongHashMap)o).root);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for(Tuple2<Long,V> next : this){
+            hashCode += Long.hashCode(next._1()) ^ Objects.hashCode(next._2());
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return stream().map(t->t._1()+"="+t._2()).join(", ","{","}");
+    }
+
+    /*
+     * Pre-order walk over every node that may hold inline entries
+     */
+    private static final class NodeIterator<V> implements Iterator<Node<V>>{
+        private final Node<V>[] stack = new Node[Node.MAX_DEPTH];
+        private final int[] positions = new int[Node.MAX_DEPTH];
+        private int depth = 0;
+        private boolean rootPending = true;
+
+        NodeIterator(Node<V> root) {
+            stack[0]=root;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if(rootPending)
+                return true;
+            while(depth>=0){
+                if(positions[depth]<stack[depth].nodes.length)
+                    return true;
+                stack[depth--]=null;
+            }
+            return false;
+        }
+
+        @Override
+        public Node<V> next() {
+            if(rootPending){
+                rootPending=false;
+                return stack[0];
+            }
+            if(!hasNext())
+                throw new NoSuchElementException();
+            Node<V> next = stack[depth].nodes[positions[depth]++];
+            stack[++depth]=next;
+            positions[depth]=0;
+            return next;
+        }
+    }
+
+    /*
+     * Trie nodes are kept canonical (a sub-node always holds at least two entries) so equal maps have equal shapes
+     */
+    private static final class Node<V> implements Serializable{
+        private static final long serialVersionUID = 1L;
+        static final int BITS = 5;
+        static final int MASK = (1 << BITS) - 1;
+        static final int MAX_DEPTH = 14;
+        static final Node EMPTY = new Node(0,0,0,new long[0],new Object[0],new Node[0]);
+
+        final int dataMap;
+        final int nodeMap;
+        final int size;
+        final long[] keys;
+        final Object[] values;
+        final Node<V>[] nodes;
+
+        Node(int dataMap, int nodeMap, int size, long[] keys, Object[] values, Node<V>[] nodes) {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.size = size;
+            this.keys = keys;
+            this.values = values;
+            this.nodes = nodes;
+        }
+
+        static int mask(long key, int shift){
+            return (int)(key >>> shift) & MASK;
+        }
+
+        static <V> Node<V> single(long key, Object value, int shift){
+            return new Node<V>(1 << mask(key,shift),0,1,new long[]{key},new Object[]{value},EMPTY.nodes);
+        }
+
+        int dataIndex(int bit){
+            return Integer.bitCount(dataMap & (bit - 1));
+        }
+
+        int nodeIndex(int bit){
+            return Integer.bitCount(nodeMap & (bit - 1));
+        }
+
+        /*
+         * The node holding key inline, or null if absent
+         */
+        Node<V> find(long key){
+            Node<V> node = this;
+            int shift = 0;
+            for(;;){
+                int bit = 1 << mask(key,shift);
+                if((node.dataMap & bit)!=0)
+                    return node.keys[node.dataIndex(bit)]==key ? node : null;
+                if((node.nodeMap & bit)==0)
+                    return null;
+                node = node.nodes[node.nodeIndex(bit)];
+                shift += BITS;
+            }
+        }
+
+        V valueFor(long key){
+            for(int i=0;i<keys.length;i++){
+                if(keys[i]==key)
+                    return (V)values[i];
+            }
+            throw new NoSuchElementException();
+        }
+
+        Node<V> plus(long key, Object value, int shift){
+            int bit = 1 << mask(key,shift);
+            if((dataMap & bit)!=0){
+                int i = dataIndex(bit);
+                long current = keys[i];
+                if(current==key){
+                    if(values[i]==value)
+                        return this;
+                    Object[] newValues = values.clone();
+                    newValues[i]=value;
+                    return new Node<>(dataMap,nodeMap,size,keys,newValues,nodes);
+                }
+                Node<V> merged = merge(current,values[i],key,value,shift+BITS);
+                return new Node<>(dataMap ^ bit,nodeMap | bit,size+1,removeKey(keys,i),removeValue(values,i),
+                                  insertNode(nodes,nodeIndex(bit),merged));
+            }
+            if((nodeMap & bit)!=0){
+                int ni = nodeIndex(bit);
+                Node<V> child = nodes[ni];
+                Node<V> updated = child.plus(key,value,shift+BITS);
+                if(updated==child)
+                    return this;
+                Node<V>[] newNodes = nodes.clone();
+                newNodes[ni]=updated;
+                return new Node<>(dataMap,nodeMap,size+updated.size-child.size,keys,values,newNodes);
+            }
+            int i = dataIndex(bit);
+            return new Node<>(dataMap | bit,nodeMap,size+1,insertKey(keys,i,key),insertValue(values,i,value),nodes);
+        }
+
+        static <V> Node<V> merge(long key1, Object value1, long key2, Object value2, int shift){
+            int mask1 = mask(key1,shift);
+            int mask2 = mask(key2,shift);
+            if(mask1==mask2)
+                return new Node<V>(0,1 << mask1,2,EMPTY.keys,EMPTY.values,new Node[]{merge(key1,value1,key2,value2,shift+BITS)});
+            if(mask1<mask2)
+                return new Node<V>((1 << mask1) | (1 << mask2),0,2,new long[]{key1,key2},new Object[]{value1,value2},EMPTY.nodes);
+            return new Node<V>((1 << mask1) | (1 << mask2),0,2,new long[]{key2,key1},new Object[]{value2,value1},EMPTY.nodes);
+        }
+
+        Node<V> minus(long key, int shift){
+            int bit = 1 << mask(key,shift);
+            if((dataMap & bit)!=0){
+                int i = dataIndex(bit);
+                if(keys[i]!=key)
+                    return this;
+                if(size==1)
+                    return EMPTY;
+                return new Node<>(dataMap ^ bit,nodeMap,size-1,removeKey(keys,i),removeValue(values,i),nodes);
+            }
+            if((nodeMap & bit)!=0){
+                int ni = nodeIndex(bit);
+                Node<V> child = nodes[ni];
+                Node<V> updated = child.minus(key,shift+BITS);
+                if(updated==child)
+                    return this;
+                if(updated.size==1){
+                    if(dataMap==0 && nodes.length==1)
+                        return single(updated.keys[0],updated.values[0],shift);
+                    int i = dataIndex(bit);
+                    return new Node<>(dataMap | bit,nodeMap ^ bit,size-1,insertKey(keys,i,updated.keys[0]),
+                                      insertValue(values,i,updated.values[0]),removeNode(nodes,ni));
+                }
+                Node<V>[] newNodes = nodes.clone();
+                newNodes[ni]=updated;
+                return new Node<>(dataMap,nodeMap,size-1,keys,values,newNodes);
+            }
+            return this;
+        }
+
+        <R> Node<R> mapValues(Function<? super V, ? extends R> fn){
+            Object[] newValues = new Object[values.length];
+            for(int i=0;i<values.length;i++){
+                newValues[i]=fn.apply((V)values[i]);
+            }
+            Node<R>[] newNodes = new Node[nodes.length];
+            for(int i=0;i<nodes.length;i++){
+                newNodes[i]=nodes[i].mapValues(fn);
+            }
+            return new Node<>(dataMap,nodeMap,size,keys,newValues,newNodes);
+        }
+
+        static long[] insertKey(long[] keys, int index, long key){
+            long[] res = new long[keys.length+1];
+            System.arraycopy(keys,0,res,0,index);
+            res[index]=key;
+            System.arraycopy(keys,index,res,index+1,keys.length-index);
+            return res;
+        }
+
+        static long[] removeKey(long[] keys, int index){
+            long[] res = new long[keys.length-1];
+            System.arraycopy(keys,0,res,0,index);
+            System.arraycopy(keys,index+1,res,index,keys.length-index-1);
+            return res;
+        }
+
+        static Object[] insertValue(Object[] values, int index, Object value){
+            Object[] res = new Object[values.length+1];
+            System.arraycopy(values,0,res,0,index);
+            res[index]=value;
+            System.arraycopy(values,index,res,index+1,values.length-index);
+            return res;
+        }
+
+        static Object[] removeValue(Object[] values, int index){
+            Object[] res = new Object[values.length-1];
+            System.arraycopy(values,0,res,0,index);
+            System.arraycopy(values,index+1,res,index,values.length-index-1);
+            return res;
+        }
+
+        static <V> Node<V>[] insertNode(Node<V>[] nodes, int index, Node<V> node){
+            Node<V>[] res = new Node[nodes.length+1];
+            System.arraycopy(nodes,0,res,0,index);
+            res[index]=node;
+            System.arraycopy(nodes,index,res,index+1,nodes.length-index);
+            return res;
+        }
+
+        static <V> Node<V>[] removeNode(Node<V>[] nodes, int index){
+            Node<V>[] res = new Node[nodes.length-1];
+            System.arraycopy(nodes,0,res,0,index);
+            System.arraycopy(nodes,index+1,res,index,nodes.length-index-1);
+            return res;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this==o)
+                return true;
+            if(!(o instanceof Node))
+                return false;
+            Node<V> other = (Node<V>)o;
+            return dataMap==other.dataMap && nodeMap==other.nodeMap && size==other.size
+                    && Arrays.equals(keys,other.keys) && Arrays.equals(values,other.values)
+                    && Arrays.equals(nodes,other.nodes);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31*(31*Arrays.hashCode(keys) + Arrays.hashCode(values)) + Arrays.hashCode(nodes);
+        }
+    }
+}
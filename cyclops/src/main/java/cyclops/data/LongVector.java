@@ -0,0 +1,313 @@
+package cyclops.data;
+
+
+import cyclops.control.Option;
+import cyclops.reactive.ReactiveSeq;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent vector of unboxed long values. Elements are stored in 32 element long[] leaves of a 32 way trie
+ * (with a tail buffer for appends), so no per element boxing is required.
+ *
+ * <pre>
+ * {@code
+ *   LongVector v = LongVector.of(1,2,3)
+ *                         .plus(4);
+ *   ReactiveSeq<Long> s = v.stream();
+ * }
+ * </pre>
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LongVector implements Iterable<Long>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_ROOT = new Object[0];
+    private static final long[] EMPTY_TAIL = new long[0];
+    private static final LongVector EMPTY = new LongVector(EMPTY_ROOT, BITS, EMPTY_TAIL, 0);
+
+    private final Object[] root;
+    private final int shift;
+    private final long[] tail;
+    private final int size;
+
+    public static LongVector empty(){
+        return EMPTY;
+    }
+
+    public static LongVector of(long... values){
+        return fromArray(values,values.length);
+    }
+
+    public static LongVector fromStream(LongStream stream){
+        long[] values = stream.toArray();
+        return fromArray(values,values.length);
+    }
+
+    public static LongVector fromIterable(Iterable<Long> it){
+        if(it instanceof LongVector)
+            return (LongVector)it;
+        long[] values = new long[WIDTH];
+        int n = 0;
+        for(Long next : it){
+            if(n==values.length)
+                values = Arrays.copyOf(values,n*2);
+            values[n++]=next;
+        }
+        return fromArray(values,n);
+    }
+
+    public static LongVector range(long start, long end){
+        return fromStream(LongStream.range(start,end));
+    }
+
+    /*
+     * Build the trie bottom up, full leaves become the tree and the remainder (1-32 values) the tail
+     */
+    private static LongVector fromArray(long[] values, int n){
+        if(n==0)
+            return EMPTY;
+        int tailOffset = ((n - 1) >>> BITS) << BITS;
+        long[] tail = Arrays.copyOfRange(values, tailOffset, n);
+        if(tailOffset==0)
+            return new LongVector(EMPTY_ROOT,BITS,tail,n);
+        Object[] nodes = new Object[tailOffset >>> BITS];
+        for(int i=0;i<nodes.length;i++){
+            nodes[i] = Arrays.copyOfRange(values,i << BITS,(i+1) << BITS);
+        }
+        int shift = BITS;
+        while(nodes.length>WIDTH){
+            Object[] parents = new Object[(nodes.length + MASK) >>> BITS];
+            for(int i=0;i<parents.length;i++){
+                parents[i] = Arrays.copyOfRange(nodes,i << BITS,Math.min(nodes.length,(i+1) << BITS));
+            }
+            nodes = parents;
+            shift += BITS;
+        }
+        return new LongVector(nodes,shift,tail,n);
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size==0;
+    }
+
+    private int tailOffset(){
+        return size - tail.length;
+    }
+
+    private long[] leafFor(int index){
+        if(index>=tailOffset())
+            return tail;
+        Object node = root;
+        for(int level = shift; level > 0; level -= BITS){
+            node = ((Object[])node)[(index >>> level) & MASK];
+        }
+        return (long[])node;
+    }
+
+    public Option<Long> get(int index){
+        if(index<0 || index>=size)
+            return Option.none();
+        return Option.some(leafFor(index)[index & MASK]);
+    }
+
+    public long getOrElse(int index, long alt){
+        if(index<0 || index>=size)
+            return alt;
+        return leafFor(index)[index & MASK];
+    }
+
+    public LongVector plus(long value){
+        if(tail.length<WIDTH){
+            long[] newTail = Arrays.copyOf(tail,tail.length+1);
+            newTail[tail.length]=value;
+            return new LongVector(root,shift,newTail,size+1);
+        }
+        Object[] newRoot;
+        int newShift = shift;
+        if((size >>> BITS) > (1 << shift)){
+            newRoot = new Object[]{root,newPath(shift,tail)};
+            newShift += BITS;
+        }else{
+            newRoot = pushTail(shift,root,tail);
+        }
+        return new LongVector(newRoot,newShift,new long[]{value},size+1);
+    }
+
+    public LongVector append(long value){
+        return plus(value);
+    }
+
+    public LongVector appendAll(long... values){
+        if(values.length==0)
+            return this;
+        if(size==0)
+            return of(values);
+        LongVector res = this;
+        for(long next : values){
+            res = res.plus(next);
+        }
+        return res;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, long[] leaf){
+        int index = ((size - 1) >>> level) & MASK;
+        Object[] res = Arrays.copyOf(parent,index+1);
+        if(level==BITS){
+            res[index]=leaf;
+        }else if(index<parent.length){
+            res[index]=pushTail(level-BITS,(Object[])parent[index],leaf);
+        }else{
+            res[index]=newPath(level-BITS,leaf);
+        }
+        return res;
+    }
+
+    private static Object newPath(int level, long[] leaf){
+        if(level==0)
+            return leaf;
+        return new Object[]{newPath(level-BITS,leaf)};
+    }
+
+    public LongVector updateAt(int index, long value){
+        if(index<0 || index>=size)
+            return this;
+        if(index>=tailOffset()){
+            long[] newTail = tail.clone();
+            newTail[index & MASK]=value;
+            return new LongVector(root,shift,newTail,size);
+        }
+        return new LongVector((Object[])update(shift,root,index,value),shift,tail,size);
+    }
+
+    private static Object update(int level, Object node, int index, long value){
+        if(level==0){
+            long[] leaf = ((long[])node).clone();
+            leaf[index & MASK]=value;
+            return leaf;
+        }
+        Object[] res = ((Object[])node).clone();
+        int pos = (index >>> level) & MASK;
+        res[pos]=update(level-BITS,res[pos],index,value);
+        return res;
+    }
+
+    public LongVector map(LongUnaryOperator fn){
+        return fromStream(longStream().map(fn));
+    }
+
+    public LongVector filter(LongPredicate predicate){
+        return fromStream(longStream().filter(predicate));
+    }
+
+    public long foldLeft(long identity, LongBinaryOperator fn){
+        long res = identity;
+        for(int i=0;i<size;i+=WIDTH){
+            long[] leaf = leafFor(i);
+            for(long next : leaf){
+                res = fn.applyAsLong(res,next);
+            }
+        }
+        return res;
+    }
+
+    public void forEachLong(LongConsumer consumer){
+        for(int i=0;i<size;i+=WIDTH){
+            for(long next : leafFor(i)){
+                consumer.accept(next);
+            }
+        }
+    }
+
+    public long[] toArray(){
+        long[] res = new long[size];
+        for(int i=0;i<size;i+=WIDTH){
+            long[] leaf = leafFor(i);
+            System.arraycopy(leaf,0,res,i,leaf.length);
+        }
+        return res;
+    }
+
+    public LongStream longStream(){
+        return StreamSupport.longStream(Spliterators.spliterator(iterator(),size,
+                Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL),false);
+    }
+
+    public ReactiveSeq<Long> stream(){
+        return ReactiveSeq.fromLongStream(longStream());
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator(){
+        return new PrimitiveIterator.OfLong() {
+            int index = 0;
+            long[] leaf = EMPTY_TAIL;
+
+            @Override
+            public boolean hasNext() {
+                return index<size;
+            }
+
+            @Override
+            public long nextLong() {
+                if(index>=size)
+                    throw new NoSuchElementException();
+                if((index & MASK)==0)
+                    leaf = leafFor(index);
+                return leaf[index++ & MASK];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this==o)
+            return true;
+        if(!(o instanceof LongVector))
+            return false;
+        LongVector other = (LongVector)o;
+        if(size!=other.size)
+            return false;
+        for(int i=0;i<size;i+=WIDTH){
+            if(!Arrays.equals(leafFor(i),other.leafFor(i)))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for(int i=0;i<size;i+=WIDTH){
+            for(long next : leafFor(i)){
+                hashCode = 31*hashCode + Long.hashCode(next);
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return stream().join(", ","[","]");
+    }
+}
@@ -50,7 +50,18 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
     }
 
     public static <K,V> TreeMap<K,V> fromStream(Stream<Tuple2<K,V>> stream, Comparator<K> comp){
-        return ReactiveSeq.fromStream(stream).foldLeft(empty(comp),(m,t2)->m.put(t2._1(),t2._2()));
+        return new TreeMap<>(RedBlackTree.fromStream(comp,stream),comp);
+    }
+
+    /**
+     * Construct a TreeMap in linear time from entries already in strictly ascending key order (e.g. a sorted extract)
+     *
+     * @param sorted Entries sorted by comp with no duplicate keys
+     * @param comp Comparator the entries are sorted by
+     * @return TreeMap containing the entries
+     */
+    public static <K,V> TreeMap<K,V> fromSorted(Iterable<? extends Tuple2<? extends K,? extends V>> sorted, Comparator<K> comp){
+        return new TreeMap<>(RedBlackTree.fromIterable(comp,sorted),comp);
     }
     @Override
     public <R> TreeMap<K, R> mapValues(Function<? super V, ? extends R> map) {
@@ -149,9 +160,8 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
         return new TreeMap<>(RedBlackTree.fromStream(comp,s),comp);
     }
     public static <K,V> TreeMap<K,V> fromMap(Comparator<K> comp, PersistentMap<K,V> map){
-        if(map instanceof TreeMap){
-            TreeMap<K,V> t = (TreeMap)map;
-            return t.withComparator(comp);
+        if(map instanceof TreeMap && ((TreeMap<K,V>)map).comparator.equals(comp)){
+            return (TreeMap<K,V>)map;
         }
         return new TreeMap<>(RedBlackTree.fromStream(comp,map.stream()),comp);
     }
@@ -174,9 +184,44 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
 
     @Override
     public TreeMap<K, V> putAll(PersistentMap<? extends K, ? extends V> map) {
+        if(map instanceof TreeMap && sameOrder((TreeMap)map))
+            return union((TreeMap<K,V>)map);
         return map.stream().foldLeft(this,(m,next)->m.put(next._1(),next._2()));
     }
 
+    private boolean sameOrder(TreeMap<K,V> other){
+        return comparator.equals(other.comparator);
+    }
+
+    /**
+     * Merge two TreeMaps, in linear time where both are ordered by the same Comparator
+     *
+     * @return TreeMap with the entries of both maps, where a key is present in both the value from other is used
+     */
+    public TreeMap<K,V> union(TreeMap<K,V> other){
+        if(sameOrder(other))
+            return new TreeMap<>(RedBlackTree.union(map,other.map),comparator);
+        return other.stream().foldLeft(this,(m,next)->m.put(next._1(),next._2()));
+    }
+
+    /**
+     * @return TreeMap with the entries of this map whose keys are also present in other (linear time where both are ordered by the same Comparator)
+     */
+    public TreeMap<K,V> intersection(TreeMap<K,V> other){
+        if(sameOrder(other))
+            return new TreeMap<>(RedBlackTree.intersection(map,other.map),comparator);
+        return filterKeys(other::containsKey);
+    }
+
+    /**
+     * @return TreeMap with the entries of this map whose keys are not present in other (linear time where both are ordered by the same Comparator)
+     */
+    public TreeMap<K,V> difference(TreeMap<K,V> other){
+        if(sameOrder(other))
+            return new TreeMap<>(RedBlackTree.difference(map,other.map),comparator);
+        return filterKeys(k->!other.containsKey(k));
+    }
+
     @Override
     public TreeMap<K, V> remove(K key) {
         return new TreeMap<>(map.minus(key), comparator);
@@ -220,6 +265,99 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
         return map.size();
     }
 
+    /**
+     * @return The number of keys in this TreeMap strictly less than the supplied key
+     */
+    public int rank(K key){
+        return map.rank(key);
+    }
+
+    /**
+     * @return The entry at the supplied position in key order
+     */
+    public Option<Tuple2<K,V>> select(int index){
+        return map.select(index);
+    }
+
+    /**
+     * @return The entry with the largest key less than or equal to the supplied key
+     */
+    public Option<Tuple2<K,V>> floor(K key){
+        return map.floor(key);
+    }
+
+    /**
+     * @return The entry with the smallest key greater than or equal to the supplied key
+     */
+    public Option<Tuple2<K,V>> ceiling(K key){
+        return map.ceiling(key);
+    }
+
+    /**
+     * @return The entry with the largest key strictly less than the supplied key
+     */
+    public Option<Tuple2<K,V>> lower(K key){
+        return map.lower(key);
+    }
+
+    /**
+     * @return The entry with the smallest key strictly greater than the supplied key
+     */
+    public Option<Tuple2<K,V>> higher(K key){
+        return map.higher(key);
+    }
+
+    /**
+     * Lazily stream the entries with keys between the supplied bounds, without traversing the rest of the map
+     *
+     * <pre>
+     * {@code
+     *  TreeMap.of(Comparator.naturalOrder(),1,"a",2,"b")
+     *         .rangeStream(2,true,10,false);
+     *
+     *  //ReactiveSeq[(2,"b")]
+     * }
+     * </pre>
+     */
+    public ReactiveSeq<Tuple2<K,V>> rangeStream(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive){
+        return map.stream(Option.some(fromKey),fromInclusive,Option.some(toKey),toInclusive);
+    }
+
+    /**
+     * @return Lazily iterated entries with keys less than (or, if inclusive, equal to) toKey
+     */
+    public ReactiveSeq<Tuple2<K,V>> headStream(K toKey, boolean inclusive){
+        return map.stream(Option.none(),true,Option.some(toKey),inclusive);
+    }
+
+    /**
+     * @return Lazily iterated entries with keys greater than (or, if inclusive, equal to) fromKey
+     */
+    public ReactiveSeq<Tuple2<K,V>> tailStream(K fromKey, boolean inclusive){
+        return map.stream(Option.some(fromKey),inclusive,Option.none(),true);
+    }
+
+    /**
+     * @return TreeMap containing the entries with keys from fromKey (inclusive) to toKey (exclusive)
+     */
+    public TreeMap<K,V> subMap(K fromKey, K toKey){
+        return fromStream(rangeStream(fromKey,true,toKey,false),comparator);
+    }
+
+    /**
+     * @return TreeMap containing the entries with keys strictly less than toKey
+     */
+    public TreeMap<K,V> headMap(K toKey){
+        return fromStream(headStream(toKey,false),comparator);
+    }
+
+    /**
+     * @return TreeMap containing the entries with keys greater than or equal to fromKey
+     */
+    public TreeMap<K,V> tailMap(K fromKey){
+        return fromStream(tailStream(fromKey,true),comparator);
+    }
+
     @Override
     public <K2, V2> DMap.Two<K, V, K2, V2> merge(ImmutableMap<K2, V2> one) {
         return DMap.two(this,one);
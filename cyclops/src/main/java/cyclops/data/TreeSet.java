@@ -60,13 +60,13 @@ public final class TreeSet<T> implements ImmutableSortedSet<T>,
         return new TreeSet<T>( RedBlackTree.empty(comp),comp);
     }
     public static <T> TreeSet<T> fromStream(Stream<T> stream, Comparator<? super T> comp){
-        return ReactiveSeq.fromStream(stream).foldLeft(empty(comp),(m,t2)->m.plus(t2));
+        return new TreeSet<T>(RedBlackTree.fromStream(comp,stream.map(t->Tuple.tuple(t,t))),comp);
     }
     public static <T> TreeSet<T> fromIterable(Iterable<T> it,Comparator<? super T> comp){
-        return ReactiveSeq.fromIterable(it).foldLeft(empty(comp),(m, t2)->m.plus(t2));
+        return fromStream(ReactiveSeq.fromIterable(it),comp);
     }
     public static <T extends Comparable<? super T>> TreeSet<T> fromIterable(Iterable<T> it){
-      return ReactiveSeq.fromIterable(it).foldLeft(empty(Comparators.naturalComparator()),(m, t2)->m.plus(t2));
+      return fromStream(ReactiveSeq.fromIterable(it),Comparators.naturalComparator());
     }
 
     static <U, T> TreeSet<T> unfold(final U seed, final Function<? super U, Option<Tuple2<T, U>>> unfolder) {
@@ -118,24 +118,13 @@ public final class TreeSet<T> implements ImmutableSortedSet<T>,
     }
 
     public static <T> TreeSet<T> of(Comparator<? super T> comp, T... values){
-        RedBlackTree.Tree<T, T> tree = RedBlackTree.empty(comp);
-        for(T value : values){
-            tree = RedBlackTree.rootIsBlack(tree.plus(value,value));
-
-        }
-        return new TreeSet<>(tree,comp);
+        return fromStream(Stream.of(values),comp);
     }
     public static <T extends Comparable<? super T>> TreeSet<T> of(T... values){
-        RedBlackTree.Tree<T, T> tree = RedBlackTree.empty(Comparator.naturalOrder());
-        for(T value : values){
-            tree = RedBlackTree.rootIsBlack(tree.plus(value,value));
-
-        }
-        return new TreeSet<>(tree,Comparator.naturalOrder());
+        return fromStream(Stream.of(values),Comparator.naturalOrder());
     }
     public static <T> TreeSet<T> fromSortedSet(SortedSet<T> set, Comparator<? super T> comp){
-        Stream<Tuple2<T,T>> s = set.stream().map(e -> Tuple.tuple(e,e));
-        return new TreeSet<T>(RedBlackTree.fromStream(set.comparator(),s),comp);
+        return fromStream(set.stream(),comp);
     }
 
     public boolean containsValue(T value){
@@ -245,7 +234,124 @@ public final class TreeSet<T> implements ImmutableSortedSet<T>,
 
     @Override
     public Option<T> get(int index) {
-        return stream().elementAt(index);
+        return select(index);
+    }
+
+    private boolean sameOrder(TreeSet<T> other){
+        return comp.equals(other.comp);
+    }
+
+    /**
+     * @return TreeSet with the elements of both sets (linear time where both are ordered by the same Comparator)
+     */
+    public TreeSet<T> union(TreeSet<T> other){
+        if(sameOrder(other))
+            return new TreeSet<>(RedBlackTree.union(map,other.map),comp);
+        return plusAll(other);
+    }
+
+    /**
+     * @return TreeSet with the elements of this set that are also in other (linear time where both are ordered by the same Comparator)
+     */
+    public TreeSet<T> intersection(TreeSet<T> other){
+        if(sameOrder(other))
+            return new TreeSet<>(RedBlackTree.intersection(map,other.map),comp);
+        return fromStream(stream().filter(other::containsValue),comp);
+    }
+
+    /**
+     * @return TreeSet with the elements of this set that are not in other (linear time where both are ordered by the same Comparator)
+     */
+    public TreeSet<T> difference(TreeSet<T> other){
+        if(sameOrder(other))
+            return new TreeSet<>(RedBlackTree.difference(map,other.map),comp);
+        return fromStream(stream().filter(e->!other.containsValue(e)),comp);
+    }
+
+    /**
+     * @return The number of elements in this TreeSet strictly less than the supplied value
+     */
+    public int rank(T value){
+        return map.rank(value);
+    }
+
+    /**
+     * @return The element at the supplied position in sort order
+     */
+    public Option<T> select(int index){
+        return map.select(index).map(Tuple2::_1);
+    }
+
+    /**
+     * @return The largest element less than or equal to the supplied value
+     */
+    public Option<T> floor(T value){
+        return map.floor(value).map(Tuple2::_1);
+    }
+
+    /**
+     * @return The smallest element greater than or equal to the supplied value
+     */
+    public Option<T> ceiling(T value){
+        return map.ceiling(value).map(Tuple2::_1);
+    }
+
+    /**
+     * @return The largest element strictly less than the supplied value
+     */
+    public Option<T> lower(T value){
+        return map.lower(value).map(Tuple2::_1);
+    }
+
+    /**
+     * @return The smallest element strictly greater than the supplied value
+     */
+    public Option<T> higher(T value){
+        return map.higher(value).map(Tuple2::_1);
+    }
+
+    /**
+     * Lazily stream the elements between the supplied bounds, without traversing the rest of the set
+     *
+     * <pre>
+     * {@code
+     *  TreeSet.of(1,2,3,4,5)
+     *         .rangeStream(2,true,4,false);
+     *
+     *  //ReactiveSeq[2,3]
+     * }
+     * </pre>
+     */
+    public ReactiveSeq<T> rangeStream(T fromElement, boolean fromInclusive, T toElement, boolean toInclusive){
+        return map.stream(Option.some(fromElement),fromInclusive,Option.some(toElement),toInclusive).map(t->t._1());
+    }
+
+    /**
+     * @return Lazily iterated elements less than (or, if inclusive, equal to) toElement
+     */
+    public ReactiveSeq<T> headStream(T toElement, boolean inclusive){
+        return map.stream(Option.none(),true,Option.some(toElement),inclusive).map(t->t._1());
+    }
+
+    /**
+     * @return Lazily iterated elements greater than (or, if inclusive, equal to) fromElement
+     */
+    public ReactiveSeq<T> tailStream(T fromElement, boolean inclusive){
+        return map.stream(Option.some(fromElement),inclusive,Option.none(),true).map(t->t._1());
+    }
+
+    /**
+     * @return TreeSet containing the elements strictly less than toElement
+     */
+    public TreeSet<T> headSet(T toElement){
+        return fromStream(headStream(toElement,false),comp);
+    }
+
+    /**
+     * @return TreeSet containing the elements greater than or equal to fromElement
+     */
+    public TreeSet<T> tailSet(T fromElement){
+        return fromStream(tailStream(fromElement,true),comp);
     }
 
 
@@ -264,20 +370,19 @@ public final class TreeSet<T> implements ImmutableSortedSet<T>,
     @Override
     public ImmutableSortedSet<T> subSet(T fromElement, T toElement) {
 
-       return fromStream(stream().dropWhile(e-> !Objects.equals(e,fromElement))
-                                 .takeUntil(e->Objects.equals(e,toElement)),comp);
+       return fromStream(rangeStream(fromElement,true,toElement,false),comp);
 
     }
 
 
     @Override
     public Option<T> first() {
-        return Option.fromIterable(this);
+        return select(0);
     }
 
     @Override
     public Option<T> last() {
-        return stream().limitLast(1).takeOne();
+        return select(size()-1);
     }
 
     @Override
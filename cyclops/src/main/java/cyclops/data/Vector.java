@@ -1,6 +1,7 @@
 package cyclops.data;
 
 
+import com.oath.cyclops.internal.stream.spliterators.IndexedSpliterator;
 import com.oath.cyclops.hkt.DataWitness.vector;
 import com.oath.cyclops.hkt.Higher;
 import com.oath.cyclops.types.persistent.PersistentCollection;
@@ -123,24 +124,34 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> removeAt(int i) {
-        return (Vector<T>)ImmutableList.super.removeAt(i);
+        return removeAt((long)i);
     }
     @Override
     public Vector<T> removeAt(long pos) {
-        return unitStream(stream().removeAt(pos));
+        if(pos<0 || pos>=size)
+            return this;
+        return take(pos).concat(drop(pos+1));
     }
     @Override
     public Vector<T> insertAt(int pos, T... values) {
-        return (Vector<T>)ImmutableList.super.insertAt(pos,values);
+        return insertAt(pos,Vector.of(values));
     }
     @Override
     public Vector<T> insertAt(int i, T e){
-        return (Vector<T>)ImmutableList.super.insertAt(i,e);
+        if(i<=0)
+            return prepend(e);
+        if(i>=size)
+            return append(e);
+        return take(i).append(e).concat(drop(i));
     }
 
     @Override
     public Vector<T> insertAt(int pos, Iterable<? extends T> values) {
-        return (Vector<T>)ImmutableList.super.insertAt(pos,values);
+        if(pos<=0)
+            return prependAll(values);
+        if(pos>=size)
+            return appendAll(values);
+        return take(pos).concat(fromIterable((Iterable<T>)values)).concat(drop(pos));
     }
     @Override
     public Vector<T> insertAt(int pos, ReactiveSeq<? extends T> values) {
@@ -226,7 +237,12 @@ public class Vector<T> implements ImmutableList<T>,
     }
 
     public ReactiveSeq<T> stream(){
-        return ReactiveSeq.concat(root.stream(),tail.stream());
+        return ReactiveSeq.fromSpliterator(spliterator());
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new IndexedSpliterator<>(size,i->getOrElse(i,null),()->ReactiveSeq.concat(root.stream(),tail.stream()).spliterator());
     }
 
     public Vector<T> filter(Predicate<? super T> pred){
@@ -573,7 +589,8 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> slice(long from, long to) {
-        return (Vector<T>) ImmutableList.super.slice(from,to);
+        long start = Math.max(0,from);
+        return drop(start).take(to-start);
     }
 
 
@@ -594,7 +611,9 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> deleteBetween(int start, int end) {
-        return (Vector<T>) ImmutableList.super.deleteBetween(start,end);
+        if(end<=start)
+            return this;
+        return take(start).concat(drop(end));
     }
 
     @Override
@@ -719,31 +738,11 @@ public class Vector<T> implements ImmutableList<T>,
     }
 
     public Vector<T> takeRight(int num){
-        if(num<=0)
-            return empty();
-        if(num>=size())
-            return this;
-        if(num==tail.size())
-            return new Vector<>(new BAMT.Zero<>(),tail,num);
-        if(num<tail.size()){
-            BAMT.ActiveTail<T> newTail = tail.takeRight(num);
-            return new Vector<>(new BAMT.Zero<>(),newTail,newTail.size());
-        }
-        return (Vector<T>)ImmutableList.super.dropRight(num);
+        return drop(size()-(long)num);
     }
 
     public Vector<T> dropRight(int num){
-        if(num<=0)
-            return this;
-        if(num>=size())
-            return empty();
-        if(tail.size()==1){
-            return new Vector<>(this.root,BAMT.ActiveTail.emptyTail(),size()-1).drop(num-1);
-        }
-        if(tail.size()>0){
-            return new Vector<>(this.root,tail.dropRight(num),size()-(Math.max(tail.size(),num))).dropRight(num-tail.size());
-        }
-        return unitStream(stream().dropRight(num));
+        return take(size()-(long)num);
     }
     @Override
     public Vector<T> drop(long num) {
@@ -751,10 +750,11 @@ public class Vector<T> implements ImmutableList<T>,
             return this;
         if(num>=size())
             return empty();
-        if(size()<32){
-            return new Vector<>(this.root,tail.drop((int)num),size()-1);
+        int rootSize = size-tail.size();
+        if(num>=rootSize){
+            return new Vector<>(new BAMT.Zero<>(),tail.drop((int)num-rootSize),size-(int)num);
         }
-        return unitStream(stream().drop(num));
+        return new Vector<>(BAMT.Relaxed.fromNested(root).drop((int)num),tail,size-(int)num);
     }
 
     @Override
@@ -763,21 +763,22 @@ public class Vector<T> implements ImmutableList<T>,
             return empty();
         if(num>=size())
             return this;
-        if(size()<32){
-            return new Vector<T>(this.root,tail.dropRight(Math.max(tail.size()-(int)num,0)),(int)num);
+        int rootSize = size-tail.size();
+        if(num>=rootSize){
+            return new Vector<T>(this.root,tail.dropRight(size-(int)num),(int)num);
         }
-        return unitStream(stream().take(num));
+        return new Vector<T>(BAMT.Relaxed.fromNested(root).take((int)num),BAMT.ActiveTail.emptyTail(),(int)num);
     }
 
     @Override
     public Vector<T> prepend(T value) {
-        return unitStream(stream().prepend(value));
+        return Vector.of(value).concat(this);
     }
 
 
     @Override
     public Vector<T> prependAll(Iterable<? extends T> value) {
-        return unitStream(stream().prependAll(value));
+        return fromIterable((Iterable<T>)value).concat(this);
     }
 
     public Vector<T> append(T value) {
@@ -786,6 +787,9 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> appendAll(Iterable<? extends T> value) {
+        if(value instanceof Vector){
+            return concat((Vector<T>)value);
+        }
         Vector<T> vec = this;
 
         for(T next : value){
@@ -793,6 +797,31 @@ public class Vector<T> implements ImmutableList<T>,
         }
         return vec;
     }
+
+    /**
+     * Concatenate two Vectors in O(log n) time, the trie of this Vector is merged with the trie of the supplied Vector
+     * as a relaxed radix balanced tree.
+     *
+     * @param right Vector to append
+     * @return Vector containing the elements of this Vector followed by the elements of right
+     */
+    public Vector<T> concat(Vector<T> right){
+        if(right.isEmpty())
+            return this;
+        if(isEmpty())
+            return right;
+        if(right.root instanceof BAMT.Zero){
+            Vector<T> vec = this;
+            for(int i=0;i<right.size;i++){
+                vec = vec.plus(right.tail.getOrElse(i,null));
+            }
+            return vec;
+        }
+        BAMT.Relaxed<T> left = BAMT.Relaxed.fromNested(root);
+        if(tail.size()>0)
+            left = left==null ? BAMT.Relaxed.leaf(tail) : left.appendLeaf(tail.getNestedArrayAt(0));
+        return new Vector<>(left.concat(BAMT.Relaxed.fromNested(right.root)),right.tail,size+right.size);
+    }
     public Vector<T> subList(int start, int end){
         return drop(start).take(end-start);
     }
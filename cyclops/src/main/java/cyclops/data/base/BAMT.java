@@ -5,6 +5,8 @@ import cyclops.reactive.ReactiveSeq;
 import lombok.AllArgsConstructor;
 
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -847,4 +849,504 @@ public class BAMT<T> {
                     });
         }
     }
+    /**
+     * Relaxed radix balanced trie (RRB-tree) used once a Vector has been sliced, prepended to or concatenated.
+     *
+     * Internal nodes are either regular BAMT style nested arrays (every child except the last is full, so lookups use
+     * the same 32-way radix path as {@link Two} - {@link Six}) or relaxed nodes whose final slot holds an int[] of
+     * cumulative child sizes. Concatenation, drop and take are O(log n).
+     */
+    public static final class Relaxed<T> implements PopulatedArray<T>{
+        static final int BRANCHING = 32;
+        static final int INVARIANT = 1;
+        static final int EXTRAS = 2;
+
+        private final Object[] node;
+        private final int height;
+        private final int size;
+
+        private Relaxed(Object[] node, int height, int size) {
+            this.node = node;
+            this.height = height;
+            this.size = size;
+        }
+
+        public static <T> Relaxed<T> leaf(ActiveTail<T> tail){
+            return new Relaxed<>(tail.array,0,tail.array.length);
+        }
+
+        /**
+         * View a fixed depth BAMT array as an RRB-tree without copying
+         *
+         * @param array Populated BAMT array
+         * @return RRB-tree sharing the nodes of the supplied array, or null if it is empty
+         */
+        public static <T> Relaxed<T> fromNested(NestedArray<T> array){
+            if(array instanceof Relaxed)
+                return (Relaxed<T>)array;
+            if(array instanceof One)
+                return of(((One<T>)array).array,0);
+            if(array instanceof Two)
+                return of(((Two<T>)array).array,1);
+            if(array instanceof Three)
+                return of(((Three<T>)array).array,2);
+            if(array instanceof Four)
+                return of(((Four<T>)array).array,3);
+            if(array instanceof Five)
+                return of(((Five<T>)array).array,4);
+            if(array instanceof Six)
+                return of(((Six<T>)array).array,5);
+            return null;
+        }
+
+        private static <T> Relaxed<T> of(Object[] node, int height){
+            while(height>0 && width(node,height)==1){
+                node = (Object[])node[0];
+                height--;
+            }
+            return new Relaxed<>(node,height,sizeOf(node,height));
+        }
+
+        public int size(){
+            return size;
+        }
+
+        public int height(){
+            return height;
+        }
+
+        public Relaxed<T> appendLeaf(Object[] leaf){
+            if(leaf.length==0)
+                return this;
+            if(height==0)
+                return new Relaxed<>(parent(node,size,leaf,leaf.length,0),1,size+leaf.length);
+            Object[] pushed = pushLeaf(node,height,leaf);
+            if(pushed!=null)
+                return new Relaxed<>(pushed,height,size+leaf.length);
+            return new Relaxed<>(parent(node,size,newPath(leaf,height),leaf.length,height),height+1,size+leaf.length);
+        }
+
+        @Override
+        public NestedArray<T> append(ActiveTail<T> tail) {
+            return appendLeaf(tail.array);
+        }
+
+        public Relaxed<T> concat(Relaxed<T> right){
+            Object[] res = concatSubTree(node,height,right.node,right.height);
+            int h = Math.max(height,right.height)+1;
+            while(h>0 && width(res,h)==1){
+                res = (Object[])res[0];
+                h--;
+            }
+            return new Relaxed<>(res,h,size+right.size);
+        }
+
+        /**
+         * @param count Number of elements to keep, must be in the range 1 to size-1
+         */
+        public Relaxed<T> take(int count){
+            return of(takeNode(node,height,count),height);
+        }
+
+        /**
+         * @param count Number of elements to remove from the front, must be in the range 1 to size-1
+         */
+        public Relaxed<T> drop(int count){
+            return of(dropNode(node,height,count),height);
+        }
+
+        @Override
+        public Option<T> get(int pos) {
+            if(pos<0 || pos>=size)
+                return Option.none();
+            return Option.of((T)find(pos,false));
+        }
+
+        @Override
+        public T getOrElse(int pos, T alt) {
+            if(pos<0 || pos>=size)
+                return alt;
+            return (T)find(pos,false);
+        }
+
+        @Override
+        public T getOrElseGet(int pos, Supplier<T> alt) {
+            if(pos<0 || pos>=size)
+                return alt.get();
+            return (T)find(pos,false);
+        }
+
+        @Override
+        public T[] getNestedArrayAt(int pos) {
+            if(pos<0 || pos>=size)
+                return (T[])new Object[0];
+            return (T[])find(pos,true);
+        }
+
+        @Override
+        public Relaxed<T> set(int pos, T value) {
+            if(pos<0 || pos>=size)
+                return this;
+            return new Relaxed<>(update(node,height,pos,value),height,size);
+        }
+
+        @Override
+        public ReactiveSeq<T> stream() {
+            return ReactiveSeq.fromIterable(()->new LeafIterator<>(node,height));
+        }
+
+        private Object find(int pos, boolean leaf){
+            Object[] n = node;
+            int i = pos;
+            for(int h=height;h>0;h--){
+                int shift = BITS_IN_INDEX*h;
+                int idx = i>>>shift;
+                if(isRelaxed(n)){
+                    int[] sizes = sizes(n);
+                    while(sizes[idx]<=i)
+                        idx++;
+                    if(idx>0)
+                        i-=sizes[idx-1];
+                }else{
+                    i-= idx<<shift;
+                }
+                n = (Object[])n[idx];
+            }
+            return leaf ? n : n[i];
+        }
+
+        private static Object[] update(Object[] n, int h, int i, Object value){
+            Object[] copy = copyOf(n,n.length);
+            if(h==0){
+                copy[i]=value;
+                return copy;
+            }
+            int shift = BITS_IN_INDEX*h;
+            int idx = i>>>shift;
+            if(isRelaxed(n)){
+                int[] sizes = sizes(n);
+                while(sizes[idx]<=i)
+                    idx++;
+                if(idx>0)
+                    i-=sizes[idx-1];
+            }else{
+                i-= idx<<shift;
+            }
+            copy[idx] = update((Object[])n[idx],h-1,i,value);
+            return copy;
+        }
+
+        static boolean isRelaxed(Object[] n){
+            return n[n.length-1] instanceof int[];
+        }
+        static int[] sizes(Object[] n){
+            return (int[])n[n.length-1];
+        }
+        static int width(Object[] n, int height){
+            return height>0 && isRelaxed(n) ? n.length-1 : n.length;
+        }
+        static int capacity(int height){
+            return 1<<(BITS_IN_INDEX*(height+1));
+        }
+        static Object[] copyOf(Object[] n, int length){
+            return Arrays.copyOf(n,length,Object[].class);
+        }
+        static int sizeOf(Object[] n, int height){
+            int total = 0;
+            for(;height>0;height--){
+                if(isRelaxed(n)){
+                    int[] sizes = sizes(n);
+                    return total+sizes[sizes.length-1];
+                }
+                total+=(n.length-1)<<(BITS_IN_INDEX*height);
+                n = (Object[])n[n.length-1];
+            }
+            return total+n.length;
+        }
+        private static int slots(Object[] n, int height){
+            return width(n,height);
+        }
+
+        private static Object[] newPath(Object[] leaf, int height){
+            Object[] n = leaf;
+            for(int h=0;h<height;h++){
+                n = new Object[]{n};
+            }
+            return n;
+        }
+
+        /*
+         * Node one level above height h, with left & right as its only children
+         */
+        private static Object[] parent(Object[] left, int leftSize, Object[] right, int rightSize, int height){
+            if(leftSize==capacity(height))
+                return new Object[]{left,right};
+            return new Object[]{left,right,new int[]{leftSize,leftSize+rightSize}};
+        }
+
+        /*
+         * Relaxed node at height h from children at height h-1
+         */
+        private static Object[] relaxedNode(Object[] children, int from, int to, int height){
+            Object[] res = new Object[to-from+1];
+            int[] sizes = new int[to-from];
+            int total = 0;
+            for(int i=from;i<to;i++){
+                Object[] child = (Object[])children[i];
+                total+=sizeOf(child,height-1);
+                res[i-from]=child;
+                sizes[i-from]=total;
+            }
+            res[to-from]=sizes;
+            return res;
+        }
+
+        private static Object[] toRelaxed(Object[] n, int height){
+            return isRelaxed(n) ? n : relaxedNode(n,0,n.length,height);
+        }
+
+        private static Object[] pushLeaf(Object[] n, int height, Object[] leaf){
+            int w = width(n,height);
+            if(height==1){
+                if(w==BRANCHING)
+                    return null;
+                Object[] last = (Object[])n[w-1];
+                return appendChild(last.length==BRANCHING ? n : toRelaxed(n,height),w,leaf,leaf.length);
+            }
+            Object[] last = (Object[])n[w-1];
+            Object[] pushed = pushLeaf(last,height-1,leaf);
+            if(pushed!=null){
+                Object[] copy = copyOf(n,n.length);
+                copy[w-1]=pushed;
+                if(isRelaxed(n)){
+                    int[] sizes = sizes(n).clone();
+                    sizes[w-1]+=leaf.length;
+                    copy[w]=sizes;
+                }
+                return copy;
+            }
+            if(w==BRANCHING)
+                return null;
+            Object[] base = isRelaxed(n) || sizeOf(last,height-1)==capacity(height-1) ? n : toRelaxed(n,height);
+            return appendChild(base,w,newPath(leaf,height-1),leaf.length);
+        }
+
+        private static Object[] appendChild(Object[] n, int w, Object[] child, int childSize){
+            if(!isRelaxed(n)){
+                Object[] res = copyOf(n,w+1);
+                res[w]=child;
+                return res;
+            }
+            int[] sizes = sizes(n);
+            Object[] res = new Object[w+2];
+            System.arraycopy(n,0,res,0,w);
+            res[w]=child;
+            int[] newSizes = Arrays.copyOf(sizes,w+1);
+            newSizes[w]=sizes[w-1]+childSize;
+            res[w+1]=newSizes;
+            return res;
+        }
+
+        private static Object[] takeNode(Object[] n, int height, int count){
+            if(height==0)
+                return count==n.length ? n : copyOf(n,count);
+            int shift = BITS_IN_INDEX*height;
+            int idx = (count-1)>>>shift;
+            if(isRelaxed(n)){
+                int[] sizes = sizes(n);
+                while(sizes[idx]<count)
+                    idx++;
+                int before = idx==0 ? 0 : sizes[idx-1];
+                Object[] res = new Object[idx+2];
+                System.arraycopy(n,0,res,0,idx);
+                res[idx]=takeNode((Object[])n[idx],height-1,count-before);
+                int[] newSizes = Arrays.copyOf(sizes,idx+1);
+                newSizes[idx]=count;
+                res[idx+1]=newSizes;
+                return res;
+            }
+            Object[] res = copyOf(n,idx+1);
+            res[idx]=takeNode((Object[])n[idx],height-1,count-(idx<<shift));
+            return res;
+        }
+
+        private static Object[] dropNode(Object[] n, int height, int count){
+            if(height==0)
+                return Arrays.copyOfRange(n,count,n.length,Object[].class);
+            int shift = BITS_IN_INDEX*height;
+            int w = width(n,height);
+            int idx = count>>>shift;
+            int[] sizes;
+            if(isRelaxed(n)){
+                sizes = sizes(n);
+                while(sizes[idx]<=count)
+                    idx++;
+            }else{
+                sizes = new int[w];
+                for(int i=0;i<w-1;i++){
+                    sizes[i] = (i+1)<<shift;
+                }
+                sizes[w-1] = sizeOf(n,height);
+            }
+            int before = idx==0 ? 0 : sizes[idx-1];
+            Object[] res = new Object[w-idx+1];
+            res[0] = dropNode((Object[])n[idx],height-1,count-before);
+            System.arraycopy(n,idx+1,res,1,w-idx-1);
+            int[] newSizes = new int[w-idx];
+            for(int i=0;i<newSizes.length;i++){
+                newSizes[i]=sizes[idx+i]-count;
+            }
+            res[w-idx]=newSizes;
+            return res;
+        }
+
+        /*
+         * Concatenate two sub trees, the result is a node one level above the highest input
+         */
+        private static Object[] concatSubTree(Object[] left, int leftHeight, Object[] right, int rightHeight){
+            if(leftHeight>rightHeight){
+                Object[] mid = concatSubTree((Object[])left[width(left,leftHeight)-1],leftHeight-1,right,rightHeight);
+                return rebalance(left,mid,null,leftHeight);
+            }
+            if(leftHeight<rightHeight){
+                Object[] mid = concatSubTree(left,leftHeight,(Object[])right[0],rightHeight-1);
+                return rebalance(null,mid,right,rightHeight);
+            }
+            if(leftHeight==0){
+                if(left.length+right.length<=BRANCHING){
+                    Object[] merged = copyOf(left,left.length+right.length);
+                    System.arraycopy(right,0,merged,left.length,right.length);
+                    return new Object[]{merged};
+                }
+                return parent(left,left.length,right,right.length,0);
+            }
+            Object[] mid = concatSubTree((Object[])left[width(left,leftHeight)-1],leftHeight-1,(Object[])right[0],rightHeight-1);
+            return rebalance(left,mid,right,leftHeight);
+        }
+
+        /*
+         * Merge all but the last child of left, the children of mid and all but the first child of right,
+         * redistributing slots so the result stays within EXTRAS nodes of optimal. Returns a node at height+1.
+         */
+        private static Object[] rebalance(Object[] left, Object[] mid, Object[] right, int height){
+            int leftWidth = left==null ? 0 : width(left,height)-1;
+            int midWidth = width(mid,height);
+            int rightWidth = right==null ? 0 : width(right,height)-1;
+            Object[] all = new Object[leftWidth+midWidth+rightWidth];
+            if(left!=null)
+                System.arraycopy(left,0,all,0,leftWidth);
+            System.arraycopy(mid,0,all,leftWidth,midWidth);
+            if(right!=null)
+                System.arraycopy(right,1,all,leftWidth+midWidth,rightWidth);
+
+            int[] plan = new int[all.length];
+            int total = 0;
+            for(int i=0;i<all.length;i++){
+                plan[i]=slots((Object[])all[i],height-1);
+                total+=plan[i];
+            }
+            int optimal = (total+BRANCHING-1)/BRANCHING;
+            int length = all.length;
+            int i = 0;
+            while(optimal+EXTRAS<length){
+                while(plan[i]>BRANCHING-INVARIANT)
+                    i++;
+                int remaining = plan[i];
+                do{
+                    int minSize = Math.min(remaining+plan[i+1],BRANCHING);
+                    plan[i]=minSize;
+                    remaining = remaining + plan[i+1] - minSize;
+                    i++;
+                }while(remaining>0);
+                System.arraycopy(plan,i+1,plan,i,length-i-1);
+                length--;
+                i--;
+            }
+            Object[] nodes = length==all.length ? all : redistribute(all,plan,length,height-1);
+            if(length<=BRANCHING)
+                return new Object[]{relaxedNode(nodes,0,length,height)};
+            Object[] l = relaxedNode(nodes,0,BRANCHING,height);
+            Object[] r = relaxedNode(nodes,BRANCHING,length,height);
+            return parent(l,sizeOf(l,height),r,sizeOf(r,height),height);
+        }
+
+        private static Object[] redistribute(Object[] all, int[] plan, int length, int height){
+            Object[] nodes = new Object[length];
+            int src = 0;
+            int offset = 0;
+            for(int i=0;i<length;i++){
+                Object[] current = (Object[])all[src];
+                if(offset==0 && slots(current,height)==plan[i]){
+                    nodes[i]=current;
+                    src++;
+                    continue;
+                }
+                Object[] slots = new Object[plan[i]];
+                int filled = 0;
+                while(filled<plan[i]){
+                    current = (Object[])all[src];
+                    int available = slots(current,height)-offset;
+                    int copy = Math.min(available,plan[i]-filled);
+                    System.arraycopy(current,offset,slots,filled,copy);
+                    filled+=copy;
+                    offset+=copy;
+                    if(offset==slots(current,height)){
+                        src++;
+                        offset=0;
+                    }
+                }
+                nodes[i] = height==0 ? slots : relaxedNode(slots,0,slots.length,height);
+            }
+            return nodes;
+        }
+
+        private static final class LeafIterator<T> implements Iterator<T> {
+            private final Object[][] path;
+            private final int[] index;
+            private final int height;
+            private Object[] leaf;
+            private int pos;
+
+            LeafIterator(Object[] root, int height) {
+                this.height = height;
+                this.path = new Object[height+1][];
+                this.index = new int[height+1];
+                path[height]=root;
+                descend(height);
+            }
+
+            private void descend(int from){
+                for(int h=from;h>0;h--){
+                    path[h-1]=(Object[])path[h][index[h]];
+                    index[h-1]=0;
+                }
+                leaf = path[0];
+                pos=0;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return leaf!=null && pos<leaf.length;
+            }
+
+            @Override
+            public T next() {
+                if(!hasNext())
+                    throw new NoSuchElementException();
+                T res = (T)leaf[pos++];
+                if(pos==leaf.length){
+                    int h = 1;
+                    while(h<=height && index[h]+1>=width(path[h],h))
+                        h++;
+                    if(h>height){
+                        leaf=null;
+                    }else{
+                        index[h]++;
+                        descend(h);
+                    }
+                }
+                return res;
+            }
+        }
+    }
 }
@@ -1,11 +1,8 @@
 package cyclops.data.base;
 
 
-import com.oath.cyclops.matching.Deconstruct.Deconstruct2;
 import cyclops.control.Option;
-import cyclops.data.ImmutableList;
 import cyclops.data.LazySeq;
-import cyclops.data.Seq;
 import cyclops.reactive.ReactiveSeq;
 import lombok.AllArgsConstructor;
 import cyclops.data.tuple.Tuple;
@@ -13,7 +10,8 @@ import cyclops.data.tuple.Tuple2;
 import lombok.EqualsAndHashCode;
 
 import java.io.Serializable;
-import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -27,11 +25,64 @@ public final class HAMT<K, V>  implements Serializable {
   static final int MIN_INDEX = 0;
   static final int MAX_INDEX = SIZE - 1;
   static final int MASK = (1 << BITS_IN_INDEX) - 1;
+  static final int MAX_DEPTH = 8;
 
   public static <K,V> Node<K,V> empty(){
     return EmptyNode.Instance;
   }
 
+  /**
+   * Create a mutable builder seeded with the supplied HAMT. Nodes created by the builder are updated in place
+   * until {@link Transient#freeze()} is called, the supplied root itself is never modified.
+   *
+   * @param root HAMT to start from
+   * @return Transient builder
+   */
+  public static <K,V> Transient<K,V> transientNode(Node<K,V> root){
+    return new Transient<>(root);
+  }
+
+  /**
+   * Single threaded builder for bulk loading a HAMT. Each Transient owns an edit token, BitsetNodes created
+   * with that token are mutated in place rather than path copied on every insert. Freezing the Transient
+   * revokes the token, so the returned Node is a normal persistent HAMT.
+   */
+  public static final class Transient<K,V>{
+    private Object edit = new Object();
+    private Node<K,V> root;
+
+    private Transient(Node<K, V> root) {
+      this.root = root;
+    }
+
+    public Transient<K,V> put(K key, V value){
+      root = root.plus(edit(),0,key.hashCode(),key,value);
+      return this;
+    }
+
+    public Transient<K,V> minus(K key){
+      edit();
+      root = root.minus(0,key.hashCode(),key);
+      return this;
+    }
+
+    public int size(){
+      return root.size();
+    }
+
+    public Node<K,V> freeze(){
+      edit();
+      edit = null;
+      return root;
+    }
+
+    private Object edit(){
+      if(edit==null)
+        throw new IllegalStateException("Transient HAMT used after freeze");
+      return edit;
+    }
+  }
+
   public interface Node<K,V> extends Serializable{
 
 
@@ -52,6 +103,13 @@ public final class HAMT<K, V>  implements Serializable {
       return minus(0,key.hashCode(),key);
     }
     public Node<K,V> plus(int bitShiftDepth, int hash, K key, V value);
+
+    /**
+     * Insert a key / value pair, nodes owned by the edit token may be updated in place
+     */
+    default Node<K,V> plus(Object edit, int bitShiftDepth, int hash, K key, V value){
+      return plus(bitShiftDepth,hash,key,value);
+    }
     public Option<V> get(int bitShiftDepth, int hash, K key);
     public V getOrElse(int bitShiftDepth, int hash, K key, V alt);
     public V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt);
@@ -67,7 +125,12 @@ public final class HAMT<K, V>  implements Serializable {
     static final EmptyNode Instance = new EmptyNode();
     @Override
     public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
-      return new ValueNode<>(hash,key,value);
+      return BitsetNode.single(bitShiftDepth,hash,key,value,null);
+    }
+
+    @Override
+    public Node<K, V> plus(Object edit, int bitShiftDepth, int hash, K key, V value) {
+      return BitsetNode.single(bitShiftDepth,hash,key,value,edit);
     }
 
     @Override
@@ -118,277 +181,412 @@ public final class HAMT<K, V>  implements Serializable {
       return this==obj;
     }
   }
-  @AllArgsConstructor
-  @EqualsAndHashCode
-  public static final class ValueNode<K,V> implements Node<K,V>, Deconstruct2<K,V> {
+
+  /**
+   * Keys that share the full 32 bit hash, stored as inline key / value pairs
+   */
+  public static final class CollisionNode<K,V> implements Node<K,V>{
     private static final long serialVersionUID = 1L;
     private final int hash;
-    public final K key;
-    public final V value;
+    private final Object[] content;
+
+    CollisionNode(int hash, Object[] content) {
+      this.hash = hash;
+      this.content = content;
+    }
+
+    private int find(K key){
+      for(int i=0;i<content.length;i+=2){
+        if(Objects.equals(key,content[i]))
+          return i;
+      }
+      return -1;
+    }
+
     @Override
     public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
-      ValueNode<K,V> newNode = new ValueNode<>(hash,key,value);
-      return isMatch(hash, key) ? newNode : merge(bitShiftDepth,newNode);
-    }
-
-    private Node<K,V> merge(int bitShiftDepth,  ValueNode<K, V> that) {
-      //hash each merge into a collision node if hashes are the same, otherwise store in new location under a BitsetNode
-      if(hash==that.hash)
-        return new CollisionNode<>(hash, Seq.of(Tuple.tuple(key,value),that.unapply()));
-      //create new BitsetNode
-      int mask1 = BitsetNode.mask(hash,bitShiftDepth);
-      int mask2 = BitsetNode.mask(that.hash,bitShiftDepth);
-      int posThis = BitsetNode.bitpos(mask1);
-      int posThat = BitsetNode.bitpos(mask2);
-      int newBitset = posThis | posThat;
-      if(mask1==mask2) { //collision
-        Node<K,V> merged = merge(bitShiftDepth+BITS_IN_INDEX,that);
-        return new BitsetNode<>(newBitset,2,new Node[]{merged});
+      if(this.hash==hash){
+        int i = find(key);
+        if(i>=0){
+          Object[] updated = content.clone();
+          updated[i+1]=value;
+          return new CollisionNode<>(hash,updated);
+        }
+        Object[] added = new Object[content.length+2];
+        System.arraycopy(content,0,added,0,content.length);
+        added[content.length]=key;
+        added[content.length+1]=value;
+        return new CollisionNode<>(hash,added);
+      }
+      int mask1 = mask(this.hash,bitShiftDepth);
+      int mask2 = mask(hash,bitShiftDepth);
+      if(mask1==mask2){
+        return new BitsetNode<>(0,bitpos(mask1),size()+1,new int[0],
+                                  new Object[]{plus(bitShiftDepth+BITS_IN_INDEX,hash,key,value)},null);
       }
-      Node<K,V>[] ordered = mask1<mask2 ? new Node[]{this,that} : new Node[]{that,this};
-      return new BitsetNode<>(newBitset,2,ordered);
+      return new BitsetNode<>(bitpos(mask2),bitpos(mask1),size()+1,new int[]{hash},new Object[]{key,value,this},null);
     }
 
-
     @Override
     public Option<V> get(int bitShiftDepth, int hash, K key) {
-      return isMatch(hash, key) ? Option.of(value) : Option.none();
+      if(this.hash==hash){
+        int i = find(key);
+        if(i>=0)
+          return Option.of((V)content[i+1]);
+      }
+      return Option.none();
     }
 
     @Override
     public V getOrElse(int bitShiftDepth, int hash, K key, V alt) {
-      return isMatch(hash, key) ? value : alt;
+      if(this.hash==hash){
+        int i = find(key);
+        if(i>=0)
+          return (V)content[i+1];
+      }
+      return alt;
     }
 
     @Override
     public V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt) {
-      return isMatch(hash, key) ? value : alt.get();
-    }
-
-    private boolean isMatch(int hash, K key) {
-      return this.hash==hash && Objects.equals(this.key,key);
+      if(this.hash==hash){
+        int i = find(key);
+        if(i>=0)
+          return (V)content[i+1];
+      }
+      return alt.get();
     }
 
     @Override
-    public Node<K, V> minus(int bitShiftDepth,int hash,K key) {
-      return isMatch(hash, key) ? EmptyNode.Instance : this;
-    }
-    public int hash(){
-      return hash;
+    public Node<K, V> minus(int bitShiftDepth,int hash, K key) {
+      if(this.hash!=hash)
+        return this;
+      int i = find(key);
+      if(i<0)
+        return this;
+      if(content.length==4){
+        int other = i==0 ? 2 : 0;
+        return BitsetNode.single(bitShiftDepth,hash,(K)content[other],(V)content[other+1],null);
+      }
+      Object[] removed = new Object[content.length-2];
+      System.arraycopy(content,0,removed,0,i);
+      System.arraycopy(content,i+2,removed,i,content.length-i-2);
+      return new CollisionNode<>(hash,removed);
     }
 
     @Override
     public int size() {
-      return 1;
+      return content.length/2;
     }
 
     @Override
     public LazySeq<Tuple2<K, V>> lazyList() {
-      return LazySeq.of(unapply());
+      return LazySeq.fromStream(stream());
     }
 
     @Override
     public ReactiveSeq<Tuple2<K, V>> stream() {
-      return ReactiveSeq.of(Tuple.tuple(key,value));
+      return ReactiveSeq.fromIterable(()->new EntryIterator<>(this));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if(this==o)
+        return true;
+      if(!(o instanceof CollisionNode))
+        return false;
+      CollisionNode<K,V> other = (CollisionNode<K,V>)o;
+      if(hash!=other.hash || content.length!=other.content.length)
+        return false;
+      for(int i=0;i<content.length;i+=2){
+        int j = other.find((K)content[i]);
+        if(j<0 || !Objects.equals(content[i+1],other.content[j+1]))
+          return false;
+      }
+      return true;
     }
 
     @Override
-    public Tuple2<K, V> unapply() {
-      return Tuple.tuple(key,value);
+    public int hashCode() {
+      int res = hash;
+      for(int i=0;i<content.length;i+=2){
+        res += Objects.hashCode(content[i]) ^ Objects.hashCode(content[i+1]);
+      }
+      return res;
     }
+
     public String toString(){
-      return "[h:"+hash+",k:"+key+",v:"+value+"]";
+      StringBuilder s = new StringBuilder("[COLLISION : h:"+hash);
+      for(int i=0;i<content.length;i+=2){
+        s.append(",["+content[i]+","+content[i+1]+"]");
+      }
+      return s.append("]").toString();
     }
   }
 
-  @EqualsAndHashCode
-  public static final class CollisionNode<K,V> implements Node<K,V>{
-
-    private final int hash;
-    private final int size;
-    private final ImmutableList<Tuple2<K,V>> bucket;
+  /**
+   * CHAMP style node : entries are stored inline as key / value pairs at the front of the content array,
+   * sub-nodes are stored in reverse order at the back. Separate bitmaps record which positions hold data and which
+   * hold sub-nodes. Removal keeps the trie in canonical form by inlining sub-nodes that shrink to a single entry,
+   * so equal maps always have the same shape.
+   */
+  @EqualsAndHashCode(exclude = "edit")
+  public static final class BitsetNode<K,V> implements Node<K,V>{
+    private static final long serialVersionUID = 1L;
+    private int dataMap;
+    private int nodeMap;
+    private int size;
+    private int[] hashes;
+    private Object[] content;
+    private transient Object edit;
 
-    public CollisionNode(int hash, ImmutableList<Tuple2<K, V>> bucket) {
-      this.hash = hash;
-      this.size = bucket.size();
-      this.bucket = bucket;
+    private BitsetNode(int dataMap, int nodeMap, int size, int[] hashes, Object[] content, Object edit) {
+      this.dataMap = dataMap;
+      this.nodeMap = nodeMap;
+      this.size = size;
+      this.hashes = hashes;
+      this.content = content;
+      this.edit = edit;
     }
 
-    private static final long serialVersionUID = 1L;
-    @Override
-    public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
-      ImmutableList<Tuple2<K, V>> filtered = bucket.filter(t -> !Objects.equals(key, t._1()));
+    static <K,V> BitsetNode<K,V> single(int bitShiftDepth, int hash, K key, V value, Object edit){
+      return new BitsetNode<>(bitpos(hash,bitShiftDepth),0,1,new int[]{hash},new Object[]{key,value},edit);
+    }
 
-      if(this.hash==hash){
-        return filtered.size()==0 ?  new ValueNode<>(hash,key,value) : new CollisionNode<>(hash,filtered.prepend(Tuple.tuple(key,value)));
-      }
-      return merge(bitShiftDepth,hash,new ValueNode<>(hash,key,value));
-    }
-
-    private Node<K,V> merge(int bitShiftDepth, int thatHash,Node<K, V> that) {
-      //hash each merge into a collision node if hashes are the same, otherwise store in new location under a BitsetNode
-      if(hash==thatHash)
-        return new CollisionNode<>(hash,bucket.prependAll(that.lazyList()));
-      //create new BitsetNode
-      int mask1 = BitsetNode.mask(hash,bitShiftDepth);
-      int mask2 = BitsetNode.mask(thatHash,bitShiftDepth);
-      int posThis = BitsetNode.bitpos(mask1);
-      int posThat = BitsetNode.bitpos(mask2);
-      int newBitset = posThis | posThat;
-      if(mask1==mask2) { //collision
-        Node<K,V> merged = merge(bitShiftDepth+BITS_IN_INDEX,thatHash,that);
-        return new BitsetNode<>(newBitset,2,new Node[]{merged});
-      }
-      Node<K,V>[] ordered = mask1<mask2 ? new Node[]{this,that} : new Node[]{that,this};
-      return new BitsetNode<>(newBitset,2,ordered);
+    private boolean isEditable(Object edit){
+      return edit!=null && this.edit==edit;
     }
 
-    @Override
-    public Option<V> get(int bitShiftDepth, int hash, K key) {
-      if(this.hash==hash){
-        return bucket.stream().filter(t->Objects.equals(key,t._1())).takeOne().map(Tuple2::_2);
+    private Node<K,V> update(Object edit, int dataMap, int nodeMap, int size, int[] hashes, Object[] content){
+      if(isEditable(edit)){
+        this.dataMap = dataMap;
+        this.nodeMap = nodeMap;
+        this.size = size;
+        this.hashes = hashes;
+        this.content = content;
+        return this;
       }
-      return Option.none();
+      return new BitsetNode<>(dataMap,nodeMap,size,hashes,content,edit);
     }
 
-    @Override
-    public V getOrElse(int bitShiftDepth, int hash, K key, V alt) {
-      return get(bitShiftDepth,hash,key).orElse(alt);
+    public int dataMap(){
+      return dataMap;
     }
 
-    @Override
-    public V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt) {
-      return get(bitShiftDepth,hash,key).orElseGet(alt);
+    public int nodeMap(){
+      return nodeMap;
     }
 
-    @Override
-    public Node<K, V> minus(int bitShiftDepth,int hash, K key) {
-      if(this.hash==hash){
-        return new CollisionNode<>(hash,bucket.filter(t->!Objects.equals(key,t._1())));
-      }
-      return this;
+    int payloadArity(){
+      return hashes.length;
     }
 
-    @Override
-    public int size() {
-      return bucket.size();
+    int nodeArity(){
+      return content.length-2*hashes.length;
     }
 
-    @Override
-    public LazySeq<Tuple2<K, V>> lazyList() {
-      return bucket.lazySeq();
+    Node<K,V> nodeAt(int index){
+      return (Node<K,V>)content[content.length-1-index];
     }
 
-    @Override
-    public ReactiveSeq<Tuple2<K, V>> stream() {
-      return bucket.stream();
+    int dataIndex(int bit){
+      return Integer.bitCount(dataMap & (bit - 1));
     }
 
-    public String toString(){
-      return "[COLLISION : h:"+hash+","+bucket.toString()+"]";
+    int nodeIndex(int bit){
+      return Integer.bitCount(nodeMap & (bit - 1));
     }
-  }
-  @AllArgsConstructor
-  @EqualsAndHashCode
-  public static final class BitsetNode<K,V> implements Node<K,V>{
-    public final int bitset;
-    private final int size;
-    private final Node<K,V>[] nodes;
-    private static final long serialVersionUID = 1L;
+
     @Override
     public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
-      int bitPos = bitpos(hash, bitShiftDepth);
-      int arrayPos = index(bitPos);
-      Node<K,V> node = (absent(bitPos) ? EmptyNode.Instance : nodes[arrayPos]).plus(bitShiftDepth +BITS_IN_INDEX,hash,key,value);
-      if(absent(bitPos)) {
-        int addedBit = bitset | bitPos;
-        Node<K, V>[] addedNodes = new Node[nodes.length + 1];
-        System.arraycopy(nodes, 0, addedNodes, 0, arrayPos);
-        addedNodes[arrayPos] = node;
-        System.arraycopy(nodes, arrayPos, addedNodes, arrayPos + 1, nodes.length - arrayPos);
-        return new BitsetNode<>(addedBit, size(addedNodes), addedNodes);
-      }else{
-        Node<K,V>[] updatedNodes = Arrays.copyOf(nodes, nodes.length);
-        updatedNodes[arrayPos] = node;
-        return new BitsetNode<>(bitset, size(updatedNodes), updatedNodes);
-      }
+      return put(null,bitShiftDepth,hash,key,value);
+    }
 
+    @Override
+    public Node<K, V> plus(Object edit, int bitShiftDepth, int hash, K key, V value) {
+      return put(edit,bitShiftDepth,hash,key,value);
     }
 
-    static int size(Node[] n){
-      int res =0;
-      for(Node next : n){
-        res = res + next.size();
+    private Node<K,V> put(Object edit, int bitShiftDepth, int hash, K key, V value){
+      int bit = bitpos(hash, bitShiftDepth);
+      if((dataMap & bit)!=0){
+        int i = dataIndex(bit);
+        K currentKey = (K)content[2*i];
+        if(hashes[i]==hash && Objects.equals(currentKey,key)){
+          if(content[2*i+1]==value)
+            return this;
+          if(isEditable(edit)){
+            content[2*i+1]=value;
+            return this;
+          }
+          Object[] updated = content.clone();
+          updated[2*i+1]=value;
+          return new BitsetNode<>(dataMap,nodeMap,size,hashes,updated,edit);
+        }
+        Node<K,V> merged = merge(bitShiftDepth+BITS_IN_INDEX,hashes[i],currentKey,(V)content[2*i+1],hash,key,value,edit);
+        return dataToNode(edit,i,bit,merged,size+1);
       }
-      return res;
+      if((nodeMap & bit)!=0){
+        int index = nodeIndex(bit);
+        Node<K,V> child = nodeAt(index);
+        int before = child.size();
+        Node<K,V> node = edit==null ? child.plus(bitShiftDepth+BITS_IN_INDEX,hash,key,value)
+                                    : child.plus(edit,bitShiftDepth+BITS_IN_INDEX,hash,key,value);
+        return replaceNode(edit,index,node,size+node.size()-before);
+      }
+      int i = dataIndex(bit);
+      int[] addedHashes = new int[hashes.length+1];
+      System.arraycopy(hashes,0,addedHashes,0,i);
+      addedHashes[i]=hash;
+      System.arraycopy(hashes,i,addedHashes,i+1,hashes.length-i);
+      Object[] added = new Object[content.length+2];
+      System.arraycopy(content,0,added,0,2*i);
+      added[2*i]=key;
+      added[2*i+1]=value;
+      System.arraycopy(content,2*i,added,2*i+2,content.length-2*i);
+      return update(edit,dataMap | bit,nodeMap,size+1,addedHashes,added);
+    }
+
+    private static <K,V> Node<K,V> merge(int bitShiftDepth, int hash1, K key1, V value1, int hash2, K key2, V value2, Object edit){
+      if(hash1==hash2)
+        return new CollisionNode<>(hash1,new Object[]{key1,value1,key2,value2});
+      int mask1 = mask(hash1,bitShiftDepth);
+      int mask2 = mask(hash2,bitShiftDepth);
+      if(mask1==mask2){
+        Node<K,V> merged = merge(bitShiftDepth+BITS_IN_INDEX,hash1,key1,value1,hash2,key2,value2,edit);
+        return new BitsetNode<>(0,bitpos(mask1),2,new int[0],new Object[]{merged},edit);
+      }
+      int dataMap = bitpos(mask1) | bitpos(mask2);
+      if(mask1<mask2)
+        return new BitsetNode<>(dataMap,0,2,new int[]{hash1,hash2},new Object[]{key1,value1,key2,value2},edit);
+      return new BitsetNode<>(dataMap,0,2,new int[]{hash2,hash1},new Object[]{key2,value2,key1,value1},edit);
+    }
+
+    private Node<K,V> replaceNode(Object edit, int index, Node<K,V> node, int newSize){
+      int pos = content.length-1-index;
+      if(content[pos]==node && newSize==size)
+        return this;
+      if(isEditable(edit)){
+        content[pos]=node;
+        size = newSize;
+        return this;
+      }
+      Object[] updated = content.clone();
+      updated[pos]=node;
+      return new BitsetNode<>(dataMap,nodeMap,newSize,hashes,updated,edit);
+    }
+
+    /*
+     * Replace the entry at data index i with a sub-node
+     */
+    private Node<K,V> dataToNode(Object edit, int i, int bit, Node<K,V> node, int newSize){
+      int dataCount = hashes.length;
+      int nodeCount = nodeArity();
+      int[] removedHashes = new int[dataCount-1];
+      System.arraycopy(hashes,0,removedHashes,0,i);
+      System.arraycopy(hashes,i+1,removedHashes,i,dataCount-i-1);
+      Object[] updated = new Object[content.length-1];
+      System.arraycopy(content,0,updated,0,2*i);
+      System.arraycopy(content,2*i+2,updated,2*i,2*(dataCount-i-1));
+      int nodeStart = 2*(dataCount-1);
+      int split = nodeCount-nodeIndex(bit);
+      System.arraycopy(content,2*dataCount,updated,nodeStart,split);
+      updated[nodeStart+split]=node;
+      System.arraycopy(content,2*dataCount+split,updated,nodeStart+split+1,nodeCount-split);
+      return update(edit,dataMap ^ bit,nodeMap | bit,newSize,removedHashes,updated);
+    }
+
+    /*
+     * Replace the sub-node at index with an inline entry
+     */
+    private Node<K,V> nodeToData(int index, int bit, int hash, Object key, Object value){
+      int dataCount = hashes.length;
+      int nodeCount = nodeArity();
+      int i = dataIndex(bit);
+      int[] addedHashes = new int[dataCount+1];
+      System.arraycopy(hashes,0,addedHashes,0,i);
+      addedHashes[i]=hash;
+      System.arraycopy(hashes,i,addedHashes,i+1,dataCount-i);
+      Object[] updated = new Object[content.length+1];
+      System.arraycopy(content,0,updated,0,2*i);
+      updated[2*i]=key;
+      updated[2*i+1]=value;
+      System.arraycopy(content,2*i,updated,2*i+2,2*(dataCount-i));
+      int nodeStart = 2*(dataCount+1);
+      int split = nodeCount-1-index;
+      System.arraycopy(content,2*dataCount,updated,nodeStart,split);
+      System.arraycopy(content,2*dataCount+split+1,updated,nodeStart+split,index);
+      return new BitsetNode<>(dataMap | bit,nodeMap ^ bit,size-1,addedHashes,updated,null);
     }
 
     @Override
     public Option<V> get(int bitShiftDepth, int hash, K key) {
-      int pos = bitpos(hash, bitShiftDepth);
-      return absent(pos)? Option.none() : find(bitShiftDepth,pos,hash,key);
+      int bit = bitpos(hash, bitShiftDepth);
+      if((dataMap & bit)!=0){
+        int i = dataIndex(bit);
+        return hashes[i]==hash && Objects.equals(key,content[2*i]) ? Option.of((V)content[2*i+1]) : Option.none();
+      }
+      if((nodeMap & bit)!=0)
+        return nodeAt(nodeIndex(bit)).get(bitShiftDepth+BITS_IN_INDEX,hash,key);
+      return Option.none();
     }
 
     @Override
     public V getOrElse(int bitShiftDepth, int hash, K key, V alt) {
-      int pos = bitpos(hash, bitShiftDepth);
-      return absent(pos)? alt : find(bitShiftDepth,pos,hash,key,alt);
+      int bit = bitpos(hash, bitShiftDepth);
+      if((dataMap & bit)!=0){
+        int i = dataIndex(bit);
+        return hashes[i]==hash && Objects.equals(key,content[2*i]) ? (V)content[2*i+1] : alt;
+      }
+      if((nodeMap & bit)!=0)
+        return nodeAt(nodeIndex(bit)).getOrElse(bitShiftDepth+BITS_IN_INDEX,hash,key,alt);
+      return alt;
     }
 
     @Override
     public V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt) {
-      int pos = bitpos(hash, bitShiftDepth);
-      return absent(pos)? alt.get() : findOrGet(bitShiftDepth,pos,hash,key,alt);
-    }
-
-    public boolean absent(int pos){
-      return (bitset & pos)==0;
-    }
-    private V findOrGet(int shift,int pos, int hash, K key,Supplier<? extends V> alt) {
-      return nodes[index(pos)].getOrElse(shift+BITS_IN_INDEX,hash,key,alt.get());
-    }
-    private V find(int shift,int pos, int hash, K key,V alt) {
-      return nodes[index(pos)].getOrElse(shift+BITS_IN_INDEX,hash,key,alt);
-    }
-    private Option<V> find(int shift, int pos, int hash, K key) {
-      return nodes[index(pos)].get(shift+BITS_IN_INDEX,hash,key);
-    }
-    private Node<K,V> findNode(int pos) {
-      return nodes[index(pos)];
+      int bit = bitpos(hash, bitShiftDepth);
+      if((dataMap & bit)!=0){
+        int i = dataIndex(bit);
+        return hashes[i]==hash && Objects.equals(key,content[2*i]) ? (V)content[2*i+1] : alt.get();
+      }
+      if((nodeMap & bit)!=0)
+        return nodeAt(nodeIndex(bit)).getOrElseGet(bitShiftDepth+BITS_IN_INDEX,hash,key,alt);
+      return alt.get();
     }
 
     @Override
     public Node<K, V> minus(int bitShiftDepth, int hash, K key) {
-      if(nodes.length==0)
-        return this;
-      int bitPos = bitpos(hash, bitShiftDepth);
-      int arrayPos = index(bitPos);
-      boolean absent = absent(bitPos);
-      if(absent)
-        return this;
-      Node<K,V> node =  nodes[arrayPos].minus(bitShiftDepth +BITS_IN_INDEX,hash,key);
-
-      if(node instanceof EmptyNode){
-        int removedBit = bitset & ~bitPos;
-
-        Node<K, V>[] removedNodes = new Node[nodes.length - 1];
-        System.arraycopy(nodes, 0, removedNodes, 0, arrayPos);
-        System.arraycopy(nodes, arrayPos + 1, removedNodes, arrayPos, nodes.length - arrayPos - 1);
-        if(removedNodes.length==1) {
-          return removedNodes[0];
+      int bit = bitpos(hash, bitShiftDepth);
+      if((dataMap & bit)!=0){
+        int i = dataIndex(bit);
+        if(hashes[i]!=hash || !Objects.equals(key,content[2*i]))
+          return this;
+        if(size==1)
+          return EmptyNode.Instance;
+        int[] removedHashes = new int[hashes.length-1];
+        System.arraycopy(hashes,0,removedHashes,0,i);
+        System.arraycopy(hashes,i+1,removedHashes,i,hashes.length-i-1);
+        Object[] removed = new Object[content.length-2];
+        System.arraycopy(content,0,removed,0,2*i);
+        System.arraycopy(content,2*i+2,removed,2*i,content.length-2*i-2);
+        return new BitsetNode<>(dataMap ^ bit,nodeMap,size-1,removedHashes,removed,null);
+      }
+      if((nodeMap & bit)!=0){
+        int index = nodeIndex(bit);
+        Node<K,V> child = nodeAt(index);
+        Node<K,V> node = child.minus(bitShiftDepth+BITS_IN_INDEX,hash,key);
+        if(node==child)
+          return this;
+        if(node.size()==1){
+          BitsetNode<K,V> single = (BitsetNode<K,V>)node;
+          if(dataMap==0 && nodeMap==bit)
+            return single(bitShiftDepth,single.hashes[0],(K)single.content[0],(V)single.content[1],null);
+          return nodeToData(index,bit,single.hashes[0],single.content[0],single.content[1]);
         }
-        return new BitsetNode<>(removedBit, size(removedNodes), removedNodes);
-      }else{
-        int removedBit = bitset & ~bitPos;
-
-
-        Node<K, V>[] removedNodes = new Node[nodes.length];
-        System.arraycopy(nodes, 0, removedNodes, 0, nodes.length);
-
-
-        removedNodes[arrayPos] = node;
-        return new BitsetNode<>(bitset, size(removedNodes), removedNodes);
+        return replaceNode(null,index,node,size-1);
       }
+      return this;
     }
 
     @Override
@@ -400,33 +598,89 @@ public final class HAMT<K, V>  implements Serializable {
     public LazySeq<Tuple2<K, V>> lazyList() {
       return LazySeq.fromStream(stream());
     }
+
     @Override
     public ReactiveSeq<Tuple2<K, V>> stream() {
-      return ReactiveSeq.of(nodes).flatMap(n -> n.stream());
-    }
-    static int bitpos(int hash, int shift){
-      return 1 << mask(hash, shift);
-    }
-    static int bitpos(int mask){
-      return 1 << mask;
+      return ReactiveSeq.fromIterable(()->new EntryIterator<>(this));
     }
 
-    static int mask(int hash, int shift){
-      return (hash >>> shift) & (SIZE-1);
+    @Override
+    public String toString() {
+      StringBuilder s = new StringBuilder("{d:" +  Integer.toBinaryString(dataMap) + ",n:" +  Integer.toBinaryString(nodeMap) + ",s:"+size);
+      for(int i=0;i<hashes.length;i++){
+        s.append(",[h:"+hashes[i]+",k:"+content[2*i]+",v:"+content[2*i+1]+"]");
+      }
+      for(int i=0;i<nodeArity();i++){
+        s.append(","+nodeAt(i).toString());
+      }
+      return s.append("}").toString();
+
     }
+  }
 
-    int index(int bit){
-      return Integer.bitCount(bitset & (bit - 1));
+  static int bitpos(int hash, int shift){
+    return 1 << mask(hash, shift);
+  }
+  static int bitpos(int mask){
+    return 1 << mask;
+  }
+
+  static int mask(int hash, int shift){
+    return (hash >>> shift) & (SIZE-1);
+  }
+
+  /**
+   * Depth first traversal over the inline entries of each node, no intermediate Streams are created per node
+   */
+  static final class EntryIterator<K,V> implements Iterator<Tuple2<K,V>>{
+    private final Node<K,V>[] stack = new Node[MAX_DEPTH+1];
+    private final int[] positions = new int[MAX_DEPTH+1];
+    private int depth = -1;
+    private Object[] current;
+    private int currentIndex;
+    private int currentEnd;
+
+    EntryIterator(Node<K,V> root) {
+      push(root);
+    }
+
+    private void push(Node<K,V> node){
+      stack[++depth]=node;
+      positions[depth]=0;
+      currentIndex=0;
+      if(node instanceof BitsetNode){
+        BitsetNode<K,V> bitset = (BitsetNode<K,V>)node;
+        current = bitset.content;
+        currentEnd = 2*bitset.payloadArity();
+      }else{
+        CollisionNode<K,V> collision = (CollisionNode<K,V>)node;
+        current = collision.content;
+        currentEnd = current.length;
+      }
     }
 
     @Override
-    public String toString() {
-      StringBuilder s = new StringBuilder("{b:" +  Integer.toBinaryString(bitset) + ",s:"+size);
-      for(Node<K,V> next : nodes){
-        s.append(","+next.toString());
+    public boolean hasNext() {
+      while(currentIndex>=currentEnd){
+        if(depth<0)
+          return false;
+        Node<K,V> top = stack[depth];
+        if(top instanceof BitsetNode && positions[depth]<((BitsetNode<K,V>)top).nodeArity()){
+          push(((BitsetNode<K,V>)top).nodeAt(positions[depth]++));
+        }else{
+          stack[depth--]=null;
+        }
       }
-      return s.append("}").toString();
+      return true;
+    }
 
+    @Override
+    public Tuple2<K, V> next() {
+      if(!hasNext())
+        throw new NoSuchElementException();
+      Tuple2<K,V> res = Tuple.tuple((K)current[currentIndex],(V)current[currentIndex+1]);
+      currentIndex+=2;
+      return res;
     }
   }
 
@@ -53,8 +53,16 @@ public interface IntPatriciaTrie<V>  {
         Node<V> minus(int hash, int pos);
 
         default Iterator<V> iterator(){
+            return iterator(0,size());
+        }
+
+        /**
+         * @param start First key
+         * @param size Number of consecutive keys to iterate over
+         * @return Iterator over the values of keys start to start+size-1
+         */
+        default Iterator<V> iterator(int start,int size){
             return new Iterator<V>(){
-                int  size = size();
                 int pos = 0;
                 @Override
                 public boolean hasNext() {
@@ -63,8 +71,8 @@ public interface IntPatriciaTrie<V>  {
 
                 @Override
                 public V next() {
-
-                    return getOrElse(pos,pos++,null);
+                    int key = start+pos++;
+                    return getOrElse(key,key,null);
                 }
             };
         }
@@ -276,17 +284,8 @@ public interface IntPatriciaTrie<V>  {
                 Node<V> newNode = node.minus(newHash, key);
                 if (newNode == node) {
                     return this;
-                } else if(newNode instanceof EmptyNode){
-                    Node<V>[] newNodes = new Node[nodes.length-1];
-                    int firstLength = Math.min(index,nodes.length);
-                    System.arraycopy(nodes,0,newNodes,0,firstLength);
-
-                    System.arraycopy(nodes,firstLength+1,newNodes,index,nodes.length-(firstLength+1));
-
-                    Node<V> branch = new ArrayNode<>(newNodes);
-                    return branch.isEmpty() ? EmptyNode.Instance : branch;
-
                 } else{
+                    //slots are addressed by hash bits, so an emptied child stays in place
                     Node<V>[] newNodes = Arrays.copyOf(nodes, nodes.length);
                     newNodes[index] = newNode;
                     Node<V> branch = new ArrayNode<>(newNodes);
@@ -303,7 +302,11 @@ public interface IntPatriciaTrie<V>  {
 **/
         @Override
         public boolean isEmpty() {
-            return ReactiveSeq.of(nodes).allMatch(Node::isEmpty);
+            for(Node<V> node : nodes){
+                if(!node.isEmpty())
+                    return false;
+            }
+            return true;
         }
 
         @Override
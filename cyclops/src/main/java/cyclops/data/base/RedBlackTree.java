@@ -13,10 +13,14 @@ import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
 import cyclops.data.tuple.Tuple3;
 import cyclops.data.tuple.Tuple5;
-import lombok.experimental.Wither;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -30,17 +34,143 @@ public interface RedBlackTree extends Serializable{
         return Api.MatchType(root).with(Case(node->node.withBlack(true)),Case(leaf->leaf));
     }
     public static <K,V> Tree<K,V> fromStream(Comparator<? super K> comp, Stream<? extends Tuple2<? extends K, ? extends V>> stream){
-        Tree<K,V> tree[] = new Tree[1];
-        tree[0]= new Leaf(comp);
-        stream.forEach(t->{
-            tree[0] = tree[0].plus(t._1(),t._2());
-        });
-        return tree[0];
+        ArrayList<Tuple2<? extends K, ? extends V>> entries = new ArrayList<>();
+        stream.forEach(entries::add);
+        return fromList(comp,entries);
+    }
+    public static <K,V> Tree<K,V> fromIterable(Comparator<? super K> comp, Iterable<? extends Tuple2<? extends K, ? extends V>> it){
+        ArrayList<Tuple2<? extends K, ? extends V>> entries = new ArrayList<>();
+        it.forEach(entries::add);
+        return fromList(comp,entries);
+    }
+
+    /*
+     * Input already in strictly ascending key order is built directly in linear time, otherwise it is (stably) sorted
+     * first. Where keys repeat the last value wins, as with repeated calls to plus.
+     */
+    static <K,V> Tree<K,V> fromList(Comparator<? super K> comp, ArrayList<Tuple2<? extends K, ? extends V>> entries){
+        boolean sorted = true;
+        for(int i=1;i<entries.size() && sorted;i++){
+            sorted = comp.compare(entries.get(i-1)._1(),entries.get(i)._1())<0;
+        }
+        if(sorted)
+            return fromSorted(comp,entries);
+        entries.sort((a,b)->comp.compare(a._1(),b._1()));
+        int unique = 0;
+        for(Tuple2<? extends K, ? extends V> next : entries){
+            if(unique>0 && comp.compare(entries.get(unique-1)._1(),next._1())==0)
+                entries.set(unique-1,next);
+            else
+                entries.set(unique++,next);
+        }
+        return fromSorted(comp,entries.subList(0,unique));
+    }
+
+    /**
+     * Build a balanced tree bottom up in linear time
+     *
+     * @param comp Comparator used to order the keys
+     * @param sorted Entries in strictly ascending key order
+     * @return Tree containing the entries
+     */
+    public static <K,V> Tree<K,V> fromSorted(Comparator<? super K> comp, List<? extends Tuple2<? extends K, ? extends V>> sorted){
+        //all nodes are black, except those on the bottom level of a tree that is not perfectly balanced
+        int redLevel = 0;
+        for(int m = sorted.size()-1; m>=0; m = m/2-1)
+            redLevel++;
+        return build(new Leaf<>(comp),comp,sorted,0,sorted.size()-1,0,redLevel);
+    }
+    static <K,V> Tree<K,V> build(Leaf<K,V> leaf,Comparator<? super K> comp, List<? extends Tuple2<? extends K, ? extends V>> sorted,
+                                 int lo, int hi, int level, int redLevel){
+        if(hi<lo)
+            return leaf;
+        int mid = (lo+hi)>>>1;
+        Tree<K,V> left = build(leaf,comp,sorted,lo,mid-1,level+1,redLevel);
+        Tree<K,V> right = build(leaf,comp,sorted,mid+1,hi,level+1,redLevel);
+        Tuple2<? extends K, ? extends V> entry = sorted.get(mid);
+        return new Node(level!=redLevel,left,right,entry._1(),entry._2(),comp);
+    }
+
+    /**
+     * Linear time merge of two trees ordered by the same comparator
+     *
+     * @return Tree with the keys of both trees, where a key is in both the value from the second tree is used
+     */
+    public static <K,V> Tree<K,V> union(Tree<K,V> first, Tree<K,V> second){
+        if(first.isEmpty())
+            return second;
+        if(second.isEmpty())
+            return first;
+        Comparator<? super K> comp = first.comparator();
+        ArrayList<Tuple2<K,V>> merged = new ArrayList<>(first.size()+second.size());
+        Iterator<Tuple2<K,V>> a = iterator(first);
+        Iterator<Tuple2<K,V>> b = iterator(second);
+        Tuple2<K,V> nextA = a.next();
+        Tuple2<K,V> nextB = b.next();
+        while(nextA!=null && nextB!=null){
+            int compRes = comp.compare(nextA._1(),nextB._1());
+            if(compRes<0){
+                merged.add(nextA);
+                nextA = a.hasNext() ? a.next() : null;
+            }else{
+                merged.add(nextB);
+                if(compRes==0)
+                    nextA = a.hasNext() ? a.next() : null;
+                nextB = b.hasNext() ? b.next() : null;
+            }
+        }
+        for(;nextA!=null;nextA = a.hasNext() ? a.next() : null)
+            merged.add(nextA);
+        for(;nextB!=null;nextB = b.hasNext() ? b.next() : null)
+            merged.add(nextB);
+        return fromSorted(comp,merged);
+    }
+
+    /**
+     * Linear time intersection of two trees ordered by the same comparator
+     *
+     * @return Tree with the entries of the first tree whose keys are also in the second
+     */
+    public static <K,V> Tree<K,V> intersection(Tree<K,V> first, Tree<K,V> second){
+        return filterByMembership(first,second,true);
+    }
+
+    /**
+     * Linear time difference of two trees ordered by the same comparator
+     *
+     * @return Tree with the entries of the first tree whose keys are not in the second
+     */
+    public static <K,V> Tree<K,V> difference(Tree<K,V> first, Tree<K,V> second){
+        return filterByMembership(first,second,false);
+    }
+
+    static <K,V> Tree<K,V> filterByMembership(Tree<K,V> first, Tree<K,V> second, boolean keepShared){
+        if(first.isEmpty() || second.isEmpty())
+            return keepShared ? empty(first.comparator()) : first;
+        Comparator<? super K> comp = first.comparator();
+        ArrayList<Tuple2<K,V>> result = new ArrayList<>();
+        Iterator<Tuple2<K,V>> b = iterator(second);
+        Tuple2<K,V> nextB = b.next();
+        for(Iterator<Tuple2<K,V>> a = iterator(first);a.hasNext();){
+            Tuple2<K,V> nextA = a.next();
+            int compRes = -1;
+            while(nextB!=null && (compRes = comp.compare(nextB._1(),nextA._1()))<0){
+                nextB = b.hasNext() ? b.next() : null;
+            }
+            boolean shared = nextB!=null && compRes==0;
+            if(shared==keepShared)
+                result.add(nextA);
+        }
+        return fromSorted(comp,result);
+    }
+
+    static <K,V> Iterator<Tuple2<K,V>> iterator(Tree<K,V> tree){
+        return new RangeIterator<>(tree,Option.none(),true,Option.none(),true);
     }
     public static <K,V> Tree<K,V> empty(Comparator<? super K> comp){
         return new Leaf<K,V>(comp);
     }
-    public static interface Tree<K,V> extends Sealed2<Node<K,V>,Leaf<K,V>> {
+    public static interface Tree<K,V> extends Sealed2<Node<K,V>,Leaf<K,V>>, Serializable {
 
         boolean isEmpty();
         boolean isBlack();
@@ -57,6 +187,50 @@ public interface RedBlackTree extends Serializable{
         int size();
         String tree();
 
+        /**
+         * @return The entry with the largest key below (or, if inclusive, equal to) the supplied key
+         */
+        Option<Tuple2<K,V>> below(K key, boolean inclusive);
+        /**
+         * @return The entry with the smallest key above (or, if inclusive, equal to) the supplied key
+         */
+        Option<Tuple2<K,V>> above(K key, boolean inclusive);
+        /**
+         * @return The number of keys strictly less than the supplied key
+         */
+        int rank(K key);
+        /**
+         * @return The entry at the supplied position in key order
+         */
+        Option<Tuple2<K,V>> select(int index);
+
+        default Option<Tuple2<K,V>> floor(K key){
+            return below(key,true);
+        }
+        default Option<Tuple2<K,V>> lower(K key){
+            return below(key,false);
+        }
+        default Option<Tuple2<K,V>> ceiling(K key){
+            return above(key,true);
+        }
+        default Option<Tuple2<K,V>> higher(K key){
+            return above(key,false);
+        }
+
+        /**
+         * Lazily iterate the entries between the supplied bounds, only the nodes on the path to the bounds and
+         * within them are visited
+         *
+         * @param from Lower bound (none for unbounded)
+         * @param fromInclusive true if an entry equal to the lower bound is included
+         * @param to Upper bound (none for unbounded)
+         * @param toInclusive true if an entry equal to the upper bound is included
+         * @return Entries within the range in key order
+         */
+        default ReactiveSeq<Tuple2<K,V>> stream(Option<K> from, boolean fromInclusive, Option<K> to, boolean toInclusive){
+            return ReactiveSeq.fromIterable(()->new RangeIterator<>(this,from,fromInclusive,to,toInclusive));
+        }
+
 
 
 
@@ -117,8 +291,6 @@ public interface RedBlackTree extends Serializable{
         }
     }
 
-    @AllArgsConstructor
-    @Wither
     public static final class Node<K,V> implements Tree<K,V>, Deconstruct5<Boolean,Tree<K,V>,Tree<K,V>, K,V> {
         private final boolean isBlack;
         private final Tree<K,V> left;
@@ -126,9 +298,29 @@ public interface RedBlackTree extends Serializable{
         private final K key;
         private final V value;
         private final Comparator<K> comp;
+        //not serialized, so the serialized form is unchanged, recomputed by readResolve
+        private final transient int size;
 
         private static final long serialVersionUID = 1L;
 
+        public Node(boolean isBlack, Tree<K, V> left, Tree<K, V> right, K key, V value, Comparator<K> comp) {
+            this.isBlack = isBlack;
+            this.left = left;
+            this.right = right;
+            this.key = key;
+            this.value = value;
+            this.comp = comp;
+            this.size = left.size() + right.size() + 1;
+        }
+
+        private Object readResolve() {
+            return new Node<>(isBlack,left,right,key,value,comp);
+        }
+
+        public Node<K,V> withBlack(boolean isBlack){
+            return this.isBlack == isBlack ? this : new Node<>(isBlack,left,right,key,value,comp);
+        }
+
 
         static <K,V> Node<K,V> RED(Tree<K,V> left, Tree<K,V> right,K key, V value,Comparator<? super K> comp){
             return new Node(false,left,right,key,value,comp);
@@ -257,13 +449,51 @@ public interface RedBlackTree extends Serializable{
             return comp;
         }
         public ReactiveSeq<Tuple2<K,V>> stream(){
-            ReactiveSeq<Tuple2<K, V>> current = ReactiveSeq.of(Tuple.tuple(key, value));
-            return ReactiveSeq.concat(left.stream(),current,right.stream());
+            return stream(Option.none(),true,Option.none(),true);
         }
 
         @Override
         public int size() {
-            return left.size() +right.size() +1;
+            return size;
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> below(K key, boolean inclusive) {
+            int compRes = comp.compare(this.key,key);
+            if (compRes==0 && inclusive)
+                return Option.some(Tuple.tuple(this.key,value));
+            if (compRes>=0)
+                return left.below(key,inclusive);
+            Option<Tuple2<K, V>> res = right.below(key,inclusive);
+            return res.isPresent() ? res : Option.some(Tuple.tuple(this.key,value));
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> above(K key, boolean inclusive) {
+            int compRes = comp.compare(this.key,key);
+            if (compRes==0 && inclusive)
+                return Option.some(Tuple.tuple(this.key,value));
+            if (compRes<=0)
+                return right.above(key,inclusive);
+            Option<Tuple2<K, V>> res = left.above(key,inclusive);
+            return res.isPresent() ? res : Option.some(Tuple.tuple(this.key,value));
+        }
+
+        @Override
+        public int rank(K key) {
+            if (comp.compare(this.key,key)>=0)
+                return left.rank(key);
+            return left.size() + 1 + right.rank(key);
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> select(int index) {
+            int leftSize = left.size();
+            if (index<leftSize)
+                return left.select(index);
+            if (index==leftSize)
+                return Option.some(Tuple.tuple(key,value));
+            return right.select(index-leftSize-1);
         }
     }
     @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -320,6 +550,26 @@ public interface RedBlackTree extends Serializable{
             return 0;
         }
 
+        @Override
+        public Option<Tuple2<K, V>> below(K key, boolean inclusive) {
+            return Option.none();
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> above(K key, boolean inclusive) {
+            return Option.none();
+        }
+
+        @Override
+        public int rank(K key) {
+            return 0;
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> select(int index) {
+            return Option.none();
+        }
+
         @Override
         public String tree() {
             return "{LEAF}";
@@ -331,4 +581,78 @@ public interface RedBlackTree extends Serializable{
         }
 
     }
+
+    /**
+     * In order traversal using an explicit stack of the left spine, subtrees entirely outside of the bounds are
+     * never visited
+     */
+    static final class RangeIterator<K,V> implements Iterator<Tuple2<K,V>> {
+        private final ArrayDeque<Node<K,V>> stack = new ArrayDeque<>();
+        private final Comparator<? super K> comp;
+        private final Option<K> from;
+        private final boolean fromInclusive;
+        private final Option<K> to;
+        private final boolean toInclusive;
+        private Node<K,V> next;
+
+        RangeIterator(Tree<K,V> tree, Option<K> from, boolean fromInclusive, Option<K> to, boolean toInclusive) {
+            this.comp = tree.comparator();
+            this.from = from;
+            this.fromInclusive = fromInclusive;
+            this.to = to;
+            this.toInclusive = toInclusive;
+            pushLeft(tree);
+            advance();
+        }
+
+        private boolean aboveLower(K key){
+            if(!from.isPresent())
+                return true;
+            int compRes = comp.compare(key,from.orElse(null));
+            return compRes>0 || (compRes==0 && fromInclusive);
+        }
+        private boolean belowUpper(K key){
+            if(!to.isPresent())
+                return true;
+            int compRes = comp.compare(key,to.orElse(null));
+            return compRes<0 || (compRes==0 && toInclusive);
+        }
+
+        private void pushLeft(Tree<K,V> tree){
+            while(!tree.isEmpty()){
+                Node<K,V> node = (Node<K,V>)tree;
+                if(aboveLower(node.key)){
+                    stack.push(node);
+                    tree = node.left;
+                }else{
+                    tree = node.right;
+                }
+            }
+        }
+
+        private void advance(){
+            Node<K,V> node = stack.poll();
+            if(node!=null && belowUpper(node.key)){
+                next = node;
+                pushLeft(node.right);
+            }else{
+                next = null;
+                stack.clear();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next!=null;
+        }
+
+        @Override
+        public Tuple2<K, V> next() {
+            if(next==null)
+                throw new NoSuchElementException();
+            Tuple2<K, V> res = Tuple.tuple(next.key,next.value);
+            advance();
+            return res;
+        }
+    }
 }
@@ -0,0 +1,515 @@
+package cyclops.data.base;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A persistent rope of chars. Text is held in char[] chunks (Leaf), joined by AVL balanced Concat nodes, so
+ * concatenation, substring and positional access are O(log n). Lazy nodes defer the production of a chunk
+ * until its content is needed.
+ */
+public interface Rope extends Serializable {
+
+    /**
+     * Chunks smaller than this are merged on concatenation and copied (rather than shared) on substring
+     */
+    static final int CHUNK_SIZE = 512;
+
+    int length();
+    char charAt(int index);
+    int depth();
+
+    /**
+     * @param from start index (inclusive), 0 &lt;= from &lt;= to
+     * @param to end index (exclusive), to &lt;= length()
+     * @return Rope over the specified range
+     */
+    Rope sub(int from, int to);
+    Rope reverse();
+    Rope mapChunks(Function<? super Leaf, ? extends Rope> fn);
+
+    default boolean isEmpty(){
+        return !leaves().hasNext();
+    }
+
+    default Rope map(IntUnaryOperator fn){
+        return mapChunks(l->l.mapLeaf(fn));
+    }
+    default Rope filter(IntPredicate pred){
+        return mapChunks(l->l.filterLeaf(pred));
+    }
+
+    default Iterator<Leaf> leaves(){
+        return new LeafIterator(this);
+    }
+    default PrimitiveIterator.OfInt chars(){
+        Iterator<Leaf> leaves = leaves();
+        return new PrimitiveIterator.OfInt() {
+            Leaf current = Leaf.EMPTY;
+            int index = 0;
+            @Override
+            public boolean hasNext() {
+                while(index==current.length){
+                    if(!leaves.hasNext())
+                        return false;
+                    current = leaves.next();
+                    index =0;
+                }
+                return true;
+            }
+
+            @Override
+            public int nextInt() {
+                if(!hasNext())
+                    throw new NoSuchElementException();
+                return current.chars[current.offset + index++];
+            }
+        };
+    }
+
+    default int indexOf(char c, int from){
+        int pos = Math.max(from,0);
+        int len = length();
+        if(pos>=len)
+            return -1;
+        Iterator<Leaf> it = sub(pos,len).leaves();
+        while(it.hasNext()){
+            Leaf leaf = it.next();
+            int end = leaf.offset+leaf.length;
+            for(int i=leaf.offset;i<end;i++){
+                if(leaf.chars[i]==c)
+                    return pos + i - leaf.offset;
+            }
+            pos += leaf.length;
+        }
+        return -1;
+    }
+    default int indexOf(CharSequence s, int from){
+        int len = length();
+        int n = s.length();
+        int pos = Math.max(from,0);
+        if(n==0)
+            return pos<=len ? pos : -1;
+        char first = s.charAt(0);
+        while(pos+n<=len){
+            pos = indexOf(first,pos);
+            if(pos<0 || pos+n>len)
+                return -1;
+            if(regionMatches(pos,s))
+                return pos;
+            pos++;
+        }
+        return -1;
+    }
+    default boolean regionMatches(int at, CharSequence s){
+        int n = s.length();
+        if(at<0 || at+n>length())
+            return false;
+        int j=0;
+        Iterator<Leaf> it = sub(at,at+n).leaves();
+        while(it.hasNext()){
+            Leaf leaf = it.next();
+            int end = leaf.offset+leaf.length;
+            for(int i=leaf.offset;i<end;i++){
+                if(leaf.chars[i]!=s.charAt(j++))
+                    return false;
+            }
+        }
+        return true;
+    }
+    default int prefixLength(IntPredicate pred){
+        int count = 0;
+        Iterator<Leaf> it = leaves();
+        while(it.hasNext()){
+            Leaf leaf = it.next();
+            int end = leaf.offset+leaf.length;
+            for(int i=leaf.offset;i<end;i++){
+                if(!pred.test(leaf.chars[i]))
+                    return count;
+                count++;
+            }
+        }
+        return count;
+    }
+    default char[] toCharArray(){
+        char[] result = new char[length()];
+        int pos = 0;
+        Iterator<Leaf> it = leaves();
+        while(it.hasNext()){
+            Leaf leaf = it.next();
+            System.arraycopy(leaf.chars,leaf.offset,result,pos,leaf.length);
+            pos+=leaf.length;
+        }
+        return result;
+    }
+
+    static Rope empty(){
+        return Leaf.EMPTY;
+    }
+    static Rope of(CharSequence seq){
+        int len = seq.length();
+        if(len==0)
+            return empty();
+        char[] chars = new char[len];
+        if(seq instanceof String){
+            ((String)seq).getChars(0,len,chars,0);
+        }else {
+            for (int i = 0; i < len; i++)
+                chars[i] = seq.charAt(i);
+        }
+        return new Leaf(chars,0,len);
+    }
+    static Rope of(char... chars){
+        return chars.length==0 ? empty() : new Leaf(chars.clone(),0,chars.length);
+    }
+    static Rope lazy(Supplier<? extends Rope> supplier){
+        return new Lazy(supplier);
+    }
+
+    static Rope concat(Rope left, Rope right){
+        if(left==Leaf.EMPTY)
+            return right;
+        if(right==Leaf.EMPTY)
+            return left;
+        if(right instanceof Leaf && ((Leaf)right).length<=CHUNK_SIZE){
+            Rope merged = mergeRight(left,(Leaf)right);
+            if(merged!=null)
+                return merged;
+        }
+        if(left instanceof Leaf && ((Leaf)left).length<=CHUNK_SIZE){
+            Rope merged = mergeLeft((Leaf)left,right);
+            if(merged!=null)
+                return merged;
+        }
+        return join(left,right);
+    }
+
+    /*
+     * Merge a small chunk into the rightmost (or leftmost) leaf, replacing the nodes along that spine.
+     * Depths are unchanged, so no rebalancing is required. Returns null if the chunks can't be merged.
+     */
+    static Rope mergeRight(Rope node, Leaf leaf){
+        if(node instanceof Concat){
+            Concat c = (Concat)node;
+            Rope right = mergeRight(c.right,leaf);
+            return right==null ? null : new Concat(c.left,right);
+        }
+        if(node instanceof Leaf && ((Leaf)node).length + leaf.length <= CHUNK_SIZE)
+            return ((Leaf)node).append(leaf);
+        return null;
+    }
+    static Rope mergeLeft(Leaf leaf, Rope node){
+        if(node instanceof Concat){
+            Concat c = (Concat)node;
+            Rope left = mergeLeft(leaf,c.left);
+            return left==null ? null : new Concat(left,c.right);
+        }
+        if(node instanceof Leaf && leaf.length + ((Leaf)node).length <= CHUNK_SIZE)
+            return leaf.append((Leaf)node);
+        return null;
+    }
+
+    /*
+     * AVL join : descend the spine of the deeper tree until the heights are within one, then rebalance on the way up
+     */
+    static Rope join(Rope left, Rope right){
+        int dl = left.depth();
+        int dr = right.depth();
+        if(dl>dr+1){
+            Concat l = (Concat)left;
+            return balance(l.left,join(l.right,right));
+        }
+        if(dr>dl+1){
+            Concat r = (Concat)right;
+            return balance(join(left,r.left),r.right);
+        }
+        return new Concat(left,right);
+    }
+    static Rope balance(Rope left, Rope right){
+        int dl = left.depth();
+        int dr = right.depth();
+        if(dl>dr+1){
+            Concat l = (Concat)left;
+            if(l.left.depth()>=l.right.depth())
+                return new Concat(l.left,new Concat(l.right,right));
+            Concat lr = (Concat)l.right;
+            return new Concat(new Concat(l.left,lr.left),new Concat(lr.right,right));
+        }
+        if(dr>dl+1){
+            Concat r = (Concat)right;
+            if(r.right.depth()>=r.left.depth())
+                return new Concat(new Concat(left,r.left),r.right);
+            Concat rl = (Concat)r.left;
+            return new Concat(new Concat(left,rl.left),new Concat(rl.right,r.right));
+        }
+        return new Concat(left,right);
+    }
+
+    final class Leaf implements Rope {
+        private static final long serialVersionUID = 1L;
+        static final Leaf EMPTY = new Leaf(new char[0],0,0);
+
+        private final char[] chars;
+        private final int offset;
+        private final int length;
+
+        Leaf(char[] chars, int offset, int length) {
+            this.chars = chars;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if(index<0 || index>=length)
+                throw new IndexOutOfBoundsException(""+index);
+            return chars[offset+index];
+        }
+
+        @Override
+        public int depth() {
+            return 0;
+        }
+
+        @Override
+        public Rope sub(int from, int to) {
+            if(from==0 && to==length)
+                return this;
+            if(from==to)
+                return EMPTY;
+            if(to-from<=CHUNK_SIZE) {
+                char[] copy = new char[to-from];
+                System.arraycopy(chars,offset+from,copy,0,to-from);
+                return new Leaf(copy,0,copy.length);
+            }
+            return new Leaf(chars,offset+from,to-from);
+        }
+
+        @Override
+        public Rope reverse() {
+            char[] result = new char[length];
+            for(int i=0;i<length;i++)
+                result[i] = chars[offset+length-1-i];
+            return new Leaf(result,0,length);
+        }
+
+        @Override
+        public Rope mapChunks(Function<? super Leaf, ? extends Rope> fn) {
+            return lazy(()->fn.apply(this));
+        }
+
+        private Leaf append(Leaf next){
+            char[] result = new char[length+next.length];
+            System.arraycopy(chars,offset,result,0,length);
+            System.arraycopy(next.chars,next.offset,result,length,next.length);
+            return new Leaf(result,0,result.length);
+        }
+        private Rope mapLeaf(IntUnaryOperator fn){
+            char[] result = new char[length];
+            for(int i=0;i<length;i++)
+                result[i] = (char)fn.applyAsInt(chars[offset+i]);
+            return new Leaf(result,0,length);
+        }
+        private Rope filterLeaf(IntPredicate pred){
+            char[] result = new char[length];
+            int count = 0;
+            for(int i=0;i<length;i++){
+                char c = chars[offset+i];
+                if(pred.test(c))
+                    result[count++]=c;
+            }
+            return count==0 ? EMPTY : new Leaf(result,0,count);
+        }
+
+        private Object writeReplace(){
+            if(offset==0 && chars.length==length)
+                return this;
+            return new Leaf(Arrays.copyOfRange(chars,offset,offset+length),0,length);
+        }
+        private Object readResolve(){
+            return length==0 ? EMPTY : this;
+        }
+    }
+
+    final class Concat implements Rope {
+        private static final long serialVersionUID = 1L;
+        private final Rope left;
+        private final Rope right;
+        private final int depth;
+        private int length = -1;
+
+        Concat(Rope left, Rope right) {
+            this.left = left;
+            this.right = right;
+            this.depth = Math.max(left.depth(),right.depth())+1;
+        }
+
+        @Override
+        public int length() {
+            int len = length;
+            if(len<0){
+                len = left.length() + right.length();
+                length = len;
+            }
+            return len;
+        }
+
+        @Override
+        public char charAt(int index) {
+            Rope node = this;
+            int pos = index;
+            while(node instanceof Concat){
+                Concat c = (Concat)node;
+                int leftLength = c.left.length();
+                if(pos<leftLength){
+                    node = c.left;
+                }else{
+                    pos -= leftLength;
+                    node = c.right;
+                }
+            }
+            return node.charAt(pos);
+        }
+
+        @Override
+        public int depth() {
+            return depth;
+        }
+
+        @Override
+        public Rope sub(int from, int to) {
+            if(from==0 && to==length())
+                return this;
+            int leftLength = left.length();
+            if(to<=leftLength)
+                return left.sub(from,to);
+            if(from>=leftLength)
+                return right.sub(from-leftLength,to-leftLength);
+            return concat(left.sub(from,leftLength),right.sub(0,to-leftLength));
+        }
+
+        @Override
+        public Rope reverse() {
+            return new Concat(right.reverse(),left.reverse());
+        }
+
+        @Override
+        public Rope mapChunks(Function<? super Leaf, ? extends Rope> fn) {
+            return new Concat(left.mapChunks(fn),right.mapChunks(fn));
+        }
+    }
+
+    final class Lazy implements Rope {
+        private static final long serialVersionUID = 1L;
+        private transient Supplier<? extends Rope> supplier;
+        private volatile Rope value;
+
+        Lazy(Supplier<? extends Rope> supplier) {
+            this.supplier = supplier;
+        }
+
+        Rope force(){
+            Rope result = value;
+            if(result==null){
+                synchronized (this){
+                    result = value;
+                    if(result==null){
+                        result = supplier.get();
+                        while(result instanceof Lazy)
+                            result = ((Lazy)result).force();
+                        value = result;
+                        supplier = null;
+                    }
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public int length() {
+            return force().length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return force().charAt(index);
+        }
+
+        /*
+         * Lazy chunks are opaque, and treated as leaves for balancing purposes
+         */
+        @Override
+        public int depth() {
+            return 0;
+        }
+
+        @Override
+        public Rope sub(int from, int to) {
+            return force().sub(from,to);
+        }
+
+        @Override
+        public Rope reverse() {
+            return lazy(()->force().reverse());
+        }
+
+        @Override
+        public Rope mapChunks(Function<? super Leaf, ? extends Rope> fn) {
+            return lazy(()->force().mapChunks(fn));
+        }
+
+        private Object writeReplace(){
+            return force();
+        }
+    }
+
+    final class LeafIterator implements Iterator<Leaf> {
+        private final ArrayDeque<Rope> stack = new ArrayDeque<>();
+        private Leaf next;
+
+        LeafIterator(Rope root) {
+            stack.push(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while(next==null && !stack.isEmpty()){
+                Rope node = stack.pop();
+                while(!(node instanceof Leaf)){
+                    if(node instanceof Lazy){
+                        node = ((Lazy)node).force();
+                    }else{
+                        Concat c = (Concat)node;
+                        stack.push(c.right);
+                        node = c.left;
+                    }
+                }
+                if(node.length()>0)
+                    next = (Leaf)node;
+            }
+            return next!=null;
+        }
+
+        @Override
+        public Leaf next() {
+            if(!hasNext())
+                throw new NoSuchElementException();
+            Leaf result = next;
+            next = null;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package cyclops.function;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A size and / or time bounded Cacheable for use with Memoize, FluentFunctions and LazyReact#autoMemoizeOn
+ *
+ * <pre>
+ * {@code
+ *   BoundedCache<Integer> cache = BoundedCache.<Integer>tinyLfu(10_000)
+ *                                             .withExpireAfterWrite(10, TimeUnit.MINUTES);
+ *
+ *   Function1<Integer,Integer> fn = Memoize.memoizeFunction(this::expensive,cache);
+ *
+ *   cache.hitCount();
+ *   cache.missCount();
+ *   cache.evictionCount();
+ * }
+ * </pre>
+ *
+ * Two eviction policies are supported
+ * <ul>
+ *     <li>LRU : the least recently used entry is evicted when the cache is full</li>
+ *     <li>TINY_LFU : new entries enter a small LRU admission window, entries leaving the window only displace
+ *     the least recently used entry of the main region if they have been requested more often (as estimated by a
+ *     count-min sketch). This keeps frequently used values cached when a burst of one-off keys passes through.</li>
+ * </ul>
+ *
+ * Expired entries are removed lazily, when they are next looked up or reach the head of the access order during
+ * a write. Values are computed outside of the cache lock, so concurrent misses for the same key may compute the
+ * value more than once (the first value stored wins).
+ *
+ * @param <OUT> Type of the cached values
+ */
+public final class BoundedCache<OUT> implements Cacheable<OUT> {
+
+    public enum Policy { LRU, TINY_LFU }
+
+    private final Policy policy;
+    private final long maximumSize;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final LongSupplier ticker;
+
+    private final Object lock = new Object();
+    //the whole cache for LRU, the admission window for TINY_LFU
+    private final LinkedHashMap<Object, Entry<OUT>> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Object, Entry<OUT>> main;
+    private final long windowSize;
+    private final long mainSize;
+    private final FrequencySketch sketch;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private BoundedCache(Policy policy, long maximumSize, long expireAfterWriteNanos, long expireAfterAccessNanos, LongSupplier ticker) {
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("maximumSize must be greater than 0, was " + maximumSize);
+        this.policy = policy;
+        this.maximumSize = maximumSize;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.expireAfterAccessNanos = expireAfterAccessNanos;
+        this.ticker = ticker;
+        if (policy == Policy.TINY_LFU) {
+            this.windowSize = Math.max(1, maximumSize / 100);
+            this.mainSize = maximumSize - windowSize;
+            this.main = new LinkedHashMap<>(16, 0.75f, true);
+            this.sketch = new FrequencySketch(maximumSize);
+        } else {
+            this.windowSize = maximumSize;
+            this.mainSize = 0;
+            this.main = null;
+            this.sketch = null;
+        }
+    }
+
+    /**
+     * @param maximumSize Maximum number of cached values
+     * @return Cache that evicts the least recently used value once maximumSize is exceeded
+     */
+    public static <OUT> BoundedCache<OUT> lru(long maximumSize) {
+        return new BoundedCache<>(Policy.LRU, maximumSize, 0, 0, System::nanoTime);
+    }
+
+    /**
+     * @param maximumSize Maximum number of cached values
+     * @return Cache that admits values into its main region based on their estimated access frequency
+     */
+    public static <OUT> BoundedCache<OUT> tinyLfu(long maximumSize) {
+        return new BoundedCache<>(Policy.TINY_LFU, maximumSize, 0, 0, System::nanoTime);
+    }
+
+    /**
+     * @return Cache with no size limit, values are removed after the specified time since they were computed
+     */
+    public static <OUT> BoundedCache<OUT> expireAfterWrite(long duration, TimeUnit unit) {
+        return BoundedCache.<OUT>lru(Long.MAX_VALUE).withExpireAfterWrite(duration, unit);
+    }
+
+    /**
+     * @return Cache with no size limit, values are removed after the specified time since they were last read
+     */
+    public static <OUT> BoundedCache<OUT> expireAfterAccess(long duration, TimeUnit unit) {
+        return BoundedCache.<OUT>lru(Long.MAX_VALUE).withExpireAfterAccess(duration, unit);
+    }
+
+    /**
+     * @return A new, empty cache with this configuration that also expires values the specified time after they were computed
+     */
+    public BoundedCache<OUT> withExpireAfterWrite(long duration, TimeUnit unit) {
+        return new BoundedCache<>(policy, maximumSize, unit.toNanos(duration), expireAfterAccessNanos, ticker);
+    }
+
+    /**
+     * @return A new, empty cache with this configuration that also expires values the specified time after they were last read
+     */
+    public BoundedCache<OUT> withExpireAfterAccess(long duration, TimeUnit unit) {
+        return new BoundedCache<>(policy, maximumSize, expireAfterWriteNanos, unit.toNanos(duration), ticker);
+    }
+
+    /**
+     * @param ticker Nanosecond time source used for expiry (defaults to System.nanoTime)
+     * @return A new, empty cache with this configuration and time source
+     */
+    public BoundedCache<OUT> withTicker(LongSupplier ticker) {
+        return new BoundedCache<>(policy, maximumSize, expireAfterWriteNanos, expireAfterAccessNanos, ticker);
+    }
+
+    @Override
+    public OUT computeIfAbsent(Object key, Function<Object, OUT> fn) {
+        synchronized (lock) {
+            if (sketch != null)
+                sketch.increment(key);
+            Entry<OUT> entry = lookup(key, ticker.getAsLong());
+            if (entry != null) {
+                hits.increment();
+                return entry.value;
+            }
+        }
+        misses.increment();
+        OUT value = fn.apply(key);
+        synchronized (lock) {
+            long now = ticker.getAsLong();
+            Entry<OUT> entry = lookup(key, now);
+            if (entry != null)
+                return entry.value;
+            insert(key, new Entry<>(value, now));
+        }
+        return value;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public long size() {
+        synchronized (lock) {
+            return window.size() + (main == null ? 0 : main.size());
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (lock) {
+            window.clear();
+            if (main != null)
+                main.clear();
+        }
+    }
+
+    private Entry<OUT> lookup(Object key, long now) {
+        LinkedHashMap<Object, Entry<OUT>> owner = window;
+        Entry<OUT> entry = window.get(key);
+        if (entry == null && main != null) {
+            owner = main;
+            entry = main.get(key);
+        }
+        if (entry == null)
+            return null;
+        if (isExpired(entry, now)) {
+            owner.remove(key);
+            evictions.increment();
+            return null;
+        }
+        entry.accessTime = now;
+        return entry;
+    }
+
+    private void insert(Object key, Entry<OUT> entry) {
+        purgeExpired(window, entry.writeTime);
+        window.put(key, entry);
+        if (main == null) {
+            while (window.size() > maximumSize)
+                evict(window);
+            return;
+        }
+        purgeExpired(main, entry.writeTime);
+        if (window.size() <= windowSize)
+            return;
+        Map.Entry<Object, Entry<OUT>> candidate = eldest(window);
+        window.remove(candidate.getKey());
+        if (main.size() < mainSize) {
+            main.put(candidate.getKey(), candidate.getValue());
+            return;
+        }
+        evictions.increment();
+        Map.Entry<Object, Entry<OUT>> victim = eldest(main);
+        if (victim != null && sketch.frequency(candidate.getKey()) > sketch.frequency(victim.getKey())) {
+            main.remove(victim.getKey());
+            main.put(candidate.getKey(), candidate.getValue());
+        }
+    }
+
+    private void purgeExpired(LinkedHashMap<Object, Entry<OUT>> map, long now) {
+        if (expireAfterWriteNanos == 0 && expireAfterAccessNanos == 0)
+            return;
+        Iterator<Entry<OUT>> it = map.values().iterator();
+        while (it.hasNext() && isExpired(it.next(), now)) {
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private void evict(LinkedHashMap<Object, Entry<OUT>> map) {
+        Iterator<Entry<OUT>> it = map.values().iterator();
+        it.next();
+        it.remove();
+        evictions.increment();
+    }
+
+    private static <OUT> Map.Entry<Object, Entry<OUT>> eldest(LinkedHashMap<Object, Entry<OUT>> map) {
+        Iterator<Map.Entry<Object, Entry<OUT>>> it = map.entrySet().iterator();
+        return it.hasNext() ? it.next() : null;
+    }
+
+    private boolean isExpired(Entry<OUT> entry, long now) {
+        return (expireAfterWriteNanos > 0 && now - entry.writeTime >= expireAfterWriteNanos)
+                || (expireAfterAccessNanos > 0 && now - entry.accessTime >= expireAfterAccessNanos);
+    }
+
+    private static final class Entry<OUT> {
+        final OUT value;
+        final long writeTime;
+        long accessTime;
+
+        Entry(OUT value, long writeTime) {
+            this.value = value;
+            this.writeTime = writeTime;
+            this.accessTime = writeTime;
+        }
+    }
+
+    /**
+     * Count-min sketch of 4 bit counters. Counters are halved once the number of recorded accesses reaches
+     * ten times the width of the sketch, so that old popularity fades.
+     */
+    static final class FrequencySketch {
+        private static final int[] SEEDS = {0x97cb3127, 0xb7a2b5e7, 0x85ebca6b, 0xc2b2ae35};
+        private static final int MAX_COUNT = 15;
+
+        private final byte[][] table;
+        private final int mask;
+        private final long sampleSize;
+        private long additions;
+
+        FrequencySketch(long maximumSize) {
+            int width = Integer.highestOneBit((int) Math.max(16, Math.min(maximumSize, 1 << 24)) - 1) << 1;
+            this.table = new byte[SEEDS.length][width];
+            this.mask = width - 1;
+            this.sampleSize = 10L * width;
+        }
+
+        private int index(Object key, int row) {
+            int h = Objects.hashCode(key) * SEEDS[row];
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        void increment(Object key) {
+            boolean added = false;
+            for (int row = 0; row < table.length; row++) {
+                int i = index(key, row);
+                if (table[row][i] < MAX_COUNT) {
+                    table[row][i]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize)
+                reset();
+        }
+
+        int frequency(Object key) {
+            int min = MAX_COUNT;
+            for (int row = 0; row < table.length; row++)
+                min = Math.min(min, table[row][index(key, row)]);
+            return min;
+        }
+
+        private void reset() {
+            for (byte[] row : table) {
+                for (int i = 0; i < row.length; i++)
+                    row[i] = (byte) (row[i] >> 1);
+            }
+            additions = additions / 2;
+        }
+    }
+}
@@ -203,6 +203,17 @@ public class Memoize {
                          .computeIfAbsent(t, (Function) fn);
     }
 
+    /**
+     * Convert a Function into one that caches up to maximumSize results, see {@link BoundedCache#tinyLfu(long)}
+     *
+     * @param fn Function to memoise
+     * @param maximumSize Maximum number of results to cache
+     * @return Memoised Function
+     */
+    public static <T, R> Function1<T, R> memoizeFunction(final Function<T, R> fn, final long maximumSize) {
+        return memoizeFunction(fn, BoundedCache.<R>tinyLfu(maximumSize));
+    }
+
     /**
      * Memoize a function and update the cached values asynchronously using the provided Scheduled Executor Service
      * Does not support null keys
@@ -253,6 +264,17 @@ public class Memoize {
         return (t1, t2) -> memoise2.apply(tuple(t1, t2));
     }
 
+    /**
+     * Convert a BiFunction into one that caches up to maximumSize results, see {@link BoundedCache#tinyLfu(long)}
+     *
+     * @param fn BiFunction to memoise
+     * @param maximumSize Maximum number of results to cache
+     * @return Memoised BiFunction
+     */
+    public static <T1, T2, R> Function2<T1, T2, R> memoizeBiFunction(final BiFunction<T1, T2, R> fn, final long maximumSize) {
+        return memoizeBiFunction(fn, BoundedCache.<R>tinyLfu(maximumSize));
+    }
+
     /**
      * Convert a TriFunction into one that caches it's result
      *
@@ -288,6 +310,17 @@ public class Memoize {
       Function1<Tuple3<T1, T2, T3>, R> memoise2 = memoizeFunction((final Tuple3<T1, T2, T3> triple) -> fn.apply(triple._1(), triple._2(), triple._3()), cache);
         return (t1, t2, t3) -> memoise2.apply(tuple(t1, t2, t3));
     }
+
+    /**
+     * Convert a TriFunction into one that caches up to maximumSize results, see {@link BoundedCache#tinyLfu(long)}
+     *
+     * @param fn TriFunction to memoise
+     * @param maximumSize Maximum number of results to cache
+     * @return Memoised TriFunction
+     */
+    public static <T1, T2, T3, R> Function3<T1, T2, T3, R> memoizeTriFunction(final Function3<T1, T2, T3, R> fn, final long maximumSize) {
+        return memoizeTriFunction(fn, BoundedCache.<R>tinyLfu(maximumSize));
+    }
     /**
      * Memoize a function and update the cached values asynchronously using the provided Scheduled Executor Service
      * Does not support null keys
@@ -338,6 +371,18 @@ public class Memoize {
       Function1<Tuple4<T1, T2, T3, T4>, R> memoise2 = memoizeFunction((final Tuple4<T1, T2, T3, T4> quad) -> fn.apply(quad._1(), quad._2(), quad._3(), quad._4()), cache);
         return (t1, t2, t3, t4) -> memoise2.apply(tuple(t1, t2, t3, t4));
     }
+
+    /**
+     * Convert a QuadFunction into one that caches up to maximumSize results, see {@link BoundedCache#tinyLfu(long)}
+     *
+     * @param fn QuadFunction to memoise
+     * @param maximumSize Maximum number of results to cache
+     * @return Memoised QuadFunction
+     */
+    public static <T1, T2, T3, T4, R> Function4<T1, T2, T3, T4, R> memoizeQuadFunction(final Function4<T1, T2, T3, T4, R> fn,
+                                                                                       final long maximumSize) {
+        return memoizeQuadFunction(fn, BoundedCache.<R>tinyLfu(maximumSize));
+    }
     /**
      * Memoize a function and update the cached values asynchronously using the provided Scheduled Executor Service
      * Does not support null keys
@@ -377,4 +422,15 @@ public class Memoize {
         return (t) -> t==null? nullR.computeIfAbsent(()->p.test(null)) : memoised.apply(t);
     }
 
+    /**
+     * Convert a Predicate into one that caches up to maximumSize results, see {@link BoundedCache#tinyLfu(long)}
+     *
+     * @param p Predicate to memoise
+     * @param maximumSize Maximum number of results to cache
+     * @return Memoised Predicate
+     */
+    public static <T> Predicate<T> memoizePredicate(final Predicate<T> p, final long maximumSize) {
+        return memoizePredicate(p, BoundedCache.<Boolean>tinyLfu(maximumSize));
+    }
+
 }
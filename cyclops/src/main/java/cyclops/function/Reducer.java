@@ -57,6 +57,39 @@ public interface Reducer<T,U> extends Monoid<T> {
         return of(monoid.zero(), monoid, mapper);
     }
 
+    /**
+     * Create a Reducer that builds its result from the whole Stream in one pass (e.g. via a transient / mutable builder),
+     * rather than converting each element and combining the results one at a time
+     *
+     * @param monoid Monoid used to combine reduced values
+     * @param mapper Conversion from a single element
+     * @param bulk Conversion from a Stream of elements
+     * @return Reducer
+     */
+    public static <T,U> Reducer<T,U> fromMonoid(final Monoid<T> monoid, final Function<? super U, T> mapper, final Function<? super Stream<U>, ? extends T> bulk) {
+        return new Reducer<T,U>() {
+            @Override
+            public T zero() {
+                return monoid.zero();
+            }
+
+            @Override
+            public Function<? super U, T> conversion(){
+                return mapper;
+            }
+
+            @Override
+            public T apply(final T t, final T u) {
+                return monoid.apply(t, u);
+            }
+
+            @Override
+            public T mapReduce(final Stream<U> toReduce) {
+                return bulk.apply(toReduce);
+            }
+        };
+    }
+
     public static <T,U> Reducer<T,U> of(final T zero, final BiFunction<T, T, T> combiner, final Function<? super U, T> mapToType) {
         return new Reducer<T,U>() {
             @Override
@@ -0,0 +1,387 @@
+package cyclops.reactive;
+
+
+import com.oath.cyclops.internal.stream.BasePrimitiveReactiveSeq;
+import com.oath.cyclops.internal.stream.spliterators.doubles.DoubleSink;
+import com.oath.cyclops.internal.stream.spliterators.doubles.ReversingDoubleArraySpliterator;
+import cyclops.control.Option;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A lazy, replayable Stream of unboxed double values.
+ *
+ * Each intermediate operator wraps the downstream {@link DoubleSink}, so a chain such as map / filter / limit runs as a
+ * single fused DoubleConsumer path from the source (an array, a range operator or a Spliterator.OfDouble) with no boxing.
+ * Values are only boxed at an explicit {@link #boxed()} or {@link #mapToObj(DoubleFunction)} call.
+ *
+ * <pre>
+ * {@code
+ *   DoubleReactiveSeq.of(1,2,3,4)
+ *                 .map(i->i*2)
+ *                 .filter(i->i>2)
+ *                 .sum();
+ *   //18
+ * }
+ * </pre>
+ */
+public final class DoubleReactiveSeq extends BasePrimitiveReactiveSeq<Double,DoubleConsumer,Spliterator.OfDouble,DoubleSink,DoubleReactiveSeq> {
+
+    private DoubleReactiveSeq(Supplier<? extends Spliterator.OfDouble> source, Consumer<DoubleSink> push, Function<DoubleSink,DoubleSink> ops, boolean shortCircuit) {
+        super(source,push,ops,shortCircuit);
+    }
+
+    public static DoubleReactiveSeq empty(){
+        return of();
+    }
+
+    public static DoubleReactiveSeq of(double... values){
+        return fromSpliterator(()->new ReversingDoubleArraySpliterator<>(values,0,values.length,false));
+    }
+
+    public static DoubleReactiveSeq iterate(double seed, DoubleUnaryOperator fn){
+        return fromSpliterator(()->DoubleStream.iterate(seed,fn).spliterator());
+    }
+
+    /**
+     * @param spliterator Supplier of a fresh Spliterator for each terminal operation
+     * @return DoubleReactiveSeq that pulls from the supplied Spliterators
+     */
+    public static DoubleReactiveSeq fromSpliterator(Supplier<? extends Spliterator.OfDouble> spliterator){
+        return new DoubleReactiveSeq(spliterator,null,identity(),false);
+    }
+
+    /**
+     * Note the resulting DoubleReactiveSeq can only be traversed once, as the DoubleStream can only be consumed once
+     */
+    public static DoubleReactiveSeq fromDoubleStream(DoubleStream stream){
+        Objects.requireNonNull(stream);
+        return fromSpliterator(stream::spliterator);
+    }
+
+    @Override
+    protected DoubleReactiveSeq create(Supplier<? extends Spliterator.OfDouble> source, Consumer<DoubleSink> push, Function<DoubleSink,DoubleSink> ops, boolean shortCircuit) {
+        return new DoubleReactiveSeq(source,push,ops,shortCircuit);
+    }
+
+    @Override
+    protected DoubleSink gate(DoubleSink downstream, Gate gate) {
+        return new DoubleSink() {
+            @Override
+            public void accept(double value) {
+                if(gate.admit())
+                    downstream.accept(value);
+            }
+
+            @Override
+            public boolean isDone() {
+                return gate.isDone() || downstream.isDone();
+            }
+        };
+    }
+
+    @Override
+    protected Spliterator.OfDouble concat(Spliterator.OfDouble first, Spliterator.OfDouble second) {
+        return DoubleStream.concat(StreamSupport.doubleStream(first,false),StreamSupport.doubleStream(second,false)).spliterator();
+    }
+
+    public DoubleReactiveSeq map(DoubleUnaryOperator fn){
+        return with(s->new DoubleSink() {
+            @Override
+            public void accept(double value) {
+                s.accept(fn.applyAsDouble(value));
+            }
+
+            @Override
+            public boolean isDone() {
+                return s.isDone();
+            }
+        },false);
+    }
+
+    public DoubleReactiveSeq filter(DoublePredicate predicate){
+        return with(s->new DoubleSink() {
+            @Override
+            public void accept(double value) {
+                if(predicate.test(value))
+                    s.accept(value);
+            }
+
+            @Override
+            public boolean isDone() {
+                return s.isDone();
+            }
+        },false);
+    }
+
+    public DoubleReactiveSeq peek(DoubleConsumer consumer){
+        return with(s->new DoubleSink() {
+            @Override
+            public void accept(double value) {
+                consumer.accept(value);
+                s.accept(value);
+            }
+
+            @Override
+            public boolean isDone() {
+                return s.isDone();
+            }
+        },false);
+    }
+
+    public DoubleReactiveSeq takeWhile(DoublePredicate predicate){
+        return with(s->new DoubleSink() {
+            boolean done = false;
+            @Override
+            public void accept(double value) {
+                if(!done && predicate.test(value))
+                    s.accept(value);
+                else
+                    done = true;
+            }
+
+            @Override
+            public boolean isDone() {
+                return done || s.isDone();
+            }
+        },true);
+    }
+
+    public DoubleReactiveSeq dropWhile(DoublePredicate predicate){
+        return with(s->new DoubleSink() {
+            boolean dropping = true;
+            @Override
+            public void accept(double value) {
+                if(dropping && predicate.test(value))
+                    return;
+                dropping = false;
+                s.accept(value);
+            }
+
+            @Override
+            public boolean isDone() {
+                return s.isDone();
+            }
+        },false);
+    }
+
+    public DoubleReactiveSeq flatMap(DoubleFunction<? extends DoubleReactiveSeq> fn){
+        return with(s->new DoubleSink() {
+            @Override
+            public void accept(double value) {
+                DoubleReactiveSeq inner = fn.apply(value);
+                inner.run(s,true);
+            }
+
+            @Override
+            public boolean isDone() {
+                return s.isDone();
+            }
+        },false);
+    }
+
+    public DoubleReactiveSeq concat(DoubleReactiveSeq other){
+        DoubleReactiveSeq first = this;
+        return new DoubleReactiveSeq(()->DoubleStream.concat(first.doubleStream(),other.doubleStream()).spliterator(),s->{
+            first.run(s,true);
+            other.run(s,true);
+        },identity(),false);
+    }
+
+    public IntReactiveSeq mapToInt(DoubleToIntFunction fn){
+        return IntReactiveSeq.fromSpliterator(()->doubleStream().mapToInt(fn).spliterator());
+    }
+
+    public LongReactiveSeq mapToLong(DoubleToLongFunction fn){
+        return LongReactiveSeq.fromSpliterator(()->doubleStream().mapToLong(fn).spliterator());
+    }
+
+    public <R> ReactiveSeq<R> mapToObj(DoubleFunction<? extends R> fn){
+        return boxed().map(fn::apply);
+    }
+
+    public DoubleStream doubleStream(){
+        return StreamSupport.doubleStream(spliterator(),false);
+    }
+
+    public void forEach(DoubleConsumer consumer){
+        run(consumer::accept,false);
+    }
+
+    public double foldLeft(double identity, DoubleBinaryOperator fn){
+        double[] res = {identity};
+        run(v->res[0]=fn.applyAsDouble(res[0],v),false);
+        return res[0];
+    }
+
+    public double sum(){
+        double[] res = {0};
+        run(v->res[0]+=v,false);
+        return res[0];
+    }
+
+    public long count(){
+        long[] res = {0};
+        run(v->res[0]++,false);
+        return res[0];
+    }
+
+    public Option<Double> min(){
+        return reduce(Math::min);
+    }
+
+    public Option<Double> max(){
+        return reduce(Math::max);
+    }
+
+    public Option<Double> average(){
+        double[] res = {0,0};
+        run(v->{
+            res[0]+=v;
+            res[1]++;
+        },false);
+        return res[1]==0 ? Option.none() : Option.some(res[0]/res[1]);
+    }
+
+    public Option<Double> reduce(DoubleBinaryOperator fn){
+        double[] res = {0};
+        boolean[] found = {false};
+        run(v->{
+            if(found[0]){
+                res[0]=fn.applyAsDouble(res[0],v);
+            }else{
+                found[0]=true;
+                res[0]=v;
+            }
+        },false);
+        return found[0] ? Option.some(res[0]) : Option.none();
+    }
+
+    public Option<Double> findFirst(){
+        double[] res = {0};
+        boolean[] found = {false};
+        run(new DoubleSink() {
+            @Override
+            public void accept(double value) {
+                if(!found[0]){
+                    found[0]=true;
+                    res[0]=value;
+                }
+            }
+
+            @Override
+            public boolean isDone() {
+                return found[0];
+            }
+        },true);
+        return found[0] ? Option.some(res[0]) : Option.none();
+    }
+
+    public boolean anyMatch(DoublePredicate predicate){
+        boolean[] found = {false};
+        run(new DoubleSink() {
+            @Override
+            public void accept(double value) {
+                if(predicate.test(value))
+                    found[0]=true;
+            }
+
+            @Override
+            public boolean isDone() {
+                return found[0];
+            }
+        },true);
+        return found[0];
+    }
+
+    public boolean allMatch(DoublePredicate predicate){
+        return !anyMatch(predicate.negate());
+    }
+
+    public boolean noneMatch(DoublePredicate predicate){
+        return !anyMatch(predicate);
+    }
+
+    public double[] toArray(){
+        double[][] res = {new double[16]};
+        int[] size = {0};
+        run(v->{
+            if(size[0]==res[0].length)
+                res[0] = Arrays.copyOf(res[0],size[0]*2);
+            res[0][size[0]++]=v;
+        },false);
+        return Arrays.copyOf(res[0],size[0]);
+    }
+
+    public PrimitiveIterator.OfDouble iterator(){
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Pull based view of the pipeline, values pushed by a single source step are buffered unboxed
+     */
+    @Override
+    public Spliterator.OfDouble spliterator(){
+        if(!hasOperators())
+            return source();
+        Spliterator.OfDouble upstream = source();
+        return new Spliterator.OfDouble() {
+            double[] buffer = new double[8];
+            int read = 0;
+            int write = 0;
+            final DoubleSink sink = pipeline(v->{
+                if(write==buffer.length)
+                    buffer = Arrays.copyOf(buffer,write*2);
+                buffer[write++]=v;
+            });
+
+            private boolean fill(){
+                while(read==write){
+                    read = write = 0;
+                    if(sink.isDone() || !upstream.tryAdvance(sink))
+                        return read<write;
+                }
+                return true;
+            }
+
+            @Override
+            public boolean tryAdvance(DoubleConsumer action) {
+                if(!fill())
+                    return false;
+                action.accept(buffer[read++]);
+                return true;
+            }
+
+            @Override
+            public Spliterator.OfDouble trySplit() {
+                return null;
+            }
+
+            @Override
+            public long estimateSize() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            public int characteristics() {
+                return Spliterator.ORDERED;
+            }
+        };
+    }
+}
@@ -0,0 +1,396 @@
+package cyclops.reactive;
+
+
+import com.oath.cyclops.internal.stream.BasePrimitiveReactiveSeq;
+import com.oath.cyclops.internal.stream.spliterators.ints.IntSink;
+import com.oath.cyclops.internal.stream.spliterators.ints.ReversingIntArraySpliterator;
+import com.oath.cyclops.internal.stream.spliterators.ints.ReversingRangeIntSpliterator;
+import com.oath.cyclops.internal.stream.spliterators.push.RangeIntOperator;
+import cyclops.control.Option;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A lazy, replayable Stream of unboxed int values.
+ *
+ * Each intermediate operator wraps the downstream {@link IntSink}, so a chain such as map / filter / limit runs as a
+ * single fused IntConsumer path from the source (an array, a range operator or a Spliterator.OfInt) with no boxing.
+ * Values are only boxed at an explicit {@link #boxed()} or {@link #mapToObj(IntFunction)} call.
+ *
+ * <pre>
+ * {@code
+ *   IntReactiveSeq.of(1,2,3,4)
+ *                 .map(i->i*2)
+ *                 .filter(i->i>2)
+ *                 .sum();
+ *   //18
+ * }
+ * </pre>
+ */
+public final class IntReactiveSeq extends BasePrimitiveReactiveSeq<Integer,IntConsumer,Spliterator.OfInt,IntSink,IntReactiveSeq> {
+
+    private IntReactiveSeq(Supplier<? extends Spliterator.OfInt> source, Consumer<IntSink> push, Function<IntSink,IntSink> ops, boolean shortCircuit) {
+        super(source,push,ops,shortCircuit);
+    }
+
+    public static IntReactiveSeq empty(){
+        return of();
+    }
+
+    public static IntReactiveSeq of(int... values){
+        return fromSpliterator(()->new ReversingIntArraySpliterator<>(values,0,values.length,false));
+    }
+
+    /**
+     * Range from start (inclusive) to end (exclusive), internal iteration is driven by the push based RangeIntOperator
+     */
+    public static IntReactiveSeq range(int start, int end){
+        return new IntReactiveSeq(()->new ReversingRangeIntSpliterator(start,end,1,false),new RangeIntOperator(start,end)::subscribeAll,identity(),false);
+    }
+
+    public static IntReactiveSeq iterate(int seed, IntUnaryOperator fn){
+        return fromSpliterator(()->IntStream.iterate(seed,fn).spliterator());
+    }
+
+    /**
+     * @param spliterator Supplier of a fresh Spliterator for each terminal operation
+     * @return IntReactiveSeq that pulls from the supplied Spliterators
+     */
+    public static IntReactiveSeq fromSpliterator(Supplier<? extends Spliterator.OfInt> spliterator){
+        return new IntReactiveSeq(spliterator,null,identity(),false);
+    }
+
+    /**
+     * Note the resulting IntReactiveSeq can only be traversed once, as the IntStream can only be consumed once
+     */
+    public static IntReactiveSeq fromIntStream(IntStream stream){
+        Objects.requireNonNull(stream);
+        return fromSpliterator(stream::spliterator);
+    }
+
+    @Override
+    protected IntReactiveSeq create(Supplier<? extends Spliterator.OfInt> source, Consumer<IntSink> push, Function<IntSink,IntSink> ops, boolean shortCircuit) {
+        return new IntReactiveSeq(source,push,ops,shortCircuit);
+    }
+
+    @Override
+    protected IntSink gate(IntSink downstream, Gate gate) {
+        return new IntSink() {
+            @Override
+            public void accept(int value) {
+                if(gate.admit())
+                    downstream.accept(value);
+            }
+
+            @Override
+            public boolean isDone() {
+                return gate.isDone() || downstream.isDone();
+            }
+        };
+    }
+
+    @Override
+    protected Spliterator.OfInt concat(Spliterator.OfInt first, Spliterator.OfInt second) {
+        return IntStream.concat(StreamSupport.intStream(first,false),StreamSupport.intStream(second,false)).spliterator();
+    }
+
+    public IntReactiveSeq map(IntUnaryOperator fn){
+        return with(s->new IntSink() {
+            @Override
+            public void accept(int value) {
+                s.accept(fn.applyAsInt(value));
+            }
+
+            @Override
+            public boolean isDone() {
+                return s.isDone();
+            }
+        },false);
+    }
+
+    public IntReactiveSeq filter(IntPredicate predicate){
+        return with(s->new IntSink() {
+            @Override
+            public void accept(int value) {
+                if(predicate.test(value))
+                    s.accept(value);
+            }
+
+            @Override
+            public boolean isDone() {
+                return s.isDone();
+            }
+        },false);
+    }
+
+    public IntReactiveSeq peek(IntConsumer consumer){
+        return with(s->new IntSink() {
+            @Override
+            public void accept(int value) {
+                consumer.accept(value);
+                s.accept(value);
+            }
+
+            @Override
+            public boolean isDone() {
+                return s.isDone();
+            }
+        },false);
+    }
+
+    public IntReactiveSeq takeWhile(IntPredicate predicate){
+        return with(s->new IntSink() {
+            boolean done = false;
+            @Override
+            public void accept(int value) {
+                if(!done && predicate.test(value))
+                    s.accept(value);
+                else
+                    done = true;
+            }
+
+            @Override
+            public boolean isDone() {
+                return done || s.isDone();
+            }
+        },true);
+    }
+
+    public IntReactiveSeq dropWhile(IntPredicate predicate){
+        return with(s->new IntSink() {
+            boolean dropping = true;
+            @Override
+            public void accept(int value) {
+                if(dropping && predicate.test(value))
+                    return;
+                dropping = false;
+                s.accept(value);
+            }
+
+            @Override
+            public boolean isDone() {
+                return s.isDone();
+            }
+        },false);
+    }
+
+    public IntReactiveSeq flatMap(IntFunction<? extends IntReactiveSeq> fn){
+        return with(s->new IntSink() {
+            @Override
+            public void accept(int value) {
+                IntReactiveSeq inner = fn.apply(value);
+                inner.run(s,true);
+            }
+
+            @Override
+            public boolean isDone() {
+                return s.isDone();
+            }
+        },false);
+    }
+
+    public IntReactiveSeq concat(IntReactiveSeq other){
+        IntReactiveSeq first = this;
+        return new IntReactiveSeq(()->IntStream.concat(first.intStream(),other.intStream()).spliterator(),s->{
+            first.run(s,true);
+            other.run(s,true);
+        },identity(),false);
+    }
+
+    public LongReactiveSeq mapToLong(IntToLongFunction fn){
+        return LongReactiveSeq.fromSpliterator(()->intStream().mapToLong(fn).spliterator());
+    }
+
+    public DoubleReactiveSeq mapToDouble(IntToDoubleFunction fn){
+        return DoubleReactiveSeq.fromSpliterator(()->intStream().mapToDouble(fn).spliterator());
+    }
+
+    public <R> ReactiveSeq<R> mapToObj(IntFunction<? extends R> fn){
+        return boxed().map(fn::apply);
+    }
+
+    public IntStream intStream(){
+        return StreamSupport.intStream(spliterator(),false);
+    }
+
+    public void forEach(IntConsumer consumer){
+        run(consumer::accept,false);
+    }
+
+    public int foldLeft(int identity, IntBinaryOperator fn){
+        int[] res = {identity};
+        run(v->res[0]=fn.applyAsInt(res[0],v),false);
+        return res[0];
+    }
+
+    public int sum(){
+        int[] res = {0};
+        run(v->res[0]+=v,false);
+        return res[0];
+    }
+
+    public long count(){
+        long[] res = {0};
+        run(v->res[0]++,false);
+        return res[0];
+    }
+
+    public Option<Integer> min(){
+        return reduce(Math::min);
+    }
+
+    public Option<Integer> max(){
+        return reduce(Math::max);
+    }
+
+    public Option<Double> average(){
+        double[] res = {0,0};
+        run(v->{
+            res[0]+=v;
+            res[1]++;
+        },false);
+        return res[1]==0 ? Option.none() : Option.some(res[0]/res[1]);
+    }
+
+    public Option<Integer> reduce(IntBinaryOperator fn){
+        int[] res = {0};
+        boolean[] found = {false};
+        run(v->{
+            if(found[0]){
+                res[0]=fn.applyAsInt(res[0],v);
+            }else{
+                found[0]=true;
+                res[0]=v;
+            }
+        },false);
+        return found[0] ? Option.some(res[0]) : Option.none();
+    }
+
+    public Option<Integer> findFirst(){
+        int[] res = {0};
+        boolean[] found = {false};
+        run(new IntSink() {
+            @Override
+            public void accept(int value) {
+                if(!found[0]){
+                    found[0]=true;
+                    res[0]=value;
+                }
+            }
+
+            @Override
+            public boolean isDone() {
+                return found[0];
+            }
+        },true);
+        return found[0] ? Option.some(res[0]) : Option.none();
+    }
+
+    public boolean anyMatch(IntPredicate predicate){
+        boolean[] found = {false};
+        run(new IntSink() {
+            @Override
+            public void accept(int value) {
+                if(predicate.test(value))
+                    found[0]=true;
+            }
+
+            @Override
+            public boolean isDone() {
+                return found[0];
+            }
+        },true);
+        return found[0];
+    }
+
+    public boolean allMatch(IntPredicate predicate){
+        return !anyMatch(predicate.negate());
+    }
+
+    public boolean noneMatch(IntPredicate predicate){
+        return !anyMatch(predicate);
+    }
+
+    public int[] toArray(){
+        int[][] res = {new int[16]};
+        int[] size = {0};
+        run(v->{
+            if(size[0]==res[0].length)
+                res[0] = Arrays.copyOf(res[0],size[0]*2);
+            res[0][size[0]++]=v;
+        },false);
+        return Arrays.copyOf(res[0],size[0]);
+    }
+
+    public PrimitiveIterator.OfInt iterator(){
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Pull based view of the pipeline, values pushed by a single source step are buffered unboxed
+     */
+    @Override
+    public Spliterator.OfInt spliterator(){
+        if(!hasOperators())
+            return source();
+        Spliterator.OfInt upstream = source();
+        return new Spliterator.OfInt() {
+            int[] buffer = new int[8];
+            int read = 0;
+            int write = 0;
+            final IntSink sink = pipeline(v->{
+                if(write==buffer.length)
+                    buffer = Arrays.copyOf(buffer,write*2);
+                buffer[write++]=v;
+            });
+
+            private boolean fill(){
+                while(read==write){
+                    read = write = 0;
+                    if(sink.isDone() || !upstream.tryAdvance(sink))
+                        return read<write;
+                }
+                return true;
+            }
+
+            @Override
+            public boolean tryAdvance(IntConsumer action) {
+                if(!fill())
+                    return false;
+                action.accept(buffer[read++]);
+                return true;
+            }
+
+            @Override
+            public Spliterator.OfInt trySplit() {
+                return null;
+            }
+
+            @Override
+            public long estimateSize() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            public int characteristics() {
+                return Spliterator.ORDERED;
+            }
+        };
+    }
+}
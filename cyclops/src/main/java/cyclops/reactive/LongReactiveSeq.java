@@ -0,0 +1,396 @@
+package cyclops.reactive;
+
+
+import com.oath.cyclops.internal.stream.BasePrimitiveReactiveSeq;
+import com.oath.cyclops.internal.stream.spliterators.longs.LongSink;
+import com.oath.cyclops.internal.stream.spliterators.longs.ReversingLongArraySpliterator;
+import com.oath.cyclops.internal.stream.spliterators.longs.ReversingRangeLongSpliterator;
+import com.oath.cyclops.internal.stream.spliterators.push.RangeLongOperator;
+import cyclops.control.Option;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A lazy, replayable Stream of unboxed long values.
+ *
+ * Each intermediate operator wraps the downstream {@link LongSink}, so a chain such as map / filter / limit runs as a
+ * single fused LongConsumer path from the source (an array, a range operator or a Spliterator.OfLong) with no boxing.
+ * Values are only boxed at an explicit {@link #boxed()} or {@link #mapToObj(LongFunction)} call.
+ *
+ * <pre>
+ * {@code
+ *   LongReactiveSeq.of(1,2,3,4)
+ *                 .map(i->i*2)
+ *                 .filter(i->i>2)
+ *                 .sum();
+ *   //18
+ * }
+ * </pre>
+ */
+public final class LongReactiveSeq extends BasePrimitiveReactiveSeq<Long,LongConsumer,Spliterator.OfLong,LongSink,LongReactiveSeq> {
+
+    private LongReactiveSeq(Supplier<? extends Spliterator.OfLong> source, Consumer<LongSink> push, Function<LongSink,LongSink> ops, boolean shortCircuit) {
+        super(source,push,ops,shortCircuit);
+    }
+
+    public static LongReactiveSeq empty(){
+        return of();
+    }
+
+    public static LongReactiveSeq of(long... values){
+        return fromSpliterator(()->new ReversingLongArraySpliterator<>(values,0,values.length,false));
+    }
+
+    /**
+     * Range from start (inclusive) to end (exclusive), internal iteration is driven by the push based RangeLongOperator
+     */
+    public static LongReactiveSeq range(long start, long end){
+        return new LongReactiveSeq(()->new ReversingRangeLongSpliterator(start,end,1,false),new RangeLongOperator(start,end)::subscribeAll,identity(),false);
+    }
+
+    public static LongReactiveSeq iterate(long seed, LongUnaryOperator fn){
+        return fromSpliterator(()->LongStream.iterate(seed,fn).spliterator());
+    }
+
+    /**
+     * @param spliterator Supplier of a fresh Spliterator for each terminal operation
+     * @return LongReactiveSeq that pulls from the supplied Spliterators
+     */
+    public static LongReactiveSeq fromSpliterator(Supplier<? extends Spliterator.OfLong> spliterator){
+        return new LongReactiveSeq(spliterator,null,identity(),false);
+    }
+
+    /**
+     * Note the resulting LongReactiveSeq can only be traversed once, as the LongStream can only be consumed once
+     */
+    public static LongReactiveSeq fromLongStream(LongStream stream){
+        Objects.requireNonNull(stream);
+        return fromSpliterator(stream::spliterator);
+    }
+
+    @Override
+    protected LongReactiveSeq create(Supplier<? extends Spliterator.OfLong> source, Consumer<LongSink> push, Function<LongSink,LongSink> ops, boolean shortCircuit) {
+        return new LongReactiveSeq(source,push,ops,shortCircuit);
+    }
+
+    @Override
+    protected LongSink gate(LongSink downstream, Gate gate) {
+        return new LongSink() {
+            @Override
+            public void accept(long value) {
+                if(gate.admit())
+                    downstream.accept(value);
+            }
+
+            @Override
+            public boolean isDone() {
+                return gate.isDone() || downstream.isDone();
+            }
+        };
+    }
+
+    @Override
+    protected Spliterator.OfLong concat(Spliterator.OfLong first, Spliterator.OfLong second) {
+        return LongStream.concat(StreamSupport.longStream(first,false),StreamSupport.longStream(second,false)).spliterator();
+    }
+
+    public LongReactiveSeq map(LongUnaryOperator fn){
+        return with(s->new LongSink() {
+            @Override
+            public void accept(long value) {
+                s.accept(fn.applyAsLong(value));
+            }
+
+            @Override
+            public boolean isDone() {
+                return s.isDone();
+            }
+        },false);
+    }
+
+    public LongReactiveSeq filter(LongPredicate predicate){
+        return with(s->new LongSink() {
+            @Override
+            public void accept(long value) {
+                if(predicate.test(value))
+                    s.accept(value);
+            }
+
+            @Override
+            public boolean isDone() {
+                return s.isDone();
+            }
+        },false);
+    }
+
+    public LongReactiveSeq peek(LongConsumer consumer){
+        return with(s->new LongSink() {
+            @Override
+            public void accept(long value) {
+                consumer.accept(value);
+                s.accept(value);
+            }
+
+            @Override
+            public boolean isDone() {
+                return s.isDone();
+            }
+        },false);
+    }
+
+    public LongReactiveSeq takeWhile(LongPredicate predicate){
+        return with(s->new LongSink() {
+            boolean done = false;
+            @Override
+            public void accept(long value) {
+                if(!done && predicate.test(value))
+                    s.accept(value);
+                else
+                    done = true;
+            }
+
+            @Override
+            public boolean isDone() {
+                return done || s.isDone();
+            }
+        },true);
+    }
+
+    public LongReactiveSeq dropWhile(LongPredicate predicate){
+        return with(s->new LongSink() {
+            boolean dropping = true;
+            @Override
+            public void accept(long value) {
+                if(dropping && predicate.test(value))
+                    return;
+                dropping = false;
+                s.accept(value);
+            }
+
+            @Override
+            public boolean isDone() {
+                return s.isDone();
+            }
+        },false);
+    }
+
+    public LongReactiveSeq flatMap(LongFunction<? extends LongReactiveSeq> fn){
+        return with(s->new LongSink() {
+            @Override
+            public void accept(long value) {
+                LongReactiveSeq inner = fn.apply(value);
+                inner.run(s,true);
+            }
+
+            @Override
+            public boolean isDone() {
+                return s.isDone();
+            }
+        },false);
+    }
+
+    public LongReactiveSeq concat(LongReactiveSeq other){
+        LongReactiveSeq first = this;
+        return new LongReactiveSeq(()->LongStream.concat(first.longStream(),other.longStream()).spliterator(),s->{
+            first.run(s,true);
+            other.run(s,true);
+        },identity(),false);
+    }
+
+    public IntReactiveSeq mapToInt(LongToIntFunction fn){
+        return IntReactiveSeq.fromSpliterator(()->longStream().mapToInt(fn).spliterator());
+    }
+
+    public DoubleReactiveSeq mapToDouble(LongToDoubleFunction fn){
+        return DoubleReactiveSeq.fromSpliterator(()->longStream().mapToDouble(fn).spliterator());
+    }
+
+    public <R> ReactiveSeq<R> mapToObj(LongFunction<? extends R> fn){
+        return boxed().map(fn::apply);
+    }
+
+    public LongStream longStream(){
+        return StreamSupport.longStream(spliterator(),false);
+    }
+
+    public void forEach(LongConsumer consumer){
+        run(consumer::accept,false);
+    }
+
+    public long foldLeft(long identity, LongBinaryOperator fn){
+        long[] res = {identity};
+        run(v->res[0]=fn.applyAsLong(res[0],v),false);
+        return res[0];
+    }
+
+    public long sum(){
+        long[] res = {0};
+        run(v->res[0]+=v,false);
+        return res[0];
+    }
+
+    public long count(){
+        long[] res = {0};
+        run(v->res[0]++,false);
+        return res[0];
+    }
+
+    public Option<Long> min(){
+        return reduce(Math::min);
+    }
+
+    public Option<Long> max(){
+        return reduce(Math::max);
+    }
+
+    public Option<Double> average(){
+        double[] res = {0,0};
+        run(v->{
+            res[0]+=v;
+            res[1]++;
+        },false);
+        return res[1]==0 ? Option.none() : Option.some(res[0]/res[1]);
+    }
+
+    public Option<Long> reduce(LongBinaryOperator fn){
+        long[] res = {0};
+        boolean[] found = {false};
+        run(v->{
+            if(found[0]){
+                res[0]=fn.applyAsLong(res[0],v);
+            }else{
+                found[0]=true;
+                res[0]=v;
+            }
+        },false);
+        return found[0] ? Option.some(res[0]) : Option.none();
+    }
+
+    public Option<Long> findFirst(){
+        long[] res = {0};
+        boolean[] found = {false};
+        run(new LongSink() {
+            @Override
+            public void accept(long value) {
+                if(!found[0]){
+                    found[0]=true;
+                    res[0]=value;
+                }
+            }
+
+            @Override
+            public boolean isDone() {
+                return found[0];
+            }
+        },true);
+        return found[0] ? Option.some(res[0]) : Option.none();
+    }
+
+    public boolean anyMatch(LongPredicate predicate){
+        boolean[] found = {false};
+        run(new LongSink() {
+            @Override
+            public void accept(long value) {
+                if(predicate.test(value))
+                    found[0]=true;
+            }
+
+            @Override
+            public boolean isDone() {
+                return found[0];
+            }
+        },true);
+        return found[0];
+    }
+
+    public boolean allMatch(LongPredicate predicate){
+        return !anyMatch(predicate.negate());
+    }
+
+    public boolean noneMatch(LongPredicate predicate){
+        return !anyMatch(predicate);
+    }
+
+    public long[] toArray(){
+        long[][] res = {new long[16]};
+        int[] size = {0};
+        run(v->{
+            if(size[0]==res[0].length)
+                res[0] = Arrays.copyOf(res[0],size[0]*2);
+            res[0][size[0]++]=v;
+        },false);
+        return Arrays.copyOf(res[0],size[0]);
+    }
+
+    public PrimitiveIterator.OfLong iterator(){
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Pull based view of the pipeline, values pushed by a single source step are buffered unboxed
+     */
+    @Override
+    public Spliterator.OfLong spliterator(){
+        if(!hasOperators())
+            return source();
+        Spliterator.OfLong upstream = source();
+        return new Spliterator.OfLong() {
+            long[] buffer = new long[8];
+            int read = 0;
+            int write = 0;
+            final LongSink sink = pipeline(v->{
+                if(write==buffer.length)
+                    buffer = Arrays.copyOf(buffer,write*2);
+                buffer[write++]=v;
+            });
+
+            private boolean fill(){
+                while(read==write){
+                    read = write = 0;
+                    if(sink.isDone() || !upstream.tryAdvance(sink))
+                        return read<write;
+                }
+                return true;
+            }
+
+            @Override
+            public boolean tryAdvance(LongConsumer action) {
+                if(!fill())
+                    return false;
+                action.accept(buffer[read++]);
+                return true;
+            }
+
+            @Override
+            public Spliterator.OfLong trySplit() {
+                return null;
+            }
+
+            @Override
+            public long estimateSize() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            public int characteristics() {
+                return Spliterator.ORDERED;
+            }
+        };
+    }
+}
@@ -51,6 +51,9 @@ import org.reactivestreams.Subscriber;
 
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
@@ -697,6 +700,48 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
         return a->fromSpliterator(DoubleStream.concat(a.mapToDouble(i->i),b.mapToDouble(i->i)).spliterator());
     }
 
+    /**
+     * Construct an unboxed Stream of ints, operations on the returned IntReactiveSeq run without boxing until
+     * {@link IntReactiveSeq#boxed()} is called
+     *
+     * <pre>
+     * {@code
+     *    ReactiveSeq.intSeq(1,2,3)
+     *               .map(i->i*2)
+     *               .sum();
+     *    //12
+     * }
+     * </pre>
+     *
+     * @param values ints to populate Stream from
+     * @return IntReactiveSeq of the supplied values
+     */
+    public static IntReactiveSeq intSeq(int... values){
+        return IntReactiveSeq.of(values);
+    }
+
+    /**
+     * Construct an unboxed Stream of longs
+     *
+     * @see #intSeq(int...)
+     * @param values longs to populate Stream from
+     * @return LongReactiveSeq of the supplied values
+     */
+    public static LongReactiveSeq longSeq(long... values){
+        return LongReactiveSeq.of(values);
+    }
+
+    /**
+     * Construct an unboxed Stream of doubles
+     *
+     * @see #intSeq(int...)
+     * @param values doubles to populate Stream from
+     * @return DoubleReactiveSeq of the supplied values
+     */
+    public static DoubleReactiveSeq doubleSeq(double... values){
+        return DoubleReactiveSeq.of(values);
+    }
+
     /**
      * Efficiently construct a ReactiveSeq from a single value
      *
@@ -740,6 +785,26 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     }
 
 
+    /**
+     * Convert to an unboxed IntReactiveSeq, subsequent operations run without boxing. Like this ReactiveSeq the
+     * IntReactiveSeq can be traversed repeatedly.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of("a","bb","ccc")
+     *             .mapToIntSeq(String::length)
+     *             .sum();
+     *  //6
+     * }
+     * </pre>
+     *
+     * @param fn Function to extract an int from each element
+     * @return IntReactiveSeq of the extracted ints
+     */
+    default IntReactiveSeq mapToIntSeq(ToIntFunction<? super T> fn){
+        return IntReactiveSeq.fromSpliterator(()->StreamSupport.stream(spliterator(),false).mapToInt(fn).spliterator());
+    }
+
     @Override
     default IntStream mapToInt(ToIntFunction<? super T> fn){
         Spliterator<T> split = this.spliterator();
@@ -771,6 +836,17 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
         return ReactiveSeq.fromSpliterator(mapper.apply(mapToLong(fn)).spliterator());
     }
 
+    /**
+     * Convert to an unboxed LongReactiveSeq, subsequent operations run without boxing
+     *
+     * @see #mapToIntSeq(ToIntFunction)
+     * @param fn Function to extract a long from each element
+     * @return LongReactiveSeq of the extracted longs
+     */
+    default LongReactiveSeq mapToLongSeq(ToLongFunction<? super T> fn){
+        return LongReactiveSeq.fromSpliterator(()->StreamSupport.stream(spliterator(),false).mapToLong(fn).spliterator());
+    }
+
     @Override
     default LongStream mapToLong(ToLongFunction<? super T> fn){
         Spliterator<T> split = this.spliterator();
@@ -801,6 +877,17 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
         return ReactiveSeq.fromSpliterator(mapper.apply(mapToDouble(fn)).spliterator());
     }
 
+    /**
+     * Convert to an unboxed DoubleReactiveSeq, subsequent operations run without boxing
+     *
+     * @see #mapToIntSeq(ToIntFunction)
+     * @param fn Function to extract a double from each element
+     * @return DoubleReactiveSeq of the extracted doubles
+     */
+    default DoubleReactiveSeq mapToDoubleSeq(ToDoubleFunction<? super T> fn){
+        return DoubleReactiveSeq.fromSpliterator(()->StreamSupport.stream(spliterator(),false).mapToDouble(fn).spliterator());
+    }
+
     @Override
     default DoubleStream mapToDouble(ToDoubleFunction<? super T> fn){
         Spliterator<T> split = this.spliterator();
@@ -1392,6 +1479,32 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     ReactiveSeq<Seq<T>> sliding(int windowSize, int increment);
 
+    /**
+     * Create a sliding view over this Sequence by time : every increment the elements that arrived within the last time
+     * period are emitted, provided the window has changed since it was last emitted.
+     *
+     * <pre>
+     * {@code
+     *  //a one second moving window, updated every 100 milliseconds
+     *  Spouts.from(prices)
+     *        .slidingByTime(1,100,TimeUnit.MILLISECONDS)
+     *        .map(window->window.stream().mapToDouble(i->i).average());
+     *
+     * }
+     * </pre>
+     *
+     * Windows are emitted by a shared timer (increments below its one millisecond resolution are rounded up), sequential
+     * Streams are pushed through the reactive-streams based implementation to allow this.
+     *
+     * @param time Length of each window
+     * @param increment Period at which windows are emitted
+     * @param unit Time unit for time and increment
+     * @return ReactiveSeq with sliding time windows
+     */
+    default ReactiveSeq<Seq<T>> slidingByTime(long time, long increment, TimeUnit unit){
+        return Spouts.fromIterable(this).slidingByTime(time,increment,unit);
+    }
+
     /**
      * Group elements in a Stream
      *
@@ -2589,6 +2702,29 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
 
     <R> ReactiveSeq<R> mergeMap(Function<? super T, ? extends Publisher<? extends R>> fn);
     <R> ReactiveSeq<R> mergeMap(int maxConcurrency, Function<? super T, ? extends Publisher<? extends R>> fn);
+
+    /**
+     * mergeMap with a configurable number of values buffered per inner Publisher. Each inner Publisher is
+     * initially requested prefetch values and replenished once three quarters of them have been emitted downstream.
+     * Implementations that do not subscribe to the inner Publishers themselves ignore the prefetch.
+     *
+     * <pre>
+     * {@code
+     *   Spouts.of(1,2,3)
+     *         .mergeMap(3,256,i->Spouts.range(0,10_000))
+     *         .count();
+     *   //30000
+     * }
+     * </pre>
+     *
+     * @param maxConcurrency Maximum number of inner Publishers subscribed to at once
+     * @param prefetch Number of values to request (and buffer) from each inner Publisher
+     * @param fn Function that maps each value to a Publisher
+     * @return new stage in Sequence with the merged values of the inner Publishers
+     */
+    default <R> ReactiveSeq<R> mergeMap(int maxConcurrency, int prefetch, Function<? super T, ? extends Publisher<? extends R>> fn){
+        return mergeMap(maxConcurrency,fn);
+    }
     /**
      * flatMap operation
      *
@@ -3044,6 +3180,29 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
         return Streams.hotStream(this, e);
     }
 
+    /**
+     * Turns this ReactiveSeq into a HotStream that starts emitting data immediately and retains a bounded window
+     * of the most recently emitted elements. Each Stream that connects first receives (up to) the last history elements
+     * and then the live data.
+     *
+     * <pre>
+     * {@code
+     *  HotStream<Integer> ints = ReactiveSeq.range(0,Integer.MAX_VALUE)
+     *                                       .hotStream(exec,100);
+     *
+     *  ints.connect().forEach(System.out::println);
+     *  //prints the 100 ints emitted before connecting, then all following ints
+     * }
+     * </pre>
+     *
+     * @param e Executor to execute this ReactiveSeq on
+     * @param history Number of elements to replay to late joiners
+     * @return a Connectable HotStream
+     */
+    default HotStream<T> hotStream(final Executor e, final int history) {
+        return Streams.hotStream(this, e, history);
+    }
+
     /**
      * Return a HotStream that will skip emitting data when the first connecting Stream connects.
      * Note this method creates a HotStream that starts emitting data only when the first connecting Stream connects.
@@ -3069,6 +3228,30 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
         return Streams.primedHotStream(this, e);
     }
 
+    /**
+     * Return a HotStream that starts emitting data when the first Stream connects and retains a bounded window of
+     * the most recently emitted elements, replayed to each Stream that connects later.
+     *
+     * <pre>
+     * {@code
+     *  HotStream<Integer> ints = ReactiveSeq.range(0,Integer.MAX_VALUE)
+     *                                       .primedHotStream(exec,100);
+     *
+     *  ints.connect().forEach(System.out::println);
+     *  //print out all the ints - starting when connect is called.
+     *  ints.connect().forEach(System.out::println);
+     *  //prints up to 100 previously emitted ints, then all following ints
+     * }
+     * </pre>
+     *
+     * @param e Executor to execute this ReactiveSeq on
+     * @param history Number of elements to replay to late joiners
+     * @return a Connectable HotStream
+     */
+    default HotStream<T> primedHotStream(Executor e, int history){
+        return Streams.primedHotStream(this, e, history);
+    }
+
 
 
 
@@ -3560,6 +3743,66 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
         return fromIterable(() -> iterator);
     }
 
+    /**
+     * Construct a ReactiveSeq of the lines of a file. The file is memory mapped in large windows and each line is emitted
+     * as a read only ByteBuffer slice of the mapping (without its line terminator), nothing is decoded or copied.
+     *
+     * <pre>
+     * {@code
+     *  long errors = ReactiveSeq.fromFile(Paths.get("app.log"))
+     *                           .map(StandardCharsets.UTF_8::decode)
+     *                           .filter(line->line.toString().contains("ERROR"))
+     *                           .count();
+     * }
+     * </pre>
+     *
+     * Each traversal opens the file again and closes it once it has been fully read. Closing the returned ReactiveSeq, or any
+     * ReactiveSeq derived from it (e.g. via map or limit), closes the file for any traversal that stopped early, alternatively
+     * use {@link Spouts#fromFile(Path)} and cancel the subscription.
+     *
+     * @param file File to read
+     * @return ReactiveSeq of lines
+     */
+    public static ReactiveSeq<ByteBuffer> fromFile(final Path file) {
+        return fromFile(file, ChannelRecordSpliterator.LINES);
+    }
+
+    /**
+     * Construct a ReactiveSeq of the fixed size records of a memory mapped file, each emitted as a read only ByteBuffer slice.
+     * A trailing partial record is emitted as is.
+     *
+     * @param file File to read
+     * @param recordSize Size of each record in bytes
+     * @return ReactiveSeq of records
+     */
+    public static ReactiveSeq<ByteBuffer> fromFile(final Path file, final int recordSize) {
+        final ChannelRecordSpliterator records = ChannelRecordSpliterator.file(file, recordSize);
+        return fromSpliterator(records).onClose(records::closeAll);
+    }
+
+    /**
+     * Construct a ReactiveSeq of the lines read from a channel, emitted as read only ByteBuffer slices without their line terminators.
+     * FileChannels are memory mapped from their current position, other (blocking) channels are read in chunks. The channel is closed
+     * once exhausted or when the ReactiveSeq is closed.
+     *
+     * @param channel Channel to read
+     * @return ReactiveSeq of lines
+     */
+    public static ReactiveSeq<ByteBuffer> fromChannel(final ReadableByteChannel channel) {
+        return fromChannel(channel, ChannelRecordSpliterator.LINES);
+    }
+
+    /**
+     * Construct a ReactiveSeq of the fixed size records read from a channel, emitted as read only ByteBuffer slices.
+     *
+     * @param channel Channel to read
+     * @param recordSize Size of each record in bytes
+     * @return ReactiveSeq of records
+     */
+    public static ReactiveSeq<ByteBuffer> fromChannel(final ReadableByteChannel channel, final int recordSize) {
+        return fromSpliterator(ChannelRecordSpliterator.channel(channel, recordSize));
+    }
+
     /**
      * @see Stream#iterate(Object, UnaryOperator)
      */
@@ -3763,6 +4006,33 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
      */
     ReactiveSeq<T> onePer(long time, TimeUnit t);
 
+    /**
+     * Limit the rate of emission with a token bucket : up to permits elements may be emitted in a burst, after which
+     * elements are emitted at a steady rate of permits per time period
+     *
+     * <pre>
+     * {@code
+     * Spouts.range(0,1000)
+     *       .rateLimit(100,1,TimeUnit.SECONDS)
+     *       .forEach(this::call);
+     *
+     * //100 calls straight away, then one call every 10 milliseconds
+     * }
+     * </pre>
+     *
+     * Elements are delayed by a shared timer rather than by blocking the emitting thread (delays below its one millisecond
+     * resolution are not waited for individually, but the overall rate holds), sequential Streams are pushed through the
+     * reactive-streams based implementation to allow this.
+     *
+     * @param permits Maximum burst size and number of elements per time period
+     * @param per Time period
+     * @param unit Time unit for the period
+     * @return ReactiveSeq that emits at most permits elements per time period
+     */
+    default ReactiveSeq<T> rateLimit(int permits, long per, TimeUnit unit){
+        return Spouts.fromIterable(this).rateLimit(permits,per,unit);
+    }
+
     /**
      * Allow one element through per time period, drop all other elements in
      * that time period
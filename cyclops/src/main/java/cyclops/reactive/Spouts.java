@@ -9,6 +9,7 @@ import com.oath.cyclops.types.traversable.IterableX;
 import cyclops.control.*;
 import com.oath.cyclops.internal.stream.ReactiveStreamX;
 import com.oath.cyclops.internal.stream.ReactiveStreamX.Type;
+import com.oath.cyclops.internal.stream.spliterators.ChannelRecordSpliterator;
 import com.oath.cyclops.internal.stream.spliterators.UnfoldSpliterator;
 import com.oath.cyclops.types.reactive.AsyncSubscriber;
 import com.oath.cyclops.types.reactive.ReactiveSubscriber;
@@ -21,6 +22,9 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
 import java.util.Queue;
 import java.util.Spliterator;
 import java.util.concurrent.Executor;
@@ -294,6 +298,62 @@ public interface Spouts {
     public static  <T> ReactiveSeq<T> fromSpliterator(Spliterator<T> spliterator){
         return new ReactiveStreamX<>(new SpliteratorToOperator<T>(spliterator));
     }
+
+    /**
+     * Create a Stream of the lines of a file, each emitted as a read only ByteBuffer slice of a memory mapped window
+     * (without its line terminator) and without decoding or copying. The file is only read as far as Subscribers request,
+     * it is opened per Subscription and closed on completion, on failure or on cancel.
+     *
+     * <pre>
+     * {@code
+     *  Spouts.fromFile(Paths.get("app.log"))
+     *        .map(StandardCharsets.UTF_8::decode)
+     *        .forEach(10,System.out::println);
+     * }
+     * </pre>
+     *
+     * @param file File to read
+     * @return Stream of lines
+     */
+    public static ReactiveSeq<ByteBuffer> fromFile(Path file){
+        return fromFile(file,ChannelRecordSpliterator.LINES);
+    }
+
+    /**
+     * Create a Stream of the fixed size records of a memory mapped file, each emitted as a read only ByteBuffer slice
+     *
+     * @see Spouts#fromFile(Path)
+     * @param file File to read
+     * @param recordSize Size of each record in bytes
+     * @return Stream of records
+     */
+    public static ReactiveSeq<ByteBuffer> fromFile(Path file, int recordSize){
+        return new ReactiveStreamX<>(new ChannelSourceOperator(()->ChannelRecordSpliterator.file(file,recordSize)));
+    }
+
+    /**
+     * Create a Stream of the lines read from a channel as read only ByteBuffer slices, FileChannels are memory mapped
+     * from their current position and other channels read in chunks. The channel is read only as far as requested and
+     * closed on completion, on failure or on cancel.
+     *
+     * @param channel Channel to read
+     * @return Stream of lines
+     */
+    public static ReactiveSeq<ByteBuffer> fromChannel(ReadableByteChannel channel){
+        return fromChannel(channel,ChannelRecordSpliterator.LINES);
+    }
+
+    /**
+     * Create a Stream of the fixed size records read from a channel as read only ByteBuffer slices
+     *
+     * @see Spouts#fromChannel(ReadableByteChannel)
+     * @param channel Channel to read
+     * @param recordSize Size of each record in bytes
+     * @return Stream of records
+     */
+    public static ReactiveSeq<ByteBuffer> fromChannel(ReadableByteChannel channel, int recordSize){
+        return new ReactiveStreamX<>(new ChannelSourceOperator(()->ChannelRecordSpliterator.channel(channel,recordSize)));
+    }
     /**
      * @see Stream#generate(Supplier)
      */
@@ -0,0 +1,160 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import com.oath.cyclops.internal.stream.spliterators.ints.ReversingRangeIntSpliterator;
+import com.oath.cyclops.internal.stream.spliterators.longs.ReversingRangeLongSpliterator;
+import cyclops.data.IntMap;
+import cyclops.data.Vector;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class SplittingSpliteratorTest {
+
+    List<Integer> expected = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+    private <T> List<T> parallel(Spliterator<T> split){
+        return StreamSupport.stream(split,true).collect(Collectors.toList());
+    }
+
+    private <T> List<T> sequential(Spliterator<T> split){
+        return StreamSupport.stream(split,false).collect(Collectors.toList());
+    }
+
+    @Test
+    public void arraySplitsInOrder(){
+        Object[] array = expected.toArray();
+        assertThat(parallel(new ReversingArraySpliterator<>(array,0,array.length,false)),equalTo(Arrays.asList(array)));
+
+        List<Object> reversed = new ArrayList<>(expected);
+        Collections.reverse(reversed);
+        assertThat(parallel(new ReversingArraySpliterator<>(array,0,array.length,true)),equalTo(reversed));
+    }
+
+    @Test
+    public void listSplitsInOrder(){
+        assertThat(parallel(new ReversingListSpliterator<>(expected,false)),equalTo(expected));
+
+        List<Integer> reversed = new ArrayList<>(expected);
+        Collections.reverse(reversed);
+        assertThat(parallel(new ReversingListSpliterator<>(expected,true)),equalTo(reversed));
+    }
+
+    @Test
+    public void rangeSplitsInOrder(){
+        assertThat(parallel(new ReversingRangeIntSpliterator(0,10_000,1,false)),equalTo(expected));
+    }
+
+    @Test
+    public void rangeSkipAndTakeAfterSplit(){
+        ReversingRangeIntSpliterator ints = new ReversingRangeIntSpliterator(0,10,1,false);
+        assertThat(sequential(ints.trySplit()),equalTo(Arrays.asList(0,1,2,3,4)));
+        assertThat(sequential(ints.skip(2)),equalTo(Arrays.asList(7,8,9)));
+        assertThat(sequential(ints.take(2)),equalTo(Arrays.asList(5,6)));
+        assertThat(sequential(ints.copy()),equalTo(Arrays.asList(5,6,7,8,9)));
+
+        ReversingRangeIntSpliterator reversed = new ReversingRangeIntSpliterator(0,10,1,true);
+        assertThat(sequential(reversed.trySplit()),equalTo(Arrays.asList(10,9,8,7,6)));
+        assertThat(sequential(reversed.skip(2)),equalTo(Arrays.asList(3,2,1)));
+        assertThat(sequential(reversed.take(2)),equalTo(Arrays.asList(5,4)));
+
+        ReversingRangeLongSpliterator longs = new ReversingRangeLongSpliterator(0,10,1,false);
+        assertThat(sequential(longs.trySplit()),equalTo(Arrays.asList(0L,1L,2L,3L,4L)));
+        assertThat(sequential(longs.skip(2)),equalTo(Arrays.asList(7L,8L,9L)));
+        assertThat(sequential(longs.take(2)),equalTo(Arrays.asList(5L,6L)));
+    }
+
+    @Test
+    public void splitsAreTraversedOnce(){
+        List<Integer> ordered = new ArrayList<>();
+        StreamSupport.stream(new ReversingRangeIntSpliterator(0,10_000,1,false),true).forEachOrdered(ordered::add);
+        assertThat(ordered,equalTo(expected));
+
+        ordered.clear();
+        StreamSupport.stream(new ReversingArraySpliterator<Integer>(expected.toArray(),0,10_000,false),true).forEachOrdered(ordered::add);
+        assertThat(ordered,equalTo(expected));
+    }
+
+    @Test
+    public void rangeIsReplayableWhenNotSplit(){
+        ReactiveSeq<Integer> range = ReactiveSeq.range(0,100);
+        assertThat(range.count(),equalTo(100L));
+        assertThat(range.count(),equalTo(100L));
+    }
+
+    @Test
+    public void iterableSplitsInOrder(){
+        assertThat(parallel(new IteratableSpliterator<>(expected)),equalTo(expected));
+    }
+
+    @Test
+    public void singleElementDoesNotSplit(){
+        assertThat(new ReversingArraySpliterator<>(new Object[]{1},0,1,false).trySplit(),nullValue());
+        assertThat(new ReversingRangeIntSpliterator(0,1,1,false).trySplit(),nullValue());
+        assertThat(Vector.of(1).spliterator().trySplit(),nullValue());
+    }
+
+    @Test
+    public void vectorSplitsInOrder(){
+        Vector<Integer> vector = Vector.fromIterable(expected);
+        assertThat(parallel(vector.spliterator()),equalTo(expected));
+        assertThat(vector.stream().parallel(s->s.map(i->i*2)).toList(),
+                   equalTo(expected.stream().map(i->i*2).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void intMapSplitsInOrder(){
+        IntMap<Integer> map = IntMap.fromIterable(expected);
+        assertThat(parallel(map.spliterator()),equalTo(expected));
+    }
+
+    @Test
+    public void parallelMapFilterReduce(){
+        long sum = expected.stream().filter(i->i%3==0).mapToLong(i->i*2).sum();
+        assertThat(ReactiveSeq.range(0,10_000)
+                              .foldParallel(s->s.filter(i->i%3==0).mapToLong(i->i*2).sum()),equalTo(sum));
+        assertThat(ReactiveSeq.fromList(expected)
+                              .map(i->i*2)
+                              .foldParallel(new ForkJoinPool(4),s->s.filter(i->i%3==0).mapToLong(i->i).sum()),equalTo(sum));
+    }
+
+    @Test
+    public void parallelIsReplayable(){
+        ReactiveSeq<Integer> seq = ReactiveSeq.range(0,1000).parallel(s->s.map(i->i*2));
+        assertThat(seq.count(),equalTo(1000L));
+        assertThat(seq.count(),equalTo(1000L));
+    }
+
+    @Test
+    public void parallelIsLazy(){
+        assertThat(ReactiveSeq.iterate(0,i->i+1)
+                              .parallel(s->s.map(i->i*2))
+                              .limit(5)
+                              .toList(),equalTo(Arrays.asList(0,2,4,6,8)));
+    }
+
+    @Test
+    public void parallelPreservesOrder(){
+        ForkJoinPool fj = new ForkJoinPool(4);
+        try {
+            assertThat(ReactiveSeq.fromList(expected)
+                                  .parallel(fj, s -> s.map(i -> i * 2))
+                                  .toList(),
+                       equalTo(expected.stream().map(i -> i * 2).collect(Collectors.toList())));
+        }finally {
+            fj.shutdown();
+        }
+    }
+}
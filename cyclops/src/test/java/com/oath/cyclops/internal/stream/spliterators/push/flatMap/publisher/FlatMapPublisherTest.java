@@ -644,6 +644,45 @@ public class FlatMapPublisherTest {
         }
 
     }
+    @Test
+    public void mergeMapLargeInnerNoDataLoss(){
+        for(int k=0;k<10;k++) {
+            List<Integer> res = flux(1, 2, 3)
+                                    .mergeMap(3, i -> Spouts.from(Flux.range(i * 10_000, 5_000)
+                                                                      .subscribeOn(Schedulers.fromExecutor(ex[i % 3]))))
+                                    .toList();
+            assertThat(res.size(), equalTo(15_000));
+            assertThat(res.stream().distinct().count(), equalTo(15_000L));
+        }
+    }
+
+    @Test
+    public void mergeMapLargeInnerBackpressured(){
+        List<Integer> res = new ArrayList<>();
+        Iterator<Integer> it = flux(1, 2)
+                                .mergeMap(2, 16, i -> Spouts.from(Flux.range(i * 10_000, 3_000)
+                                                                      .subscribeOn(Schedulers.fromExecutor(ex[i]))))
+                                .iterator();
+        while(it.hasNext()){
+            res.add(it.next());
+        }
+        assertThat(res.size(), equalTo(6_000));
+        assertThat(res.stream().distinct().count(), equalTo(6_000L));
+    }
+
+    @Test
+    public void mergeMapHighFanIn(){
+        long count = Spouts.range(0, 5_000)
+                           .mergeMap(1_000, 4, i -> Spouts.of(i, i + 1, i + 2))
+                           .count();
+        assertThat(count, equalTo(15_000L));
+
+        long async = Spouts.range(0, 2_000)
+                           .mergeMap(500, i -> flux(i, -i))
+                           .count();
+        assertThat(async, equalTo(4_000L));
+    }
+
     AtomicInteger start= new AtomicInteger(0);
 
     private ReactiveSeq<Integer> nextAsync() {
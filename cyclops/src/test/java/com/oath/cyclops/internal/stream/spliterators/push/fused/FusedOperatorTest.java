@@ -0,0 +1,63 @@
+package com.oath.cyclops.internal.stream.spliterators.push.fused;
+
+import com.oath.cyclops.internal.stream.spliterators.push.*;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+public class FusedOperatorTest extends AbstractOperatorTest {
+
+
+    public Operator<Integer> createEmpty(){
+        return OperatorFusion.map(OperatorFusion.filter(new ArrayOfValuesOperator<Integer>(), i->true), i->i*2);
+    }
+    public Operator<Integer> createOne(){
+        return OperatorFusion.map(OperatorFusion.map(new SingleValueOperator<>(1), i->i*2), i->i+1);
+    }
+
+    public Operator<Integer> createThree(){
+        Operator<Integer> doubled = OperatorFusion.map(new ArrayOfValuesOperator<>(1,2,3,4,5,6), i->i*2);
+        return OperatorFusion.map(OperatorFusion.filter(doubled, i->i%4==0), i->i+1);
+    }
+    public Operator<Integer> createTwoAndError(){
+        return OperatorFusion.filter(OperatorFusion.map(Fixtures.twoAndErrorSource, i->i*2), i->true);
+    }
+    public Operator<Integer> createThreeErrors(){
+        return OperatorFusion.map(OperatorFusion.map(Fixtures.threeErrorsSource, i->i*2), i->i);
+    }
+
+    @Test
+    public void adjacentStatelessStagesFuse(){
+        assertThat(createThree(),instanceOf(FusedOperator.class));
+        assertThat(createOne(),instanceOf(FusedOperator.class));
+    }
+
+    @Test
+    public void limitAndSkipRebindSyncSources(){
+        assertThat(OperatorFusion.limit(new RangeIntOperator(0,100),10),instanceOf(RangeIntOperator.class));
+        assertThat(OperatorFusion.skip(new ArrayOfValuesOperator<>(1,2,3),1),instanceOf(ArrayOfValuesOperator.class));
+        assertThat(OperatorFusion.limit(OperatorFusion.limit(Fixtures.threeErrorsSource,5),2),instanceOf(LimitOperator.class));
+    }
+
+    @Test
+    public void fusedPipelineValues(){
+        assertThat(Spouts.range(0,Integer.MAX_VALUE)
+                         .skip(5)
+                         .map(i->i*3)
+                         .filter(i->i%2==0)
+                         .map(i->i+1)
+                         .limit(4)
+                         .toList(),equalTo(Arrays.asList(19,25,31,37)));
+        assertThat(Spouts.of(1,2,3,4).filter(i->i>1).filter(i->i<4).map(i->i*10).toList(),equalTo(Arrays.asList(20,30)));
+        assertThat(Spouts.fromIterable(Arrays.asList(1,2,3)).map(i->i+1).skip(1).skip(1).toList(),equalTo(Arrays.asList(4)));
+        ReactiveSeq<Integer> replay = Spouts.of(1,2,3).map(i->i*2).filter(i->i>2);
+        assertThat(replay.toList(),equalTo(Arrays.asList(4,6)));
+        assertThat(replay.toList(),equalTo(Arrays.asList(4,6)));
+    }
+}
@@ -4,8 +4,10 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
@@ -13,9 +15,12 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.locks.LockSupport;
 
+import com.oath.cyclops.types.stream.HotStream;
+import com.oath.cyclops.util.ExceptionSoftener;
 import com.oath.cyclops.types.stream.PausableHotStream;
 import org.junit.Test;
 
+import cyclops.companion.Streams;
 import cyclops.reactive.ReactiveSeq;
 
 public class PrimedHotStreamTest {
@@ -117,6 +122,52 @@ public class PrimedHotStreamTest {
 		assertThat(list,equalTo(Arrays.asList(1000,999)));
 
 	}
+	@Test
+	public void hotStreamReplaysHistory(){
+		HotStream<Integer> hot = ReactiveSeq.range(0,1000)
+											.primedHotStream(exec,10);
+
+		assertThat(hot.connect().toList(),equalTo(ReactiveSeq.range(0,1000).toList()));
+		assertThat(hot.connect().toList(),equalTo(ReactiveSeq.range(990,1000).toList()));
+	}
+	@Test
+	public void hotStreamManyConnections(){
+		HotStream<Integer> hot = ReactiveSeq.range(0,10_000)
+											.primedHotStream(exec,10_000);
+
+		List<CompletableFuture<List<Integer>>> results = new ArrayList<>();
+		for(int i=0;i<50;i++){
+			ReactiveSeq<Integer> connected = hot.connect();
+			results.add(CompletableFuture.supplyAsync(()->connected.toList()));
+		}
+		for(CompletableFuture<List<Integer>> next : results)
+			assertThat(next.join(),equalTo(ReactiveSeq.range(0,10_000).toList()));
+	}
+	@Test
+	public void hotStreamSlowReaderLosesNoDataByDefault(){
+		HotStream<Integer> hot = Streams.primedHotStream(ReactiveSeq.range(0,5000),exec,0);
+
+		List<Integer> list = hot.connect()
+								.peek(i->{ if(i==0) LockSupport.parkNanos(1_500_000_000L); })
+								.toList();
+
+		assertThat(list,equalTo(ReactiveSeq.range(0,5000).toList()));
+	}
+	@Test
+	public void hotStreamClosedConnectionReleasesProducer(){
+		CountDownLatch connected = new CountDownLatch(1);
+		HotStream<Integer> hot = Streams.primedHotStream(ReactiveSeq.range(0,5000)
+																	.peek(i->{ if(i==0) ExceptionSoftener.softenRunnable(connected::await).run(); }),
+																exec,0);
+		ReactiveSeq<Integer> first = hot.connect();
+		ReactiveSeq<Integer> second = hot.connect();
+		connected.countDown();
+
+		assertThat(first.limit(1).toList(),equalTo(Arrays.asList(0)));
+		first.close();
+
+		assertThat(second.toList(),equalTo(ReactiveSeq.range(0,5000).toList()));
+	}
 	volatile boolean active;
 	@Test
 	public void hotStreamConnectPausable() throws InterruptedException{
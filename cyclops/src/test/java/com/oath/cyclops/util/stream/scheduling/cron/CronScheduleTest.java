@@ -0,0 +1,97 @@
+package com.oath.cyclops.util.stream.scheduling.cron;
+
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.TimeZone;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class CronScheduleTest {
+
+    ZonedDateTime at(int year, int month, int day, int hour, int minute, int second){
+        return ZonedDateTime.of(year,month,day,hour,minute,second,0,ZoneOffset.UTC);
+    }
+    ZonedDateTime next(String cron, ZonedDateTime after) throws ParseException {
+        return CronSchedule.compile(cron,ZoneOffset.UTC).next(after);
+    }
+
+    @Test
+    public void everySecond() throws ParseException {
+        assertThat(next("* * * * * ?",at(2020,1,1,0,0,0)),equalTo(at(2020,1,1,0,0,1)));
+        assertThat(next("* * * * * ?",at(2020,12,31,23,59,59)),equalTo(at(2021,1,1,0,0,0)));
+    }
+    @Test
+    public void increments() throws ParseException {
+        assertThat(next("0/15 * * * * ?",at(2020,1,1,0,0,46)),equalTo(at(2020,1,1,0,1,0)));
+        assertThat(next("0 0 */6 * * ?",at(2020,1,1,7,0,0)),equalTo(at(2020,1,1,12,0,0)));
+    }
+    @Test
+    public void overflowingRange() throws ParseException {
+        assertThat(next("0 0 22-2 * * ?",at(2020,1,1,3,0,0)),equalTo(at(2020,1,1,22,0,0)));
+        assertThat(next("0 0 22-2 * * ?",at(2020,1,1,23,0,0)),equalTo(at(2020,1,2,0,0,0)));
+    }
+    @Test
+    public void daysOfWeek() throws ParseException {
+        //2020-01-01 was a Wednesday
+        assertThat(next("0 30 9 ? * MON-FRI",at(2020,1,3,10,0,0)),equalTo(at(2020,1,6,9,30,0)));
+        assertThat(next("0 0 0 ? * 6L",at(2020,1,1,0,0,0)),equalTo(at(2020,1,31,0,0,0)));
+        assertThat(next("0 0 0 ? * 2#1",at(2020,1,1,0,0,0)),equalTo(at(2020,1,6,0,0,0)));
+    }
+    @Test
+    public void daysOfMonth() throws ParseException {
+        assertThat(next("0 0 0 L * ?",at(2020,2,1,0,0,0)),equalTo(at(2020,2,29,0,0,0)));
+        assertThat(next("0 0 0 L-2 * ?",at(2021,2,1,0,0,0)),equalTo(at(2021,2,26,0,0,0)));
+        //2020-02-15 was a Saturday, 2020-05-31 a Sunday
+        assertThat(next("0 0 0 15W * ?",at(2020,2,1,0,0,0)),equalTo(at(2020,2,14,0,0,0)));
+        assertThat(next("0 0 0 LW * ?",at(2020,5,1,0,0,0)),equalTo(at(2020,5,29,0,0,0)));
+        assertThat(next("0 0 0 31 * ?",at(2020,4,1,0,0,0)),equalTo(at(2020,5,31,0,0,0)));
+    }
+    @Test
+    public void years() throws ParseException {
+        assertThat(next("0 0 0 1 JAN ? 2030",at(2020,1,1,0,0,0)),equalTo(at(2030,1,1,0,0,0)));
+        assertThat(next("0 0 0 1 JAN ? 2030",at(2030,1,1,0,0,0)),nullValue());
+        assertThat(next("0 0 0 30 FEB ?",at(2020,1,1,0,0,0)),nullValue());
+    }
+    @Test
+    public void daylightSavingGap() throws ParseException {
+        ZoneId london = ZoneId.of("Europe/London");
+        ZonedDateTime next = CronSchedule.compile("0 30 1 * * ?",london)
+                                         .next(ZonedDateTime.of(2020,3,29,0,0,0,0,london));
+        assertThat(next.toInstant(),equalTo(Instant.parse("2020-03-29T01:30:00Z")));
+    }
+
+    @Test(expected=ParseException.class)
+    public void bothDaysSpecified() throws ParseException {
+        CronSchedule.compile("* * * * * *");
+    }
+    @Test(expected=ParseException.class)
+    public void outOfRange() throws ParseException {
+        CronSchedule.compile("60 * * * * ?");
+    }
+
+    @Test
+    public void matchesCronExpression() throws ParseException {
+        String[] crons = {"* * * * * ?","0 0/5 14,18 * * ?","0 15 10 ? * 6L","0 15 10 ? * 6#3","0 0 12 1/5 * ?","0 11 11 11 11 ?","15 */7 3-9 ? JAN-MAR 2-6"};
+        ZoneId zone = ZoneId.of("UTC");
+        for(String cron : crons){
+            CronExpression expression = new CronExpression(cron);
+            expression.setTimeZone(TimeZone.getTimeZone(zone));
+            CronSchedule schedule = CronSchedule.compile(cron,zone);
+            Date date = new Date(1500000000000L);
+            Instant instant = date.toInstant();
+            for(int i=0;i<50;i++){
+                date = expression.getNextValidTimeAfter(date);
+                instant = schedule.next(instant);
+                assertThat(cron,instant,equalTo(date.toInstant()));
+            }
+        }
+    }
+}
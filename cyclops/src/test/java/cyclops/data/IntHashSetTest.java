@@ -0,0 +1,68 @@
+package cyclops.data;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IntHashSetTest {
+
+    @Test
+    public void empty(){
+        assertTrue(IntHashSet.empty().isEmpty());
+        assertFalse(IntHashSet.empty().containsValue(0));
+        assertThat(IntHashSet.empty().toString(),equalTo("[]"));
+    }
+
+    @Test
+    public void plusAndRemove(){
+        IntHashSet set = IntHashSet.of(1,2,3,3,Integer.MIN_VALUE,Integer.MAX_VALUE,-1);
+        assertThat(set.size(),equalTo(6));
+        assertTrue(set.containsValue(Integer.MIN_VALUE));
+        assertTrue(set.containsValue(-1));
+        assertFalse(set.containsValue(4));
+        assertThat(set.plus(3),equalTo(set));
+        assertThat(set.removeValue(4),equalTo(set));
+        assertThat(set.removeAll(Integer.MIN_VALUE,Integer.MAX_VALUE,-1),equalTo(IntHashSet.of(3,2,1)));
+    }
+
+    @Test
+    public void canonicalAfterRemoval(){
+        IntHashSet all = IntHashSet.range(0,20000);
+        for(int i=1;i<20000;i+=2){
+            all = all.removeValue(i);
+        }
+        IntHashSet evens = IntHashSet.fromStream(java.util.stream.IntStream.range(0,10000).map(i->i*2));
+        assertThat(all,equalTo(evens));
+        assertThat(all.hashCode(),equalTo(evens.hashCode()));
+        assertThat(all.size(),equalTo(10000));
+    }
+
+    @Test
+    public void randomMatchesJdkSet(){
+        Random r = new Random(11);
+        Set<Integer> jdk = new TreeSet<>();
+        IntHashSet set = IntHashSet.empty();
+        for(int i=0;i<5000;i++){
+            int next = r.nextInt(2000)-1000;
+            if(r.nextInt(3)==0){
+                jdk.remove(next);
+                set = set.removeValue(next);
+            }else{
+                jdk.add(next);
+                set = set.plus(next);
+            }
+        }
+        assertThat(set.size(),equalTo(jdk.size()));
+        assertThat(set.stream().collect(Collectors.toCollection(TreeSet::new)),equalTo(jdk));
+        assertThat(IntHashSet.fromIterable(jdk),equalTo(set));
+        assertThat(set.filter(i->i>0).intStream().allMatch(i->i>0),equalTo(true));
+    }
+}
@@ -97,7 +97,68 @@ public class IntMapTest extends BaseImmutableListTest{
         System.out.println(System.currentTimeMillis()-start);
         System.out.println(v.size());
     }
-    /**
+        @Test
+    public void prependAndDropFront(){
+        IntMap<Integer> map = IntMap.empty();
+        for(int i=0;i<1000;i++)
+            map = map.prepend(i);
+        assertThat(map.size(),equalTo(1000));
+        assertThat(map.getOrElse(0,-1),equalTo(999));
+        assertThat(map.getOrElse(999,-1),equalTo(0));
+        assertThat(map.get(1000),equalTo(Option.none()));
+        assertThat(map.get(-1),equalTo(Option.none()));
+
+        IntMap<Integer> dropped = map.drop(10).append(-1);
+        assertThat(dropped.size(),equalTo(991));
+        assertThat(dropped.getOrElse(0,-2),equalTo(989));
+        assertThat(dropped.getOrElse(990,-2),equalTo(-1));
+        assertThat(dropped.stream().toList(),equalTo(map.stream().drop(10).append(-1).toList()));
+    }
+
+    @Test
+    public void positionalEdits(){
+        IntMap<Integer> map = IntMap.of(0,1,2,3,4,5,6,7,8,9);
+        assertThat(map.insertAt(2,100).toList(),equalTo(Seq.of(0,1,100,2,3,4,5,6,7,8,9).toList()));
+        assertThat(map.insertAt(8,100,101).toList(),equalTo(Seq.of(0,1,2,3,4,5,6,7,100,101,8,9).toList()));
+        assertThat(map.removeAt(1).toList(),equalTo(Seq.of(0,2,3,4,5,6,7,8,9).toList()));
+        assertThat(map.removeAt(8).toList(),equalTo(Seq.of(0,1,2,3,4,5,6,7,9).toList()));
+        assertThat(map.removeAt(8).getOrElse(8,-1),equalTo(9));
+        assertThat(map.deleteBetween(2,5).toList(),equalTo(Seq.of(0,1,5,6,7,8,9).toList()));
+        assertThat(map.deleteBetween(6,9).toList(),equalTo(Seq.of(0,1,2,3,4,5,9).toList()));
+        assertThat(map.updateAt(3,100).getOrElse(3,-1),equalTo(100));
+        assertThat(map.prependAll(Seq.of(-2,-1)).toList(),equalTo(Seq.of(-2,-1,0,1,2,3,4,5,6,7,8,9).toList()));
+        assertThat(map.dropWhile(i->i<7).toList(),equalTo(Seq.of(7,8,9).toList()));
+        assertThat(map.takeWhile(i->i<3).toList(),equalTo(Seq.of(0,1,2).toList()));
+        assertThat(map.dropRight(7).toList(),equalTo(Seq.of(0,1,2).toList()));
+        assertThat(map.takeRight(2).toList(),equalTo(Seq.of(8,9).toList()));
+        assertThat(map.subList(3,5).toList(),equalTo(Seq.of(3,4).toList()));
+    }
+
+    @Test
+    public void usableAsDeque(){
+        IntMap<Integer> deque = IntMap.empty();
+        java.util.ArrayDeque<Integer> expected = new java.util.ArrayDeque<>();
+        for(int i=0;i<500;i++){
+            if(i%3==0){
+                deque = deque.prepend(i);
+                expected.addFirst(i);
+            }else{
+                deque = deque.append(i);
+                expected.addLast(i);
+            }
+            if(i%7==0 && !expected.isEmpty()){
+                deque = deque.drop(1);
+                expected.removeFirst();
+            }
+            if(i%11==0 && !expected.isEmpty()){
+                deque = deque.dropRight(1);
+                expected.removeLast();
+            }
+        }
+        assertThat(deque.toList(),equalTo(new java.util.ArrayList<>(expected)));
+    }
+
+/**
     @Test
     public void read10000(){
         //2197
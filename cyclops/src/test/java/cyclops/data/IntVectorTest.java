@@ -0,0 +1,90 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IntVectorTest {
+
+    @Test
+    public void empty(){
+        assertTrue(IntVector.empty().isEmpty());
+        assertThat(IntVector.empty().size(),equalTo(0));
+        assertThat(IntVector.empty().get(0),equalTo(Option.none()));
+        assertThat(IntVector.empty().toString(),equalTo("[]"));
+    }
+
+    @Test
+    public void plusMatchesOf(){
+        IntVector v = IntVector.empty();
+        for(int i=0;i<40000;i++){
+            v = v.plus(i);
+        }
+        assertThat(v.size(),equalTo(40000));
+        assertThat(v,equalTo(IntVector.range(0,40000)));
+        assertThat(v.hashCode(),equalTo(IntVector.range(0,40000).hashCode()));
+        for(int i=0;i<40000;i++){
+            assertThat(v.getOrElse(i,-1),equalTo(i));
+        }
+        assertThat(v.getOrElse(40000,-1),equalTo(-1));
+    }
+
+    @Test
+    public void updateAt(){
+        IntVector v = IntVector.range(0,5000);
+        IntVector updated = v.updateAt(10,-10).updateAt(4999,-4999).updateAt(5000,1);
+        assertThat(updated.get(10),equalTo(Option.some(-10)));
+        assertThat(updated.get(4999),equalTo(Option.some(-4999)));
+        assertThat(updated.size(),equalTo(5000));
+        assertThat(v.getOrElse(10,-1),equalTo(10));
+    }
+
+    @Test
+    public void streams(){
+        IntVector v = IntVector.fromStream(IntStream.rangeClosed(1,100));
+        assertThat(v.intStream().sum(),equalTo(5050));
+        assertThat(v.stream().count(),equalTo(100L));
+        assertThat(v.foldLeft(0,(a,b)->a+b),equalTo(5050));
+        assertThat(v.filter(i->i%2==0).size(),equalTo(50));
+        assertThat(v.map(i->i*2).getOrElse(99,-1),equalTo(200));
+        assertThat(IntVector.fromIterable(v.stream()),equalTo(v));
+        assertThat(IntVector.of(v.toArray()),equalTo(v));
+    }
+
+    @Test
+    public void appendAll(){
+        assertThat(IntVector.of(1,2).appendAll(3,4).toString(),equalTo("[1, 2, 3, 4]"));
+        assertFalse(IntVector.of(1,2).equals(IntVector.of(1,2,3)));
+    }
+
+    @Test
+    public void randomUpdatesMatchList(){
+        Random r = new Random(7);
+        List<Integer> list = new ArrayList<>();
+        IntVector v = IntVector.empty();
+        for(int i=0;i<3000;i++){
+            if(list.isEmpty() || r.nextBoolean()){
+                int next = r.nextInt();
+                list.add(next);
+                v = v.plus(next);
+            }else{
+                int pos = r.nextInt(list.size());
+                int next = r.nextInt();
+                list.set(pos,next);
+                v = v.updateAt(pos,next);
+            }
+        }
+        List<Integer> res = new ArrayList<>();
+        v.forEachInt(res::add);
+        assertThat(res,equalTo(list));
+    }
+}
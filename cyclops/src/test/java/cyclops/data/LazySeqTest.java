@@ -147,6 +147,40 @@ public class LazySeqTest extends BaseImmutableListTest {
     assertThat(count,equalTo(1));
   }
 
+  @Test
+  public void evaluatesInChunks(){
+    LazySeq<Integer> seq = LazySeq.generate(()->count++);
+    assertThat(count,equalTo(1));
+    assertThat(seq.getOrElse(1,-1),equalTo(1));
+    assertThat(count,equalTo(33));
+    assertThat(seq.getOrElse(32,-1),equalTo(32));
+    assertThat(count,equalTo(33));
+    assertThat(seq.getOrElse(33,-1),equalTo(33));
+    assertThat(count,equalTo(65));
+  }
+
+  @Test
+  public void mapsEvaluatedChunks(){
+    LazySeq<Integer> mapped = LazySeq.range(0,100).map(i->{
+      count++;
+      return i*2;
+    });
+    assertThat(count,equalTo(1));
+    assertThat(mapped.getOrElse(1,-1),equalTo(2));
+    assertThat(count,equalTo(33));
+    assertThat(mapped.toList(),equalTo(ReactiveSeq.range(0,100).map(i->i*2).toList()));
+    assertThat(mapped.toList(),equalTo(ReactiveSeq.range(0,100).map(i->i*2).toList()));
+    assertThat(count,equalTo(100));
+  }
+
+  @Test
+  public void chainedMapsOverChunks(){
+    LazySeq<Integer> mapped = LazySeq.fromStream(ReactiveSeq.range(0,1_000)).map(i->i+1).map(i->i*2);
+    assertThat(mapped.size(),equalTo(1_000));
+    assertThat(mapped.getOrElse(999,-1),equalTo(2_000));
+    assertThat(LazySeq.of(1,2,3).map(i->i*2),equalTo(LazySeq.of(2,4,6)));
+  }
+
     @Test
     public void split(){
         assertThat(of(1,2,3,2,3,2).split(i->i==2),equalTo(of(of(1),of(3),of(3))));
@@ -251,6 +285,18 @@ public class LazySeqTest extends BaseImmutableListTest {
         Assert.assertThat(vec,equalTo(Vector.of(5,2,1)));
     }
 
+    @Test
+    public void takeKeepsEachElement(){
+        assertThat(LazySeq.of('h','e','l','l','o',' ','w').take(5).toList(),equalTo(asList('h','e','l','l','o')));
+    }
+    @Test
+    public void takeAcrossChunks(){
+        LazySeq<Integer> seq = LazySeq.fromStream(ReactiveSeq.range(0,100)).map(i->i*2);
+        assertThat(seq.take(70).toList(),equalTo(ReactiveSeq.range(0,70).map(i->i*2).toList()));
+        assertThat(seq.take(32).toList(),equalTo(ReactiveSeq.range(0,32).map(i->i*2).toList()));
+        assertThat(seq.take(33).toList(),equalTo(ReactiveSeq.range(0,33).map(i->i*2).toList()));
+    }
+
     @Test
     public void toStringTest(){
         assertThat(of().toString(),equalTo("[]"));
@@ -0,0 +1,128 @@
+package cyclops.data;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class LazyStringTest {
+
+    String text = "hello world\nfrom a rope";
+    LazyString str = LazyString.of(text);
+
+    private String large(){
+        StringBuilder b = new StringBuilder();
+        for(int i=0;i<100_000;i++)
+            b.append((char)('a'+i%26));
+        return b.toString();
+    }
+
+    @Test
+    public void basics(){
+        assertThat(str.toString(),equalTo(text));
+        assertThat(str.length(),equalTo(text.length()));
+        assertThat(str.size(),equalTo(text.length()));
+        assertThat(str.charAt(4),equalTo('o'));
+        assertThat(str.get(4).orElse(null),equalTo('o'));
+        assertThat(str.get(100).isPresent(),equalTo(false));
+        assertFalse(str.isEmpty());
+        assertTrue(LazyString.empty().isEmpty());
+        assertTrue(LazyString.of("").isEmpty());
+    }
+
+    @Test
+    public void substrings(){
+        assertThat(str.substring(6).toString(),equalTo(text.substring(6)));
+        assertThat(str.substring(6,11).toString(),equalTo("world"));
+        assertThat(str.take(5).toString(),equalTo("hello"));
+        assertThat(str.drop(100).toString(),equalTo(""));
+        assertThat(str.takeRight(4).toString(),equalTo("rope"));
+        assertThat(str.dropRight(5).toString(),equalTo(text.substring(0,text.length()-5)));
+        assertThat(str.takeWhile(c->c!=' ').toString(),equalTo("hello"));
+        assertThat(str.dropWhile(c->c!='\n').toString(),equalTo("\nfrom a rope"));
+    }
+
+    @Test
+    public void edits(){
+        assertThat(str.append('!').toString(),equalTo(text+"!"));
+        assertThat(str.prepend('>').toString(),equalTo(">"+text));
+        assertThat(str.append(" ok").toString(),equalTo(text+" ok"));
+        assertThat(str.insertAt(5,LazyString.of(",")).toString(),equalTo("hello, world\nfrom a rope"));
+        assertThat(str.deleteBetween(5,11).toString(),equalTo("hello\nfrom a rope"));
+        assertThat(str.removeAt(0).toString(),equalTo(text.substring(1)));
+        assertThat(str.updateAt(0,'H').toString(),equalTo("H"+text.substring(1)));
+        assertThat(str.reverse().toString(),equalTo(new StringBuilder(text).reverse().toString()));
+        assertThat(LazyString.of("ab").plusAll(LazyString.of("cd")).toString(),equalTo("abcd"));
+    }
+
+    @Test
+    public void transforms(){
+        assertThat(str.toUpperCase().toString(),equalTo(text.toUpperCase()));
+        assertThat(str.filter(c->c!='o').toString(),equalTo(text.replace("o","")));
+        assertThat(str.mapChar(c->c=='o' ? '0' : c).toString(),equalTo(text.replace('o','0')));
+        assertThat(str.words().map(LazyString::toString).toList(),equalTo(LazySeq.of("hello","world\nfrom","a","rope").toList()));
+        assertThat(str.lines().map(LazyString::toString).toList(),equalTo(LazySeq.of("hello world","from a rope").toList()));
+        assertThat(LazyString.of("  a  b ").words().map(LazyString::toString).toList(),equalTo(LazySeq.of("a","b").toList()));
+    }
+
+    @Test
+    public void search(){
+        assertThat(str.indexOf('o'),equalTo(text.indexOf('o')));
+        assertThat(str.indexOf('o',5),equalTo(text.indexOf('o',5)));
+        assertThat(str.indexOf("rope"),equalTo(text.indexOf("rope")));
+        assertThat(str.indexOf("ropes"),equalTo(-1));
+        assertTrue(str.startsWith("hello"));
+        assertTrue(str.endsWith("rope"));
+        assertFalse(str.endsWith("hello"));
+    }
+
+    @Test
+    public void largeConcatenation(){
+        String large = large();
+        LazyString built = LazyString.empty();
+        for(char c : large.toCharArray())
+            built = built.append(c);
+        assertThat(built.length(),equalTo(large.length()));
+        assertThat(built.toString(),equalTo(large));
+        assertThat(built.charAt(77_777),equalTo(large.charAt(77_777)));
+        assertThat(built.substring(50_000,50_010).toString(),equalTo(large.substring(50_000,50_010)));
+        assertThat(built.indexOf("xyzab",90_000),equalTo(large.indexOf("xyzab",90_000)));
+        assertThat(built,equalTo(LazyString.of(large)));
+        assertThat(built.hashCode(),equalTo(LazyString.of(large).hashCode()));
+    }
+
+    @Test
+    public void charsWithoutBoxing(){
+        assertThat(str.chars().filter(c->c=='o').count(),equalTo(text.chars().filter(c->c=='o').count()));
+    }
+
+    @Test
+    public void lazyChunks(){
+        AtomicInteger called = new AtomicInteger(0);
+        LazyString lazy = LazyString.lazy(()->{
+            called.incrementAndGet();
+            return "lazy";
+        });
+        LazyString joined = LazyString.of("not ").appendAll(lazy);
+        assertThat(called.get(),equalTo(0));
+        assertThat(joined.toString(),equalTo("not lazy"));
+        assertThat(joined.toString(),equalTo("not lazy"));
+        assertThat(called.get(),equalTo(1));
+
+        AtomicInteger peeked = new AtomicInteger(0);
+        LazyString mapped = str.peek(c->peeked.incrementAndGet());
+        assertThat(peeked.get(),equalTo(0));
+        assertThat(mapped.length(),equalTo(text.length()));
+        assertThat(peeked.get(),equalTo(text.length()));
+    }
+
+    @Test
+    public void fromLazySeq(){
+        assertThat(LazyString.fromLazySeq(LazySeq.of('a','b','c')).toString(),equalTo("abc"));
+        assertThat(str.op(s->s.take(5)).toString(),equalTo("hello"));
+    }
+}
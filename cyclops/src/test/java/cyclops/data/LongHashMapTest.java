@@ -0,0 +1,82 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple2;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LongHashMapTest {
+
+    @Test
+    public void empty(){
+        assertTrue(LongHashMap.empty().isEmpty());
+        assertThat(LongHashMap.empty().get(1l),equalTo(Option.none()));
+        assertThat(LongHashMap.empty().toString(),equalTo("{}"));
+    }
+
+    @Test
+    public void putGetRemove(){
+        LongHashMap<String> map = LongHashMap.of(1l,"one",Long.MIN_VALUE,"min")
+                                             .put(Long.MAX_VALUE,"max")
+                                             .put(1l,"uno");
+        assertThat(map.size(),equalTo(3));
+        assertThat(map.get(1l),equalTo(Option.some("uno")));
+        assertThat(map.getOrElse(Long.MIN_VALUE,"none"),equalTo("min"));
+        assertThat(map.getOrElseGet(2l,()->"none"),equalTo("none"));
+        assertTrue(map.containsKey(Long.MAX_VALUE));
+        assertFalse(map.remove(Long.MAX_VALUE).containsKey(Long.MAX_VALUE));
+        assertThat(map.remove(5l),equalTo(map));
+        assertThat(map.mapValues(String::length).get(1l),equalTo(Option.some(3)));
+    }
+
+    @Test
+    public void canonicalAfterRemoval(){
+        LongHashMap<Long> all = LongHashMap.empty();
+        LongHashMap<Long> evens = LongHashMap.empty();
+        for(long i=0;i<10000;i++){
+            all = all.put(i<<33,i);
+            if(i%2==0)
+                evens = evens.put(i<<33,i);
+        }
+        for(long i=1;i<10000;i+=2){
+            all = all.remove(i<<33);
+        }
+        assertThat(all,equalTo(evens));
+        assertThat(all.hashCode(),equalTo(evens.hashCode()));
+        assertThat(all.keys().count(),equalTo(5000L));
+    }
+
+    @Test
+    public void randomMatchesJdkMap(){
+        Random r = new Random(3);
+        Map<Long,Integer> jdk = new TreeMap<>();
+        LongHashMap<Integer> map = LongHashMap.empty();
+        for(int i=0;i<5000;i++){
+            long next = r.nextInt(1000)*r.nextLong();
+            if(r.nextInt(3)==0 && !jdk.isEmpty()){
+                long existing = jdk.keySet().iterator().next();
+                jdk.remove(existing);
+                map = map.remove(existing);
+            }else{
+                jdk.put(next,i);
+                map = map.put(next,i);
+            }
+        }
+        assertThat(map.size(),equalTo(jdk.size()));
+        Map<Long,Integer> collected = new TreeMap<>();
+        for(Tuple2<Long,Integer> next : map){
+            collected.put(next._1(),next._2());
+        }
+        assertThat(collected,equalTo(jdk));
+        assertThat(LongHashMap.fromMap(jdk),equalTo(map));
+        assertThat(map.values().count(),equalTo((long)jdk.size()));
+    }
+}
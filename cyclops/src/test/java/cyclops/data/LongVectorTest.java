@@ -0,0 +1,90 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LongVectorTest {
+
+    @Test
+    public void empty(){
+        assertTrue(LongVector.empty().isEmpty());
+        assertThat(LongVector.empty().size(),equalTo(0));
+        assertThat(LongVector.empty().get(0),equalTo(Option.none()));
+        assertThat(LongVector.empty().toString(),equalTo("[]"));
+    }
+
+    @Test
+    public void plusMatchesOf(){
+        LongVector v = LongVector.empty();
+        for(int i=0;i<40000;i++){
+            v = v.plus(i);
+        }
+        assertThat(v.size(),equalTo(40000));
+        assertThat(v,equalTo(LongVector.range(0,40000)));
+        assertThat(v.hashCode(),equalTo(LongVector.range(0,40000).hashCode()));
+        for(int i=0;i<40000;i++){
+            assertThat(v.getOrElse(i,-1),equalTo(Long.valueOf(i)));
+        }
+        assertThat(v.getOrElse(40000,-1),equalTo(-1L));
+    }
+
+    @Test
+    public void updateAt(){
+        LongVector v = LongVector.range(0,5000);
+        LongVector updated = v.updateAt(10,-10).updateAt(4999,-4999).updateAt(5000,1);
+        assertThat(updated.get(10),equalTo(Option.some(-10L)));
+        assertThat(updated.get(4999),equalTo(Option.some(-4999L)));
+        assertThat(updated.size(),equalTo(5000));
+        assertThat(v.getOrElse(10,-1),equalTo(10L));
+    }
+
+    @Test
+    public void streams(){
+        LongVector v = LongVector.fromStream(LongStream.rangeClosed(1,100));
+        assertThat(v.longStream().sum(),equalTo(5050L));
+        assertThat(v.stream().count(),equalTo(100L));
+        assertThat(v.foldLeft(0,(a,b)->a+b),equalTo(5050L));
+        assertThat(v.filter(i->i%2==0).size(),equalTo(50));
+        assertThat(v.map(i->i*2).getOrElse(99,-1),equalTo(200L));
+        assertThat(LongVector.fromIterable(v.stream()),equalTo(v));
+        assertThat(LongVector.of(v.toArray()),equalTo(v));
+    }
+
+    @Test
+    public void appendAll(){
+        assertThat(LongVector.of(1,2).appendAll(3,4).toString(),equalTo("[1, 2, 3, 4]"));
+        assertFalse(LongVector.of(1,2).equals(LongVector.of(1,2,3)));
+    }
+
+    @Test
+    public void randomUpdatesMatchList(){
+        Random r = new Random(7);
+        List<Long> list = new ArrayList<>();
+        LongVector v = LongVector.empty();
+        for(int i=0;i<3000;i++){
+            if(list.isEmpty() || r.nextBoolean()){
+                long next = r.nextLong();
+                list.add(next);
+                v = v.plus(next);
+            }else{
+                int pos = r.nextInt(list.size());
+                long next = r.nextLong();
+                list.set(pos,next);
+                v = v.updateAt(pos,next);
+            }
+        }
+        List<Long> res = new ArrayList<>();
+        v.forEachLong(res::add);
+        assertThat(res,equalTo(list));
+    }
+}
@@ -1,10 +1,20 @@
 package cyclops.data;
 
 
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Comparator;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
 /**
  * Created by johnmcclean on 02/09/2017.
  */
@@ -22,4 +32,126 @@ public class TreeMapTest {
 
         System.out.println(map.put(10,"boo!").elementAt(10).orElse(null));
     }
+
+    private TreeMap<Integer,String> evens(){
+        TreeMap<Integer,String> map = TreeMap.<Integer,String>empty(Comparator.naturalOrder());
+        for(int i=0;i<100;i+=2)
+            map = map.put(i,""+i);
+        return map;
+    }
+
+    @Test
+    public void sizeTracksPutAndRemove(){
+        TreeMap<Integer,String> map = evens();
+        assertThat(map.size(),equalTo(50));
+        assertThat(map.put(2,"two").size(),equalTo(50));
+        assertThat(map.put(3,"3").size(),equalTo(51));
+        assertThat(map.remove(2).size(),equalTo(49));
+        assertThat(map.remove(3).size(),equalTo(50));
+    }
+
+    @Test
+    public void sizesSurviveSerialization() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(ObjectOutputStream out = new ObjectOutputStream(bytes)){
+            out.writeObject(evens());
+        }
+        TreeMap<Integer,String> map;
+        try(ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))){
+            map = (TreeMap<Integer,String>)in.readObject();
+        }
+        assertThat(map.size(),equalTo(50));
+        assertThat(map.rank(10),equalTo(5));
+        assertThat(map.select(5),equalTo(Option.some(Tuple.tuple(10,"10"))));
+        assertThat(map.put(3,"3").size(),equalTo(51));
+    }
+
+    @Test
+    public void rankAndSelect(){
+        TreeMap<Integer,String> map = evens();
+        assertThat(map.rank(0),equalTo(0));
+        assertThat(map.rank(10),equalTo(5));
+        assertThat(map.rank(11),equalTo(6));
+        assertThat(map.rank(1000),equalTo(50));
+        assertThat(map.select(5),equalTo(Option.some(Tuple.tuple(10,"10"))));
+        assertThat(map.select(50),equalTo(Option.none()));
+        for(int i=0;i<50;i++)
+            assertThat(map.rank(map.select(i).orElse(null)._1()),equalTo(i));
+    }
+
+    @Test
+    public void floorCeilingLowerHigher(){
+        TreeMap<Integer,String> map = evens();
+        assertThat(map.floor(11).map(Tuple2::_1),equalTo(Option.some(10)));
+        assertThat(map.floor(10).map(Tuple2::_1),equalTo(Option.some(10)));
+        assertThat(map.lower(10).map(Tuple2::_1),equalTo(Option.some(8)));
+        assertThat(map.ceiling(11).map(Tuple2::_1),equalTo(Option.some(12)));
+        assertThat(map.ceiling(10).map(Tuple2::_1),equalTo(Option.some(10)));
+        assertThat(map.higher(10).map(Tuple2::_1),equalTo(Option.some(12)));
+        assertThat(map.lower(0),equalTo(Option.none()));
+        assertThat(map.higher(98),equalTo(Option.none()));
+    }
+
+    @Test
+    public void rangeViews(){
+        TreeMap<Integer,String> map = evens();
+        assertThat(map.rangeStream(10,true,16,false).map(Tuple2::_1).toList(),equalTo(Seq.of(10,12,14).toList()));
+        assertThat(map.rangeStream(9,false,16,true).map(Tuple2::_1).toList(),equalTo(Seq.of(10,12,14,16).toList()));
+        assertThat(map.headStream(4,true).map(Tuple2::_1).toList(),equalTo(Seq.of(0,2,4).toList()));
+        assertThat(map.tailStream(94,false).map(Tuple2::_1).toList(),equalTo(Seq.of(96,98).toList()));
+        assertThat(map.subMap(10,16).size(),equalTo(3));
+        assertThat(map.headMap(4).size(),equalTo(2));
+        assertThat(map.tailMap(94).size(),equalTo(3));
+        assertThat(map.rangeStream(50,true,40,true).count(),equalTo(0L));
+    }
+
+    @Test
+    public void fromSortedMatchesInsertion(){
+        for(int n=0;n<200;n++){
+            TreeMap<Integer,String> inserted = TreeMap.<Integer,String>empty(Comparator.naturalOrder());
+            Seq<Tuple2<Integer,String>> sorted = Seq.empty();
+            for(int i=n-1;i>=0;i--){
+                inserted = inserted.put(i,""+i);
+                sorted = sorted.prepend(Tuple.tuple(i,""+i));
+            }
+            TreeMap<Integer,String> built = TreeMap.fromSorted(sorted,Comparator.naturalOrder());
+            assertThat(built,equalTo(inserted));
+            assertThat(built.size(),equalTo(n));
+            assertThat(built.put(n/2,"x").get(n/2).orElse(null),equalTo("x"));
+        }
+    }
+
+    @Test
+    public void fromStreamUnsortedLastValueWins(){
+        TreeMap<Integer,String> map = TreeMap.fromStream(Seq.of(Tuple.tuple(3,"a"),Tuple.tuple(1,"b"),Tuple.tuple(3,"c")).stream(),
+                                                         Comparator.naturalOrder());
+        assertThat(map.size(),equalTo(2));
+        assertThat(map.stream().map(Tuple2::_1).toList(),equalTo(Seq.of(1,3).toList()));
+        assertThat(map.get(3),equalTo(Option.some("c")));
+    }
+
+    @Test
+    public void setOperations(){
+        TreeMap<Integer,String> evens = evens();
+        TreeMap<Integer,String> threes = TreeMap.<Integer,String>empty(Comparator.naturalOrder());
+        for(int i=0;i<100;i+=3)
+            threes = threes.put(i,"three");
+
+        TreeMap<Integer,String> union = evens.union(threes);
+        assertThat(union.size(),equalTo(67));
+        assertThat(union.get(6),equalTo(Option.some("three")));
+        assertThat(union.get(4),equalTo(Option.some("4")));
+        assertThat(evens.putAll(threes),equalTo(union));
+
+        TreeMap<Integer,String> intersection = evens.intersection(threes);
+        assertThat(intersection.size(),equalTo(17));
+        assertThat(intersection.stream().allMatch(t->t._1()%6==0),equalTo(true));
+        assertThat(intersection.get(6),equalTo(Option.some("6")));
+
+        TreeMap<Integer,String> difference = evens.difference(threes);
+        assertThat(difference.size(),equalTo(50-17));
+        assertThat(difference.containsKey(6),equalTo(false));
+        assertThat(difference.containsKey(4),equalTo(true));
+    }
 }
+
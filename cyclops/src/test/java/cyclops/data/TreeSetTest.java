@@ -117,4 +117,33 @@ public class TreeSetTest extends BaseImmutableSortedSetTest{
         MatcherAssert.assertThat(of(1).lastIndexOfSlice(Seq.of(1,2,3)),equalTo(Maybe.nothing()));
         MatcherAssert.assertThat(of(0,1,2,3,4,5,6,1,2,3).lastIndexOfSlice(Seq.of(1,2,3)),equalTo(Maybe.just(1l)));
     }
+
+    @Test
+    public void navigation(){
+        TreeSet<Integer> set = TreeSet.of(1,3,5,7,9);
+        assertThat(set.rank(5),equalTo(2));
+        assertThat(set.select(2),equalTo(Option.some(5)));
+        assertThat(set.floor(4),equalTo(Option.some(3)));
+        assertThat(set.ceiling(4),equalTo(Option.some(5)));
+        assertThat(set.lower(3),equalTo(Option.some(1)));
+        assertThat(set.higher(9),equalTo(Option.none()));
+        assertThat(set.first(),equalTo(Option.some(1)));
+        assertThat(set.last(),equalTo(Option.some(9)));
+        assertThat(set.subSet(2,7).toList(),equalTo(Seq.of(3,5).toList()));
+        assertThat(set.headSet(5).toList(),equalTo(Seq.of(1,3).toList()));
+        assertThat(set.tailSet(5).toList(),equalTo(Seq.of(5,7,9).toList()));
+        assertThat(set.rangeStream(3,false,9,true).toList(),equalTo(Seq.of(5,7,9).toList()));
+    }
+
+    @Test
+    public void setOperations(){
+        TreeSet<Integer> a = TreeSet.of(1,2,3,4,5);
+        TreeSet<Integer> b = TreeSet.of(4,5,6,7);
+        assertThat(a.union(b).toList(),equalTo(Seq.of(1,2,3,4,5,6,7).toList()));
+        assertThat(a.intersection(b).toList(),equalTo(Seq.of(4,5).toList()));
+        assertThat(a.difference(b).toList(),equalTo(Seq.of(1,2,3).toList()));
+        assertThat(a.union(TreeSet.empty()).toList(),equalTo(a.toList()));
+        assertThat(a.intersection(TreeSet.empty()).size(),equalTo(0));
+    }
 }
+
@@ -5,12 +5,15 @@ import cyclops.data.base.BAMT;
 import cyclops.data.tuple.Tuple2;
 import cyclops.control.Option;
 import cyclops.data.basetests.BaseImmutableListTest;
+import cyclops.reactive.ReactiveSeq;
 import org.hamcrest.MatcherAssert;
 import org.junit.Ignore;
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -82,6 +85,101 @@ public class VectorTest extends BaseImmutableListTest {
     public <U, T> Vector<T> unfold(U seed, Function<? super U, Option<Tuple2<T, U>>> unfolder) {
         return Vector.unfold(seed,unfolder);
     }
+    @Test
+    public void concatLarge(){
+        for(int a : new int[]{0,1,31,32,33,100,1024,1057,5000}){
+            for(int b : new int[]{0,1,31,32,33,100,1024,1057,5000}){
+                Vector<Integer> left = Vector.range(0,a);
+                Vector<Integer> right = Vector.range(a,a+b);
+                Vector<Integer> res = left.concat(right);
+                assertThat(res.size(),equalTo(a+b));
+                for(int i=0;i<a+b;i++){
+                    assertThat(res.getOrElse(i,-1),equalTo(i));
+                }
+                assertThat(res,equalTo(Vector.range(0,a+b)));
+            }
+        }
+    }
+    @Test
+    public void dropTakeLarge(){
+        Vector<Integer> ints = Vector.range(0,5000);
+        for(int i=0;i<5000;i+=97){
+            Vector<Integer> dropped = ints.drop(i);
+            assertThat(dropped.size(),equalTo(5000-i));
+            assertThat(dropped.getOrElse(0,-1),equalTo(i));
+            assertThat(dropped.getOrElse(4999-i,-1),equalTo(4999));
+            Vector<Integer> taken = ints.take(i);
+            assertThat(taken.size(),equalTo(i));
+            assertThat(taken.stream().toList(),equalTo(ReactiveSeq.range(0,i).toList()));
+            assertThat(dropped.plus(-1).getOrElse(5000-i,0),equalTo(-1));
+        }
+    }
+    @Test
+    public void prependLarge(){
+        Vector<Integer> ints = Vector.empty();
+        for(int i=2000;i>0;i--){
+            ints = ints.prepend(i);
+        }
+        assertThat(ints.size(),equalTo(2000));
+        for(int i=0;i<2000;i++){
+            assertThat(ints.getOrElse(i,-1),equalTo(i+1));
+        }
+        assertThat(ints.stream().toList(),equalTo(ReactiveSeq.range(1,2001).toList()));
+    }
+    @Test
+    public void slidingBuffer(){
+        Vector<Integer> buffer = Vector.empty();
+        for(int i=0;i<5000;i++){
+            buffer = buffer.append(i);
+            if(buffer.size()>100)
+                buffer = buffer.drop(1);
+        }
+        assertThat(buffer,equalTo(Vector.range(4900,5000)));
+    }
+    @Test
+    public void randomEditsMatchList(){
+        Random r = new Random(42);
+        Vector<Integer> vec = Vector.empty();
+        List<Integer> list = new ArrayList<>();
+        for(int i=0;i<2000;i++){
+            int op = r.nextInt(6);
+            int pos = list.isEmpty() ? 0 : r.nextInt(list.size());
+            switch(op){
+                case 0:
+                    vec = vec.prepend(i);
+                    list.add(0,i);
+                    break;
+                case 1:
+                    vec = vec.insertAt(pos,i);
+                    list.add(pos,i);
+                    break;
+                case 2:
+                    vec = vec.removeAt(pos);
+                    if(!list.isEmpty())
+                        list.remove(pos);
+                    break;
+                case 3:
+                    vec = vec.set(pos,-i);
+                    if(!list.isEmpty())
+                        list.set(pos,-i);
+                    break;
+                case 4:
+                    Vector<Integer> other = Vector.range(0,r.nextInt(70));
+                    vec = vec.insertAt(pos,other);
+                    list.addAll(pos,other.stream().toList());
+                    break;
+                default:
+                    vec = vec.append(i);
+                    list.add(i);
+            }
+            assertThat(vec.size(),equalTo(list.size()));
+        }
+        for(int i=0;i<list.size();i++){
+            assertThat(vec.getOrElse(i,null),equalTo(list.get(i)));
+        }
+        assertThat(vec.stream().toList(),equalTo(list));
+    }
+
     @Test
     public void testVector(){
         Vector<Integer> ints = Vector.<Integer>empty().plus(1);
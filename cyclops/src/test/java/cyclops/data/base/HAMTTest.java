@@ -1,9 +1,7 @@
 package cyclops.data.base;
 
 import cyclops.control.Option;
-import cyclops.data.base.HAMT.BitsetNode;
 import cyclops.data.base.HAMT.Node;
-import org.junit.Ignore;
 import org.junit.Test;
 
 import static org.hamcrest.Matchers.equalTo;
@@ -167,24 +165,73 @@ public class HAMTTest {
 
 
 
-  @Test @Ignore
+  @Test
+  public void transientBulkLoad(){
+    Node<Integer, Integer> base = HAMT.<Integer, Integer>empty().plus(0,one.hashCode(),one,one);
+    HAMT.Transient<Integer,Integer> builder = HAMT.transientNode(base);
+    for(int i=0;i<10000;i++){
+      builder.put(i,i*2);
+    }
+    Node<Integer, Integer> node = builder.freeze();
+    assertThat(node.size(),equalTo(10000));
+    for(int i=0;i<10000;i++){
+      assertThat(node.get(0,i,i),equalTo(Option.some(i*2)));
+    }
+    assertThat(base.size(),equalTo(1));
+    assertThat(base.get(0,one.hashCode(),one),equalTo(Option.some(1)));
+  }
+  @Test
+  public void transientFrozenNodesArePersistent(){
+    HAMT.Transient<Integer,Integer> builder = HAMT.transientNode(HAMT.empty());
+    for(int i=0;i<100;i++){
+      builder.put(i,i);
+    }
+    Node<Integer, Integer> frozen = builder.freeze();
+    HAMT.Transient<Integer,Integer> next = HAMT.transientNode(frozen);
+    for(int i=100;i<200;i++){
+      next.put(i,i);
+    }
+    next.minus(5);
+    assertThat(frozen.size(),equalTo(100));
+    assertFalse(frozen.get(0,150,150).isPresent());
+    assertTrue(frozen.get(0,5,5).isPresent());
+    Node<Integer, Integer> updated = next.freeze();
+    assertThat(updated.size(),equalTo(199));
+    assertFalse(updated.get(0,5,5).isPresent());
+  }
+  @Test(expected = IllegalStateException.class)
+  public void transientUseAfterFreeze(){
+    HAMT.Transient<Integer,Integer> builder = HAMT.transientNode(HAMT.empty());
+    builder.freeze();
+    builder.put(1,1);
+  }
+
+  @Test
   public void problemBitsetNode(){
-    Node<Integer, Integer>[] nodes = new Node[2];
-    nodes[0] = new HAMT.ValueNode<>(-1,-1,-1);
-    nodes[1] = new HAMT.ValueNode<>(31,31,31);
-    BitsetNode<Integer,Integer> node = new BitsetNode<Integer,Integer>( new Long(Long.parseLong("10000000000000000000000000000001", 2)).intValue(),
-      2,nodes);
-
-    System.out.println("index "+  node.bitpos(thirtyOne.hashCode(), 0));
-    System.out.println("index "+  node.bitpos(thirtyOne.hashCode(), 5));
-    System.out.println("index "+  node.bitpos(thirtyOne.hashCode(), 10));
-
-    System.out.println("index "+  node.bitpos(minusOne.hashCode(), 0));
-    System.out.println("index "+  node.bitpos(minusOne.hashCode(), 5));
-    System.out.println("index "+  node.bitpos(minusOne.hashCode(), 10));
-
-    // assertTrue(node.get(10,minusOne.hashCode(),minusOne).isPresent());
-    assertTrue(node.get(10,thirtyOne.hashCode(),thirtyOne).isPresent());
+    Node<Integer, Integer> node = HAMT.<Integer, Integer>empty().plus(0,minusOne.hashCode(),minusOne,-1)
+                                                                .plus(0,thirtyOne.hashCode(),thirtyOne,31);
+    assertThat(node.size(),equalTo(2));
+    assertTrue(node.get(0,minusOne.hashCode(),minusOne).isPresent());
+    assertTrue(node.get(0,thirtyOne.hashCode(),thirtyOne).isPresent());
+    assertThat(node.minus(0,minusOne.hashCode(),minusOne),equalTo(HAMT.<Integer, Integer>empty().plus(0,thirtyOne.hashCode(),thirtyOne,31)));
+  }
+
+  @Test
+  public void canonicalAfterRemoval(){
+    Node<Integer, Integer> all = HAMT.empty();
+    Node<Integer, Integer> evens = HAMT.empty();
+    for(int i=0;i<5000;i++){
+      all = all.plus(0,i%700,i,i);
+      if(i%2==0)
+        evens = evens.plus(0,i%700,i,i);
+    }
+    for(int i=1;i<5000;i+=2){
+      all = all.minus(0,i%700,i);
+    }
+    assertThat(all.size(),equalTo(2500));
+    assertThat(all,equalTo(evens));
+    assertThat(all.hashCode(),equalTo(evens.hashCode()));
+    assertThat(all.stream().count(),equalTo(2500L));
   }
 
   @Test
@@ -0,0 +1,131 @@
+package cyclops.function;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+
+public class BoundedCacheTest {
+
+    AtomicInteger called = new AtomicInteger(0);
+
+    private Integer square(Integer i){
+        called.incrementAndGet();
+        return i*i;
+    }
+
+    @Test
+    public void lruEvictsLeastRecentlyUsed(){
+        BoundedCache<Integer> cache = BoundedCache.lru(2);
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(this::square,cache);
+        fn.apply(1);
+        fn.apply(2);
+        fn.apply(1);
+        fn.apply(3);
+        assertThat(cache.size(),equalTo(2L));
+        assertThat(cache.evictionCount(),equalTo(1L));
+
+        fn.apply(1);
+        assertThat(called.get(),equalTo(3));
+        fn.apply(2);
+        assertThat(called.get(),equalTo(4));
+    }
+
+    @Test
+    public void hitAndMissCounts(){
+        BoundedCache<Integer> cache = BoundedCache.tinyLfu(100);
+        Function2<Integer,Integer,Integer> fn = Memoize.memoizeBiFunction((a,b)->a+b,cache);
+        fn.apply(1,2);
+        fn.apply(1,2);
+        fn.apply(1,2);
+        fn.apply(2,2);
+        assertThat(cache.hitCount(),equalTo(2L));
+        assertThat(cache.missCount(),equalTo(2L));
+    }
+
+    @Test
+    public void tinyLfuSizeBounded(){
+        BoundedCache<Integer> cache = BoundedCache.tinyLfu(100);
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(this::square,cache);
+        for(int i=0;i<10_000;i++)
+            assertThat(fn.apply(i),equalTo(i*i));
+        assertThat(cache.size(),lessThanOrEqualTo(100L));
+        assertThat(cache.evictionCount(),equalTo(10_000L-cache.size()));
+    }
+
+    private int hotMisses(BoundedCache<Integer> cache){
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(this::square,cache);
+        int unique = 1000;
+        for(int round=0;round<110;round++){
+            if(round==10)
+                called.set(0);
+            for(int i=0;i<50;i++)
+                fn.apply(i);
+            for(int i=0;i<200;i++)
+                fn.apply(unique++);
+        }
+        return called.get()-100*200;
+    }
+
+    @Test
+    public void tinyLfuKeepsFrequentlyUsedValues(){
+        assertThat(hotMisses(BoundedCache.tinyLfu(100)),equalTo(0));
+    }
+
+    @Test
+    public void lruLosesFrequentlyUsedValuesOnScan(){
+        assertThat(hotMisses(BoundedCache.lru(100)),equalTo(100*50));
+    }
+
+    @Test
+    public void expireAfterWrite(){
+        AtomicLong time = new AtomicLong(0);
+        BoundedCache<Integer> cache = BoundedCache.<Integer>expireAfterWrite(10,TimeUnit.SECONDS)
+                                                  .withTicker(time::get);
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(this::square,cache);
+        fn.apply(2);
+        time.set(TimeUnit.SECONDS.toNanos(5));
+        fn.apply(2);
+        assertThat(called.get(),equalTo(1));
+        time.set(TimeUnit.SECONDS.toNanos(10));
+        fn.apply(2);
+        assertThat(called.get(),equalTo(2));
+        assertThat(cache.evictionCount(),equalTo(1L));
+    }
+
+    @Test
+    public void expireAfterAccess(){
+        AtomicLong time = new AtomicLong(0);
+        BoundedCache<Integer> cache = BoundedCache.<Integer>expireAfterAccess(10,TimeUnit.SECONDS)
+                                                  .withTicker(time::get);
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(this::square,cache);
+        fn.apply(2);
+        for(int i=1;i<5;i++) {
+            time.set(TimeUnit.SECONDS.toNanos(i*5));
+            fn.apply(2);
+        }
+        assertThat(called.get(),equalTo(1));
+        time.set(TimeUnit.SECONDS.toNanos(40));
+        fn.apply(2);
+        assertThat(called.get(),equalTo(2));
+    }
+
+    @Test
+    public void sizeBoundedMemoize(){
+        Function1<Integer,Integer> fn = FluentFunctions.of(this::square)
+                                                       .memoize(10);
+        fn.apply(3);
+        fn.apply(3);
+        assertThat(called.get(),equalTo(1));
+        Function2<Integer,Integer,Integer> fn2 = Memoize.memoizeBiFunction((a,b)->square(a+b),10);
+        fn2.apply(1,2);
+        fn2.apply(1,2);
+        assertThat(called.get(),equalTo(2));
+    }
+}
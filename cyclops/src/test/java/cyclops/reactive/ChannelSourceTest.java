@@ -0,0 +1,139 @@
+package cyclops.reactive;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.Pipe;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ChannelSourceTest {
+
+    Path file;
+    List<String> lines;
+
+    @Before
+    public void setup() throws IOException {
+        file = Files.createTempFile("channel-source", ".txt");
+        lines = ReactiveSeq.range(0,100_000).map(i->"line "+i).toList();
+        StringBuilder text = new StringBuilder();
+        for(int i=0;i<lines.size();i++)
+            text.append(lines.get(i)).append(i%2==0 ? "\n" : "\r\n");
+        text.append("last");
+        Files.write(file,text.toString().getBytes(UTF_8));
+    }
+    @After
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private static String decode(ByteBuffer buffer){
+        return UTF_8.decode(buffer).toString();
+    }
+    private List<String> expected(){
+        List<String> res = new ArrayList<>(lines);
+        res.add("last");
+        return res;
+    }
+
+    @Test
+    public void fileLines(){
+        assertThat(ReactiveSeq.fromFile(file).map(ChannelSourceTest::decode).toList(),equalTo(expected()));
+    }
+    @Test
+    public void fileLinesRepeatable(){
+        ReactiveSeq<ByteBuffer> seq = ReactiveSeq.fromFile(file);
+        assertThat(seq.count(),equalTo(100_001L));
+        assertThat(seq.count(),equalTo(100_001L));
+    }
+    @Test
+    public void closeStopsPartialTraversal(){
+        Iterator<ByteBuffer> it;
+        try(ReactiveSeq<ByteBuffer> seq = ReactiveSeq.fromFile(file)){
+            it = seq.iterator();
+            assertThat(decode(it.next()),equalTo("line 0"));
+        }
+        assertFalse(it.hasNext());
+    }
+    @Test
+    public void closeDerivedStageStopsPartialTraversal(){
+        Iterator<String> it;
+        try(ReactiveSeq<String> seq = ReactiveSeq.fromFile(file).map(ChannelSourceTest::decode).limit(10)){
+            it = seq.iterator();
+            assertThat(it.next(),equalTo("line 0"));
+        }
+        assertFalse(it.hasNext());
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void nonBlockingChannelRejected() throws IOException {
+        Pipe pipe = Pipe.open();
+        try {
+            pipe.source().configureBlocking(false);
+            ReactiveSeq.fromChannel(pipe.source());
+        }finally {
+            pipe.source().close();
+            pipe.sink().close();
+        }
+    }
+    @Test
+    public void channelLines() throws IOException {
+        assertThat(ReactiveSeq.fromChannel(Channels.newChannel(Files.newInputStream(file)))
+                              .map(ChannelSourceTest::decode)
+                              .toList(),equalTo(expected()));
+    }
+    @Test
+    public void fixedSizeRecords() throws IOException {
+        Path records = Files.createTempFile("channel-source", ".bin");
+        Files.write(records,"aaabbbcccd".getBytes(UTF_8));
+        try {
+            assertThat(ReactiveSeq.fromFile(records, 3).map(ChannelSourceTest::decode).toList(),
+                    equalTo(Arrays.asList("aaa", "bbb", "ccc", "d")));
+            assertThat(Spouts.fromChannel(Channels.newChannel(Files.newInputStream(records)), 3).map(ChannelSourceTest::decode).toList(),
+                    equalTo(Arrays.asList("aaa", "bbb", "ccc", "d")));
+        }finally {
+            Files.delete(records);
+        }
+    }
+    @Test
+    public void recordsAreReadOnlySlices(){
+        assertTrue(ReactiveSeq.fromFile(file).allMatch(ByteBuffer::isReadOnly));
+    }
+    @Test
+    public void spoutsFileLines(){
+        assertThat(Spouts.fromFile(file).map(ChannelSourceTest::decode).toList(),equalTo(expected()));
+    }
+    @Test
+    public void spoutsRespectsDemand() throws IOException {
+        FileChannel channel = FileChannel.open(file);
+        List<String> received = new ArrayList<>();
+        Subscription sub = Spouts.fromChannel(channel).map(ChannelSourceTest::decode).forEach(2,received::add);
+        assertThat(received,equalTo(lines.subList(0,2)));
+        sub.request(3);
+        assertThat(received,equalTo(lines.subList(0,5)));
+        assertTrue(channel.isOpen());
+        sub.cancel();
+        assertFalse(channel.isOpen());
+    }
+    @Test
+    public void spoutsClosesOnComplete() throws IOException {
+        FileChannel channel = FileChannel.open(file);
+        assertThat(Spouts.fromChannel(channel).count(),equalTo(100_001L));
+        assertFalse(channel.isOpen());
+    }
+}
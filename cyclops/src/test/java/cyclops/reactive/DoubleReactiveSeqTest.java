@@ -0,0 +1,88 @@
+package cyclops.reactive;
+
+import cyclops.control.Option;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DoubleReactiveSeqTest {
+
+    @Test
+    public void fusedPipeline(){
+        DoubleReactiveSeq seq = DoubleReactiveSeq.of(1,2,3,4,5,6)
+                                        .map(i->i*2)
+                                        .filter(i->i>4)
+                                        .limit(3);
+        assertThat(seq.toArray(),equalTo(new double[]{6,8,10}));
+        assertThat(seq.sum(),equalTo((double)24));
+        assertThat(seq.count(),equalTo(3L));
+        assertThat(seq.boxed().toList(),equalTo(Arrays.asList((Double)(double)6,(Double)(double)8,(Double)(double)10)));
+    }
+
+    @Test
+    public void replayable(){
+        DoubleReactiveSeq seq = DoubleReactiveSeq.of(3,1,2).skip(1);
+        assertThat(seq.toArray(),equalTo(new double[]{1,2}));
+        assertThat(seq.toArray(),equalTo(new double[]{1,2}));
+        assertThat(seq.max(),equalTo(Option.some((Double)(double)2)));
+        assertThat(seq.min(),equalTo(Option.some((Double)(double)1)));
+    }
+
+    @Test
+    public void shortCircuitInfinite(){
+        DoubleReactiveSeq seq = DoubleReactiveSeq.iterate(0,i->i+1);
+        assertThat(seq.limit(5).toArray(),equalTo(new double[]{0,1,2,3,4}));
+        assertThat(seq.takeWhile(i->i<3).toArray(),equalTo(new double[]{0,1,2}));
+        assertThat(seq.dropWhile(i->i<3).findFirst(),equalTo(Option.some((Double)(double)3)));
+        assertTrue(seq.anyMatch(i->i>100));
+        assertThat(seq.map(i->i*3).iterator().next(),equalTo((Double)(double)0));
+    }
+
+    @Test
+    public void flatMapAndConcat(){
+        DoubleReactiveSeq seq = DoubleReactiveSeq.of(1,2).flatMap(i->DoubleReactiveSeq.of(i,i*10));
+        assertThat(seq.toArray(),equalTo(new double[]{1,10,2,20}));
+        assertThat(seq.concat(DoubleReactiveSeq.of(7)).toArray(),equalTo(new double[]{1,10,2,20,7}));
+        assertThat(seq.concat(DoubleReactiveSeq.of(7)).doubleStream().toArray(),equalTo(new double[]{1,10,2,20,7}));
+        assertThat(seq.concat(DoubleReactiveSeq.of(7)).limit(2).toArray(),equalTo(new double[]{1,10}));
+    }
+
+    @Test
+    public void pullMatchesPush(){
+        DoubleReactiveSeq seq = DoubleReactiveSeq.of(1,2,3,4,5,6,7,8,9,10)
+                                        .flatMap(i->DoubleReactiveSeq.of(i,i))
+                                        .filter(i->i%3!=0)
+                                        .limit(9);
+        List<Double> pulled = new ArrayList<>();
+        seq.iterator().forEachRemaining((DoubleConsumer)pulled::add);
+        List<Double> pushed = new ArrayList<>();
+        seq.forEach(pushed::add);
+        assertThat(pulled,equalTo(pushed));
+        assertThat(pulled.size(),equalTo(9));
+    }
+
+    @Test
+    public void emptySeq(){
+        assertThat(DoubleReactiveSeq.empty().count(),equalTo(0L));
+        assertThat(DoubleReactiveSeq.empty().reduce((a,b)->a+b),equalTo(Option.none()));
+        assertThat(DoubleReactiveSeq.empty().average(),equalTo(Option.none()));
+        assertFalse(DoubleReactiveSeq.empty().anyMatch(i->true));
+        assertTrue(DoubleReactiveSeq.empty().allMatch(i->false));
+    }
+
+    @Test
+    public void fromReactiveSeq(){
+        assertThat(ReactiveSeq.doubleSeq(1,2,3).map(i->i*2).sum(),equalTo(12d));
+        DoubleReactiveSeq halves = ReactiveSeq.of(1,2,3).mapToDoubleSeq(i->i/2d);
+        assertThat(halves.toArray(),equalTo(new double[]{0.5,1,1.5}));
+        assertThat(halves.concat(DoubleReactiveSeq.of(4)).skip(2).limit(1).sum(),equalTo(1.5d));
+    }
+}
@@ -0,0 +1,96 @@
+package cyclops.reactive;
+
+import cyclops.control.Option;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IntReactiveSeqTest {
+
+    @Test
+    public void fusedPipeline(){
+        IntReactiveSeq seq = IntReactiveSeq.of(1,2,3,4,5,6)
+                                        .map(i->i*2)
+                                        .filter(i->i>4)
+                                        .limit(3);
+        assertThat(seq.toArray(),equalTo(new int[]{6,8,10}));
+        assertThat(seq.sum(),equalTo((int)24));
+        assertThat(seq.count(),equalTo(3L));
+        assertThat(seq.boxed().toList(),equalTo(Arrays.asList((Integer)(int)6,(Integer)(int)8,(Integer)(int)10)));
+    }
+
+    @Test
+    public void replayable(){
+        IntReactiveSeq seq = IntReactiveSeq.of(3,1,2).skip(1);
+        assertThat(seq.toArray(),equalTo(new int[]{1,2}));
+        assertThat(seq.toArray(),equalTo(new int[]{1,2}));
+        assertThat(seq.max(),equalTo(Option.some((Integer)(int)2)));
+        assertThat(seq.min(),equalTo(Option.some((Integer)(int)1)));
+    }
+
+    @Test
+    public void shortCircuitInfinite(){
+        IntReactiveSeq seq = IntReactiveSeq.iterate(0,i->i+1);
+        assertThat(seq.limit(5).toArray(),equalTo(new int[]{0,1,2,3,4}));
+        assertThat(seq.takeWhile(i->i<3).toArray(),equalTo(new int[]{0,1,2}));
+        assertThat(seq.dropWhile(i->i<3).findFirst(),equalTo(Option.some((Integer)(int)3)));
+        assertTrue(seq.anyMatch(i->i>100));
+        assertThat(seq.map(i->i*3).iterator().next(),equalTo((Integer)(int)0));
+    }
+
+    @Test
+    public void flatMapAndConcat(){
+        IntReactiveSeq seq = IntReactiveSeq.of(1,2).flatMap(i->IntReactiveSeq.of(i,i*10));
+        assertThat(seq.toArray(),equalTo(new int[]{1,10,2,20}));
+        assertThat(seq.concat(IntReactiveSeq.of(7)).toArray(),equalTo(new int[]{1,10,2,20,7}));
+        assertThat(seq.concat(IntReactiveSeq.of(7)).intStream().toArray(),equalTo(new int[]{1,10,2,20,7}));
+        assertThat(seq.concat(IntReactiveSeq.of(7)).limit(2).toArray(),equalTo(new int[]{1,10}));
+    }
+
+    @Test
+    public void pullMatchesPush(){
+        IntReactiveSeq seq = IntReactiveSeq.of(1,2,3,4,5,6,7,8,9,10)
+                                        .flatMap(i->IntReactiveSeq.of(i,i))
+                                        .filter(i->i%3!=0)
+                                        .limit(9);
+        List<Integer> pulled = new ArrayList<>();
+        seq.iterator().forEachRemaining((IntConsumer)pulled::add);
+        List<Integer> pushed = new ArrayList<>();
+        seq.forEach(pushed::add);
+        assertThat(pulled,equalTo(pushed));
+        assertThat(pulled.size(),equalTo(9));
+    }
+
+    @Test
+    public void emptySeq(){
+        assertThat(IntReactiveSeq.empty().count(),equalTo(0L));
+        assertThat(IntReactiveSeq.empty().reduce((a,b)->a+b),equalTo(Option.none()));
+        assertThat(IntReactiveSeq.empty().average(),equalTo(Option.none()));
+        assertFalse(IntReactiveSeq.empty().anyMatch(i->true));
+        assertTrue(IntReactiveSeq.empty().allMatch(i->false));
+    }
+
+    @Test
+    public void rangePushSource(){
+        assertThat(IntReactiveSeq.range(0,1000).sum(),equalTo((int)499500));
+        assertThat(IntReactiveSeq.range(0,1000).filter(i->i%2==0).limit(3).toArray(),equalTo(new int[]{0,2,4}));
+        assertThat(IntReactiveSeq.range(0,1000).skip(998).boxed().toList(),equalTo(Arrays.asList((Integer)(int)998,(Integer)(int)999)));
+        assertThat(IntReactiveSeq.range(0,10).mapToDouble(i->i/2d).sum(),equalTo(22.5d));
+    }
+
+    @Test
+    public void fromReactiveSeq(){
+        assertThat(ReactiveSeq.intSeq(1,2,3).map(i->i*2).sum(),equalTo(12));
+        IntReactiveSeq lengths = ReactiveSeq.of("a","bb","ccc").mapToIntSeq(String::length);
+        assertThat(lengths.toArray(),equalTo(new int[]{1,2,3}));
+        assertThat(lengths.limit(2).sum(),equalTo(3));
+    }
+}
@@ -0,0 +1,96 @@
+package cyclops.reactive;
+
+import cyclops.control.Option;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LongReactiveSeqTest {
+
+    @Test
+    public void fusedPipeline(){
+        LongReactiveSeq seq = LongReactiveSeq.of(1,2,3,4,5,6)
+                                        .map(i->i*2)
+                                        .filter(i->i>4)
+                                        .limit(3);
+        assertThat(seq.toArray(),equalTo(new long[]{6,8,10}));
+        assertThat(seq.sum(),equalTo((long)24));
+        assertThat(seq.count(),equalTo(3L));
+        assertThat(seq.boxed().toList(),equalTo(Arrays.asList((Long)(long)6,(Long)(long)8,(Long)(long)10)));
+    }
+
+    @Test
+    public void replayable(){
+        LongReactiveSeq seq = LongReactiveSeq.of(3,1,2).skip(1);
+        assertThat(seq.toArray(),equalTo(new long[]{1,2}));
+        assertThat(seq.toArray(),equalTo(new long[]{1,2}));
+        assertThat(seq.max(),equalTo(Option.some((Long)(long)2)));
+        assertThat(seq.min(),equalTo(Option.some((Long)(long)1)));
+    }
+
+    @Test
+    public void shortCircuitInfinite(){
+        LongReactiveSeq seq = LongReactiveSeq.iterate(0,i->i+1);
+        assertThat(seq.limit(5).toArray(),equalTo(new long[]{0,1,2,3,4}));
+        assertThat(seq.takeWhile(i->i<3).toArray(),equalTo(new long[]{0,1,2}));
+        assertThat(seq.dropWhile(i->i<3).findFirst(),equalTo(Option.some((Long)(long)3)));
+        assertTrue(seq.anyMatch(i->i>100));
+        assertThat(seq.map(i->i*3).iterator().next(),equalTo((Long)(long)0));
+    }
+
+    @Test
+    public void flatMapAndConcat(){
+        LongReactiveSeq seq = LongReactiveSeq.of(1,2).flatMap(i->LongReactiveSeq.of(i,i*10));
+        assertThat(seq.toArray(),equalTo(new long[]{1,10,2,20}));
+        assertThat(seq.concat(LongReactiveSeq.of(7)).toArray(),equalTo(new long[]{1,10,2,20,7}));
+        assertThat(seq.concat(LongReactiveSeq.of(7)).longStream().toArray(),equalTo(new long[]{1,10,2,20,7}));
+        assertThat(seq.concat(LongReactiveSeq.of(7)).limit(2).toArray(),equalTo(new long[]{1,10}));
+    }
+
+    @Test
+    public void pullMatchesPush(){
+        LongReactiveSeq seq = LongReactiveSeq.of(1,2,3,4,5,6,7,8,9,10)
+                                        .flatMap(i->LongReactiveSeq.of(i,i))
+                                        .filter(i->i%3!=0)
+                                        .limit(9);
+        List<Long> pulled = new ArrayList<>();
+        seq.iterator().forEachRemaining((LongConsumer)pulled::add);
+        List<Long> pushed = new ArrayList<>();
+        seq.forEach(pushed::add);
+        assertThat(pulled,equalTo(pushed));
+        assertThat(pulled.size(),equalTo(9));
+    }
+
+    @Test
+    public void emptySeq(){
+        assertThat(LongReactiveSeq.empty().count(),equalTo(0L));
+        assertThat(LongReactiveSeq.empty().reduce((a,b)->a+b),equalTo(Option.none()));
+        assertThat(LongReactiveSeq.empty().average(),equalTo(Option.none()));
+        assertFalse(LongReactiveSeq.empty().anyMatch(i->true));
+        assertTrue(LongReactiveSeq.empty().allMatch(i->false));
+    }
+
+    @Test
+    public void rangePushSource(){
+        assertThat(LongReactiveSeq.range(0,1000).sum(),equalTo((long)499500));
+        assertThat(LongReactiveSeq.range(0,1000).filter(i->i%2==0).limit(3).toArray(),equalTo(new long[]{0,2,4}));
+        assertThat(LongReactiveSeq.range(0,1000).skip(998).boxed().toList(),equalTo(Arrays.asList((Long)(long)998,(Long)(long)999)));
+        assertThat(LongReactiveSeq.range(0,10).mapToDouble(i->i/2d).sum(),equalTo(22.5d));
+    }
+
+    @Test
+    public void fromReactiveSeq(){
+        assertThat(ReactiveSeq.longSeq(1,2,3).map(i->i*2).sum(),equalTo(12L));
+        LongReactiveSeq lengths = ReactiveSeq.of("a","bb","ccc").mapToLongSeq(String::length);
+        assertThat(lengths.toArray(),equalTo(new long[]{1,2,3}));
+        assertThat(lengths.skip(1).sum(),equalTo(5L));
+    }
+}
@@ -1028,4 +1028,18 @@ public class ReactiveSeqTest {
 
         assertTrue(timings[1] - timings[0] < 5000);
     }
+
+    @Test
+    public void closeRunsHandlersOfDerivedStages() {
+        List<String> closed = new ArrayList<>();
+        ReactiveSeq<Integer> seq = of(1, 2, 3).onClose(() -> closed.add("first"))
+                                              .map(i -> i * 2)
+                                              .onClose(() -> closed.add("second"))
+                                              .filter(i -> i > 2)
+                                              .limit(1);
+        seq.close();
+        seq.close();
+
+        assertThat(closed, equalTo(asList("first", "second")));
+    }
 }
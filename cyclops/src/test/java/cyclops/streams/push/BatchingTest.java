@@ -9,6 +9,7 @@ import cyclops.reactive.ReactiveSeq;
 import cyclops.reactive.Spouts;
 import lombok.Value;
 import org.junit.Test;
+import org.reactivestreams.Subscription;
 
 import java.io.IOException;
 import java.util.*;
@@ -422,6 +423,88 @@ public class BatchingTest {
 	public void batchByTimeInternalSizeCollection(){
 		assertThat(of(1,2,3,4,5,6).groupedByTime(1,TimeUnit.NANOSECONDS,()->Vector.empty()).collect(Collectors.toList()).size(),greaterThan(5));
 	}
+	@Test
+	public void batchByTimeFlushesQuietWindow(){
+		long start = System.currentTimeMillis();
+		List<Long> emitted = Collections.synchronizedList(new ArrayList<>());
+		List<Vector<Integer>> windows = of(1,2,3,4).map(n-> n==4? sleep(300)+1 : n)
+												.groupedByTime(20,TimeUnit.MILLISECONDS)
+												.peek(w->emitted.add(System.currentTimeMillis()-start))
+												.toList();
+		assertThat(windows,equalTo(Arrays.asList(Vector.of(1,2,3),Vector.of(301))));
+		assertThat(emitted.get(0),lessThan(250l));
+	}
+	@Test
+	public void batchBySizeAndTimeFlushesQuietWindow(){
+		long start = System.currentTimeMillis();
+		List<Long> emitted = Collections.synchronizedList(new ArrayList<>());
+		List<Vector<Integer>> windows = of(1,2,3,4,5).map(n-> n==5? sleep(300)+1 : n)
+												.groupedBySizeAndTime(3,20,TimeUnit.MILLISECONDS)
+												.peek(w->emitted.add(System.currentTimeMillis()-start))
+												.toList();
+		assertThat(windows,equalTo(Arrays.asList(Vector.of(1,2,3),Vector.of(4),Vector.of(301))));
+		assertThat(emitted.get(1),lessThan(250l));
+	}
+	@Test
+	public void slidingByTime(){
+		List<Seq<Integer>> windows = Spouts.range(0,20)
+										   .map(n->{sleep(5); return n;})
+										   .slidingByTime(30,10,TimeUnit.MILLISECONDS)
+										   .toList();
+		assertThat(windows.size(),greaterThan(3));
+		assertThat(windows.get(windows.size()-1).last(-1),equalTo(19));
+		Set<Integer> seen = new HashSet<>();
+		for(Seq<Integer> next : windows)
+			next.forEach(seen::add);
+		assertThat(seen.size(),equalTo(20));
+	}
+	@Test
+	public void slidingByTimeSynchronous(){
+		assertThat(ReactiveSeq.of(1,2,3).slidingByTime(1,1,TimeUnit.SECONDS).toList(),equalTo(Arrays.asList(Seq.of(1,2,3))));
+	}
+
+	@Test
+	public void rateLimit(){
+		SimpleTimer timer = new SimpleTimer();
+		assertThat(Spouts.range(0,30)
+				.rateLimit(10,100,TimeUnit.MILLISECONDS)
+				.toList(),equalTo(ReactiveSeq.range(0,30).toList()));
+		assertThat(timer.getElapsedNanoseconds(),greaterThan(TimeUnit.MILLISECONDS.toNanos(190)));
+	}
+
+	@Test
+	public void rateLimitSynchronous(){
+		assertThat(ReactiveSeq.of(1,2,3).rateLimit(3,1,TimeUnit.SECONDS).toList(),equalTo(Arrays.asList(1,2,3)));
+	}
+
+	@Test
+	public void onePerDoesNotBlockSubscriber(){
+		AtomicInteger count = new AtomicInteger(0);
+		SimpleTimer timer = new SimpleTimer();
+		Spouts.range(0,3)
+				.onePer(100,TimeUnit.MILLISECONDS)
+				.forEachAsync(i->count.incrementAndGet());
+		assertThat(timer.getElapsedNanoseconds(),lessThan(TimeUnit.MILLISECONDS.toNanos(100)));
+		while(count.get()<3){
+			Thread.yield();
+		}
+		assertThat(timer.getElapsedNanoseconds(),greaterThan(TimeUnit.MILLISECONDS.toNanos(190)));
+	}
+
+	@Test
+	public void onePerRespectsDemand() throws InterruptedException {
+		List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+		Subscription sub = Spouts.range(0,10)
+				.onePer(1,TimeUnit.MILLISECONDS)
+				.forEach(2,result::add);
+		Thread.sleep(100);
+		assertThat(result,equalTo(Arrays.asList(0,1)));
+		sub.request(8);
+		while(result.size()<10){
+			Thread.yield();
+		}
+		assertThat(result,equalTo(ReactiveSeq.range(0,10).toList()));
+	}
 
 
 }